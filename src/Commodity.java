@@ -0,0 +1,118 @@
+/**
+ * Commodity Enum of the Perils Along the Platte Game
+ * The catalog of goods that can be bought, sold and bartered.
+ * Each commodity is sold in its own unit, such as a box of twenty rounds,
+ * and knows the supply it adds to the wagon, how much one unit weighs,
+ * its price at the jumping-off towns and the good it is stocked as at the
+ * forts, so every store and trade reads the same table.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file Commodity.java
+ */
+
+public enum Commodity {
+    /** Food, sold by the pound. */
+    FOOD("Food", "pounds of food", Supply.FOOD, 1, FortEconomy.FOOD),
+
+    /** Oxen, sold by the head and not stocked at the forts. */
+    OXEN("Oxen", "oxen", Supply.OXEN, 1, -1),
+
+    /** Spare wagon wheels. */
+    WHEEL("Wheel", "wheels", Supply.WHEEL, 1, FortEconomy.WHEEL),
+
+    /** Spare wagon axles. */
+    AXLE("Axle", "axles", Supply.AXLE, 1, FortEconomy.AXLE),
+
+    /** Spare wagon tongues. */
+    TONGUE("Tongue", "tongues", Supply.TONGUE, 1, FortEconomy.TONGUE),
+
+    /** Spare wagon bows. */
+    WAGON_BOW("Wagon Bow", "wagon bows", Supply.WAGON_BOW, 1, FortEconomy.WAGON_BOW),
+
+    /** Medical kits. */
+    MEDICINE("Medicine Kit", "medicine kits", Supply.MEDICINE, 1, FortEconomy.MEDICINE),
+
+    /** Ammunition, sold by the box of twenty rounds. */
+    AMMUNITION("Ammunition", "boxes of ammunition", Supply.AMMUNITION, 20, FortEconomy.AMMUNITION);
+
+    // Cached commodities, in ordinal order
+    private static final Commodity[] COMMODITIES = values();
+
+    // Name of one unit, and of several units in a sentence
+    private final String name;
+    private final String units;
+
+    // Supply the commodity adds to the wagon, and the supply counted in one unit
+    private final Supply supply;
+    private final int supplyPerUnit;
+
+    // Good the forts stock it as, -1 if they do not
+    private final int economyGood;
+
+    Commodity(String name, String units, Supply supply, int supplyPerUnit, int economyGood) {
+        this.name = name;
+        this.units = units;
+        this.supply = supply;
+        this.supplyPerUnit = supplyPerUnit;
+        this.economyGood = economyGood;
+    }
+
+    /**
+     * Gets the commodity with an ordinal, without copying the values array.
+     *
+     * @param ordinal The ordinal
+     * @return The commodity
+     */
+    public static Commodity of(int ordinal) {
+        return COMMODITIES[ordinal];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getUnits() {
+        return units;
+    }
+
+    public Supply getSupply() {
+        return supply;
+    }
+
+    public int getSupplyPerUnit() {
+        return supplyPerUnit;
+    }
+
+    public int getEconomyGood() {
+        return economyGood;
+    }
+
+    /**
+     * Gets the weight one unit adds to the wagon.
+     * @return The weight in pounds
+     */
+    public int getWeight() {
+        return supplyPerUnit * supply.getWeight();
+    }
+
+    /**
+     * Gets the price of one unit at the jumping-off towns.
+     *
+     * @param parameters The simulation parameters that set the prices
+     * @return The price in dollars
+     */
+    public int getBasePrice(SimulationParameters parameters) {
+        switch (this) {
+            case FOOD: return parameters.foodPrice;
+            case OXEN: return parameters.oxenPrice;
+            case WHEEL: return parameters.wheelPrice;
+            case AXLE: return parameters.axlePrice;
+            case TONGUE: return parameters.tonguePrice;
+            case WAGON_BOW: return parameters.wagonBowPrice;
+            case MEDICINE: return parameters.medicinePrice;
+            default: return parameters.ammunitionPrice;
+        }
+    }
+}
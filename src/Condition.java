@@ -0,0 +1,112 @@
+/**
+ * Condition Enum of the Perils Along the Platte Game
+ * Represents the diseases and injuries a member of the party can suffer.
+ * Each condition lasts a number of days and drains a set amount of health
+ * from the sufferer every day until it runs its course. Contagious diseases
+ * also carry the daily chance of passing to someone in close contact.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file Condition.java
+ */
+
+public enum Condition {
+    /** Cholera: The deadliest disease on the trail, fast and severe. */
+    CHOLERA("cholera", 5, 4, 0.04),
+
+    /** Typhoid Fever: A long fever spread by bad water. */
+    TYPHOID("typhoid fever", 10, 2, 0.015),
+
+    /** Dysentery: Spread by fouled water and poor food. */
+    DYSENTERY("dysentery", 7, 3, 0.03),
+
+    /** Measles: Passed through crowded camps, hardest on children. */
+    MEASLES("measles", 8, 2, 0.04),
+
+    /** Fever: A short general fever. */
+    FEVER("fever", 4, 2, 0),
+
+    /** Exhaustion: Worn down by the daily march. */
+    EXHAUSTION("exhaustion", 3, 1, 0),
+
+    /** Snakebite: Rattlesnakes were common along the Platte. */
+    SNAKEBITE("snakebite", 4, 3, 0),
+
+    /** Broken Arm: Slow to heal, but rarely dangerous once set. */
+    BROKEN_ARM("broken arm", 20, 0, 0),
+
+    /** Broken Leg: Slow to heal and painful in a jolting wagon. */
+    BROKEN_LEG("broken leg", 30, 1, 0),
+
+    /** Sprained Ankle: Heals within the week. */
+    SPRAINED_ANKLE("sprained ankle", 6, 0, 0),
+
+    /** Cut: Can fester if not kept clean. */
+    CUT("cut requiring stitches", 7, 1, 0),
+
+    /** Concussion: Headaches and dizziness for several days. */
+    CONCUSSION("concussion", 5, 1, 0);
+
+    // Name used in event messages and as a cause of death
+    private final String displayName;
+
+    // Days the condition lasts without treatment
+    private final int durationDays;
+
+    // Health lost each day while the condition lasts
+    private final int dailyHealthLoss;
+
+    // Daily chance of passing to someone in the same wagon, 0 if not contagious
+    private final double transmission;
+
+    Condition(String displayName, int durationDays, int dailyHealthLoss, double transmission) {
+        this.displayName = displayName;
+        this.durationDays = durationDays;
+        this.dailyHealthLoss = dailyHealthLoss;
+        this.transmission = transmission;
+    }
+
+    /**
+     * Gets the bit that stands for this condition in a set of conditions.
+     * @return The condition's bit
+     */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Looks up a condition by its display name, ignoring case.
+     *
+     * @param name The condition name, such as "cholera"
+     * @return The condition, or null if no condition has that name
+     */
+    public static Condition fromName(String name) {
+        for (Condition condition : values()) {
+            if (condition.displayName.equalsIgnoreCase(name)) {
+                return condition;
+            }
+        }
+        return null;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public int getDurationDays() {
+        return durationDays;
+    }
+
+    public int getDailyHealthLoss() {
+        return dailyHealthLoss;
+    }
+
+    public double getTransmission() {
+        return transmission;
+    }
+
+    public boolean isContagious() {
+        return transmission > 0;
+    }
+}
@@ -0,0 +1,205 @@
+/**
+ * ContactGraph Class of the Perils Along the Platte Game
+ * Records who comes into contact with whom in a party or wagon train, so
+ * contagious diseases can spread from person to person along those contacts.
+ *
+ * People are linked to everyone in their own wagon, to the people of the
+ * wagons beside them in the line, and to a few people around the shared camp.
+ * The graph is stored in compressed rows (an offset per person into one
+ * array of neighbours) and infection state is passed in as bitsets, so a day
+ * of spread only visits the contacts of people who are actually sick.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file ContactGraph.java
+ */
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class ContactGraph {
+    // Kinds of contact, from closest to most casual
+    public static final byte SAME_WAGON = 0;
+    public static final byte NEIGHBOR_WAGON = 1;
+    public static final byte SHARED_CAMP = 2;
+
+    // Share of a disease's transmission chance carried by each kind of contact
+    private static final double[] CONTACT_WEIGHT = {1.0, 0.1, 0.05};
+
+    // Number of wagons circled together in one camp
+    private static final int WAGONS_PER_CAMP = 10;
+
+    // Casual contacts each person makes around the camp
+    private static final int CAMP_CONTACTS = 3;
+
+    // Number of people in the graph
+    private final int size;
+
+    // Compressed rows: the contacts of person p are neighbors[rowStart[p]] to neighbors[rowStart[p + 1] - 1]
+    private final int[] rowStart;
+    private final int[] neighbors;
+    private final byte[] contactType;
+
+    /**
+     * Constructs a ContactGraph from finished rows.
+     */
+    private ContactGraph(int size, int[] rowStart, int[] neighbors, byte[] contactType) {
+        this.size = size;
+        this.rowStart = rowStart;
+        this.neighbors = neighbors;
+        this.contactType = contactType;
+    }
+
+    /**
+     * Builds the contact graph of a single wagon, where everyone is in close
+     * contact with everyone else.
+     *
+     * @param people The number of people in the wagon
+     * @return The graph
+     */
+    public static ContactGraph forWagon(int people) {
+        return forTrain(new int[]{0, people}, new Random(0));
+    }
+
+    /**
+     * Builds the contact graph of a wagon train.
+     * People are stored wagon by wagon, so the people of wagon w are
+     * firstPerson[w] up to firstPerson[w + 1] - 1.
+     *
+     * @param firstPerson The first person of each wagon, with one extra entry for the end
+     * @param random The random source for picking camp contacts
+     * @return The graph
+     */
+    public static ContactGraph forTrain(int[] firstPerson, Random random) {
+        int wagons = firstPerson.length - 1;
+        int size = firstPerson[wagons];
+
+        // Count each person's contacts first so the rows can be filled in place
+        int[] rowStart = new int[size + 1];
+        for (int w = 0; w < wagons; w++) {
+            int contacts = firstPerson[w + 1] - firstPerson[w] - 1;
+            if (w > 0) {
+                contacts += firstPerson[w] - firstPerson[w - 1];
+            }
+            if (w + 1 < wagons) {
+                contacts += firstPerson[w + 2] - firstPerson[w + 1];
+            }
+            if (wagons > 2) {
+                contacts += CAMP_CONTACTS;
+            }
+            for (int p = firstPerson[w]; p < firstPerson[w + 1]; p++) {
+                rowStart[p + 1] = rowStart[p] + contacts;
+            }
+        }
+
+        int[] neighbors = new int[rowStart[size]];
+        byte[] contactType = new byte[rowStart[size]];
+        for (int w = 0; w < wagons; w++) {
+            int campStart = firstPerson[(w / WAGONS_PER_CAMP) * WAGONS_PER_CAMP];
+            int campEnd = firstPerson[Math.min(wagons, (w / WAGONS_PER_CAMP + 1) * WAGONS_PER_CAMP)];
+            for (int p = firstPerson[w]; p < firstPerson[w + 1]; p++) {
+                int next = rowStart[p];
+                for (int q = firstPerson[w]; q < firstPerson[w + 1]; q++) {
+                    if (q != p) {
+                        neighbors[next] = q;
+                        contactType[next++] = SAME_WAGON;
+                    }
+                }
+                if (w > 0) {
+                    for (int q = firstPerson[w - 1]; q < firstPerson[w]; q++) {
+                        neighbors[next] = q;
+                        contactType[next++] = NEIGHBOR_WAGON;
+                    }
+                }
+                if (w + 1 < wagons) {
+                    for (int q = firstPerson[w + 1]; q < firstPerson[w + 2]; q++) {
+                        neighbors[next] = q;
+                        contactType[next++] = NEIGHBOR_WAGON;
+                    }
+                }
+                if (wagons > 2) {
+                    for (int i = 0; i < CAMP_CONTACTS; i++) {
+                        neighbors[next] = campStart + random.nextInt(campEnd - campStart);
+                        contactType[next++] = SHARED_CAMP;
+                    }
+                }
+            }
+        }
+        return new ContactGraph(size, rowStart, neighbors, contactType);
+    }
+
+    /**
+     * Creates an empty bitset large enough to hold one bit per person.
+     * @return The bitset
+     */
+    public long[] newBitset() {
+        return new long[(size + 63) >>> 6];
+    }
+
+    /**
+     * Runs one day of spread for a disease.
+     * Every infectious person exposes each of their contacts, and a
+     * susceptible contact catches the disease with the transmission chance
+     * scaled by how close the contact is. Only infectious people are visited,
+     * and contacts who are already sick or immune are skipped without a roll.
+     *
+     * @param infectious Bitset of people who can pass the disease on
+     * @param susceptible Bitset of people who can catch it
+     * @param transmission Chance of passing the disease to a same-wagon contact in a day
+     * @param random The random source
+     * @param newlyInfected Bitset that receives the people who caught it; cleared first
+     * @param infectedBy If not null, receives for each newly infected person who infected them
+     * @return The number of people newly infected
+     */
+    public int spread(long[] infectious, long[] susceptible, double transmission, Random random,
+                      long[] newlyInfected, int[] infectedBy) {
+        Arrays.fill(newlyInfected, 0L);
+        if (transmission <= 0) {
+            return 0;
+        }
+        float[] chance = new float[CONTACT_WEIGHT.length];
+        for (int type = 0; type < chance.length; type++) {
+            chance[type] = (float) (transmission * CONTACT_WEIGHT[type]);
+        }
+
+        int caught = 0;
+        for (int word = 0; word < infectious.length; word++) {
+            long bits = infectious[word];
+            while (bits != 0) {
+                int p = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                for (int e = rowStart[p]; e < rowStart[p + 1]; e++) {
+                    int q = neighbors[e];
+                    long bit = 1L << q;
+                    if ((susceptible[q >>> 6] & bit) != 0 && (newlyInfected[q >>> 6] & bit) == 0
+                            && random.nextFloat() < chance[contactType[e]]) {
+                        newlyInfected[q >>> 6] |= bit;
+                        if (infectedBy != null) {
+                            infectedBy[q] = p;
+                        }
+                        caught++;
+                    }
+                }
+            }
+        }
+        return caught;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the number of contacts a person has.
+     * @param person The person
+     * @return The number of contacts
+     */
+    public int getContactCount(int person) {
+        return rowStart[person + 1] - rowStart[person];
+    }
+
+    public int getEdgeCount() {
+        return neighbors.length;
+    }
+}
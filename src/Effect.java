@@ -0,0 +1,72 @@
+/**
+ * Effect Enum of the Perils Along the Platte Game
+ * Represents the game values that jobs, weather, terrain, the party's
+ * condition and items can modify.
+ * Each effect has the value it takes when nothing modifies it.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file Effect.java
+ */
+
+public enum Effect {
+    /** Multiplier applied to the day's travel distance. */
+    TRAVEL_SPEED(1.0),
+
+    /** Multiplier applied to the oxen's fatigue gain. */
+    OXEN_FATIGUE(1.0),
+
+    /** Multiplier applied to wagon part wear. */
+    PART_WEAR(1.0),
+
+    /** Multiplier applied to food spoilage. */
+    FOOD_SPOILAGE(1.0),
+
+    /** Multiplier applied to the health recovered while resting. */
+    REST_HEALING(1.0),
+
+    /** Extra morale points recovered while resting. */
+    REST_MORALE(0.0),
+
+    /** Chance of repairing a broken part while resting. */
+    REST_REPAIR_CHANCE(0.0),
+
+    /** Greater than zero when worn parts are spotted before they break. */
+    PART_INSPECTION(0.0),
+
+    /** Greater than zero when the party knows the local remedies when it sees them. */
+    HERB_LORE(0.0),
+
+    /** Greater than zero when the party has the skills to mend the wagon quickly. */
+    REPAIR_SKILL(0.0),
+
+    /** Multiplier applied to the chance of a successful hunt. */
+    HUNT_SUCCESS(1.0),
+
+    /** Multiplier applied to the food a successful hunt brings in. */
+    HUNT_YIELD(1.0),
+
+    /** Multiplier applied to the effectiveness of medical treatment. */
+    MEDICAL_CARE(1.0),
+
+    /** Multiplier applied to prices when buying. */
+    BUY_PRICE(1.0),
+
+    /** Multiplier applied to prices when selling. */
+    SELL_PRICE(1.0),
+
+    /** Multiplier applied to morale losses. */
+    MORALE_LOSS(1.0);
+
+    // Value of the effect when nothing modifies it
+    private final double baseValue;
+
+    Effect(double baseValue) {
+        this.baseValue = baseValue;
+    }
+
+    public double getBaseValue() {
+        return baseValue;
+    }
+}
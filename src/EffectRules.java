@@ -0,0 +1,519 @@
+/**
+ * EffectRules Class of the Perils Along the Platte Game
+ * Reads the effects of trail events from a small rule language and compiles
+ * them into one flat array of instructions.
+ *
+ * Rules live in resources/config/peril_effects.txt, one block per event:
+ *
+ *   event Found Wild Berries
+ *     months 6-9
+ *     text You find a patch of ripe berries beside the trail.
+ *     food 10..29
+ *     morale 5..14
+ *     if job DOCTOR or chance 0.3: medicine 1 "You also gather some medicinal herbs."
+ *     food 5..15 x HUNTER 1.5
+ *
+ * An effect line changes one target by a fixed amount or a random amount in
+ * a range, can be guarded by one or two conditions (chance, job, or having a
+ * supply on hand), and can be scaled for one job. Blocks for events that are
+ * not in the PerilCatalog create new events when they give a category.
+ * Evaluating an event walks its instructions once and sums the changes per
+ * target, so the same compiled rules serve the game and batch simulations.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file EffectRules.java
+ */
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public final class EffectRules {
+    // Path of the rule file, relative to the resources folder
+    public static final String RULE_FILE = "config/peril_effects.txt";
+
+    // Targets an effect can change
+    public static final int HEALTH = 0;
+    public static final int MORALE = 1;
+    public static final int FOOD = 2;
+    public static final int MEDICINE = 3;
+    public static final int AMMO = 4;
+    public static final int MONEY = 5;
+    public static final int OXEN_HEALTH = 6;
+    public static final int DELAY = 7;
+    public static final int PART_DAMAGE = 8;
+    public static final int LOSE_OX = 9;
+    public static final int OX_INJURY = 10;
+    public static final int TARGET_COUNT = 11;
+
+    // Target names as written in rules, indexed by target
+    private static final String[] TARGET_NAMES = {
+        "health", "morale", "food", "medicine", "ammo", "money",
+        "oxen_health", "delay", "part_damage", "lose_ox", "ox_injury"
+    };
+
+    // Condition types
+    private static final int COND_NONE = 0;
+    private static final int COND_CHANCE = 1;
+    private static final int COND_JOB = 2;
+    private static final int COND_HAS = 3;
+
+    // How two conditions are joined
+    private static final int JOIN_NONE = 0;
+    private static final int JOIN_AND = 1;
+    private static final int JOIN_OR = 2;
+
+    // Chances are stored in parts per CHANCE_SCALE
+    private static final int CHANCE_SCALE = 10000;
+
+    // Job scaling factors are stored in parts per SCALE_UNIT
+    private static final int SCALE_UNIT = 1000;
+
+    // Fields of one instruction and the number of ints it takes
+    private static final int F_TARGET = 0;
+    private static final int F_MIN = 1;
+    private static final int F_MAX = 2;
+    private static final int F_COND = 3;
+    private static final int F_COND_ARG = 4;
+    private static final int F_COND_VALUE = 5;
+    private static final int F_JOIN = 6;
+    private static final int F_COND2 = 7;
+    private static final int F_COND2_ARG = 8;
+    private static final int F_COND2_VALUE = 9;
+    private static final int F_SCALE_JOB = 10;
+    private static final int F_SCALE = 11;
+    private static final int F_MESSAGE = 12;
+    private static final int STRIDE = 13;
+
+    // Most instructions one block may hold, so fired instructions fit in a long
+    private static final int MAX_BLOCK_INSTRUCTIONS = 64;
+
+    // Compiled instructions of every block, STRIDE ints each
+    private int[] code = new int[STRIDE * 32];
+    private int codeLength;
+
+    // Messages shown when a guarded instruction fires
+    private final List<String> messages = new ArrayList<>();
+
+    // Block columns, indexed by block
+    private final List<String> blockName = new ArrayList<>();
+    private final List<String> blockText = new ArrayList<>();
+    private final List<String> blockCause = new ArrayList<>();
+    private int[] blockStart = new int[16];
+    private int[] blockEnd = new int[16];
+    // Event definition for blocks that add new events: category (-1 if none), job ordinal (-1 if any), gender, months, weight
+    private int[] blockCategory = new int[16];
+    private int[] blockJob = new int[16];
+    private int[] blockGender = new int[16];
+    private int[] blockMonths = new int[16];
+    private double[] blockWeight = new double[16];
+
+    private EffectRules() {
+    }
+
+    /**
+     * Loads and compiles the rule file.
+     * If the file cannot be found or read, no rules are loaded.
+     *
+     * @return The compiled rules
+     */
+    public static EffectRules load() {
+        InputStream in = ResourceLoader.getResourceAsStream(RULE_FILE);
+        if (in == null) {
+            System.err.println("Peril effect rules not found: " + RULE_FILE);
+            return new EffectRules();
+        }
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading peril effect rules: " + e.getMessage());
+        }
+        return compile(lines);
+    }
+
+    /**
+     * Compiles rules from their source lines.
+     * Lines that cannot be understood are reported and skipped.
+     *
+     * @param lines The rule source
+     * @return The compiled rules
+     */
+    public static EffectRules compile(List<String> lines) {
+        EffectRules rules = new EffectRules();
+        int block = -1;
+        for (int n = 0; n < lines.size(); n++) {
+            String line = lines.get(n).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String keyword = line.split("\\s+", 2)[0].toLowerCase();
+            String rest = line.substring(keyword.length()).trim();
+            if (keyword.equals("event")) {
+                block = rules.startBlock(rest);
+            } else if (block < 0) {
+                System.err.println("Peril rule line " + (n + 1) + " is outside an event: " + line);
+            } else if (!rules.compileLine(block, keyword, rest)) {
+                System.err.println("Peril rule line " + (n + 1) + " not understood: " + line);
+            }
+        }
+        return rules;
+    }
+
+    /**
+     * Starts a new block for an event.
+     */
+    private int startBlock(String name) {
+        int block = blockName.size();
+        if (block == blockStart.length) {
+            int size = block * 2;
+            blockStart = Arrays.copyOf(blockStart, size);
+            blockEnd = Arrays.copyOf(blockEnd, size);
+            blockCategory = Arrays.copyOf(blockCategory, size);
+            blockJob = Arrays.copyOf(blockJob, size);
+            blockGender = Arrays.copyOf(blockGender, size);
+            blockMonths = Arrays.copyOf(blockMonths, size);
+            blockWeight = Arrays.copyOf(blockWeight, size);
+        }
+        blockName.add(name);
+        blockText.add("");
+        blockCause.add(name.toLowerCase());
+        blockStart[block] = codeLength;
+        blockEnd[block] = codeLength;
+        blockCategory[block] = -1;
+        blockJob[block] = -1;
+        blockGender[block] = PerilCatalog.ANY_GENDER;
+        blockMonths[block] = 0xFFF;
+        blockWeight[block] = 1.0;
+        return block;
+    }
+
+    /**
+     * Compiles one line of a block. A malformed line of any kind is turned
+     * away here, so a typo in the rule file costs that line and nothing more.
+     * @return false if the line could not be understood
+     */
+    private boolean compileLine(int block, String keyword, String rest) {
+        try {
+            switch (keyword) {
+                case "text":
+                    blockText.set(block, rest);
+                    return true;
+                case "cause":
+                    blockCause.set(block, rest);
+                    return true;
+                case "category":
+                    blockCategory[block] = categoryOf(rest);
+                    return blockCategory[block] >= 0;
+                case "weight":
+                    blockWeight[block] = Double.parseDouble(rest);
+                    return true;
+                case "job":
+                    blockJob[block] = Job.valueOf(rest.toUpperCase()).ordinal();
+                    return true;
+                case "gender":
+                    blockGender[block] = PerilCatalog.genderCode(rest);
+                    return true;
+                case "months":
+                    blockMonths[block] = parseMonths(rest);
+                    return blockMonths[block] != 0;
+                case "if":
+                    return compileEffect(block, rest, true);
+                default:
+                    return compileEffect(block, keyword + " " + rest, false);
+            }
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Compiles an effect line, with its conditions if it is guarded, into one instruction.
+     * @return false if the line could not be understood
+     */
+    private boolean compileEffect(int block, String source, boolean guarded) {
+        if (blockEnd[block] - blockStart[block] == MAX_BLOCK_INSTRUCTIONS * STRIDE) {
+            return false;
+        }
+        if (codeLength + STRIDE > code.length) {
+            code = Arrays.copyOf(code, code.length * 2);
+        }
+        int at = codeLength;
+        Arrays.fill(code, at, at + STRIDE, 0);
+        code[at + F_SCALE_JOB] = -1;
+        code[at + F_MESSAGE] = -1;
+
+        // Conditions come before a colon
+        String effect = source;
+        if (guarded) {
+            int colon = source.indexOf(':');
+            if (colon < 0) {
+                return false;
+            }
+            String conditions = source.substring(0, colon).trim();
+            effect = source.substring(colon + 1).trim();
+            String[] parts = conditions.split("\\s+(?=(and|or)\\s)", 2);
+            if (!compileCondition(parts[0], at + F_COND)) {
+                return false;
+            }
+            if (parts.length == 2) {
+                String second = parts[1].trim();
+                code[at + F_JOIN] = second.startsWith("and") ? JOIN_AND : JOIN_OR;
+                if (!compileCondition(second.substring(second.indexOf(' ') + 1).trim(), at + F_COND2)) {
+                    return false;
+                }
+            }
+        }
+
+        // A quoted message goes at the end
+        int quote = effect.indexOf('"');
+        if (quote >= 0) {
+            int close = effect.lastIndexOf('"');
+            if (close <= quote) {
+                return false;
+            }
+            code[at + F_MESSAGE] = messages.size();
+            messages.add(effect.substring(quote + 1, close));
+            effect = effect.substring(0, quote).trim();
+        }
+
+        String[] words = effect.split("\\s+");
+        if (words.length != 2 && words.length != 5) {
+            return false;
+        }
+        int target = targetOf(words[0]);
+        if (target < 0) {
+            return false;
+        }
+        code[at + F_TARGET] = target;
+        int range = words[1].indexOf("..");
+        if (range >= 0) {
+            code[at + F_MIN] = Integer.parseInt(words[1].substring(0, range));
+            code[at + F_MAX] = Integer.parseInt(words[1].substring(range + 2));
+        } else {
+            code[at + F_MIN] = Integer.parseInt(words[1]);
+            code[at + F_MAX] = code[at + F_MIN];
+        }
+        if (code[at + F_MAX] < code[at + F_MIN]) {
+            return false;
+        }
+        if (words.length == 5) {
+            if (!words[2].equals("x")) {
+                return false;
+            }
+            code[at + F_SCALE_JOB] = Job.valueOf(words[3].toUpperCase()).ordinal();
+            code[at + F_SCALE] = (int) Math.round(Double.parseDouble(words[4]) * SCALE_UNIT);
+        }
+        codeLength += STRIDE;
+        blockEnd[block] = codeLength;
+        return true;
+    }
+
+    /**
+     * Compiles one condition into three instruction fields.
+     * @return false if the condition could not be understood
+     */
+    private boolean compileCondition(String condition, int at) {
+        String[] words = condition.split("\\s+");
+        if (words.length < 2) {
+            return false;
+        }
+        switch (words[0]) {
+            case "chance":
+                code[at] = COND_CHANCE;
+                code[at + 1] = (int) Math.round(Double.parseDouble(words[1]) * CHANCE_SCALE);
+                return words.length == 2;
+            case "job":
+                code[at] = COND_JOB;
+                code[at + 1] = Job.valueOf(words[1].toUpperCase()).ordinal();
+                return words.length == 2;
+            case "has":
+                code[at] = COND_HAS;
+                code[at + 1] = targetOf(words[1]);
+                code[at + 2] = words.length > 2 ? Integer.parseInt(words[2]) : 1;
+                return code[at + 1] >= 0 && words.length <= 3;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Gets a target by the name used in rules.
+     */
+    private static int targetOf(String name) {
+        for (int t = 0; t < TARGET_COUNT; t++) {
+            if (TARGET_NAMES[t].equals(name)) {
+                return t;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets a PerilCatalog category by name.
+     */
+    private static int categoryOf(String name) {
+        switch (name.toUpperCase()) {
+            case "DISEASE": return PerilCatalog.DISEASE;
+            case "INJURY": return PerilCatalog.INJURY;
+            case "WAGON": return PerilCatalog.WAGON;
+            case "POSITIVE": return PerilCatalog.POSITIVE;
+            case "WEATHER": return PerilCatalog.WEATHER;
+            case "ANIMAL": return PerilCatalog.ANIMAL;
+            case "FEMALE": return PerilCatalog.FEMALE;
+            case "MALE": return PerilCatalog.MALE;
+            default: return -1;
+        }
+    }
+
+    /**
+     * Parses months such as "6-9" or "11-3, 6" into a month mask.
+     */
+    private static int parseMonths(String text) {
+        int mask = 0;
+        for (String part : text.split(",")) {
+            String[] ends = part.trim().split("-");
+            int first = Integer.parseInt(ends[0].trim());
+            int last = ends.length > 1 ? Integer.parseInt(ends[1].trim()) : first;
+            if (first < 1 || first > 12 || last < 1 || last > 12) {
+                return 0;
+            }
+            for (int month = first; ; month = month % 12 + 1) {
+                mask |= 1 << (month - 1);
+                if (month == last) {
+                    break;
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Checks one compiled condition.
+     */
+    private boolean test(int type, int arg, int value, int jobSlot, int[] stock, Random random) {
+        switch (type) {
+            case COND_CHANCE:
+                return random.nextInt(CHANCE_SCALE) < arg;
+            case COND_JOB:
+                return jobSlot == arg;
+            case COND_HAS:
+                return stock[arg] >= value;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Evaluates the rules of a block.
+     * Each instruction whose conditions hold rolls its amount, scales it if
+     * the job matches, and adds it to the total for its target.
+     *
+     * @param block The block to evaluate
+     * @param job The player's job, or null for none
+     * @param stock The amount of each target on hand, for "has" conditions
+     * @param random The random source
+     * @param deltas Receives the total change for each target; cleared first
+     * @return A bitmask of the block's instructions that fired
+     */
+    public long evaluate(int block, Job job, int[] stock, Random random, int[] deltas) {
+        Arrays.fill(deltas, 0);
+        int jobSlot = job == null ? -1 : job.ordinal();
+        long fired = 0;
+        int bit = 0;
+        for (int at = blockStart[block]; at < blockEnd[block]; at += STRIDE, bit++) {
+            boolean pass = test(code[at + F_COND], code[at + F_COND_ARG], code[at + F_COND_VALUE], jobSlot, stock, random);
+            int join = code[at + F_JOIN];
+            if (join == JOIN_AND) {
+                pass = pass && test(code[at + F_COND2], code[at + F_COND2_ARG], code[at + F_COND2_VALUE], jobSlot, stock, random);
+            } else if (join == JOIN_OR) {
+                pass = pass || test(code[at + F_COND2], code[at + F_COND2_ARG], code[at + F_COND2_VALUE], jobSlot, stock, random);
+            }
+            if (!pass) {
+                continue;
+            }
+            int min = code[at + F_MIN];
+            int amount = min == code[at + F_MAX] ? min : min + random.nextInt(code[at + F_MAX] - min + 1);
+            if (code[at + F_SCALE_JOB] == jobSlot && jobSlot >= 0) {
+                amount = amount * code[at + F_SCALE] / SCALE_UNIT;
+            }
+            deltas[code[at + F_TARGET]] += amount;
+            fired |= 1L << bit;
+        }
+        return fired;
+    }
+
+    /**
+     * Gets the messages of the instructions that fired.
+     *
+     * @param block The block evaluated
+     * @param fired The bitmask returned by evaluate
+     * @return The messages, in rule order
+     */
+    public List<String> getFiredMessages(int block, long fired) {
+        List<String> firedMessages = new ArrayList<>();
+        int bit = 0;
+        for (int at = blockStart[block]; at < blockEnd[block]; at += STRIDE, bit++) {
+            if ((fired & (1L << bit)) != 0 && code[at + F_MESSAGE] >= 0) {
+                firedMessages.add(messages.get(code[at + F_MESSAGE]));
+            }
+        }
+        return firedMessages;
+    }
+
+    public int getBlockCount() {
+        return blockName.size();
+    }
+
+    public String getName(int block) {
+        return blockName.get(block);
+    }
+
+    public String getText(int block) {
+        return blockText.get(block);
+    }
+
+    public String getCause(int block) {
+        return blockCause.get(block);
+    }
+
+    public int getCategory(int block) {
+        return blockCategory[block];
+    }
+
+    public int getJob(int block) {
+        return blockJob[block];
+    }
+
+    public int getGender(int block) {
+        return blockGender[block];
+    }
+
+    public int getMonths(int block) {
+        return blockMonths[block];
+    }
+
+    public double getWeight(int block) {
+        return blockWeight[block];
+    }
+
+    /**
+     * Checks whether a block sets the months its event can happen in.
+     * @param block The block
+     * @return true if the months are limited
+     */
+    public boolean hasMonths(int block) {
+        return blockMonths[block] != 0xFFF;
+    }
+}
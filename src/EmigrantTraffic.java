@@ -0,0 +1,463 @@
+/**
+ * EmigrantTraffic Class of the Perils Along the Platte Game
+ * Simulates the other emigrant parties on the trail in the same season:
+ * thousands of wagon parties leaving the jumping-off towns through the
+ * spring, each moving along the trail at its own pace, breaking down,
+ * running short of food and falling sick.
+ *
+ * Each party is a handful of primitive columns rather than an object. The
+ * parties are also kept in order of their position on the trail; since a
+ * day's travel barely changes that order, an insertion pass restores it in
+ * close to one sweep. Parties near the player, and parties camped close
+ * enough to pass a disease between them, are then found by walking that
+ * order, never by comparing every pair. A season of several thousand
+ * parties advances a day in a small fraction of a millisecond.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file EmigrantTraffic.java
+ */
+
+import java.util.Arrays;
+
+public class EmigrantTraffic {
+    // Departures run from mid-April to mid-June, as month and day
+    private static final int FIRST_DEPARTURE_MONTH = 4;
+    private static final int FIRST_DEPARTURE_DAY = 15;
+    private static final int DEPARTURE_SPREAD_DAYS = 60;
+
+    // Miles a party makes on a good day, from the slowest to the fastest
+    private static final double MIN_PACE = 10.0;
+    private static final double MAX_PACE = 20.0;
+
+    // Share of a day's pace lost or gained to the road, the weather and luck
+    private static final double PACE_JITTER = 0.3;
+
+    // People and pounds of food per person a party sets out with
+    private static final int MIN_PEOPLE = 3;
+    private static final int MAX_PEOPLE = 9;
+    private static final int FOOD_PER_PERSON = 2;
+    private static final int DAYS_OF_FOOD = 120;
+
+    // Daily chances of a breakdown, of fixing one, and of finding food when short
+    private static final double BREAKDOWN_CHANCE = 0.01;
+    private static final double REPAIR_CHANCE = 0.35;
+    private static final double FORAGE_CHANCE = 0.3;
+    private static final int FORAGE_POUNDS = 40;
+
+    // Daily chance a healthy party falls sick with no one to catch it from,
+    // of getting well again, and of losing someone while sick
+    private static final double BASE_SICKNESS_CHANCE = 0.002;
+    private static final double RECOVERY_CHANCE = 0.12;
+    private static final double DEATH_CHANCE = 0.03;
+
+    // Miles within which parties camp close enough to pass a disease, and the daily chance they do
+    private static final double CAMP_RANGE = 0.5;
+    private static final double CAMP_SPREAD_CHANCE = 0.02;
+
+    // Party flags
+    private static final int DEPARTED = 1;
+    private static final int BROKEN_DOWN = 2;
+    private static final int FINISHED = 4;
+
+    // Diseases that pass between parties
+    private static final Condition[] CONTAGIOUS = {
+        Condition.CHOLERA, Condition.DYSENTERY, Condition.MEASLES, Condition.TYPHOID
+    };
+
+    // Family names the parties are known by
+    private static final String[] FAMILY_NAMES = {
+        "Adams", "Baker", "Campbell", "Donner", "Ellis", "Fletcher", "Graves", "Harlan",
+        "Ingram", "Jennings", "Keller", "Lassen", "Meek", "Nesmith", "Owens", "Parker",
+        "Reed", "Sager", "Thornton", "Whitman"
+    };
+
+    // State of the party dice, a xorshift generator kept inline since a
+    // day rolls several times for every party and java.util.Random's
+    // synchronized seed would cost more than the rest of the model
+    private long randomState;
+
+    // Miles to the end of the trail, Integer.MAX_VALUE on the endless trail
+    private final int trailLength;
+
+    // Party columns, indexed by party
+    private final int partyCount;
+    private final double[] mile;
+    private final double[] pace;
+    private final int[] departureDay;
+    private final int[] people;
+    private final int[] food;
+    private final byte[] flags;
+    // Ordinal of the disease running through each party, -1 if it is well
+    private final byte[] disease;
+
+    // Parties in order of their mile, nearest the start first
+    private final int[] order;
+
+    // Scratch space for sorting the parties by whole mile: the order being
+    // built and, indexed by mile past the rearmost party, where each mile starts
+    private final int[] sorted;
+    private int[] mileStart = new int[0];
+
+    // Most miles of trail, per party, the sort counts by whole mile before it
+    // leaves the order to the insertion pass alone
+    private static final int MAX_MILES_PER_PARTY = 8;
+
+    // Parties that fell sick, and people who died, on the last day advanced
+    private int newCasesToday;
+    private int deathsToday;
+
+    /**
+     * Constructs a season of emigrant parties, none of them departed yet.
+     *
+     * @param parties The number of parties
+     * @param year The year of the season
+     * @param trailLength Miles to the end of the trail, Integer.MAX_VALUE if it has none
+     * @param seed The random seed
+     */
+    public EmigrantTraffic(int parties, int year, int trailLength, long seed) {
+        this.randomState = seed == 0 ? 0x9E3779B97F4A7C15L : seed;
+        this.trailLength = trailLength;
+        partyCount = parties;
+        mile = new double[parties];
+        pace = new double[parties];
+        departureDay = new int[parties];
+        people = new int[parties];
+        food = new int[parties];
+        flags = new byte[parties];
+        disease = new byte[parties];
+        order = new int[parties];
+        sorted = new int[parties];
+
+        int firstDeparture = TrailCalendar.toEpochDay(year, FIRST_DEPARTURE_MONTH, FIRST_DEPARTURE_DAY);
+        for (int p = 0; p < parties; p++) {
+            pace[p] = MIN_PACE + nextChance() * (MAX_PACE - MIN_PACE);
+            departureDay[p] = firstDeparture + nextInt(DEPARTURE_SPREAD_DAYS + 1);
+            people[p] = MIN_PEOPLE + nextInt(MAX_PEOPLE - MIN_PEOPLE + 1);
+            food[p] = people[p] * FOOD_PER_PERSON * DAYS_OF_FOOD;
+            disease[p] = -1;
+            order[p] = p;
+        }
+    }
+
+    /**
+     * Advances every party by one day.
+     * Parties leave on their departure day, and each one on the trail eats,
+     * travels unless broken down, and may fall sick, recover or lose someone.
+     * A party whose departure day passed before the first day advanced, as
+     * when the player sets out late in the season, starts as far along the
+     * trail as its pace would have taken it since.
+     * The order by mile is then restored and diseases pass between parties
+     * camped together.
+     *
+     * @param epochDay The day being advanced
+     */
+    public void advanceDay(int epochDay) {
+        newCasesToday = 0;
+        deathsToday = 0;
+        for (int p = 0; p < partyCount; p++) {
+            if ((flags[p] & DEPARTED) == 0) {
+                if (epochDay < departureDay[p]) {
+                    continue;
+                }
+                flags[p] |= DEPARTED;
+                if (epochDay > departureDay[p]) {
+                    catchUp(p, epochDay - departureDay[p]);
+                }
+            }
+            if ((flags[p] & FINISHED) != 0 || people[p] == 0) {
+                continue;
+            }
+
+            food[p] = Math.max(0, food[p] - people[p] * FOOD_PER_PERSON);
+            if (food[p] < people[p] * FOOD_PER_PERSON * 7 && nextChance() < FORAGE_CHANCE) {
+                food[p] += FORAGE_POUNDS;
+            }
+
+            if ((flags[p] & BROKEN_DOWN) != 0) {
+                if (nextChance() < REPAIR_CHANCE) {
+                    flags[p] &= ~BROKEN_DOWN;
+                }
+            } else if (nextChance() < BREAKDOWN_CHANCE) {
+                flags[p] |= BROKEN_DOWN;
+            } else {
+                double hunger = food[p] > 0 ? 1.0 : 0.5;
+                mile[p] += pace[p] * hunger * (1.0 + PACE_JITTER * (nextChance() * 2 - 1));
+                if (mile[p] >= trailLength) {
+                    mile[p] = trailLength;
+                    flags[p] |= FINISHED;
+                }
+            }
+
+            if (disease[p] >= 0) {
+                if (nextChance() < DEATH_CHANCE) {
+                    people[p]--;
+                    deathsToday++;
+                }
+                if (nextChance() < RECOVERY_CHANCE || people[p] == 0) {
+                    disease[p] = -1;
+                }
+            } else if (nextChance() < BASE_SICKNESS_CHANCE) {
+                disease[p] = (byte) CONTAGIOUS[nextInt(CONTAGIOUS.length)].ordinal();
+                newCasesToday++;
+            }
+        }
+        sortByMile();
+        spreadBetweenCamps();
+    }
+
+    /**
+     * Moves a party on by the days it has been traveling before the season
+     * was first advanced, at its own pace, eating as it went.
+     */
+    private void catchUp(int party, int days) {
+        food[party] = Math.max(0, food[party] - people[party] * FOOD_PER_PERSON * days);
+        mile[party] = Math.min((double) trailLength, pace[party] * days);
+        if (mile[party] >= trailLength) {
+            flags[party] |= FINISHED;
+        }
+    }
+
+    /**
+     * Restores the order of parties by mile.
+     * Faster parties pass tens of slower ones each day, so the parties are
+     * first counted into whole miles, which sets each one within a mile of
+     * its place, and an insertion pass then finishes the order in about one
+     * sweep. A trail so long the count would cost more than it saves is
+     * left to the insertion pass.
+     */
+    private void sortByMile() {
+        if (partyCount == 0) {
+            return;
+        }
+        double rearmost = mile[0];
+        double foremost = mile[0];
+        for (int p = 1; p < partyCount; p++) {
+            rearmost = Math.min(rearmost, mile[p]);
+            foremost = Math.max(foremost, mile[p]);
+        }
+        int base = (int) rearmost;
+        int miles = (int) foremost - base + 1;
+        if (miles <= partyCount * MAX_MILES_PER_PARTY) {
+            if (mileStart.length < miles + 1) {
+                mileStart = new int[miles + 1];
+            } else {
+                Arrays.fill(mileStart, 0, miles + 1, 0);
+            }
+            for (int p = 0; p < partyCount; p++) {
+                mileStart[(int) mile[p] - base + 1]++;
+            }
+            for (int m = 1; m <= miles; m++) {
+                mileStart[m] += mileStart[m - 1];
+            }
+            for (int i = 0; i < partyCount; i++) {
+                int party = order[i];
+                sorted[mileStart[(int) mile[party] - base]++] = party;
+            }
+            System.arraycopy(sorted, 0, order, 0, partyCount);
+        }
+        for (int i = 1; i < partyCount; i++) {
+            int party = order[i];
+            double at = mile[party];
+            int j = i - 1;
+            while (j >= 0 && mile[order[j]] > at) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = party;
+        }
+    }
+
+    /**
+     * Passes diseases between parties camped within CAMP_RANGE of each other.
+     * Sweeps the parties in order of mile and only compares each sick party
+     * with the neighbors inside the range.
+     */
+    private void spreadBetweenCamps() {
+        for (int i = 0; i < partyCount; i++) {
+            int sick = order[i];
+            if (disease[sick] < 0 || !isOnTrail(sick)) {
+                continue;
+            }
+            for (int j = i - 1; j >= 0 && mile[sick] - mile[order[j]] <= CAMP_RANGE; j--) {
+                catchFrom(order[j], sick);
+            }
+            for (int j = i + 1; j < partyCount && mile[order[j]] - mile[sick] <= CAMP_RANGE; j++) {
+                catchFrom(order[j], sick);
+            }
+        }
+    }
+
+    /**
+     * Gives a party the disease of a sick neighbor, by chance.
+     */
+    private void catchFrom(int party, int sick) {
+        if (disease[party] < 0 && isOnTrail(party) && nextChance() < CAMP_SPREAD_CHANCE) {
+            disease[party] = disease[sick];
+            newCasesToday++;
+        }
+    }
+
+    /**
+     * Rolls a chance between 0 (inclusive) and 1 (exclusive).
+     */
+    private double nextChance() {
+        long x = randomState;
+        x ^= x << 13;
+        x ^= x >>> 7;
+        x ^= x << 17;
+        randomState = x;
+        return (x >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Rolls a whole number from 0 up to but not including a bound.
+     */
+    private int nextInt(int bound) {
+        return (int) (nextChance() * bound);
+    }
+
+    /**
+     * Checks whether a party has left and is still traveling.
+     */
+    private boolean isOnTrail(int party) {
+        return (flags[party] & (DEPARTED | FINISHED)) == DEPARTED && people[party] > 0;
+    }
+
+    /**
+     * Finds the first position in the order at or past a mile.
+     */
+    private int lowerBound(double at) {
+        int low = 0;
+        int high = partyCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (mile[order[middle]] < at) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the party on the trail nearest a mile, within a range.
+     *
+     * @param at The mile
+     * @param range The most miles away the party may be
+     * @return The party, or -1 if none is in range
+     */
+    public int findNearest(double at, double range) {
+        int nearest = -1;
+        double best = range;
+        int start = lowerBound(at - range);
+        for (int i = start; i < partyCount && mile[order[i]] <= at + range; i++) {
+            int party = order[i];
+            double distance = Math.abs(mile[party] - at);
+            if (isOnTrail(party) && distance <= best) {
+                best = distance;
+                nearest = party;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Counts the parties on the trail within a range of a mile.
+     *
+     * @param at The mile
+     * @param range The most miles away a party may be
+     * @return The number of parties
+     */
+    public int countNear(double at, double range) {
+        int count = 0;
+        for (int i = lowerBound(at - range); i < partyCount && mile[order[i]] <= at + range; i++) {
+            if (isOnTrail(order[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Moves food from one party to the player or the other way.
+     *
+     * @param party The party
+     * @param pounds Pounds the party gives, negative when it receives
+     */
+    public void giveFood(int party, int pounds) {
+        food[party] = Math.max(0, food[party] - pounds);
+    }
+
+    /**
+     * Gets a broken-down party moving again.
+     *
+     * @param party The party
+     */
+    public void repair(int party) {
+        flags[party] &= ~BROKEN_DOWN;
+    }
+
+    /**
+     * Gets the name a party is known by.
+     *
+     * @param party The party
+     * @return The name, such as "the Reed party"
+     */
+    public String getName(int party) {
+        return "the " + FAMILY_NAMES[party % FAMILY_NAMES.length] + " party";
+    }
+
+    public int getPartyCount() {
+        return partyCount;
+    }
+
+    public int getMile(int party) {
+        return (int) mile[party];
+    }
+
+    public int getPeople(int party) {
+        return people[party];
+    }
+
+    public int getFood(int party) {
+        return food[party];
+    }
+
+    public boolean isBrokenDown(int party) {
+        return (flags[party] & BROKEN_DOWN) != 0;
+    }
+
+    /**
+     * Gets the disease running through a party.
+     * @param party The party
+     * @return The disease, or null if the party is well
+     */
+    public Condition getDisease(int party) {
+        return disease[party] < 0 ? null : Condition.values()[disease[party]];
+    }
+
+    /**
+     * Counts the parties that have left and are still traveling.
+     * @return The number of parties on the trail
+     */
+    public int getOnTrailCount() {
+        int count = 0;
+        for (int p = 0; p < partyCount; p++) {
+            if (isOnTrail(p)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int getNewCasesToday() {
+        return newCasesToday;
+    }
+
+    public int getDeathsToday() {
+        return deathsToday;
+    }
+}
@@ -0,0 +1,203 @@
+/**
+ * FoodLots Class of the Perils Along the Platte Game
+ * Stores the wagon's food as lots: each purchase, hunt or find is one lot
+ * with its food type, pounds, and the day it came aboard.
+ *
+ * Lots are kept in parallel primitive columns. Eating takes from the oldest
+ * lots first, and spoilage runs as a single pass over the columns that
+ * returns one aggregated report for the day, so the cost stays low even
+ * with hundreds of lots on board.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file FoodLots.java
+ */
+
+import java.util.Arrays;
+
+public class FoodLots {
+    // Fraction of a lot's pounds lost per day at a spoil rate of 1.0
+    private final double dailySpoilageScale;
+
+    // Days after which a lot spoils twice as fast as when fresh
+    private final double ageDoublingDays;
+
+    // Lot columns, in the order the lots came aboard
+    private int count;
+    private int[] type = new int[16];
+    private int[] pounds = new int[16];
+    private int[] purchaseDay = new int[16];
+    // Fraction of a pound already spoiled but not yet removed
+    private float[] carry = new float[16];
+
+    // Running pounds of each food type, indexed by ItemRegistry id
+    private final int[] poundsByType = new int[ItemRegistry.size()];
+
+    // Running pounds across all lots
+    private int totalPounds;
+
+    /**
+     * Inner class holding the result of one day's spoilage pass.
+     */
+    public static class SpoilageReport {
+        private final int[] spoiledByType = new int[ItemRegistry.size()];
+        private int totalSpoiled;
+
+        /**
+         * Gets the pounds of one food type lost.
+         * @param id The ItemRegistry id of the food type
+         * @return The pounds spoiled
+         */
+        public int getSpoiled(int id) {
+            return spoiledByType[id];
+        }
+
+        public int getTotalSpoiled() {
+            return totalSpoiled;
+        }
+
+        /**
+         * Describes the losses by food type, such as "3 lbs of Bacon, 1 lb of Flour".
+         * @return The description, or an empty string if nothing spoiled
+         */
+        public String describe() {
+            StringBuilder text = new StringBuilder();
+            for (int id = 0; id < spoiledByType.length; id++) {
+                if (spoiledByType[id] > 0) {
+                    if (text.length() > 0) {
+                        text.append(", ");
+                    }
+                    text.append(spoiledByType[id]).append(spoiledByType[id] == 1 ? " lb of " : " lbs of ")
+                            .append(ItemRegistry.getName(id));
+                }
+            }
+            return text.toString();
+        }
+    }
+
+    /**
+     * Constructs an empty FoodLots that spoils at the rates in the simulation parameters.
+     *
+     * @param parameters The simulation parameters
+     */
+    public FoodLots(SimulationParameters parameters) {
+        this.dailySpoilageScale = parameters.foodSpoilageScale;
+        this.ageDoublingDays = parameters.foodAgeDoublingDays;
+    }
+
+    /**
+     * Adds a lot of food.
+     *
+     * @param id The ItemRegistry id of the food type
+     * @param amount The pounds in the lot
+     * @param day The day the lot came aboard
+     */
+    public void add(int id, int amount, int day) {
+        if (amount <= 0) {
+            return;
+        }
+        if (count == type.length) {
+            int size = count * 2;
+            type = Arrays.copyOf(type, size);
+            pounds = Arrays.copyOf(pounds, size);
+            purchaseDay = Arrays.copyOf(purchaseDay, size);
+            carry = Arrays.copyOf(carry, size);
+        }
+        type[count] = id;
+        pounds[count] = amount;
+        purchaseDay[count] = day;
+        carry[count] = 0f;
+        count++;
+        poundsByType[id] += amount;
+        totalPounds += amount;
+    }
+
+    /**
+     * Takes food from the oldest lots first.
+     *
+     * @param amount The pounds to take
+     * @return The pounds actually taken
+     */
+    public int consume(int amount) {
+        int remaining = Math.max(0, amount);
+        int i = 0;
+        while (remaining > 0 && i < count) {
+            int taken = Math.min(remaining, pounds[i]);
+            pounds[i] -= taken;
+            poundsByType[type[i]] -= taken;
+            remaining -= taken;
+            i++;
+        }
+        int taken = Math.max(0, amount) - remaining;
+        totalPounds -= taken;
+        compact();
+        return taken;
+    }
+
+    /**
+     * Runs one day of spoilage over every lot.
+     * Each lot loses a share of its pounds set by its food type's spoil rate,
+     * its age and the conditions of the day. Fractions of a pound carry over
+     * to the next day, so slow-spoiling food still spoils eventually.
+     *
+     * @param day The current day
+     * @param multiplier The combined weather and job multiplier for the day
+     * @return The pounds lost, by food type
+     */
+    public SpoilageReport spoil(int day, double multiplier) {
+        SpoilageReport report = new SpoilageReport();
+        double scale = dailySpoilageScale * multiplier;
+
+        for (int i = 0; i < count; i++) {
+            double age = Math.max(0, day - purchaseDay[i]);
+            double loss = pounds[i] * ItemRegistry.getSpoilRate(type[i]) * scale * (1.0 + age / ageDoublingDays) + carry[i];
+            int whole = Math.min(pounds[i], (int) loss);
+            carry[i] = (float) (loss - whole);
+            pounds[i] -= whole;
+            report.spoiledByType[type[i]] += whole;
+        }
+
+        for (int id = 0; id < poundsByType.length; id++) {
+            poundsByType[id] -= report.spoiledByType[id];
+            report.totalSpoiled += report.spoiledByType[id];
+        }
+        totalPounds -= report.totalSpoiled;
+        compact();
+        return report;
+    }
+
+    /**
+     * Removes empty lots, keeping the rest in the order they came aboard.
+     */
+    private void compact() {
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            if (pounds[i] > 0) {
+                type[kept] = type[i];
+                pounds[kept] = pounds[i];
+                purchaseDay[kept] = purchaseDay[i];
+                carry[kept] = carry[i];
+                kept++;
+            }
+        }
+        count = kept;
+    }
+
+    public int getTotalPounds() {
+        return totalPounds;
+    }
+
+    /**
+     * Gets the pounds carried of one food type.
+     * @param id The ItemRegistry id of the food type
+     * @return The pounds carried
+     */
+    public int getPounds(int id) {
+        return poundsByType[id];
+    }
+
+    public int getLotCount() {
+        return count;
+    }
+}
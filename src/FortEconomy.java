@@ -0,0 +1,303 @@
+/**
+ * FortEconomy Class of the Perils Along the Platte Game
+ * Simulates the stock and prices of the forts and trading posts along the trail.
+ *
+ * Each post keeps a stock of every good it trades, up to what its freight
+ * wagons can keep it supplied with; the farther a post lies from the
+ * jumping-off towns, the smaller its stock and the higher its freight
+ * charge. The emigrant parties camped at a post each day buy from it, the
+ * freight wagons refill it through the summer, and its prices rise as its
+ * shelves empty.
+ *
+ * The stock of every post is one flat array updated in a single pass each
+ * day. Each post's table of buying and selling quotes is kept ready and only
+ * worked out again when its stock has changed, so the trading dialog only
+ * ever reads prices.
+ *
+ * On the endless trail the posts of each newly generated segment join the
+ * economy as the segment arrives, growing the columns by a post or so every
+ * few hundred miles.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file FortEconomy.java
+ */
+
+import java.util.Arrays;
+
+public class FortEconomy {
+    // Goods traded at the posts
+    public static final int FOOD = 0;
+    public static final int WHEEL = 1;
+    public static final int AXLE = 2;
+    public static final int TONGUE = 3;
+    public static final int WAGON_BOW = 4;
+    public static final int MEDICINE = 5;
+    public static final int AMMUNITION = 6;
+    public static final int GOOD_COUNT = 7;
+
+    // Stock a post by the jumping-off towns holds when fully supplied: pounds of food, parts, kits and boxes of ammunition
+    private static final double[] FULL_STOCK = { 10000, 30, 30, 30, 50, 60, 150 };
+
+    // Amount of each good an emigrant party camped at a post buys in a day
+    private static final double[] PARTY_DEMAND = { 5, 0.01, 0.01, 0.008, 0.012, 0.02, 0.05 };
+
+    // Share of a post's shortfall the freight wagons make up per day, by month
+    private static final double[] RESUPPLY_BY_MONTH = {
+        0.0, 0.0, 0.02, 0.05, 0.08, 0.08, 0.08, 0.08, 0.06, 0.03, 0.0, 0.0
+    };
+
+    // Miles at which a post's full stock falls by half, and the freight charge added per mile
+    private static final double STOCK_HALF_MILES = 1000.0;
+    private static final double FREIGHT_PER_MILE = 0.0004;
+
+    // Miles around a post within which emigrant parties camp and trade there
+    private static final double VISIT_RANGE = 7.5;
+
+    // How sharply prices rise as stock runs down, and the bounds on the rise
+    private static final double SCARCITY_ELASTICITY = 0.5;
+    private static final double MIN_SCARCITY = 0.7;
+    private static final double MAX_SCARCITY = 4.0;
+
+    // Share of its selling price a post pays for goods, and the most it will take on over its full stock
+    private static final double BUYBACK_SHARE = 0.5;
+    private static final double MAX_OVERSTOCK = 2.0;
+
+    // Prices at the jumping-off towns, from the simulation parameters, indexed by good
+    private final int[] basePrice;
+
+    // Post columns, indexed by post: its name, mile and freight charge
+    private String[] postName = new String[16];
+    private int[] postMile = new int[16];
+    private double[] freight = new double[16];
+    private int postCount;
+
+    // Cell columns, indexed [post * GOOD_COUNT + good]: full stock, stock on hand, and the quoted prices
+    private double[] fullStock = new double[16 * GOOD_COUNT];
+    private double[] stock = new double[16 * GOOD_COUNT];
+    private int[] buyQuote = new int[16 * GOOD_COUNT];
+    private int[] sellQuote = new int[16 * GOOD_COUNT];
+
+    // Posts whose stock changed since their quotes were worked out, and the parties camped at each today
+    private boolean[] stale = new boolean[16];
+    private int[] visitors = new int[16];
+
+    // Mile of the farthest post registered, so landmarks are only looked at once
+    private int lastPostMile = -1;
+
+    /**
+     * Constructs the economy of the posts on a trail, each one fully supplied.
+     *
+     * @param map The trail, for the forts and trading posts among its landmarks
+     * @param parameters The simulation parameters that set the base prices
+     */
+    public FortEconomy(Map map, SimulationParameters parameters) {
+        basePrice = new int[] {
+            parameters.foodPrice, parameters.wheelPrice, parameters.axlePrice, parameters.tonguePrice,
+            parameters.wagonBowPrice, parameters.medicinePrice, parameters.ammunitionPrice
+        };
+
+        addPosts(map);
+    }
+
+    /**
+     * Registers the forts and trading posts among the map's landmarks that
+     * lie past every post already in the economy, each one fully supplied.
+     * Called each day on the endless trail, as its segments are generated.
+     *
+     * @param map The trail
+     */
+    public void addPosts(Map map) {
+        for (Landmark landmark : map.getLandmarks()) {
+            if (landmark.getDistance() > lastPostMile && isTradingPost(landmark.getName())) {
+                addPost(landmark.getName(), landmark.getDistance());
+            }
+        }
+    }
+
+    /**
+     * Adds one fully supplied post, growing the columns if they are full.
+     */
+    private void addPost(String name, int mile) {
+        if (postCount == postName.length) {
+            int capacity = postCount * 2;
+            postName = Arrays.copyOf(postName, capacity);
+            postMile = Arrays.copyOf(postMile, capacity);
+            freight = Arrays.copyOf(freight, capacity);
+            stale = Arrays.copyOf(stale, capacity);
+            visitors = Arrays.copyOf(visitors, capacity);
+            fullStock = Arrays.copyOf(fullStock, capacity * GOOD_COUNT);
+            stock = Arrays.copyOf(stock, capacity * GOOD_COUNT);
+            buyQuote = Arrays.copyOf(buyQuote, capacity * GOOD_COUNT);
+            sellQuote = Arrays.copyOf(sellQuote, capacity * GOOD_COUNT);
+        }
+        int post = postCount++;
+        postName[post] = name;
+        postMile[post] = mile;
+        freight[post] = 1.0 + FREIGHT_PER_MILE * mile;
+        double supply = 1.0 / (1.0 + mile / STOCK_HALF_MILES);
+        for (int good = 0; good < GOOD_COUNT; good++) {
+            int i = post * GOOD_COUNT + good;
+            fullStock[i] = FULL_STOCK[good] * supply;
+            stock[i] = fullStock[i];
+        }
+        quote(post);
+        lastPostMile = Math.max(lastPostMile, mile);
+    }
+
+    /**
+     * Checks whether a landmark is a fort or trading post.
+     *
+     * @param name The landmark's name
+     * @return true if supplies can be traded there
+     */
+    public static boolean isTradingPost(String name) {
+        return name != null && (name.contains("Fort") || name.contains("Trading Post"));
+    }
+
+    /**
+     * Runs one day of trade at every post.
+     * The parties camped at each post buy from it and the freight wagons
+     * make up part of its shortfall; the quotes of every post whose stock
+     * changed are then worked out again.
+     *
+     * @param month The month, 1 to 12
+     * @param traffic The emigrant parties on the trail
+     */
+    public void advanceDay(int month, EmigrantTraffic traffic) {
+        for (int post = 0; post < postCount; post++) {
+            visitors[post] = traffic.countNear(postMile[post], VISIT_RANGE);
+        }
+        double resupply = RESUPPLY_BY_MONTH[month - 1];
+        for (int i = 0; i < postCount * GOOD_COUNT; i++) {
+            double before = stock[i];
+            double after = Math.max(0.0, before - visitors[i / GOOD_COUNT] * PARTY_DEMAND[i % GOOD_COUNT]);
+            if (after < fullStock[i]) {
+                after += (fullStock[i] - after) * resupply;
+            }
+            if (after != before) {
+                stock[i] = after;
+                stale[i / GOOD_COUNT] = true;
+            }
+        }
+        for (int post = 0; post < postCount; post++) {
+            if (stale[post]) {
+                quote(post);
+            }
+        }
+    }
+
+    /**
+     * Works out a post's buying and selling quotes from its stock.
+     */
+    private void quote(int post) {
+        for (int good = 0; good < GOOD_COUNT; good++) {
+            int i = post * GOOD_COUNT + good;
+            double share = Math.max(stock[i], 0.05 * fullStock[i]) / fullStock[i];
+            double scarcity = Math.max(MIN_SCARCITY, Math.min(MAX_SCARCITY, Math.pow(share, -SCARCITY_ELASTICITY)));
+            double price = basePrice[good] * freight[post] * scarcity;
+            buyQuote[i] = Math.max(1, (int) Math.round(price));
+            sellQuote[i] = Math.max(1, (int) Math.round(price * BUYBACK_SHARE));
+        }
+        stale[post] = false;
+    }
+
+    /**
+     * Finds the post at a landmark. The generated names of the endless trail
+     * repeat, so of the posts with the name the one nearest the mile is taken.
+     *
+     * @param name The landmark's name
+     * @param mile The party's position
+     * @return The post, or -1 if the landmark has none in this economy
+     */
+    public int findPost(String name, int mile) {
+        int found = -1;
+        for (int post = 0; post < postCount; post++) {
+            if (postName[post].equals(name)
+                    && (found < 0 || Math.abs(postMile[post] - mile) < Math.abs(postMile[found] - mile))) {
+                found = post;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Gets the price a post asks for one unit of a good.
+     *
+     * @param post The post, or -1 for the prices at the jumping-off towns
+     * @param good The good
+     * @return The price in dollars
+     */
+    public int getBuyPrice(int post, int good) {
+        return post < 0 ? basePrice[good] : buyQuote[post * GOOD_COUNT + good];
+    }
+
+    /**
+     * Gets the price a post pays for one unit of a good.
+     *
+     * @param post The post, or -1 for the prices at the jumping-off towns
+     * @param good The good
+     * @return The price in dollars
+     */
+    public int getSellPrice(int post, int good) {
+        return post < 0 ? Math.max(1, (int) Math.round(basePrice[good] * BUYBACK_SHARE))
+                : sellQuote[post * GOOD_COUNT + good];
+    }
+
+    /**
+     * Gets the whole units of a good a post has to sell.
+     *
+     * @param post The post, or -1 for a town with no shortage
+     * @param good The good
+     * @return The units on hand
+     */
+    public int getStock(int post, int good) {
+        return post < 0 ? Integer.MAX_VALUE : (int) stock[post * GOOD_COUNT + good];
+    }
+
+    /**
+     * Gets the most units of a good a post will buy from the party.
+     *
+     * @param post The post, or -1 for a town with no limit
+     * @param good The good
+     * @return The units the post will take
+     */
+    public int getBuyLimit(int post, int good) {
+        if (post < 0) {
+            return Integer.MAX_VALUE;
+        }
+        int i = post * GOOD_COUNT + good;
+        return Math.max(0, (int) (fullStock[i] * MAX_OVERSTOCK - stock[i]));
+    }
+
+    /**
+     * Records a trade between the party and a post.
+     * The post's quotes are worked out again once for the whole trade.
+     *
+     * @param post The post
+     * @param change The change in the post's stock of each good, indexed by good
+     */
+    public void recordTrade(int post, int[] change) {
+        if (post < 0) {
+            return;
+        }
+        for (int good = 0; good < GOOD_COUNT; good++) {
+            int i = post * GOOD_COUNT + good;
+            stock[i] = Math.max(0.0, stock[i] + change[good]);
+        }
+        quote(post);
+    }
+
+    public int getPostCount() {
+        return postCount;
+    }
+
+    public String getPostName(int post) {
+        return postName[post];
+    }
+
+    public int getPostMile(int post) {
+        return postMile[post];
+    }
+}
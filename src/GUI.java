@@ -737,10 +737,14 @@ public class GUI extends JPanel {
 
         if (mapPanel.isAtTradingPost(gameController.getMap().getCurrentLocation())) {
             // Create and show trading dialog
+            FortEconomy economy = gameController.getFortEconomy();
             TradingDialog tradingDialog = new TradingDialog(
                     (Frame)SwingUtilities.getWindowAncestor(this),
                     gameController.getPlayer(),
-                    gameController.getInventory()
+                    gameController.getInventory(),
+                    gameController.createTradeEngine(),
+                    economy.findPost(gameController.getMap().getCurrentLocation(),
+                            gameController.getMap().getDistanceTraveled())
             );
             tradingDialog.setVisible(true); // Dialog is modal
 
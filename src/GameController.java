@@ -22,8 +22,10 @@
 import javax.swing.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.function.Consumer;
 import java.awt.Frame;
+import java.io.File;
 
 public class GameController {
     // Tracks player stats, family, and health
@@ -32,6 +34,15 @@ public class GameController {
     // Manages locations, landmarks, and travel progress
     private Map map;
 
+    // Tunable numbers of the simulation, shared read-only by every session
+    private final SimulationParameters parameters = SimulationParameters.getDefault();
+
+    // Decides river crossing outcomes from tables built from the parameters
+    private final RiverCrossingEngine riverEngine = new RiverCrossingEngine(parameters);
+
+    // Seasonal river levels and the runoff of this game's recent weather
+    private final RiverHydrology riverHydrology = new RiverHydrology(parameters);
+
     // Handles supplies, items, and resource management
     private final Inventory inventory;
 
@@ -56,6 +67,38 @@ public class GameController {
 
     private HistoricalDisplayManager historicalDisplayManager;
 
+    // Other wagons traveling with the party in wagon-train mode, or null when traveling alone
+    private WagonTrain wagonTrain;
+
+    // Whether the wagon train has already been advanced for the day being played
+    private boolean wagonTrainAdvanced;
+
+    // Grass, game and firewood left along the trail
+    private TrailResources trailResources;
+
+    // Other emigrant parties on the trail this season
+    private EmigrantTraffic emigrantTraffic;
+
+    // Stock and prices at the forts and trading posts along the trail
+    private FortEconomy fortEconomy;
+
+    // Record of every trade on the journey, and the directory it is written to when the journey ends
+    private TransactionLedger transactionLedger = new TransactionLedger();
+    private static final String LEDGER_DIRECTORY = "ledgers";
+
+    // Random source for disease spreading within the party
+    private final Random contagionRandom = new Random();
+
+    // Miles within which the party can fall in with another, and the daily chance it does when one is near
+    private static final double ENCOUNTER_RANGE = 2.0;
+    private static final double ENCOUNTER_CHANCE = 0.2;
+
+    // Chance of catching a sick party's disease, miles ahead their news covers, and food traded or shared
+    private static final double EXPOSURE_CHANCE = 0.3;
+    private static final int NEWS_RANGE = 40;
+    private static final int TRADE_FOOD_POUNDS = 50;
+    private static final int SHARED_FOOD_POUNDS = 30;
+
     private boolean gameStarted = false;
     private boolean isGameRunning = true;
 
@@ -65,23 +108,6 @@ public class GameController {
     private int initialPartsUsed = 0;
     private int initialMedicineUsed = 0;
     private int initialAmmoUsed = 0;
-    private static double currentSpeedMultiplier = 1.0; //Full Speed
-
-    // List of available food items
-    private static final String[] FOOD_TYPES = {
-            "Flour", "Bacon", "Dried Beans", "Rice", "Coffee", "Sugar", "Dried Fruit", "Hardtack"
-    };
-
-    // Corresponding spoilage rates (0.0 to 1.0)
-    private static final double[] FOOD_SPOILRATE = {
-            .05, .15, .02, .03, .005, .04, .1, .01
-    };
-
-    // Available wagon parts that can break or be replaced.
-    private static final String[] WAGON_PARTS = {
-            "Wheel", "Bow", "Tongue", "Axle"
-    };
-
     // Event listeners for game updates and state changes.
     private final ArrayList<Consumer<String>> messageListeners = new ArrayList<>();
     private final ArrayList<Runnable> gameStateListeners = new ArrayList<>();
@@ -98,9 +124,12 @@ public class GameController {
     public GameController() {
         // Initialize game components
         player = new Player("Player", "Male", job);
-        inventory = new Inventory();
+        inventory = new Inventory(parameters);
         time = new Time(1848, 3);
         map = new Map(1);
+        trailResources = new TrailResources(map);
+        fortEconomy = new FortEconomy(map, parameters);
+        resetEmigrantTraffic();
         weather = new Weather(time.getMonth(), map.getStartingLocation());
         perils = new Perils(player, inventory, weather, time);
         perils.setMessageListener(this::notifyListeners);
@@ -119,6 +148,10 @@ public class GameController {
         // Start the game
         gameStarted = true;
         isGameRunning = true;
+        transactionLedger = new TransactionLedger();
+        if (map != null) {
+            transactionLedger.setPlace(0, map.getCurrentLocation());
+        }
 
         if (player != null && inventory != null && weather != null) {
             perils = new Perils(player, inventory, weather, time);
@@ -188,12 +221,161 @@ public class GameController {
         }
     }
 
+    /**
+     * Starts wagon-train mode, in which the party travels with a train of
+     * other wagons. The party moves at the pace of the train's slowest wagon,
+     * the train camps whenever the party does, the family shares the train's
+     * contacts and so its diseases, and its losses are reported in the trail log.
+     *
+     * @param wagons The number of other wagons in the train
+     */
+    public void startWagonTrain(int wagons) {
+        if (wagons <= 0) {
+            wagonTrain = null;
+            return;
+        }
+        wagonTrain = new WagonTrain(wagons, player == null ? 0 : player.getMemberCount(), System.nanoTime());
+        notifyListeners("You have joined a wagon train of " + wagons + " wagons and " +
+                wagonTrain.getPersonCount() + " emigrants.");
+    }
+
+    public FortEconomy getFortEconomy() {
+        return fortEconomy;
+    }
+
+    public TransactionLedger getTransactionLedger() {
+        return transactionLedger;
+    }
+
+    /**
+     * Creates a trade engine for the party, priced by the forts on the trail.
+     *
+     * @return The trade engine
+     */
+    public TradeEngine createTradeEngine() {
+        return new TradeEngine(player, inventory, parameters, fortEconomy, transactionLedger);
+    }
+
+    public WagonTrain getWagonTrain() {
+        return wagonTrain;
+    }
+
+    /**
+     * Brings the grass, game and firewood around the party up to date, and
+     * records the night's grazing and campfires of the party and of any
+     * wagon train it travels with.
+     */
+    private void updateTrailResources() {
+        int mile = map.getDistanceTraveled();
+        int day = time.getEpochDay();
+        trailResources.advanceDay(mile, day);
+        trailResources.camp(mile, day, inventory.getOxen(), 1);
+        if (wagonTrain != null) {
+            trailResources.camp(mile, day, wagonTrain.getTotalOxen(), wagonTrain.getWagonCount());
+        }
+    }
+
+    /**
+     * Starts a new season of emigrant parties for the current trail and year.
+     */
+    private void resetEmigrantTraffic() {
+        emigrantTraffic = new EmigrantTraffic(parameters.trafficParties, time.getYear(),
+                map.getTrailLength(), contagionRandom.nextLong());
+    }
+
+    /**
+     * Lets the party fall in with another emigrant party camped nearby.
+     * A sick party may pass its disease on, a broken-down one gets a hand,
+     * food changes wagons when one side is short of it, and otherwise the
+     * other party shares news of the trail ahead.
+     */
+    private void handleEmigrantEncounter() {
+        int mile = map.getDistanceTraveled();
+        int party = emigrantTraffic.findNearest(mile, ENCOUNTER_RANGE);
+        if (party < 0 || contagionRandom.nextDouble() >= ENCOUNTER_CHANCE) {
+            return;
+        }
+        String name = emigrantTraffic.getName(party);
+        int people = emigrantTraffic.getPeople(party);
+        Condition disease = emigrantTraffic.getDisease(party);
+
+        if (disease != null) {
+            String message = "You camp near " + name + ", who have " + disease.getDisplayName() + " in their wagons.";
+            int member = player.getRandomLivingMember(contagionRandom);
+            if (member >= 0 && contagionRandom.nextDouble() < EXPOSURE_CHANCE) {
+                player.addCondition(member, disease, disease.getDurationDays());
+                message += " " + (member == Player.PLAYER_INDEX ? "You have" : player.getMemberName(member) + " has") +
+                        " caught it.";
+            }
+            addTrailUpdate(message, TrailLogManager.LogCategory.WARNING);
+        } else if (emigrantTraffic.isBrokenDown(party)) {
+            emigrantTraffic.repair(party);
+            player.increaseMorale(5);
+            addTrailUpdate("You stop to help " + name + " get their broken wagon rolling again.",
+                    TrailLogManager.LogCategory.EVENT);
+        } else if (inventory.getFood() < 100 && inventory.getAmmunition() >= Commodity.AMMUNITION.getSupplyPerUnit() &&
+                emigrantTraffic.getFood(party) > people * 60) {
+            TradeCart cart = new TradeCart();
+            cart.give(Commodity.AMMUNITION, 1);
+            cart.receive(Commodity.FOOD, TRADE_FOOD_POUNDS);
+            if (createTradeEngine().barter(cart) == null) {
+                emigrantTraffic.giveFood(party, TRADE_FOOD_POUNDS);
+                addTrailUpdate(name.substring(0, 1).toUpperCase() + name.substring(1) + " trade you " +
+                        TRADE_FOOD_POUNDS + " lbs of food for a box of ammunition.", TrailLogManager.LogCategory.EVENT);
+            }
+        } else if (emigrantTraffic.getFood(party) < people * 14 && inventory.getFood() > 300) {
+            TradeCart cart = new TradeCart();
+            cart.give(Commodity.FOOD, SHARED_FOOD_POUNDS);
+            if (createTradeEngine().barter(cart) == null) {
+                emigrantTraffic.giveFood(party, -SHARED_FOOD_POUNDS);
+                player.increaseMorale(3);
+                addTrailUpdate("You share " + SHARED_FOOD_POUNDS + " lbs of food with " + name + ", who are running short.",
+                        TrailLogManager.LogCategory.EVENT);
+            }
+        } else {
+            int day = time.getEpochDay();
+            int ahead = emigrantTraffic.countNear(mile + NEWS_RANGE / 2.0, NEWS_RANGE / 2.0);
+            double game = trailResources.getLevel(TrailResources.GAME, mile + NEWS_RANGE / 2, day);
+            addTrailUpdate("You pass the evening with " + name + ". They count " + ahead +
+                    " wagon parties on the next " + NEWS_RANGE + " miles of trail, and say game ahead is " +
+                    (game < 0.4 ? "scarce" : game < 0.7 ? "thinning" : "plentiful") + ".",
+                    TrailLogManager.LogCategory.EVENT);
+        }
+    }
+
+    /**
+     * Advances the wagon train by one day, if the party is traveling with one,
+     * and logs any deaths or breakdowns among its wagons.
+     *
+     * @param miles The miles traveled today, 0 when the train stays in camp
+     */
+    private void advanceWagonTrain(int miles) {
+        if (wagonTrain == null) {
+            return;
+        }
+        wagonTrain.advanceDay(miles, map.getTerrainType(), player);
+        wagonTrainAdvanced = true;
+        if (wagonTrain.getDeathsToday() > 0) {
+            addTrailUpdate("The wagon train buried " + wagonTrain.getDeathsToday() + " emigrants today. " +
+                    wagonTrain.getSickCount() + " are sick and " + wagonTrain.getLivingCount() + " remain.",
+                    TrailLogManager.LogCategory.EVENT);
+        }
+        if (wagonTrain.getOxenDiedToday() > 0) {
+            addTrailUpdate(wagonTrain.getOxenDiedToday() + " oxen in the train died of exhaustion today. " +
+                    wagonTrain.getTotalOxen() + " remain.", TrailLogManager.LogCategory.EVENT);
+        }
+        if (wagonTrain.getBreakdownsToday() > wagonTrain.getRepairsToday()) {
+            addTrailUpdate(wagonTrain.getDisabledWagonCount() + " wagons in the train are stopped with broken parts.",
+                    TrailLogManager.LogCategory.EVENT);
+        }
+    }
+
     /**
      * Sets the trail choice and initializes the map accordingly.
      * Configures the game for the selected trail route, including
      * starting location and available landmarks.
      * 
-     * @param trailChoice The selected trail (1=Oregon, 2=California, 3=Mormon)
+     * @param trailChoice The selected trail (1=Oregon, 2=California, 3=Mormon, 4=Endless)
      */
     public void selectTrail(int trailChoice) {
         // Set the trail
@@ -207,9 +389,15 @@ public class GameController {
             case 3:
                 trail = "Mormon";
                 break;
+            case Map.ENDLESS_TRAIL:
+                trail = "Endless";
+                break;
         }
         map = new Map(trailChoice);
+        trailResources = new TrailResources(map);
+        fortEconomy = new FortEconomy(map, parameters);
         if (time != null) {
+            resetEmigrantTraffic();
             weather = new Weather(time.getMonth(), map.getStartingLocation());
             if (player != null && inventory != null) {
                 perils = new Perils(player, inventory, weather, time);
@@ -229,6 +417,7 @@ public class GameController {
         int monthChoice = month - 1;
         int monthNumber = monthChoice + 3;
         time = new Time(1848, monthNumber);
+        resetEmigrantTraffic();
 
         String startLoc = (map != null) ? map.getStartingLocation() : "Start";
         weather = new Weather(monthNumber, startLoc);
@@ -266,9 +455,15 @@ public class GameController {
      * - Random events
      * - Landmark encounters
      * - Health and morale changes
+     * The endless trail has no Fort Kearny, so there the journey simply
+     * starts at the first generated landmark.
      */
     public void journeyToFortKearny() {
         if (!validateGameComponents()) return;
+        if (map.isEndless()) {
+            notifyListeners("The endless trail begins at " + map.getStartingLocation() + ".");
+            return;
+        }
 
         initialJourneyEvents.clear();
         initialLandmarksPassed.clear();
@@ -291,13 +486,25 @@ public class GameController {
         while (distanceCovered < fortKearnyDistance && !player.isDead()) {
             daysToFortKearny++;
             time.advanceDay();
-            weather = new Weather(time.getMonth(), map.getCurrentLocation());
-
+            inventory.setCurrentDay(time.getTotalDays());
+            weather = new Weather(time.getMonth(), map.getCurrentLocation(), map.getTerrainType());
+            riverHydrology.recordWeather(weather);
+            updateTrailResources();
+            emigrantTraffic.advanceDay(time.getEpochDay());
+            fortEconomy.advanceDay(time.getMonth(), emigrantTraffic);
+            transactionLedger.setPlace(time.getTotalDays(), map.getCurrentLocation());
+
+            refreshModifiers();
             int dailyDistance = calculateDailyDistance(averageDailyDistance);
+            if (wagonTrain != null) {
+                dailyDistance = (int)(dailyDistance * wagonTrain.getSpeedFactor());
+            }
             if (distanceCovered + dailyDistance > fortKearnyDistance) {
                 dailyDistance = fortKearnyDistance - distanceCovered;
             }
             distanceCovered += dailyDistance;
+            advanceWagonTrain(dailyDistance);
+            progressPartyConditions(false);
 
             consumeDailyFood(daysToFortKearny);
             simulateDailyOxenFatigue();
@@ -405,12 +612,37 @@ public class GameController {
      * @return The adjusted daily travel distance
      */
     private int calculateDailyDistance(int base) {
-        int dailyDistance = base;
-        dailyDistance = weather.adjustTravelDistance(dailyDistance);
-        dailyDistance = (int)(dailyDistance * Math.max(0.1, inventory.getOxenHealth() / 100.0));
+        // Weather, terrain, the party's condition and the job all fold into the travel speed
+        double speed = player.getModifiers().get(Effect.TRAVEL_SPEED);
+        // The oxen's pulling power covers their number, health, fatigue, age and injuries
+        int dailyDistance = (int)(base * speed * inventory.getPullingPower());
         return Math.max(0, dailyDistance);
     }
 
+    /**
+     * Picks a whole number in a range, both ends included.
+     *
+     * @param min The smallest value
+     * @param max The largest value
+     * @return The value picked
+     */
+    private static int randomBetween(int min, int max) {
+        return min + (int)(Math.random() * (Math.max(min, max) - min + 1));
+    }
+
+    /**
+     * Brings the modifier stack up to date with today's weather, the terrain
+     * at the party's position, the party's condition and the items carried.
+     * Inputs that have not changed since the last call leave the stack as it is.
+     */
+    private void refreshModifiers() {
+        ModifierStack modifiers = player.getModifiers();
+        modifiers.setWeather(weather);
+        modifiers.setTerrain(map.getTerrainSpeedFactor(), map.getTerrainFatigueFactor(), map.getTerrainWearFactor());
+        modifiers.setPartyCondition(player.getAilingCount());
+        modifiers.setItems(inventory.getMedicine());
+    }
+
     /**
      * Simulates daily food consumption during the initial journey.
      * 
@@ -453,7 +685,7 @@ public class GameController {
      * @param currentDay The current day of the journey
      */
     private void simulateInitialJourneyEvent(int currentDay) {
-        if (Math.random() < 0.25) {
+        if (Math.random() < parameters.perilDailyChance) {
             List<String> eventDetails = new ArrayList<>();
             Consumer<String> eventCaptureListener = eventText -> {
                 String cleaned = eventText.replace("\n", " ").replace("===", "").trim();
@@ -498,9 +730,56 @@ public class GameController {
         String deathMessage = "Died of " + causeOfDeath + " after " + days + " days, before reaching Fort Kearny.";
         initialJourneyEvents.add(deathMessage);
         notifyListeners("\n" + deathMessage);
+        closeLedger();
         showDeathDialog();
     }
 
+    /**
+     * Writes the journey's trades to disk and reports what they show:
+     * the money spent on each commodity, the prices paid against the
+     * fort average, and the supplies bought that were never used.
+     */
+    private void closeLedger() {
+        if (transactionLedger.getRowCount() == 0) {
+            return;
+        }
+        File file = new File(LEDGER_DIRECTORY, "journey-" + System.currentTimeMillis() + ".ledger");
+        transactionLedger.write(file);
+
+        long[] spending = transactionLedger.getSpending();
+        double[] priceRatio = transactionLedger.getPriceVersusFortAverage();
+        int[] unused = transactionLedger.getUnusedSupplies(inventory);
+        StringBuilder spent = new StringBuilder();
+        StringBuilder prices = new StringBuilder();
+        StringBuilder leftover = new StringBuilder();
+        long total = 0;
+        for (Commodity item : Commodity.values()) {
+            int c = item.ordinal();
+            total += spending[c];
+            if (spending[c] > 0) {
+                spent.append(spent.length() > 0 ? ", " : "").append(item.getName()).append(" $").append(spending[c]);
+            }
+            if (!Double.isNaN(priceRatio[c])) {
+                prices.append(prices.length() > 0 ? ", " : "").append(item.getName()).append(" ")
+                        .append(Math.round(priceRatio[c] * 100)).append("%");
+            }
+            if (unused[c] > 0) {
+                leftover.append(leftover.length() > 0 ? ", " : "").append(unused[c]).append(" ").append(item.getUnits());
+            }
+        }
+
+        String summary = "\n=== TRADING LEDGER ===\n" +
+                transactionLedger.getTransactionCount() + " trades, $" + total + " spent" +
+                (spent.length() > 0 ? ": " + spent : "") + ".";
+        if (prices.length() > 0) {
+            summary += "\nPrices paid against the fort average: " + prices + ".";
+        }
+        if (leftover.length() > 0) {
+            summary += "\nBought but never used: " + leftover + ".";
+        }
+        notifyListeners(summary);
+    }
+
     /**
      * Notifies all game state listeners of a state change.
      */
@@ -541,6 +820,9 @@ public class GameController {
     public void travel() {
         if (!isGameRunning || !validateGameComponents()) return;
 
+        refreshModifiers();
+        ModifierStack modifiers = player.getModifiers();
+
         int baseDistance = 15;
         int adjustedDistance = calculateDailyDistance(baseDistance);
 
@@ -553,74 +835,43 @@ public class GameController {
             return;
         }
 
-        // Check for broken parts and apply currentSpeedMultiplier
+        // Broken parts slow the wagon; the penalty comes from the set of broken parts
         if (inventory.hasBrokenParts()) {
-            // Apply the current speed multiplier (which would have been set by reduceSpeed)
-            adjustedDistance = (int)(adjustedDistance * currentSpeedMultiplier);
+            double wagonSpeedFactor = inventory.getWagonSpeedFactor();
+            adjustedDistance = (int)(adjustedDistance * wagonSpeedFactor);
             result.append("Travel is slowed due to broken wagon parts.\n");
-
-            // Get the specific broken part to show appropriate message
-            String brokenPart = inventory.checkForPartBreakage(this);
-            if (brokenPart != null) {
-                result.append("Your broken " + brokenPart + " is reducing your travel speed to " +
-                        String.format("%.0f", currentSpeedMultiplier * 100) + "% of normal.\n");
-            }
-        } else {
-            // If no parts are broken, ensure speed is restored to normal
-            restoreSpeed();
+            result.append("Your broken parts are reducing your travel speed to " +
+                    String.format("%.0f", wagonSpeedFactor * 100) + "% of normal.\n");
         }
 
-        String currentWeather = weather.getCurrentWeather();
-        if (currentWeather.contains("Rain") || currentWeather.contains("Snow")) {
-            adjustedDistance = (int)(adjustedDistance * 0.7); // 30% slower in rain/snow
-        } else if (currentWeather.contains("Storm")) {
-            adjustedDistance = (int)(adjustedDistance * 0.5); // 50% slower in storms
+        // A wagon train keeps together, so it moves at the pace of its slowest wagon
+        if (wagonTrain != null && wagonTrain.getSpeedFactor() < 1.0) {
+            double trainSpeedFactor = wagonTrain.getSpeedFactor();
+            adjustedDistance = (int)(adjustedDistance * trainSpeedFactor);
+            result.append("The wagon train is held to the pace of its slowest wagon, " +
+                    String.format("%.0f", trainSpeedFactor * 100) + "% of normal.\n");
         }
 
-        // Update oxen fatigue based on travel distance and weather
-        inventory.updateOxenFatigue(adjustedDistance, currentWeather, false);
-
-        // Adjust travel distance based on oxen health and fatigue
-        double oxenHealthFactor = inventory.getOxenHealth() / 100.0;
-        double oxenFatigueFactor = 1.0 - (inventory.getOxenFatigue() / 200.0); // Fatigue reduces speed up to 50%
-        adjustedDistance = (int)(adjustedDistance * oxenHealthFactor * oxenFatigueFactor);
+        // Update oxen fatigue based on travel distance, weather and terrain
+        inventory.updateOxenFatigue(adjustedDistance, false, modifiers.get(Effect.OXEN_FATIGUE));
 
         // Travel happens first
         map.travel(adjustedDistance);
+        advanceWagonTrain(adjustedDistance);
         addTravelJournalEntry();
 
-        // Check for part breakage and handle it properly
-        String breakageResult = inventory.checkForPartBreakage(this);
-        if (breakageResult != null) {
-            result.append(breakageResult).append("\n");
-
-            // Parse the breakage result to get the part name
-            // Assuming breakageResult format is "Your [part] has broken!"
-            String partName = null;
-            if (breakageResult.contains("Wheel")) partName = "Wheel";
-            else if (breakageResult.contains("Axle")) partName = "Axle";
-            else if (breakageResult.contains("Tongue")) partName = "Tongue";
-            else if (breakageResult.contains("Bow")) partName = "Bow";
-
-            // Apply appropriate speed reduction based on part
-            if (partName != null) {
-                if (partName.equals("Wheel")) {
-                    reduceSpeed(0.5); // Reduce travel speed by 50%
-                } else if (partName.equals("Axle")) {
-                    reduceSpeed(0.1); // Almost no travel until fixed
-                } else if (partName.equals("Tongue")) {
-                    reduceSpeed(0.7); // Reduce travel speed by 30%
-                } else if (partName.equals("Bow")) {
-                    reduceSpeed(0.8); // Reduce travel speed by 20%
-                }
-
-                // Call handlePartBreakage to show repair options and update game state
-                handlePartBreakage(partName);
+        // Wear the wagon parts once for the day's travel and handle anything that broke
+        int newlyBroken = inventory.wearWagonParts(modifiers.get(Effect.PART_WEAR));
+        for (WagonPart part : WagonPart.values()) {
+            if ((newlyBroken & part.bit()) != 0) {
+                result.append(part.getHistoricalNote()).append("\n");
+                handlePartBreakage(part.getDisplayName());
             }
         }
 
-        // Apply food spoilage
-        inventory.applyFoodSpoilage(weather, this);
+        // Apply food spoilage for the weather and how well the stores are kept
+        FoodLots.SpoilageReport spoilage = inventory.applyFoodSpoilage(modifiers.get(Effect.FOOD_SPOILAGE));
+        handleFoodSpoilage(spoilage);
 
         // Fatigue, Health decrease from normal trail wear
         player.decreaseHealth(5); // Base fatigue damage per day of travel
@@ -630,12 +881,13 @@ public class GameController {
             notifyListeners("Your party is severely weakened. It is recommended to rest soon or risk breakdowns and deaths.");
         }
 
-        // Blacksmith Wagon Part Check
-        if (player.getJob() == Job.BLACKSMITH) {
-            for (int i = 0; i < WAGON_PARTS.length; i++) {
-                int partHealth = inventory.getWagonPartBreakpercentage(WAGON_PARTS[i]);
-                if (partHealth < 50) {
-                    notifyListeners("Your " + WAGON_PARTS[i] + " is in poor condition. Resting could allow repairs.");
+        // Wagon part check, for those who know what a failing part looks like
+        if (modifiers.get(Effect.PART_INSPECTION) > 0) {
+            for (WagonPart part : WagonPart.values()) {
+                int partHealth = inventory.getWagonPartBreakpercentage(part.getDisplayName());
+                if (partHealth < 50 && !inventory.isPartBroken(part.getDisplayName())) {
+                    notifyListeners("Your " + part.getDisplayName() + " is in poor condition and should give out around day " +
+                            inventory.predictPartFailureDay(part) + ". Resting could allow repairs.");
                 }
             }
         }
@@ -650,24 +902,6 @@ public class GameController {
         int foodConsumedToday = player.getFamilySize() * 2;
         consumeDailyFood(time.getTotalDays() + 1);
 
-        // Spoilage check on random food item
-        int randomFood = (int)(Math.random() * FOOD_TYPES.length);
-        String itemName = inventory.getItem(FOOD_TYPES[randomFood]);
-
-        if (itemName != null) {
-            double spoilRate = inventory.getSpoilRate(itemName);
-            // Farmer Bonus: food spoils slower
-            if (player.getJob() == Job.FARMER) {
-                spoilRate *= 0.75; // 25% less spoilage
-            }
-            int spoiledFood = (int)(spoilRate * inventory.getWeight(itemName));
-            if (spoiledFood > 0) {
-                foodConsumedToday += spoiledFood;
-                inventory.consumeFood(spoiledFood);
-                notifyListeners(spoiledFood + " pounds of " + itemName + " spoiled during travel.");
-            }
-        }
-
         // Display travel and next landmark information
         notifyListeners("You traveled " + adjustedDistance + " miles today.\n" +
                 "Food consumed: " + foodConsumedToday + " pounds.");
@@ -721,19 +955,33 @@ public class GameController {
     public void rest() {
         if (!isGameRunning || !validateGameComponents()) return;
 
+        refreshModifiers();
+        ModifierStack modifiers = player.getModifiers();
+
         notifyListeners("You decide to rest for the day.");
         addTrailUpdate("The party rested for the day.", TrailLogManager.LogCategory.REST);
 
         int healthRecovered = 5 + (int)(Math.random() * 11);
-        // Doctor Bonus
-        if (player.getJob() == Job.DOCTOR) {
-            notifyListeners(player.getName() + " is a doctor, your recovered 25% more health");
-            healthRecovered = (int)(healthRecovered * 1.25); // Heal 25% more
-        }
-        player.increaseHealth(healthRecovered);
+        double healing = modifiers.get(Effect.REST_HEALING);
+        if (healing > 1.0) {
+            notifyListeners("Good care let your party recover " + String.format("%.0f", (healing - 1.0) * 100) + "% more health.");
+        }
+        int mile = map.getDistanceTraveled();
+        int day = time.getEpochDay();
+        double firewood = trailResources.getFirewoodFactor(mile, day);
+        if (firewood < 0.8) {
+            notifyListeners("Firewood is scarce here, and a cold camp slows your recovery.");
+        }
+        healthRecovered = (int)(healthRecovered * healing * firewood);
+        player.increasePartyHealth(healthRecovered);
         notifyListeners("Health improved by " + healthRecovered + " points.");
 
         int oxenHealthRecovered = 5 + (int)(Math.random() * 11);
+        double grazing = trailResources.getGrazingFactor(mile, day);
+        if (grazing < 0.75) {
+            notifyListeners("The grass here has been grazed down by earlier trains.");
+        }
+        oxenHealthRecovered = (int)(oxenHealthRecovered * grazing);
         inventory.increaseOxenHealth(oxenHealthRecovered);
         notifyListeners("Oxen health improved by " + oxenHealthRecovered + " points.");
 
@@ -742,28 +990,25 @@ public class GameController {
         notifyListeners("Food consumed: " + foodConsumedToday + " pounds.");
 
         int moraleHealthRecovered = 5 + (int)(Math.random() * 11 + 2);
-        if(player.getJob() == Job.PREACHER){
-            notifyListeners(player.getName() + " is a preacher, your morale recovered by 10%.");
-            moraleHealthRecovered += 10;
-        }
-
-        // Teacher Bonus
-        if (player.getJob() == Job.TEACHER) {
-            notifyListeners(player.getName() + " is a teacher, your morale recovered by 5%.");
-            moraleHealthRecovered += 5;
+        int moraleBonus = (int) modifiers.get(Effect.REST_MORALE);
+        if (moraleBonus > 0) {
+            notifyListeners(player.getName() + "'s words around the campfire lifted morale by a further " + moraleBonus + "%.");
+            moraleHealthRecovered += moraleBonus;
         }
 
         player.increaseMorale(moraleHealthRecovered);
 
-        if (Math.random() < 0.2) { // Chance to find food
+        if (Math.random() < trailResources.getForageChance(mile, day)) { // Better where the country is untouched
+            trailResources.forage(mile, day);
             int foodFound = 2 + (int)(Math.random() * 9);
             inventory.addFood(foodFound);
             notifyListeners("While resting, your family found " + foodFound + " pounds of edible plants nearby.");
         }
 
-        if (player.getJob() == Job.CARPENTER) {
-            notifyListeners(player.getName() + " is a carpender, you have a 40% chance of repairing an wagon part.");
-            if (Math.random() < 0.4) { // 40% chance to repair a broken part
+        double repairChance = modifiers.get(Effect.REST_REPAIR_CHANCE);
+        if (repairChance > 0 && inventory.hasBrokenParts()) {
+            notifyListeners(player.getName() + " has a " + String.format("%.0f", repairChance * 100) + "% chance of repairing a wagon part.");
+            if (Math.random() < repairChance) {
                 String repairedPart = inventory.repairRandomBrokenPart();
                 if (repairedPart != null) {
                     notifyListeners("Your carpenter skills repaired the " + repairedPart + "!");
@@ -788,7 +1033,7 @@ public class GameController {
             notifyListeners(historicalDataManager.getRandomHistoricalData(map.getCurrentLocation(), "rest"));
         }
 
-        advanceDay(true); // Advance time and check for events/crossings
+        advanceDay(true, true); // Advance time and check for events/crossings
     }
 
     /** Hunt action for one day. */
@@ -801,54 +1046,61 @@ public class GameController {
             return;
         }
 
+        refreshModifiers();
+        ModifierStack modifiers = player.getModifiers();
+
         notifyListeners("You set out to hunt for food...");
 
-        int ammoUsed = 1 + (int)(Math.random() * 3);
+        int ammoUsed = randomBetween(parameters.huntMinAmmo, parameters.huntMaxAmmo);
         if (inventory.getAmmunition() < ammoUsed) {
             ammoUsed = inventory.getAmmunition();
         }
         inventory.useAmmunition(ammoUsed);
 
-        double baseSuccessChance = 0.6;
-
-        // Apply Hunter bonus to success chance
-        if (player.getJob() == Job.HUNTER) {
-            notifyListeners(player.getName() + " is a hunter, there is 15% higher chance you get a kill shot.");
-            baseSuccessChance += 0.15; // 15% bonus to success
+        double huntModifier = modifiers.get(Effect.HUNT_SUCCESS);
+        int mile = map.getDistanceTraveled();
+        double gameFactor = trailResources.getHuntFactor(mile, time.getEpochDay());
+        double successChance = parameters.huntSuccessChance * huntModifier * gameFactor;
+        if (huntModifier > 1.0) {
+            notifyListeners(player.getName() + " knows the game well, there is a higher chance you get a kill shot.");
+        }
+        if (gameFactor < 0.7) {
+            notifyListeners("Game is scarce here. The country has been hunted over by the trains ahead of you.");
         }
+        trailResources.hunt(mile, time.getEpochDay());
 
-        boolean success = Math.random() < baseSuccessChance;
+        boolean success = Math.random() < successChance;
 
         if (success) {
             double animalChance = Math.random();
             String animal;
             int foodGained;
 
-            if (animalChance < 0.1) {
+            if (animalChance < parameters.huntBisonChance) {
                 animal = "bison";
-                foodGained = 250 + (int)(Math.random() * 251);
-            } else if (animalChance < 0.3) {
+                foodGained = randomBetween(parameters.huntBisonMinPounds, parameters.huntBisonMaxPounds);
+            } else if (animalChance < parameters.huntBisonChance + parameters.huntDeerChance) {
                 animal = "deer";
-                foodGained = 80 + (int)(Math.random() * 121);
-            } else if (animalChance < 0.6) {
+                foodGained = randomBetween(parameters.huntDeerMinPounds, parameters.huntDeerMaxPounds);
+            } else if (animalChance < parameters.huntBisonChance + parameters.huntDeerChance + parameters.huntRabbitChance) {
                 animal = "rabbit";
-                foodGained = 5 + (int)(Math.random() * 11);
+                foodGained = randomBetween(parameters.huntRabbitMinPounds, parameters.huntRabbitMaxPounds);
             } else {
                 animal = "squirrel";
-                foodGained = 2 + (int)(Math.random() * 4);
+                foodGained = randomBetween(parameters.huntSquirrelMinPounds, parameters.huntSquirrelMaxPounds);
             }
 
-            // Apply Hunter bonus to food gained
-            if (player.getJob() == Job.HUNTER) {
-                notifyListeners(player.getName() + " is a hunter, you gained 15% more food.");
-                foodGained = (int)(foodGained * 1.15); // 15% more food
+            double yield = modifiers.get(Effect.HUNT_YIELD);
+            if (yield > 1.0) {
+                notifyListeners("Careful butchering brought in " + String.format("%.0f", (yield - 1.0) * 100) + "% more food.");
             }
+            foodGained = (int)(foodGained * yield);
 
             notifyListeners("Great shot! You got a " + animal + "!\n" +
                     "Gained " + foodGained + " lbs food. Used " + ammoUsed + " ammo.");
             addTrailUpdate("Hunting successful: Shot a " + animal + " for " + foodGained + " pounds of food.",
                     TrailLogManager.LogCategory.HUNT);
-            inventory.addFood(foodGained);
+            inventory.addFood(ItemRegistry.FRESH_GAME, foodGained);
 
             // Random chance to display hunting-related historical data (35% chance when hunting successfully)
             if (Math.random() < 0.35) {
@@ -987,27 +1239,30 @@ public class GameController {
         notifyListeners("New information added to your journal.");
     }
     /**
-     * Handles food spoilage events in the game.
-     * This method is called when food items spoil based on weather conditions.
-     * It updates inventory, creates an event log entry, and notifies the player.
+     * Handles the day's food spoilage.
+     * Called once a day with the losses already taken from the inventory.
+     * Creates a single event log entry and notification covering every
+     * food type that spoiled.
      *
-     * @param foodName The name of the food item that spoiled
+     * @param report The day's spoilage report
      */
-    public void handleFoodSpoilage(String foodName) {
+    public void handleFoodSpoilage(FoodLots.SpoilageReport report) {
+        if (report.getTotalSpoiled() <= 0) {
+            return;
+        }
+        String losses = report.describe();
+
         // Log the event
         trailLog.addLogEntry(
-                "Some of your " + foodName + " has spoiled." + "\n Time: " + time.getDay(),
+                "Food spoiled: " + losses + "." + "\n Time: " + time.getDay(),
                 map.getCurrentLocation(),
                 TrailLogManager.LogCategory.FOOD_SPOILAGE
         );
 
-        // Remove the spoiled food from inventory or reduce quantity
-        inventory.consumeFood(1);
-
         // Notify the player
         notifyListeners(
                 "Food Spoilage\n" +
-                "Some of your " + foodName + " has spoiled due to weather conditions."
+                report.getTotalSpoiled() + " pounds of food spoiled today (" + losses + ")."
         );
 
         // Update UI elements if needed
@@ -1030,17 +1285,6 @@ public class GameController {
                 TrailLogManager.LogCategory.PART_BREAKAGE
         );
 
-        // Apply gameplay effects
-        if (partName.equals("Wheel")) {
-            reduceSpeed(0.5); // Reduce travel speed by 50%
-        } else if (partName.equals("Axle")) {
-            reduceSpeed(0.1); // Cannot travel until fixed
-        } else if (partName.equals("Tongue")) {
-            reduceSpeed(0.7); // Reduce travel speed by 30%
-        } else if (partName.equals("Bow")) {
-            reduceSpeed(0.8); // Reduce travel speed by 80%
-        }
-
         // Notify the player
         notifyListeners(
                 "Part Breakage: \n" +
@@ -1109,25 +1353,6 @@ public class GameController {
         healthDialog.setVisible(true);
     }
 
-    public static void reduceSpeed(double multiplier) {
-        // Validate input
-        if (multiplier < 0.0) {
-            multiplier = 0.0; // Minimum allowed is 0 (no movement)
-        } else if (multiplier > 1.0) {
-            multiplier = 1.0; // Maximum allowed is 1 (full speed)
-        }
-
-        // Apply the multiplier
-        currentSpeedMultiplier = multiplier;
-
-        // Log the speed change
-        String speedPercentage = String.format("%.0f", multiplier * 100);
-    }
-
-    public static void restoreSpeed() {
-        currentSpeedMultiplier = 1.0;
-    }
-
     // Daily Update and Event Handling
 
     /**
@@ -1135,10 +1360,37 @@ public class GameController {
      * @param checkEvents If true, check for perils and river crossings.
      */
     private void advanceDay(boolean checkEvents) {
+        advanceDay(checkEvents, false);
+    }
+
+    /**
+     * Advances the game by one day, noting whether the party rested.
+     * Resting eases the toll of the party's illnesses and injuries.
+     *
+     * @param checkEvents Whether random events and river crossings can occur
+     * @param resting Whether the party rested today
+     */
+    private void advanceDay(boolean checkEvents, boolean resting) {
         if (!isGameRunning) return;
 
         time.advanceDay();
-        weather = new Weather(time.getMonth(), map.getCurrentLocation());
+        inventory.setCurrentDay(time.getTotalDays());
+        progressPartyConditions(resting);
+        int oxenLost = inventory.advanceOxenDay();
+        if (oxenLost > 0) {
+            String message = (oxenLost == 1 ? "One of your oxen has" : oxenLost + " of your oxen have") +
+                    " died. " + inventory.getOxen() + " remain.";
+            addTrailUpdate(message, TrailLogManager.LogCategory.WARNING);
+        }
+        weather = new Weather(time.getMonth(), map.getCurrentLocation(), map.getTerrainType());
+        riverHydrology.recordWeather(weather);
+        updateTrailResources();
+        emigrantTraffic.advanceDay(time.getEpochDay());
+        if (map.isEndless()) {
+            fortEconomy.addPosts(map);
+        }
+        fortEconomy.advanceDay(time.getMonth(), emigrantTraffic);
+        transactionLedger.setPlace(time.getTotalDays(), map.getCurrentLocation());
 
         boolean landmarkReachedToday = false;
         if (map.hasReachedLandmark()) {
@@ -1147,11 +1399,12 @@ public class GameController {
         }
 
         if (checkEvents && !landmarkReachedToday) { // Only check events if traveling/resting and not at landmark yet
-            if (Math.random() < 0.25) { // Peril chance
+            if (Math.random() < parameters.perilDailyChance) {
                 perils.generateRandomEvent(); // This notifies listeners directly
             }
-            if (map.checkForRiverCrossing()) {
-                handleRiverCrossing(); // This shows a dialog
+            handleEmigrantEncounter();
+            while (map.checkForRiverCrossing()) {
+                handleRiverCrossing(); // This shows a dialog, one per crossing passed
                 // Note: River crossing dialog handles its own outcome notification
             }
         }
@@ -1163,6 +1416,49 @@ public class GameController {
         notifyGameStateChanged(); // Update GUI with new date, weather, status, etc.
     }
 
+    /**
+     * Runs one day of every party member's illnesses and injuries,
+     * letting contagious diseases pass between them, and reporting anyone
+     * who catches something from another member or any family member who dies.
+     * With a wagon train the family's diseases spread over the train's shared
+     * contact graph instead, and a day the train was not moved is a day in camp.
+     * The player's own death is picked up by the end-of-game check.
+     *
+     * @param resting Whether the party rested today
+     */
+    private void progressPartyConditions(boolean resting) {
+        int caught;
+        if (wagonTrain != null) {
+            if (!wagonTrainAdvanced) {
+                advanceWagonTrain(0);
+            }
+            wagonTrainAdvanced = false;
+            caught = wagonTrain.getPartyCaughtToday();
+        } else {
+            caught = player.spreadConditions(contagionRandom);
+        }
+        for (int m = 0; m < player.getMemberCount(); m++) {
+            if ((caught & (1 << m)) != 0) {
+                int source = player.getInfectedBy(m);
+                String message = (m == Player.PLAYER_INDEX ? "You have" : player.getMemberName(m) + " has") +
+                        " caught " + player.getCaughtCondition(m).getDisplayName() + " from " +
+                        (source < 0 ? "someone in the wagon train"
+                                : source == Player.PLAYER_INDEX ? "you" : player.getMemberName(source)) + ".";
+                trailLog.addLogEntry(message, map.getCurrentLocation(), TrailLogManager.LogCategory.EVENT);
+                notifyListeners(message);
+            }
+        }
+
+        int died = player.progressConditions(resting);
+        for (int m = 1; m < player.getMemberCount(); m++) {
+            if ((died & (1 << m)) != 0) {
+                String message = player.getMemberName(m) + " has died of " + player.getMemberCauseOfDeath(m) + ".";
+                trailLog.addLogEntry(message, map.getCurrentLocation(), TrailLogManager.LogCategory.EVENT);
+                notifyListeners(message);
+            }
+        }
+    }
+
     /** Checks for low food/health and prompts user if needed. */
     private void checkLowResourcePrompts() {
         if (!isGameRunning) return;
@@ -1195,9 +1491,11 @@ public class GameController {
         if (!isGameRunning) return;
         if (player.isDead()) {
             isGameRunning = false;
+            closeLedger();
             showDeathDialog();
         } else if (map.hasReachedDestination()) {
             isGameRunning = false;
+            closeLedger();
             showCompletionDialog();
         }
     }
@@ -1230,14 +1528,67 @@ public class GameController {
         }
 
         // Handle trading posts and forts
-        if (landmarkName.contains("Fort") || landmarkName.contains("Trading Post")) {
+        if (FortEconomy.isTradingPost(landmarkName)) {
+            int post = fortEconomy.findPost(landmarkName, map.getDistanceTraveled());
             SwingUtilities.invokeLater(() -> {
                 Frame owner = findVisibleFrame();
-                TradingDialog tradingDialog = new TradingDialog(owner, player, inventory);
+                TradingDialog tradingDialog = new TradingDialog(owner, player, inventory, createTradeEngine(), post);
                 tradingDialog.setVisible(true);
                 notifyGameStateChanged();
             });
         }
+
+        // Offer a choice of routes where the trail forks
+        if (map.getRouteOptions().length > 1) {
+            SwingUtilities.invokeLater(this::showRouteChoiceDialog);
+        }
+    }
+
+    /**
+     * Shows the route choice at a fork in the trail.
+     * Each route is listed with its planned days to the destination and
+     * expected mishaps for the current month and party condition, read from
+     * the route planner's cache. The main trail is kept if the dialog is closed.
+     */
+    private void showRouteChoiceDialog() {
+        int[] options = map.getRouteOptions();
+        if (options.length < 2) {
+            return;
+        }
+        RouteGraph graph = map.getRouteGraph();
+        RoutePlanner planner = map.getRoutePlanner();
+        int month = time.getMonth();
+        int bucket = RoutePlanner.conditionBucket(player.getHealth(), inventory.getOxenHealth(), inventory.getOxenFatigue());
+        int fastest = planner.recommendEdge(map.getCurrentRouteNode(), month, bucket, RoutePlanner.OBJECTIVE_TIME);
+        int safest = planner.recommendEdge(map.getCurrentRouteNode(), month, bucket, RoutePlanner.OBJECTIVE_RISK);
+
+        String[] labels = new String[options.length];
+        StringBuilder message = new StringBuilder("The trail forks here. Which way will you go?\n\n");
+        for (int i = 0; i < options.length; i++) {
+            int edge = options[i];
+            String via = graph.getNodeLandmark(graph.getEdgeTo(edge)).getName();
+            labels[i] = graph.isMainLine(edge) ? "Main trail via " + via : "Cutoff via " + via;
+            message.append(labels[i]).append(": ")
+                    .append(graph.getEdgeDistance(edge)).append(" miles of ")
+                    .append(graph.getEdgeTerrain(edge).getDisplayName().toLowerCase())
+                    .append(String.format(", about %.0f days (+/- %.0f) to %s, %.2f expected mishaps",
+                            planner.getExpectedDaysVia(edge, month, bucket),
+                            planner.getDaysStdDevVia(edge, month, bucket),
+                            map.getDestination(),
+                            planner.getExpectedRiskVia(edge, month, bucket)));
+            if (edge == fastest) message.append(" [fastest]");
+            if (edge == safest) message.append(" [safest]");
+            message.append("\n");
+        }
+
+        int choice = JOptionPane.showOptionDialog(findVisibleFrame(), message.toString(), "Fork in the Trail",
+                JOptionPane.DEFAULT_OPTION, JOptionPane.QUESTION_MESSAGE, null, labels, labels[0]);
+        int edge = options[choice >= 0 ? choice : 0];
+        map.takeRoute(edge);
+        if (!graph.isMainLine(edge)) {
+            addTrailUpdate("Took the cutoff toward " + map.getNextLandmark() + ".");
+        }
+        notifyGameStateChanged();
     }
 
     /** Initiates the river crossing process by showing the dialog. */
@@ -1245,6 +1596,7 @@ public class GameController {
         // Get the name and description of the current river crossing
         String riverName = map.getCurrentRiverCrossingName();
         String riverDescription = map.getCurrentRiverCrossingDescription();
+        int riverProfile = map.getCurrentRiverCrossingProfile();
 
         String riverCrossingHistoricalInformation = historicalDataManager.getLocationSpecificData("river crossing");
 
@@ -1255,7 +1607,8 @@ public class GameController {
 
         SwingUtilities.invokeLater(() -> { // Show dialog on EDT
             Frame owner = findVisibleFrame();
-            RiverCrossingDialog riverDialog = new RiverCrossingDialog(owner, player, inventory, weather, this::notifyListeners);
+            RiverCrossingDialog riverDialog = new RiverCrossingDialog(owner, player, inventory, weather, time, riverEngine,
+                    riverHydrology, riverProfile, this::notifyListeners);
             // Pass the river name to the dialog
             riverDialog.setRiverName(riverName);
             riverDialog.setVisible(true); // Modal dialog handles its own logic & notification
@@ -1349,6 +1702,12 @@ public class GameController {
      */
     public Inventory getInventory() { return inventory; }
 
+    /**
+     * Gets the simulation parameters this session runs with.
+     * @return The parameter block
+     */
+    public SimulationParameters getParameters() { return parameters; }
+
     /**
      * Gets the current time object.
      * 
@@ -1402,77 +1761,16 @@ public class GameController {
             
             // Additional decrease based on terrain
             if (map != null) {
-                String terrain = map.getCurrentLocation();
-                if (terrain.contains("Mountain")) {
-                    healthDecrease += 2;
-                } else if (terrain.contains("River")) {
-                    healthDecrease += 1;
-                }
+                healthDecrease += map.getTerrainType().getOxenHealthCost();
             }
             
             // Apply health decrease
-            int currentHealth = inventory.getOxenHealth();
-            inventory.setOxenHealth(Math.max(0, currentHealth - healthDecrease));
+            inventory.decreaseOxenHealth(healthDecrease);
         }
 
         notifyGameStateChanged();
     }
 
-    /**
-     * Gets the bonus effect for a specific job.
-     * 
-     * @param jobEffect The type of bonus to check
-     * @return The bonus value as a percentage
-     */
-    public double getJobBonus(String jobEffect) {
-        Job playerJob = player.getJob();
-        if (playerJob == null) return 0.0;
-        
-        switch (jobEffect) {
-            case "food_spoilage":
-                return (playerJob == Job.FARMER) ? -0.225 : 0.0;
-                
-            case "part_breakage":
-                return (playerJob == Job.BLACKSMITH) ? -0.20 : 0.0;
-                
-            case "repair_cost":
-                return (playerJob == Job.CARPENTER) ? -0.25 : 0.0;
-                
-            case "repair_speed":
-                return (playerJob == Job.CARPENTER) ? 0.30 : 0.0;
-                
-            case "repair_success":
-                return (playerJob == Job.CARPENTER) ? 0.10 : 0.0;
-                
-            case "hunting_ammo_threshold":
-                return (playerJob == Job.HUNTER) ? 0.25 : 0.0;
-                
-            case "travel_speed":
-                return (playerJob == Job.HUNTER) ? 0.05 : 0.0;
-                
-            case "health_depletion":
-                return (playerJob == Job.DOCTOR) ? -0.10 : 0.0;
-                
-            case "morale_decrease":
-                return (playerJob == Job.TEACHER) ? -0.15 : 0.0;
-                
-            case "morale_healing":
-                return (playerJob == Job.PREACHER) ? 0.25 : 0.0;
-                
-            case "health_from_morale":
-                if (playerJob == Job.PREACHER && player.getMorale() > 75) {
-                    return 0.15;
-                }
-                return 0.0;
-                
-            case "merchant_discount":
-                return (playerJob == Job.MERCHANT) ? -0.075 : 0.0;
-                
-            default:
-                return 0.0;
-        }
-    }
-
     /**
      * Adds a trail update message to the game log.
      * 
@@ -96,19 +96,29 @@ public class HealthDialog extends JDialog {
         JPanel playerHealthPanel = createHealthSection("Player Health", 
             "Health: " + player.getHealth() + "/100\n" +
             "Status: " + player.getHealthStatus() + "\n" +
-            "Morale: " + player.getMorale() + "/100"
+            "Morale: " + player.getMorale() + "/100" +
+            (player.getMemberConditions(Player.PLAYER_INDEX) != 0
+                    ? "\nSuffering from: " + player.describeConditions(Player.PLAYER_INDEX) : "")
         );
         healthSectionsPanel.add(playerHealthPanel);
         healthSectionsPanel.add(Box.createVerticalStrut(15));
 
         // Family Health Section
         StringBuilder familyHealthText = new StringBuilder();
-        String[] familyMembers = player.getFamilyMembers();
-        if (familyMembers != null && familyMembers.length > 0) {
-            for (String member : familyMembers) {
-                if (member != null && !member.isEmpty()) {
-                    familyHealthText.append(member).append(": Healthy\n");
+        if (player.getMemberCount() > 1) {
+            for (int m = 1; m < player.getMemberCount(); m++) {
+                familyHealthText.append(player.getMemberName(m)).append(": ");
+                if (player.isMemberDead(m)) {
+                    familyHealthText.append("Died of ").append(player.getMemberCauseOfDeath(m)).append("\n");
+                    continue;
                 }
+                familyHealthText.append(player.getMemberHealth(m)).append("/100 (")
+                        .append(player.getMemberHealthStatus(m)).append(")");
+                String conditions = player.describeConditions(m);
+                if (!conditions.isEmpty()) {
+                    familyHealthText.append(" - ").append(conditions);
+                }
+                familyHealthText.append("\n");
             }
         } else {
             familyHealthText.append("No family members traveling with you.");
@@ -170,7 +180,8 @@ public class HealthDialog extends JDialog {
         // Oxen Health Section
         JPanel oxenHealthPanel = createHealthSection("Oxen Health", 
             "Health: " + inventory.getOxenHealth() + "/100\n" +
-            "Number of Oxen: " + inventory.getOxen() + "\n" +
+            "Number of Oxen: " + inventory.getOxen() + " (" + inventory.getOxenHerd().getYokeCount() + " yoke pairs, " +
+                    inventory.getOxenHerd().getInjuredCount() + " injured)\n" +
             "Condition: " + getOxenCondition()
         );
         healthSectionsPanel.add(oxenHealthPanel);
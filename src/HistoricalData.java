@@ -101,18 +101,15 @@ public class HistoricalData {
         private final String location;
         private final String activity;
         private final String type;
-        private final int year;
-        private final int month;
-        private final int day;
+        // Epoch day the entry was made on
+        private final int dayStamp;
 
         public JournalEntry(String content, String location, String activity, String type, Time time) {
             this.content = content;
             this.location = location;
             this.activity = activity;
             this.type = type;
-            this.year = time.getYear();
-            this.month = time.getMonth();
-            this.day = time.getDay();
+            this.dayStamp = time.getEpochDay();
         }
 
         public String getContent() { return content; }
@@ -121,33 +118,20 @@ public class HistoricalData {
         public String getType() { return type; }
         
         public String getMonthName() {
-            switch (this.month) {
-                case 1: return "January";
-                case 2: return "February";
-                case 3: return "March";
-                case 4: return "April";
-                case 5: return "May";
-                case 6: return "June";
-                case 7: return "July";
-                case 8: return "August";
-                case 9: return "September";
-                case 10: return "October";
-                case 11: return "November";
-                case 12: return "December";
-                default: return "Unknown";
-            }
+            return TrailCalendar.getMonthNameOf(dayStamp);
         }
-        
-        public int getYear() { return year; }
-        public int getMonth() { return month; }
-        public int getDay() { return day; }
+
+        public int getDayStamp() { return dayStamp; }
+        public int getYear() { return TrailCalendar.getYear(dayStamp); }
+        public int getMonth() { return TrailCalendar.getMonth(dayStamp); }
+        public int getDay() { return TrailCalendar.getDayOfMonth(dayStamp); }
 
         @Override
         public String toString() {
             return String.format("%s - %s - %s\n%s", 
                 getMonthName(), 
-                day, 
-                year,
+                getDay(), 
+                getYear(),
                 content);
         }
     }
@@ -317,11 +301,14 @@ public class HistoricalData {
 
     // Get entries by date
     public ArrayList<JournalEntry> getEntriesByDate(Time date) {
+        return getEntriesByDate(date.getEpochDay());
+    }
+
+    // Get entries by epoch day
+    public ArrayList<JournalEntry> getEntriesByDate(int dayStamp) {
         ArrayList<JournalEntry> filteredEntries = new ArrayList<>();
         for (JournalEntry entry : journalEntries) {
-            if (entry.getYear() == date.getYear() && 
-                entry.getMonth() == date.getMonth() && 
-                entry.getDay() == date.getDay()) {
+            if (entry.getDayStamp() == dayStamp) {
                 filteredEntries.add(entry);
             }
         }
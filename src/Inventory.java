@@ -9,53 +9,34 @@
  * @file Inventory.java
  */
 
-import java.util.ArrayList;
-
 public class Inventory {
-    // Resource quantities
-    private int food;
-    private int oxen;
-    private int wheels;
-    private int axles;
-    private int tongues;
-    private int wagonBows;
-    private int medicine;
-    private int ammunition;
-
-    // Oxen condition
-    private int oxenHealth = 100;
-    private int oxenFatigue;
-
-    //List of items
-    private final ArrayList<Item> items;
-    
-    // Weight and capacity constants
-    private static final int MAX_WEIGHT_CAPACITY = 1500;
-    private static final int MAX_OXEN_FATIGUE = 100;
-    private static final int BASE_FATIGUE_RATE = 2;
-    private static final int WEIGHT_FATIGUE_FACTOR = 1;
-    
-    // Item weight constants
-    private static final int MEDICINE_WEIGHT = 5;
-    private static final int AMMO_BOX_WEIGHT = 3;
-    
-    // Wagon part weight constants
-    private static final int WHEEL_WEIGHT = 50;
-    private static final int AXLE_WEIGHT = 40;
-    private static final int TONGUE_WEIGHT = 30;
-    private static final int WAGON_BOW_WEIGHT = 10;
-
-    // Wagon part tracking arrays
-    private final int[] WAGON_PARTS_BREAKPERCENTAGE = new int[]{100, 100, 100, 100};
-    private final String[] WAGON_PARTS = new String[]{"Wheel", "Axle", "Tongue", "Bow"};
-    private final boolean[] WAGON_PARTS_BROKEN = new boolean[]{false, false, false, false};
-    private final int[] WAGON_PARTS_WEAR_RATES = new int[]{2, 1, 1, 1};  // Wheels wear out faster
-    private final String[] WAGON_PARTS_HISTORICAL_NOTES = new String[]{
-            "The rough terrain and constant movement took its toll on the wagon wheels, a common issue on the Oregon Trail.",
-            "The wooden axles, bearing the weight of the wagon and its contents, finally gave way under the strain.",
-            "The wagon tongue, essential for steering and connecting the oxen, succumbed to the rigors of the journey.",
-            "The wagon bows, supporting the canvas cover, weakened from exposure to the elements and constant movement."
-    };
+    // Resource quantities, indexed by Supply ordinal
+    private final int[] supplies = new int[Supply.values().length];
+
+    // Cached supply types, in ordinal order
+    private static final Supply[] SUPPLY_TYPES = Supply.values();
+
+    // Running total of the wagon's load, updated on every add and use
+    private int currentWeight;
+
+    // Every ox in the team, with its own health, fatigue, age and injury;
+    // its size is mirrored in the oxen supply
+    private final OxenHerd oxenHerd = new OxenHerd();
+
+    // Food on board, by lot; its total is mirrored in the food supply
+    private final FoodLots foodLots;
+
+    // Current day of the journey, stamped on food lots as they come aboard
+    private int currentDay;
+    
+    // Tunable numbers of the simulation
+    private final SimulationParameters parameters;
+
+    // Condition and broken state of every wagon part
+    private final WagonWear wagonWear = new WagonWear();
+
+    // Terrain wear factor of the most recent day's travel, used for failure predictions
+    private double lastTerrainWear = 1.0;
 
     /**
      * Constructs a new Inventory with all resources initialized to zero.
@@ -63,22 +44,167 @@ public class Inventory {
      * - Zero quantities for all resources
      * - Full health for oxen (100%)
      * - No fatigue (0%)
-     * - Empty items collection
+     * - No items of any type
      * - Perfect condition for all wagon parts (100%)
      * 
      * This represents the starting state before any supplies are purchased.
      */
     public Inventory() {
-        this.food = 0;
-        this.oxen = 0;
-        this.wheels = 0;
-        this.axles = 0;
-        this.tongues = 0;
-        this.wagonBows = 0;
-        this.medicine = 0;
-        this.ammunition = 0;
-        this.oxenFatigue = 0;
-        this.items = new ArrayList<>();
+        this(SimulationParameters.getDefault());
+    }
+
+    /**
+     * Constructs a new, empty Inventory that runs with the given simulation parameters.
+     * 
+     * @param parameters The simulation parameters
+     */
+    public Inventory(SimulationParameters parameters) {
+        this.parameters = parameters;
+        this.foodLots = new FoodLots(parameters);
+        this.currentWeight = 0;
+    }
+
+    /**
+     * Gets the amount of a supply.
+     *
+     * @param supply The supply to check
+     * @return The amount carried
+     */
+    public int getSupply(Supply supply) {
+        return supplies[supply.ordinal()];
+    }
+
+    /**
+     * Adds an amount of a supply and updates the wagon's load to match.
+     * No weight capacity check is performed here - that should be
+     * done before calling this method.
+     *
+     * @param supply The supply to add
+     * @param amount The amount to add
+     */
+    public void addSupply(Supply supply, int amount) {
+        if (supply == Supply.FOOD) {
+            addFood(amount);
+            return;
+        }
+        if (supply == Supply.OXEN) {
+            oxenHerd.add(amount);
+        }
+        adjustSupply(supply, amount);
+    }
+
+    /**
+     * Changes the count of a supply and the wagon's load together,
+     * without touching the food lots.
+     */
+    private void adjustSupply(Supply supply, int amount) {
+        supplies[supply.ordinal()] += amount;
+        currentWeight += amount * supply.getWeight();
+    }
+
+    /**
+     * Uses an amount of a supply, never going below zero,
+     * and updates the wagon's load to match.
+     *
+     * @param supply The supply to use
+     * @param amount The amount to use
+     * @return The amount actually used
+     */
+    public int useSupply(Supply supply, int amount) {
+        if (supply == Supply.FOOD) {
+            return consumeFood(amount);
+        }
+        int i = supply.ordinal();
+        int used = Math.max(0, Math.min(amount, supplies[i]));
+        if (supply == Supply.OXEN) {
+            for (int n = 0; n < used; n++) {
+                oxenHerd.removeRandom();
+            }
+        }
+        supplies[i] -= used;
+        currentWeight -= used * supply.getWeight();
+        return used;
+    }
+
+    /**
+     * Adds several supplies at once, as in a single purchase.
+     * The wagon's load is updated once for the whole transaction.
+     *
+     * @param amounts The amount of each supply to add, indexed by Supply ordinal
+     */
+    public void addSupplies(int[] amounts) {
+        int weight = 0;
+        for (int i = 0; i < amounts.length && i < supplies.length; i++) {
+            if (i == Supply.FOOD.ordinal()) {
+                addFood(amounts[i]);
+                continue;
+            }
+            if (i == Supply.OXEN.ordinal()) {
+                oxenHerd.add(amounts[i]);
+            }
+            supplies[i] += amounts[i];
+            weight += amounts[i] * SUPPLY_TYPES[i].getWeight();
+        }
+        currentWeight += weight;
+    }
+
+    /**
+     * Applies every supply change of one trade together.
+     * Supplies given up never go below zero, food given up is taken oldest
+     * first, and food bought comes aboard as one lot per type. The wagon's
+     * load is updated once for the whole trade.
+     *
+     * @param amounts The change in each supply other than food bought, indexed by Supply ordinal
+     * @param foodPounds The pounds bought of each food type, indexed by ItemRegistry id
+     */
+    public void applyTrade(int[] amounts, int[] foodPounds) {
+        int weight = 0;
+        for (int i = 0; i < amounts.length && i < supplies.length; i++) {
+            int amount = amounts[i];
+            if (amount == 0) {
+                continue;
+            }
+            if (i == Supply.FOOD.ordinal()) {
+                amount = amount < 0 ? -foodLots.consume(-amount) : amount;
+                if (amount > 0) {
+                    foodLots.add(ItemRegistry.PROVISIONS, amount, currentDay);
+                }
+            } else {
+                amount = Math.max(amount, -supplies[i]);
+                if (i == Supply.OXEN.ordinal()) {
+                    if (amount > 0) {
+                        oxenHerd.add(amount);
+                    }
+                    for (int n = 0; n < -amount; n++) {
+                        oxenHerd.removeRandom();
+                    }
+                }
+            }
+            supplies[i] += amount;
+            weight += amount * SUPPLY_TYPES[i].getWeight();
+        }
+        for (int id = 0; id < foodPounds.length; id++) {
+            if (foodPounds[id] > 0) {
+                foodLots.add(id, foodPounds[id], currentDay);
+                supplies[Supply.FOOD.ordinal()] += foodPounds[id];
+                weight += foodPounds[id] * Supply.FOOD.getWeight();
+            }
+        }
+        currentWeight += weight;
+    }
+
+    /**
+     * Gets the total weight of a set of supplies, as in a purchase being considered.
+     *
+     * @param amounts The amount of each supply, indexed by Supply ordinal
+     * @return The total weight in pounds
+     */
+    public static int getSuppliesWeight(int[] amounts) {
+        int weight = 0;
+        for (int i = 0; i < amounts.length && i < SUPPLY_TYPES.length; i++) {
+            weight += amounts[i] * SUPPLY_TYPES[i].getWeight();
+        }
+        return weight;
     }
 
     /**
@@ -89,7 +215,7 @@ public class Inventory {
      * @return The amount of food in pounds
      */
     public int getFood() {
-        return food;
+        return supplies[Supply.FOOD.ordinal()];
     }
 
     /**
@@ -101,18 +227,62 @@ public class Inventory {
      * @param amount The amount of food to add in pounds
      */
     public void addFood(int amount) {
-        this.food += amount;
+        if (amount < 0) {
+            consumeFood(-amount);
+            return;
+        }
+        addFood(ItemRegistry.PROVISIONS, amount);
+    }
+
+    /**
+     * Adds a lot of one food type to the inventory, stamped with the current day.
+     * No weight capacity check is performed here - that should be
+     * done before calling this method.
+     *
+     * @param id The ItemRegistry id of the food type
+     * @param amount The amount of food to add in pounds
+     */
+    public void addFood(int id, int amount) {
+        if (amount <= 0) {
+            return;
+        }
+        foodLots.add(id, amount, currentDay);
+        adjustSupply(Supply.FOOD, amount);
+    }
+
+    /**
+     * Gets the pounds carried of one food type.
+     *
+     * @param id The ItemRegistry id of the food type
+     * @return The pounds carried
+     */
+    public int getFood(int id) {
+        return foodLots.getPounds(id);
+    }
+
+    /**
+     * Sets the current day of the journey, used to date new food lots
+     * and to age them for spoilage.
+     *
+     * @param day The total days elapsed on the journey
+     */
+    public void setCurrentDay(int day) {
+        this.currentDay = day;
     }
 
     /**
      * Consumes food from the inventory.
      * Reduces the food supply by the specified amount, ensuring it never goes below zero.
      * This method is called during daily food consumption and special events.
+     * The oldest food is eaten first.
      * 
      * @param amount The amount of food to consume in pounds
+     * @return The pounds actually consumed
      */
-    public void consumeFood(int amount) {
-        this.food = Math.max(0, this.food - amount);
+    public int consumeFood(int amount) {
+        int taken = foodLots.consume(amount);
+        adjustSupply(Supply.FOOD, -taken);
+        return taken;
     }
 
     /**
@@ -123,18 +293,19 @@ public class Inventory {
      * @return The number of oxen
      */
     public int getOxen() {
-        return oxen;
+        return supplies[Supply.OXEN.ordinal()];
     }
 
     /**
      * Adds oxen to the inventory.
      * Increases the oxen team size by the specified amount.
-     * New oxen start with full health and no fatigue.
+     * New oxen start with full health and no fatigue, and are yoked in
+     * with the rest of the team.
      * 
      * @param amount The number of oxen to add
      */
     public void addOxen(int amount) {
-        this.oxen += amount;
+        addSupply(Supply.OXEN, amount);
     }
     
     /**
@@ -145,7 +316,7 @@ public class Inventory {
      * @return The number of wheels
      */
     public int getWheels() {
-        return wheels;
+        return supplies[Supply.WHEEL.ordinal()];
     }
     
     /**
@@ -156,7 +327,7 @@ public class Inventory {
      * @param amount The number of wheels to add
      */
     public void addWheels(int amount) {
-        this.wheels += amount;
+        addSupply(Supply.WHEEL, amount);
     }
     
     /**
@@ -168,7 +339,7 @@ public class Inventory {
      * @param amount The number of wheels to use
      */
     public void useWheels(int amount) {
-        this.wheels = Math.max(0, this.wheels - amount);
+        useSupply(Supply.WHEEL, amount);
     }
     
     /**
@@ -179,7 +350,7 @@ public class Inventory {
      * @return The number of axles
      */
     public int getAxles() {
-        return axles;
+        return supplies[Supply.AXLE.ordinal()];
     }
     
     /**
@@ -190,7 +361,7 @@ public class Inventory {
      * @param amount The number of axles to add
      */
     public void addAxles(int amount) {
-        this.axles += amount;
+        addSupply(Supply.AXLE, amount);
     }
     
     /**
@@ -202,7 +373,7 @@ public class Inventory {
      * @param amount The number of axles to use
      */
     public void useAxles(int amount) {
-        this.axles = Math.max(0, this.axles - amount);
+        useSupply(Supply.AXLE, amount);
     }
     
     /**
@@ -213,7 +384,7 @@ public class Inventory {
      * @return The number of tongues
      */
     public int getTongues() {
-        return tongues;
+        return supplies[Supply.TONGUE.ordinal()];
     }
     
     /**
@@ -224,7 +395,7 @@ public class Inventory {
      * @param amount The number of tongues to add
      */
     public void addTongues(int amount) {
-        this.tongues += amount;
+        addSupply(Supply.TONGUE, amount);
     }
     
     /**
@@ -236,7 +407,7 @@ public class Inventory {
      * @param amount The number of tongues to use
      */
     public void useTongues(int amount) {
-        this.tongues = Math.max(0, this.tongues - amount);
+        useSupply(Supply.TONGUE, amount);
     }
     
     /**
@@ -247,7 +418,7 @@ public class Inventory {
      * @return The number of wagon bows
      */
     public int getWagonBows() {
-        return wagonBows;
+        return supplies[Supply.WAGON_BOW.ordinal()];
     }
     
     /**
@@ -258,7 +429,7 @@ public class Inventory {
      * @param amount The number of bows to add
      */
     public void addWagonBows(int amount) {
-        this.wagonBows += amount;
+        addSupply(Supply.WAGON_BOW, amount);
     }
     
     /**
@@ -270,7 +441,7 @@ public class Inventory {
      * @param amount The number of bows to use
      */
     public void useWagonBows(int amount) {
-        this.wagonBows = Math.max(0, this.wagonBows - amount);
+        useSupply(Supply.WAGON_BOW, amount);
     }
     
     /**
@@ -281,7 +452,7 @@ public class Inventory {
      * @return The total number of spare wagon parts
      */
     public int getWagonParts() {
-        return wheels + axles + tongues + wagonBows;
+        return getWheels() + getAxles() + getTongues() + getWagonBows();
     }
     
     /**
@@ -297,28 +468,28 @@ public class Inventory {
         int remaining = amount;
         
         // Use wheels first (most commonly needed)
-        int wheelsToUse = Math.min(remaining, wheels);
+        int wheelsToUse = Math.min(remaining, getWheels());
         useWheels(wheelsToUse);
         remaining -= wheelsToUse;
         
         if (remaining == 0) return true;
         
         // Then axles
-        int axlesToUse = Math.min(remaining, axles);
+        int axlesToUse = Math.min(remaining, getAxles());
         useAxles(axlesToUse);
         remaining -= axlesToUse;
         
         if (remaining == 0) return true;
         
         // Then tongues
-        int tonguesToUse = Math.min(remaining, tongues);
+        int tonguesToUse = Math.min(remaining, getTongues());
         useTongues(tonguesToUse);
         remaining -= tonguesToUse;
         
         if (remaining == 0) return true;
         
         // Finally bows
-        int bowsToUse = Math.min(remaining, wagonBows);
+        int bowsToUse = Math.min(remaining, getWagonBows());
         useWagonBows(bowsToUse);
         remaining -= bowsToUse;
         
@@ -334,12 +505,8 @@ public class Inventory {
      * @return The break percentage (0-100)
      */
     public int getWagonPartBreakpercentage(String name) {
-        for (int i = 0; i < WAGON_PARTS.length; i++) {
-            if (WAGON_PARTS[i].equalsIgnoreCase(name)) {
-                return WAGON_PARTS_BREAKPERCENTAGE[i];
-            }
-        }
-        return 100;
+        WagonPart part = WagonPart.fromName(name);
+        return part == null ? 100 : wagonWear.getConditionPercent(part);
     }
     
     /**
@@ -350,22 +517,18 @@ public class Inventory {
      * @return The name of the repaired part, or null if no parts were broken
      */
     public String repairRandomBrokenPart() {
-        ArrayList<Integer> brokenIndices = new ArrayList<>();
-        for (int i = 0; i < WAGON_PARTS_BROKEN.length; i++) {
-            if (WAGON_PARTS_BROKEN[i]) {
-                brokenIndices.add(i);
-            }
-        }
-        
-        if (brokenIndices.isEmpty()) {
-            return null;
-        }
-        
-        int randomIndex = brokenIndices.get((int)(Math.random() * brokenIndices.size()));
-        WAGON_PARTS_BROKEN[randomIndex] = false;
-        WAGON_PARTS_BREAKPERCENTAGE[randomIndex] = 100;
-        
-        return WAGON_PARTS[randomIndex];
+        WagonPart repaired = wagonWear.repairRandomBroken();
+        return repaired == null ? null : repaired.getDisplayName();
+    }
+
+    /**
+     * Damages a random wagon part, as from a storm or an accident on the trail.
+     *
+     * @param percent The condition lost, in percent
+     * @return The damaged part, or null if every part was already broken
+     */
+    public WagonPart damageRandomPart(int percent) {
+        return wagonWear.damageRandomPart(percent);
     }
     
     /**
@@ -376,7 +539,7 @@ public class Inventory {
      * @return The number of medical kits
      */
     public int getMedicine() {
-        return medicine;
+        return supplies[Supply.MEDICINE.ordinal()];
     }
     
     /**
@@ -387,7 +550,7 @@ public class Inventory {
      * @param amount The number of medical kits to add
      */
     public void addMedicine(int amount) {
-        this.medicine += amount;
+        addSupply(Supply.MEDICINE, amount);
     }
     
     /**
@@ -399,7 +562,7 @@ public class Inventory {
      * @param amount The number of medical kits to use
      */
     public void useMedicine(int amount) {
-        this.medicine = Math.max(0, this.medicine - amount);
+        useSupply(Supply.MEDICINE, amount);
     }
     
     /**
@@ -409,7 +572,7 @@ public class Inventory {
      * @return The number of ammunition boxes
      */
     public int getAmmunition() {
-        return ammunition;
+        return supplies[Supply.AMMUNITION.ordinal()];
     }
     
     /**
@@ -420,7 +583,7 @@ public class Inventory {
      * @param amount The number of ammunition boxes to add
      */
     public void addAmmunition(int amount) {
-        this.ammunition += amount;
+        addSupply(Supply.AMMUNITION, amount);
     }
     
     /**
@@ -432,12 +595,12 @@ public class Inventory {
      * @param amount The number of ammunition boxes to use
      */
     public void useAmmunition(int amount) {
-        this.ammunition = Math.max(0, this.ammunition - amount);
+        useSupply(Supply.AMMUNITION, amount);
     }
     
     /**
      * Gets the current health percentage of the oxen team.
-     * This value ranges from 0 to 100, where:
+     * This is the average health of every ox, where:
      * - 100: Perfect health
      * - 50: Moderate health issues
      * - 0: Critical condition
@@ -445,12 +608,12 @@ public class Inventory {
      * @return The oxen health percentage (0-100)
      */
     public int getOxenHealth() {
-        return oxenHealth;
+        return oxenHerd.getAverageHealth();
     }
     
     /**
      * Gets the current fatigue level of the oxen team.
-     * This value ranges from 0 to 100, where:
+     * This is the average fatigue of the oxen in the yoke, where:
      * - 0: Well-rested
      * - 50: Moderately tired
      * - 100: Exhausted
@@ -458,18 +621,39 @@ public class Inventory {
      * @return The oxen fatigue level (0-100)
      */
     public int getOxenFatigue() {
-        return oxenFatigue;
+        return oxenHerd.getAverageFatigue();
+    }
+
+    /**
+     * Gets how well the oxen can pull the wagon, as a share of normal speed.
+     * Counts the number of yoke pairs and the health, fatigue, age and
+     * injuries of the oxen in them.
+     * 
+     * @return The pulling power (0 with no oxen, 1.0 at full strength)
+     */
+    public double getPullingPower() {
+        return oxenHerd.getPullingPower();
+    }
+
+    /**
+     * Gets the individual oxen of the team.
+     * 
+     * @return The oxen herd
+     */
+    public OxenHerd getOxenHerd() {
+        return oxenHerd;
     }
     
     /**
      * Decreases the health of the oxen team.
      * This method is called when the oxen are injured, sick,
-     * or affected by harsh conditions. The health cannot go below 0.
+     * or affected by harsh conditions. Shared wear stalls the team
+     * but cannot kill an ox; see OxenHerd.changeHealth.
      * 
      * @param amount The amount to decrease health by
      */
     public void decreaseOxenHealth(int amount) {
-        this.oxenHealth = Math.max(0, this.oxenHealth - amount);
+        oxenHerd.changeHealth(-amount);
     }
     
     /**
@@ -480,40 +664,82 @@ public class Inventory {
      * @param amount The amount to increase health by
      */
     public void increaseOxenHealth(int amount) {
-        this.oxenHealth = Math.min(100, this.oxenHealth + amount);
+        oxenHerd.changeHealth(amount);
+    }
+
+    /**
+     * Injures one ox, taking it out of the yoke while sound oxen can replace it.
+     * 
+     * @param damage The health the ox loses
+     * @param days The days until the injury heals
+     */
+    public void injureOx(int damage, int days) {
+        oxenHerd.injureRandom(damage, days);
+        oxenHerd.assignYokes();
+    }
+
+    /**
+     * Loses one ox outright, as to drowning, theft or straying.
+     * 
+     * @return true if an ox was lost, false if there were none
+     */
+    public boolean loseOx() {
+        return useSupply(Supply.OXEN, 1) == 1;
+    }
+
+    /**
+     * Advances the oxen a day: ages them, heals injuries and lets exhaustion
+     * take its toll. Oxen that die are removed from the team.
+     * 
+     * @return The number of oxen that died
+     */
+    public int advanceOxenDay() {
+        int died = oxenHerd.advanceDay();
+        adjustSupply(Supply.OXEN, -died);
+        return died;
     }
     
     /**
      * Updates the fatigue level of the oxen team based on travel conditions.
      * This method is called after each day's travel and takes into account:
      * - Distance traveled
-     * - Current weather conditions
      * - Whether the team is resting
      * 
      * @param distanceTraveled The distance traveled in miles
-     * @param weather The current weather conditions
      * @param isResting Whether the team is resting
      */
-    public void updateOxenFatigue(int distanceTraveled, String weather, boolean isResting) {
+    public void updateOxenFatigue(int distanceTraveled, boolean isResting) {
+        updateOxenFatigue(distanceTraveled, isResting, 1.0);
+    }
+
+    /**
+     * Updates the fatigue level of the oxen team, scaled by the conditions.
+     * The fatigue factor is the OXEN_FATIGUE effect of the party's modifier
+     * stack, which covers the weather, the kind of country and the grade
+     * being climbed. The wagon's load is shared among the oxen in the yoke,
+     * and oxen out of the yoke rest.
+     *
+     * @param distanceTraveled The distance traveled in miles
+     * @param isResting Whether the team is resting
+     * @param fatigueFactor The fatigue factor (1.0 is unaffected)
+     */
+    public void updateOxenFatigue(int distanceTraveled, boolean isResting, double fatigueFactor) {
         if (isResting) {
             // Rest reduces fatigue
-            oxenFatigue = Math.max(0, oxenFatigue - 20);
+            oxenHerd.rest(20);
         } else {
             // Travel increases fatigue based on distance and conditions
-            int fatigueIncrease = BASE_FATIGUE_RATE * distanceTraveled;
-            
-            // Weather effects
-            if (weather.equals("Rain")) {
-                fatigueIncrease *= 1.5;
-            } else if (weather.equals("Snow")) {
-                fatigueIncrease *= 2;
-            }
+            int fatigueIncrease = parameters.baseFatigueRate * distanceTraveled;
             
-            // Weight effect
-            int weightFactor = getCurrentWeight() / 100;
-            fatigueIncrease += weightFactor * WEIGHT_FATIGUE_FACTOR;
+            // Weather, terrain and grade effects
+            fatigueIncrease = (int) (fatigueIncrease * fatigueFactor);
+
+            // Weight effect, shared among the oxen in the yoke
+            int yokedOxen = Math.max(1, oxenHerd.getYokeCount() * 2);
+            int weightFactor = getCurrentWeight() * 4 / (100 * yokedOxen);
+            fatigueIncrease += weightFactor * parameters.weightFatigueFactor;
             
-            oxenFatigue = Math.min(MAX_OXEN_FATIGUE, oxenFatigue + fatigueIncrease);
+            oxenHerd.work(fatigueIncrease);
         }
     }
     
@@ -523,18 +749,7 @@ public class Inventory {
      * fatigue by 30 points, but cannot go below 0.
      */
     public void restOxen() {
-        oxenFatigue = Math.max(0, oxenFatigue - 30);
-    }
-    
-    /**
-     * Adds a custom item to the inventory.
-     * This method is used for special items collected during
-     * the journey that don't fit into standard categories.
-     * 
-     * @param item The item to add
-     */
-    public void addItem(Item item) {
-        items.add(item);
+        oxenHerd.rest(30);
     }
     
     /**
@@ -544,34 +759,14 @@ public class Inventory {
      * - Wagon parts weight
      * - Medical supplies weight
      * - Ammunition weight
-     * - Custom items weight
+     *
+     * The total is kept up to date as supplies are added and used,
+     * so reading it costs nothing.
      * 
      * @return The total weight in pounds
      */
     public int getCurrentWeight() {
-        int totalWeight = 0;
-        
-        // Add food weight
-        totalWeight += food;
-        
-        // Add wagon parts weight
-        totalWeight += wheels * WHEEL_WEIGHT;
-        totalWeight += axles * AXLE_WEIGHT;
-        totalWeight += tongues * TONGUE_WEIGHT;
-        totalWeight += wagonBows * WAGON_BOW_WEIGHT;
-        
-        // Add medical supplies weight
-        totalWeight += medicine * MEDICINE_WEIGHT;
-        
-        // Add ammunition weight
-        totalWeight += ammunition * AMMO_BOX_WEIGHT;
-        
-        // Add custom items weight
-        for (Item item : items) {
-            totalWeight += item.getWeight();
-        }
-        
-        return totalWeight;
+        return currentWeight;
     }
     
     /**
@@ -582,7 +777,7 @@ public class Inventory {
      * @return The maximum weight capacity in pounds
      */
     public int getMaxWeightCapacity() {
-        return MAX_WEIGHT_CAPACITY;
+        return parameters.maxWeightCapacity;
     }
     
     /**
@@ -594,113 +789,77 @@ public class Inventory {
      * @return true if there is enough capacity, false otherwise
      */
     public boolean hasWeightCapacity(int additionalWeight) {
-        return getCurrentWeight() + additionalWeight <= MAX_WEIGHT_CAPACITY;
+        return getCurrentWeight() + additionalWeight <= parameters.maxWeightCapacity;
     }
     
     /**
-     * Gets a custom item by name from the inventory.
-     * This method searches through the custom items collection
-     * for an item with the specified name.
+     * Applies a day of food spoilage.
+     * This method is called daily and simulates how the weather and the
+     * party's care for their stores affect food preservation. Every lot
+     * spoils in one pass and the losses come back as a single report.
      * 
-     * @param name The name of the item to find
-     * @return The item if found, null otherwise
+     * @param multiplier The combined spoilage multiplier for the day (1.0 is normal)
+     * @return The pounds lost by food type
      */
-    public String getItem(String name) {
-        for (Item item : items) {
-            if (item.getName().equalsIgnoreCase(name)) {
-                return item.toString();
-            }
-        }
-        return null;
+    public FoodLots.SpoilageReport applyFoodSpoilage(double multiplier) {
+        FoodLots.SpoilageReport report = foodLots.spoil(currentDay, multiplier);
+        adjustSupply(Supply.FOOD, -report.getTotalSpoiled());
+        return report;
     }
     
     /**
-     * Gets the spoilage rate for a specific food item.
-     * This value represents how quickly the item spoils,
-     * where higher values mean faster spoilage.
+     * Wears the wagon parts by one day of travel.
+     * Wear grows with the load carried and the roughness of the terrain.
      * 
-     * @param name The name of the food item
-     * @return The spoilage rate (0.0 to 1.0)
+     * @param terrainFactor The terrain wear factor (1.0 is open ground)
+     * @return The bitset of parts that broke today, 0 if none did
      */
-    public double getSpoilRate(String name) {
-        for (Item item : items) {
-            if (item.getName().equalsIgnoreCase(name)) {
-                return item.getSpoilRate();
-            }
-        }
-        return 0.0;
+    public int wearWagonParts(double terrainFactor) {
+        return wearWagonParts(1, terrainFactor);
     }
-    
+
     /**
-     * Gets the weight of a specific item.
-     * This method searches through both standard and custom items
-     * to find the weight of the specified item.
-     * 
-     * @param name The name of the item
-     * @return The weight in pounds, or 0 if not found
+     * Wears the wagon parts by several days of travel at once under the same
+     * load and terrain. Costs the same as a single day, so fast-forwarding
+     * can skip ahead to the next predicted failure instead of checking daily.
+     *
+     * @param days The number of days of travel
+     * @param terrainFactor The terrain wear factor (1.0 is open ground)
+     * @return The bitset of parts that broke, 0 if none did
      */
-    public double getWeight(String name) {
-        for (Item item : items) {
-            if (item.getName().equalsIgnoreCase(name)) {
-                return item.getWeight();
-            }
-        }
-        return 0.0;
+    public int wearWagonParts(int days, double terrainFactor) {
+        lastTerrainWear = terrainFactor;
+        return wagonWear.wear(days, getCurrentWeight(), terrainFactor);
     }
-    
+
     /**
-     * Applies food spoilage based on current weather conditions.
-     * This method is called daily and simulates how different
-     * weather conditions affect food preservation.
-     * 
-     * @param weather The current weather conditions
-     * @param gameController The game controller for event handling
+     * Predicts the day of the journey a part will break if the current load
+     * and terrain hold.
+     *
+     * @param part The part
+     * @return The day it breaks, or the current day if it is already broken
      */
-    public void applyFoodSpoilage(Weather weather, GameController gameController) {
-        double spoilageMultiplier = 1.0;
-        
-        // Weather effects on spoilage
-        if (weather.getCurrentWeather().equals("Rain")) {
-            spoilageMultiplier = 1.5;
-        } else if (weather.getCurrentWeather().equals("Snow")) {
-            spoilageMultiplier = 0.5; // Cold preserves food
-        }
-        
-        // Apply spoilage to each food item
-        for (Item item : items) {
-            if (item.getSpoilRate() > 0) {
-                double spoilage = item.getSpoilRate() * spoilageMultiplier;
-                // Handle spoilage effects
-                if (Math.random() < spoilage) {
-                    gameController.handleFoodSpoilage(item.getName());
-                }
-            }
-        }
+    public int predictPartFailureDay(WagonPart part) {
+        return currentDay + wagonWear.daysUntilFailure(part, getCurrentWeight(), lastTerrainWear);
     }
-    
+
+    /**
+     * Finds the wagon part that will break first if the current load and
+     * terrain hold.
+     *
+     * @return The part, or null if every part is already broken
+     */
+    public WagonPart getNextPartToFail() {
+        return wagonWear.nextToFail(getCurrentWeight(), lastTerrainWear);
+    }
+
     /**
-     * Checks for wagon part breakage during travel.
-     * This method is called after each day's travel and
-     * simulates the wear and tear on wagon parts.
+     * Gets the fraction of normal speed the wagon keeps with its broken parts.
      * 
-     * @param gameController The game controller for event handling
-     * @return The name of the broken part, or null if none broke
+     * @return The speed factor (1.0 when nothing is broken)
      */
-    public String checkForPartBreakage(GameController gameController) {
-        for (int i = 0; i < WAGON_PARTS.length; i++) {
-            if (!WAGON_PARTS_BROKEN[i]) {
-                // Increase wear based on the part's wear rate
-                WAGON_PARTS_BREAKPERCENTAGE[i] -= WAGON_PARTS_WEAR_RATES[i];
-                
-                // Check if part breaks
-                if (WAGON_PARTS_BREAKPERCENTAGE[i] <= 0) {
-                    WAGON_PARTS_BROKEN[i] = true;
-                    gameController.handlePartBreakage(WAGON_PARTS[i]);
-                    return WAGON_PARTS[i];
-                }
-            }
-        }
-        return null;
+    public double getWagonSpeedFactor() {
+        return wagonWear.getSpeedFactor();
     }
     
     /**
@@ -710,12 +869,8 @@ public class Inventory {
      * @return true if the part is broken, false otherwise
      */
     public boolean isPartBroken(String partName) {
-        for (int i = 0; i < WAGON_PARTS.length; i++) {
-            if (WAGON_PARTS[i].equalsIgnoreCase(partName)) {
-                return WAGON_PARTS_BROKEN[i];
-            }
-        }
-        return false;
+        WagonPart part = WagonPart.fromName(partName);
+        return part != null && wagonWear.isBroken(part);
     }
     
     /**
@@ -726,12 +881,9 @@ public class Inventory {
      * @param partName The name of the part to repair
      */
     public void repairPart(String partName) {
-        for (int i = 0; i < WAGON_PARTS.length; i++) {
-            if (WAGON_PARTS[i].equalsIgnoreCase(partName)) {
-                WAGON_PARTS_BROKEN[i] = false;
-                WAGON_PARTS_BREAKPERCENTAGE[i] = 100;
-                return;
-            }
+        WagonPart part = WagonPart.fromName(partName);
+        if (part != null) {
+            wagonWear.repair(part);
         }
     }
     
@@ -743,15 +895,10 @@ public class Inventory {
      * @return true if any parts are broken, false otherwise
      */
     public boolean hasBrokenParts() {
-        for (boolean broken : WAGON_PARTS_BROKEN) {
-            if (broken) {
-                return true;
-            }
-        }
-        return false;
+        return wagonWear.getBrokenMask() != 0;
     }
 
     public void setOxenHealth(int health) {
-        this.oxenHealth = Math.max(0, Math.min(100, health));
+        oxenHerd.changeHealth(health - oxenHerd.getAverageHealth());
     }
 }
\ No newline at end of file
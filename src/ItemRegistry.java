@@ -0,0 +1,124 @@
+/**
+ * ItemRegistry Class of the Perils Along the Platte Game
+ * The single shared list of item types that can be carried in the wagon.
+ * Each item type is given a fixed integer id, so the inventory and the game
+ * loop can look items up by array index; names are only matched when they
+ * come in from the user interface.
+ *
+ * The registry is built once and never changes.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file ItemRegistry.java
+ */
+
+import java.util.HashMap;
+
+public final class ItemRegistry {
+    // Ids of the registered item types
+    public static final int FLOUR = 0;
+    public static final int BACON = 1;
+    public static final int DRIED_BEANS = 2;
+    public static final int RICE = 3;
+    public static final int COFFEE = 4;
+    public static final int SUGAR = 5;
+    public static final int DRIED_FRUIT = 6;
+    public static final int HARDTACK = 7;
+    public static final int PROVISIONS = 8;
+    public static final int FRESH_GAME = 9;
+
+    // Registered item types, indexed by id
+    private static final Item[] ITEMS = {
+            new Item("Flour", 25, .05),
+            new Item("Bacon", 15, .15),
+            new Item("Dried Beans", 10, .02),
+            new Item("Rice", 5, .03),
+            new Item("Coffee", 2, .005),
+            new Item("Sugar", 5, .04),
+            new Item("Dried Fruit", 2, .1),
+            new Item("Hardtack", 20, .01),
+            // Mixed food from foraging, trading and events, counted by the pound
+            new Item("Provisions", 1, .03),
+            // Meat from hunting, which spoils within days unless eaten
+            new Item("Fresh Game", 1, 1.0)
+    };
+
+    // Ids of the food types sold at the outfitters, in display order
+    private static final int[] FOOD_IDS = {
+            FLOUR, BACON, DRIED_BEANS, RICE, COFFEE, SUGAR, DRIED_FRUIT, HARDTACK
+    };
+
+    // Lower-case name to id, for names coming in from the user interface
+    private static final HashMap<String, Integer> IDS_BY_NAME = new HashMap<>();
+
+    static {
+        for (int id = 0; id < ITEMS.length; id++) {
+            IDS_BY_NAME.put(ITEMS[id].getName().toLowerCase(), id);
+        }
+    }
+
+    private ItemRegistry() {
+    }
+
+    /**
+     * Gets the number of registered item types.
+     * Ids run from 0 to one less than this.
+     *
+     * @return The number of item types
+     */
+    public static int size() {
+        return ITEMS.length;
+    }
+
+    /**
+     * Looks up an item type's id by name, ignoring case.
+     *
+     * @param name The item name
+     * @return The item id, or -1 if no item has that name
+     */
+    public static int idOf(String name) {
+        if (name == null) {
+            return -1;
+        }
+        Integer id = IDS_BY_NAME.get(name.toLowerCase());
+        return id != null ? id : -1;
+    }
+
+    public static Item get(int id) {
+        return ITEMS[id];
+    }
+
+    public static String getName(int id) {
+        return ITEMS[id].getName();
+    }
+
+    /**
+     * Gets the weight of one unit of an item type.
+     *
+     * @param id The item id
+     * @return The unit weight in pounds
+     */
+    public static int getUnitWeight(int id) {
+        return ITEMS[id].getWeight();
+    }
+
+    /**
+     * Gets the spoilage rate of an item type.
+     *
+     * @param id The item id
+     * @return The spoilage rate (0.0 to 1.0)
+     */
+    public static double getSpoilRate(int id) {
+        return ITEMS[id].getSpoilRate();
+    }
+
+    /**
+     * Gets the ids of the food types sold at the outfitters.
+     *
+     * @return A copy of the food ids, in display order
+     */
+    public static int[] getFoodIds() {
+        return FOOD_IDS.clone();
+    }
+}
@@ -97,7 +97,8 @@ public class Main {
         gameController.startNewGame();
 
         // 3. Show market for initial supplies
-        Market market = new Market(gameController.getPlayer(), gameController.getInventory());
+        Market market = new Market(gameController.getPlayer(), gameController.getInventory(), gameController.getParameters(),
+                gameController.getTransactionLedger());
         JDialog marketDialog = new JDialog(frame, "Market", true);
         marketDialog.setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
         marketDialog.add(market.createMarketPanel());
@@ -106,11 +107,13 @@ public class Main {
         marketDialog.setLocationRelativeTo(frame);
         marketDialog.setVisible(true);
 
-        // 4. Show journey introduction
-        FortKearnyDialog fortKearnyDialog = new FortKearnyDialog(frame, gameController);
-        fortKearnyDialog.setVisible(true);
+        // 4. Show journey introduction, unless the trail is generated and has no Fort Kearny
+        if (!gameController.getMap().isEndless()) {
+            FortKearnyDialog fortKearnyDialog = new FortKearnyDialog(frame, gameController);
+            fortKearnyDialog.setVisible(true);
+        }
 
-        // 5. Simulate initial journey to Fort Kearny
+        // 5. Simulate initial journey to Fort Kearny (skipped on the endless trail)
         gameController.journeyToFortKearny();
 
         // 6. Display the main game window
@@ -26,7 +26,10 @@
  * @file Map.java
  */
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 public class Map {
     // The selected trail choice (1=Oregon, 2=California, 3=Mormon)
@@ -41,8 +44,33 @@ public class Map {
     // Total distance traveled on the trail
     private int distanceTraveled;
 
-    // Flag indicating if a river crossing is pending
-    private boolean riverCrossingPending;
+    // Trail choice for the procedurally generated endless trail
+    public static final int ENDLESS_TRAIL = 4;
+
+    // Generator for the endless trail, null for the historical trails
+    private final TrailGenerator generator;
+
+    // Index of the oldest segment still held in the landmark window
+    private int firstSegmentIndex;
+
+    // Index of the next segment to generate
+    private int nextSegmentIndex;
+
+    // Name of the first landmark, kept because the endless trail releases it
+    private String startingLocation;
+
+    // Per-mile terrain of a historical trail, null on the endless trail
+    private TerrainProfile terrainProfile;
+
+    // Branching routes of a historical trail and their planner, null on the endless trail
+    private RouteGraph routeGraph;
+    private RoutePlanner routePlanner;
+
+    // Extra mishap chance for a route that ends in a river ford
+    private static final double RIVER_ROUTE_RISK = 0.08;
+
+    // Terrain of each segment in the endless trail's window, oldest first
+    private final ArrayList<TerrainProfile> segmentProfiles = new ArrayList<>();
 
     /**
      * Inner class representing a river crossing point with historical information.
@@ -52,29 +80,55 @@ public class Map {
      * - Description of challenges
      * - Historical context
      */
-    private class RiverCrossing {
-        int distance;
-        String name;
-        String description;
+    public static class RiverCrossing {
+        private final int distance;
+        private final String name;
+        private final String description;
+        // RiverHydrology profile of the river crossed
+        private final int riverProfile;
         
         /**
          * Constructs a new RiverCrossing with historical details.
          * @param distance The distance from the start of the trail
          * @param name The name of the river crossing
          * @param description Historical description of the crossing
+         * @param riverProfile The RiverHydrology profile of the river
          */
-        RiverCrossing(int distance, String name, String description) {
+        RiverCrossing(int distance, String name, String description, int riverProfile) {
             this.distance = distance;
             this.name = name;
             this.description = description;
+            this.riverProfile = riverProfile;
+        }
+
+        public int getDistance() {
+            return distance;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public int getRiverProfile() {
+            return riverProfile;
         }
     }
     
-    // List of pending river crossings on the trail
-    private final ArrayList<RiverCrossing> pendingRiverCrossings = new ArrayList<>();
+    // River crossings not yet reached, ordered by distance
+    private final ArrayDeque<RiverCrossing> pendingRiverCrossings = new ArrayDeque<>();
+
+    // Crossings the party has passed that are still waiting to be handled, in trail order
+    private final ArrayDeque<RiverCrossing> triggeredRiverCrossings = new ArrayDeque<>();
+
+    // Distance at which the next pending crossing triggers, Integer.MAX_VALUE when there is none
+    private int nextCrossingThreshold = Integer.MAX_VALUE;
 
-    // The current active river crossing
-    private RiverCrossing currentRiverCrossing;
+    // Crossings never trigger before this mile (Fort Laramie on the historical trails)
+    private int crossingGateMile;
 
     /**
      * Constructs a new Map for the specified trail.
@@ -84,13 +138,99 @@ public class Map {
      * @param trailChoice The selected trail (1 = Oregon, 2 = California, 3 = Mormon)
      */
     public Map(int trailChoice) {
+        this(trailChoice, System.nanoTime());
+    }
+
+    /**
+     * Constructs a new Map for the specified trail with a fixed seed.
+     * The seed only matters for the endless trail, where it makes the
+     * generated landmarks and crossings reproducible between runs.
+     *
+     * @param trailChoice The selected trail (1 = Oregon, 2 = California, 3 = Mormon, 4 = Endless)
+     * @param seed The seed for the endless trail generator
+     */
+    public Map(int trailChoice, long seed) {
         this.trailChoice = trailChoice;
         this.landmarks = new ArrayList<>();
         this.currentLandmarkIndex = 0;
         this.distanceTraveled = 0;
-        this.riverCrossingPending = false;
-        this.initializeLandmarks();
-        this.initializeRiverCrossings();
+        if (trailChoice == ENDLESS_TRAIL) {
+            this.generator = new TrailGenerator(seed);
+            this.streamSegments();
+        } else {
+            this.generator = null;
+            this.initializeLandmarks();
+            this.initializeRiverCrossings();
+            this.initializeRouteGraph();
+            this.buildTerrain();
+        }
+        this.startingLocation = landmarks.isEmpty() ? "Unknown" : landmarks.get(0).getName();
+    }
+
+    /**
+     * Checks if this map is the procedurally generated endless trail.
+     * @return true if the trail is generated in segments
+     */
+    public boolean isEndless() {
+        return generator != null;
+    }
+
+    /**
+     * Keeps the endless trail's landmark window in step with the party.
+     * Generates the segment holding the party's position plus one segment of
+     * look-ahead, so the next landmark is always known, and releases segments
+     * the party has completely left behind. The window never holds more than
+     * three segments, so memory stays constant however long the journey runs.
+     */
+    private void streamSegments() {
+        generateSegments();
+        releaseSegments();
+    }
+
+    /**
+     * Generates segments up to one past the party's position.
+     */
+    private void generateSegments() {
+        int currentSegment = distanceTraveled / TrailGenerator.SEGMENT_LENGTH;
+
+        while (nextSegmentIndex <= currentSegment + 1) {
+            TrailGenerator.Segment segment = generator.generateSegment(nextSegmentIndex++);
+            for (Landmark landmark : segment.getLandmarks()) {
+                landmarks.add(landmark);
+            }
+            segmentProfiles.add(segment.getTerrain());
+            for (int i = 0; i < segment.getCrossingCount(); i++) {
+                int mile = segment.getCrossingMile(i);
+                int profile = segment.getTerrain().getTerrainType(mile) == TerrainType.MOUNTAINS
+                        ? RiverHydrology.MOUNTAIN_RIVER : RiverHydrology.PRAIRIE_STREAM;
+                enqueueCrossing(new RiverCrossing(mile, segment.getCrossingName(i),
+                        segment.getCrossingDescription(i), profile));
+            }
+        }
+    }
+
+    /**
+     * Releases segments the party has left behind, along with any of their
+     * crossings that are somehow still pending.
+     */
+    private void releaseSegments() {
+        int currentSegment = distanceTraveled / TrailGenerator.SEGMENT_LENGTH;
+
+        // Release the oldest segment once the landmark cursor has left it, or
+        // unconditionally once the party is more than a full segment past it
+        while (firstSegmentIndex < currentSegment &&
+                (currentLandmarkIndex >= TrailGenerator.LANDMARKS_PER_SEGMENT || firstSegmentIndex < currentSegment - 1)) {
+            landmarks.subList(0, TrailGenerator.LANDMARKS_PER_SEGMENT).clear();
+            currentLandmarkIndex = Math.max(0, currentLandmarkIndex - TrailGenerator.LANDMARKS_PER_SEGMENT);
+            segmentProfiles.remove(0);
+            firstSegmentIndex++;
+
+            int releasedEnd = firstSegmentIndex * TrailGenerator.SEGMENT_LENGTH;
+            while (!pendingRiverCrossings.isEmpty() && pendingRiverCrossings.peekFirst().distance < releasedEnd) {
+                pendingRiverCrossings.pollFirst();
+            }
+            updateCrossingThreshold();
+        }
     }
 
     /**
@@ -178,28 +318,32 @@ public class Map {
                 independenceRockDistance = landmark.getDistance();
             }
         }
+        crossingGateMile = fortLaramieDistance;
         
         if (fortLaramieDistance > 0 && independenceRockDistance > 0) {
             // Calculate distance between Fort Laramie and Independence Rock
             int segmentDistance = independenceRockDistance - fortLaramieDistance;
             
             // Add historically accurate river crossings between Fort Laramie and Independence Rock
-            pendingRiverCrossings.add(new RiverCrossing(
+            enqueueCrossing(new RiverCrossing(
                 fortLaramieDistance + (segmentDistance / 4),
                 "North Platte River Crossing",
-                "The North Platte River was a major obstacle on the trail. At this wider, shallower section, wagons had to be carefully guided across."
+                "The North Platte River was a major obstacle on the trail. At this wider, shallower section, wagons had to be carefully guided across.",
+                RiverHydrology.NORTH_PLATTE
             ));
             
-            pendingRiverCrossings.add(new RiverCrossing(
+            enqueueCrossing(new RiverCrossing(
                 fortLaramieDistance + (segmentDistance / 2),
                 "Sweetwater River Crossing",
-                "The Sweetwater River had to be crossed multiple times along the trail. Its swift currents could be dangerous during high water."
+                "The Sweetwater River had to be crossed multiple times along the trail. Its swift currents could be dangerous during high water.",
+                RiverHydrology.SWEETWATER
             ));
             
-            pendingRiverCrossings.add(new RiverCrossing(
+            enqueueCrossing(new RiverCrossing(
                 fortLaramieDistance + (3 * segmentDistance / 4),
                 "Deer Creek Crossing",
-                "Deer Creek was a critical water source and crossing point. Many emigrants stopped here to rest before the final push to Independence Rock."
+                "Deer Creek was a critical water source and crossing point. Many emigrants stopped here to rest before the final push to Independence Rock.",
+                RiverHydrology.DEER_CREEK
             ));
         }
     }
@@ -212,7 +356,9 @@ public class Map {
      * @return The name of the trail (Oregon Trail, California Trail, or Mormon Trail)
      */
     public String getTrailName() {
-        if (this.trailChoice == 1) {
+        if (this.trailChoice == ENDLESS_TRAIL) {
+            return "Endless Trail";
+        } else if (this.trailChoice == 1) {
             return "Oregon Trail";
         } else if (this.trailChoice == 2) {
             return "California Trail";
@@ -232,7 +378,304 @@ public class Map {
      * @return The name of the starting landmark
      */
     public String getStartingLocation() {
-        return landmarks.isEmpty() ? "Unknown" : landmarks.get(0).getName();
+        return startingLocation;
+    }
+
+    /**
+     * Builds the route graph of a historical trail.
+     * Every landmark becomes a node joined to the next by the main line, and
+     * the historical cutoffs are added as alternative routes that rejoin the
+     * main line further on. Elevations (in feet) and terrain types are listed
+     * in the same order as the landmarks in initializeLandmarks; each terrain
+     * type describes the country between that landmark and the next.
+     * Landmarks listed out of trail order are left off the main line.
+     */
+    private void initializeRouteGraph() {
+        int[] elevations;
+        TerrainType[] types;
+        if (trailChoice == 3) {
+            elevations = new int[] {550, 900, 1050, 1150, 1000, 1600, 2150, 3400, 4050, 4000, 4400, 4230, 4350, 4300, 5150, 5950};
+            types = new TerrainType[] {
+                    TerrainType.PLAINS, TerrainType.PLAINS, TerrainType.PLAINS, TerrainType.PLAINS,
+                    TerrainType.RIVER_VALLEY, TerrainType.RIVER_VALLEY, TerrainType.RIVER_VALLEY, TerrainType.SANDHILLS,
+                    TerrainType.BLUFFS, TerrainType.BLUFFS, TerrainType.RIVER_VALLEY, TerrainType.BLUFFS,
+                    TerrainType.BLUFFS, TerrainType.MOUNTAINS, TerrainType.DESERT, TerrainType.DESERT
+            };
+        } else {
+            elevations = new int[] {750, 900, 1150, 2150, 3400, 4050, 4000, 4400, 4230, 4350, 4300, 5150, 5950};
+            types = new TerrainType[] {
+                    TerrainType.PLAINS, TerrainType.PLAINS, TerrainType.PLAINS, TerrainType.RIVER_VALLEY,
+                    TerrainType.SANDHILLS, TerrainType.BLUFFS, TerrainType.BLUFFS, TerrainType.RIVER_VALLEY,
+                    TerrainType.BLUFFS, TerrainType.BLUFFS, TerrainType.MOUNTAINS, TerrainType.DESERT,
+                    TerrainType.DESERT
+            };
+        }
+
+        routeGraph = new RouteGraph();
+        int count = Math.min(landmarks.size(), elevations.length);
+        int previous = -1;
+        int previousNode = -1;
+        for (int i = 0; i < count; i++) {
+            if (previous >= 0 && landmarks.get(i).getDistance() <= landmarks.get(previous).getDistance()) {
+                continue;
+            }
+            int node = routeGraph.addNode(landmarks.get(i), elevations[i]);
+            if (previousNode >= 0) {
+                // Fords on the way to a crossing landmark carry their own risk
+                double risk = landmarks.get(i).getName().contains("Crossing") ? RIVER_ROUTE_RISK : 0.0;
+                routeGraph.addEdge(previousNode, node,
+                        landmarks.get(i).getDistance() - landmarks.get(previous).getDistance(), types[previous], risk, true);
+            }
+            previous = i;
+            previousNode = node;
+        }
+        routeGraph.setDestination(previousNode);
+
+        // Lower California Crossing: ford the South Platte early and follow
+        // the sandhills to Ash Hollow, shorter but with a dangerous ford
+        addCutoff("Fort Kearny", "Ash Hollow",
+                new Landmark("Lower California Crossing", 0, 930, 490, 930, 525,
+                        "A ford of the South Platte used by emigrants cutting north toward Ash Hollow. Shorter than following the river, but the crossing was wide and treacherous."),
+                2750, 120, TerrainType.RIVER_VALLEY, RIVER_ROUTE_RISK, 65, TerrainType.SANDHILLS);
+
+        // Robidoux Pass: the older road around Scotts Bluff, longer than
+        // Mitchell Pass but with an easier grade and a trading post with a spring
+        addCutoff("Chimney Rock", "Fort Laramie",
+                new Landmark("Robidoux Pass Trading Post", 0, 620, 440, 610, 475,
+                        "Joseph Robidoux's trading post and blacksmith shop in the pass south of Scotts Bluff, fed by a cold spring. The road was longer but gentler than Mitchell Pass."),
+                4250, 35, TerrainType.BLUFFS, 0.0, 63, TerrainType.RIVER_VALLEY);
+
+        routePlanner = new RoutePlanner(routeGraph);
+    }
+
+    /**
+     * Adds a cutoff that leaves the main line at one landmark, passes a new
+     * waypoint and rejoins the main line at another. The cutoff is skipped
+     * when either landmark is not on this trail.
+     */
+    private void addCutoff(String fromName, String toName, Landmark waypoint, int waypointElevation,
+                           int firstLeg, TerrainType firstTerrain, double firstRisk,
+                           int secondLeg, TerrainType secondTerrain) {
+        int from = routeGraph.findNode(fromName);
+        int to = routeGraph.findNode(toName);
+        if (from < 0 || to < 0) {
+            return;
+        }
+        int node = routeGraph.addNode(waypoint, waypointElevation);
+        routeGraph.addEdge(from, node, firstLeg, firstTerrain, firstRisk, false);
+        routeGraph.addEdge(node, to, secondLeg, secondTerrain, 0.0, false);
+    }
+
+    /**
+     * Builds the per-mile terrain profile of the route currently being followed
+     * from the terrain and elevations of the route graph's edges.
+     */
+    private void buildTerrain() {
+        if (landmarks.isEmpty()) {
+            terrainProfile = new TerrainProfile(0, 1);
+            terrainProfile.finish();
+            return;
+        }
+
+        int length = landmarks.get(landmarks.size() - 1).getDistance() + 1;
+        terrainProfile = new TerrainProfile(0, length);
+
+        int previous = 0;
+        for (int i = 1; i < landmarks.size(); i++) {
+            Landmark from = landmarks.get(previous);
+            Landmark to = landmarks.get(i);
+            if (to.getDistance() <= from.getDistance()) {
+                continue;
+            }
+            int fromNode = routeGraph.findNode(from.getName());
+            int toNode = routeGraph.findNode(to.getName());
+            int edge = fromNode >= 0 && toNode >= 0 ? routeGraph.findEdge(fromNode, toNode) : -1;
+            if (edge >= 0) {
+                terrainProfile.fillSpan(from.getDistance(), to.getDistance(),
+                        routeGraph.getNodeElevation(fromNode), routeGraph.getNodeElevation(toNode), routeGraph.getEdgeTerrain(edge));
+            }
+            previous = i;
+        }
+        terrainProfile.finish();
+    }
+
+    /**
+     * Gets the route graph of the trail.
+     * @return The route graph, or null on the endless trail
+     */
+    public RouteGraph getRouteGraph() {
+        return routeGraph;
+    }
+
+    /**
+     * Gets the planner for the trail's route graph.
+     * @return The route planner, or null on the endless trail
+     */
+    public RoutePlanner getRoutePlanner() {
+        return routePlanner;
+    }
+
+    /**
+     * Gets the route graph node of the landmark the party last reached.
+     * @return The node id, or -1 if the landmark is not in the graph
+     */
+    public int getCurrentRouteNode() {
+        if (routeGraph == null || landmarks.isEmpty()) {
+            return -1;
+        }
+        return routeGraph.findNode(landmarks.get(currentLandmarkIndex).getName());
+    }
+
+    /**
+     * Gets the routes the party can choose between at the current landmark.
+     * @return The edge ids of the choices, empty if there is no fork here
+     */
+    public int[] getRouteOptions() {
+        int node = getCurrentRouteNode();
+        if (node < 0) {
+            return new int[0];
+        }
+        int[] options = routeGraph.getOutgoingEdges(node);
+        return options.length > 1 ? options : new int[0];
+    }
+
+    /**
+     * Follows a route out of the current landmark.
+     * The landmarks ahead are replaced by the chosen route and the main line
+     * beyond it, with distances recomputed. River crossings past the point
+     * where the route rejoins the old path move by the difference in length;
+     * crossings on a stretch the route bypasses are dropped.
+     *
+     * @param edge The edge to follow, one of getRouteOptions
+     */
+    public void takeRoute(int edge) {
+        int node = getCurrentRouteNode();
+        if (node < 0 || routeGraph.getEdgeFrom(edge) != node) {
+            System.err.println("Cannot take route " + edge + " from " + getCurrentLocation());
+            return;
+        }
+
+        int baseMile = landmarks.get(currentLandmarkIndex).getDistance();
+        ArrayList<Landmark> ahead = new ArrayList<>();
+        int mile = baseMile;
+        for (int e = edge; e >= 0; e = routeGraph.getMainLineEdge(routeGraph.getEdgeTo(e))) {
+            mile += routeGraph.getEdgeDistance(e);
+            Landmark source = routeGraph.getNodeLandmark(routeGraph.getEdgeTo(e));
+            ahead.add(new Landmark(source.getName(), mile, source.getImageX(), source.getImageY(),
+                    source.getLabelX(), source.getLabelY(), source.getDescription()));
+        }
+
+        // Find where the new route rejoins the old one
+        int oldRejoinMile = -1;
+        int delta = 0;
+        for (Landmark landmark : ahead) {
+            for (int i = currentLandmarkIndex + 1; i < landmarks.size() && oldRejoinMile < 0; i++) {
+                if (landmarks.get(i).getName().equals(landmark.getName())) {
+                    oldRejoinMile = landmarks.get(i).getDistance();
+                    delta = landmark.getDistance() - oldRejoinMile;
+                }
+            }
+            if (oldRejoinMile >= 0) {
+                break;
+            }
+        }
+
+        // The shift is the same for every crossing past the rejoin, so the queue stays in order
+        ArrayDeque<RiverCrossing> shifted = new ArrayDeque<>();
+        for (RiverCrossing crossing : pendingRiverCrossings) {
+            if (crossing.distance <= baseMile) {
+                shifted.addLast(crossing);
+            } else if (oldRejoinMile >= 0 && crossing.distance >= oldRejoinMile) {
+                shifted.addLast(new RiverCrossing(crossing.distance + delta, crossing.name, crossing.description,
+                        crossing.riverProfile));
+            }
+        }
+        pendingRiverCrossings.clear();
+        pendingRiverCrossings.addAll(shifted);
+
+        landmarks.subList(currentLandmarkIndex + 1, landmarks.size()).clear();
+        landmarks.addAll(ahead);
+        buildTerrain();
+
+        for (Landmark landmark : landmarks) {
+            if (landmark.getName().contains("Fort Laramie")) {
+                crossingGateMile = landmark.getDistance();
+            }
+        }
+        updateCrossingThreshold();
+    }
+
+    /**
+     * Gets the terrain profile covering the given mile.
+     * On the endless trail this is the profile of the segment held in the
+     * window for that mile, clamped to the oldest or newest segment.
+     */
+    private TerrainProfile profileAt(int mile) {
+        if (!isEndless()) {
+            return terrainProfile;
+        }
+        int i = mile / TrailGenerator.SEGMENT_LENGTH - firstSegmentIndex;
+        return segmentProfiles.get(Math.max(0, Math.min(segmentProfiles.size() - 1, i)));
+    }
+
+    /**
+     * Gets the terrain type at the party's current position.
+     * @return The current terrain type
+     */
+    public TerrainType getTerrainType() {
+        return profileAt(distanceTraveled).getTerrainType(distanceTraveled);
+    }
+
+    /**
+     * Gets the terrain type at any mile of the trail.
+     * On the endless trail, miles outside the generated window take the
+     * terrain of the nearest segment.
+     *
+     * @param mile The mile
+     * @return The terrain type
+     */
+    public TerrainType getTerrainTypeAt(int mile) {
+        return profileAt(mile).getTerrainType(mile);
+    }
+
+    /**
+     * Gets the elevation at the party's current position.
+     * @return The elevation in feet
+     */
+    public int getElevation() {
+        return profileAt(distanceTraveled).getElevation(distanceTraveled);
+    }
+
+    /**
+     * Gets the grade at the party's current position.
+     * @return The grade in tenths of a percent, positive when climbing
+     */
+    public int getGrade() {
+        return profileAt(distanceTraveled).getGrade(distanceTraveled);
+    }
+
+    /**
+     * Gets the factor terrain and grade apply to travel speed at the current position.
+     * @return The speed factor (1.0 is unaffected)
+     */
+    public double getTerrainSpeedFactor() {
+        return profileAt(distanceTraveled).getSpeedFactor(distanceTraveled);
+    }
+
+    /**
+     * Gets the factor terrain and grade apply to oxen fatigue at the current position.
+     * @return The fatigue factor (1.0 is unaffected)
+     */
+    public double getTerrainFatigueFactor() {
+        return profileAt(distanceTraveled).getFatigueFactor(distanceTraveled);
+    }
+
+    /**
+     * Gets the factor terrain and grade apply to wagon part wear at the current position.
+     * @return The wear factor (1.0 is unaffected)
+     */
+    public double getTerrainWearFactor() {
+        return profileAt(distanceTraveled).getWearFactor(distanceTraveled);
     }
 
     /**
@@ -276,9 +719,23 @@ public class Map {
      * @return The name of the destination landmark
      */
     public String getDestination() {
+        if (isEndless()) {
+            return "End of the Endless Trail";
+        }
         return landmarks.isEmpty() ? "Unknown" : landmarks.get(landmarks.size() - 1).getName();
     }
 
+    /**
+     * Gets the length of the trail, to its last landmark.
+     * @return The length in miles, or Integer.MAX_VALUE on the endless trail
+     */
+    public int getTrailLength() {
+        if (isEndless() || landmarks.isEmpty()) {
+            return Integer.MAX_VALUE;
+        }
+        return landmarks.get(landmarks.size() - 1).getDistance();
+    }
+
     /**
      * Gets the total distance traveled on the trail.
      * Returns the cumulative distance covered since
@@ -290,67 +747,82 @@ public class Map {
         return distanceTraveled;
     }
 
+    /**
+     * Adds a crossing to the pending queue, keeping it ordered by distance.
+     * Crossings are almost always added in trail order, so this is normally
+     * a single append.
+     *
+     * @param crossing The crossing to add
+     */
+    private void enqueueCrossing(RiverCrossing crossing) {
+        if (pendingRiverCrossings.isEmpty() || pendingRiverCrossings.peekLast().distance <= crossing.distance) {
+            pendingRiverCrossings.addLast(crossing);
+        } else {
+            ArrayList<RiverCrossing> sorted = new ArrayList<>(pendingRiverCrossings);
+            sorted.add(crossing);
+            sorted.sort((a, b) -> Integer.compare(a.distance, b.distance));
+            pendingRiverCrossings.clear();
+            pendingRiverCrossings.addAll(sorted);
+        }
+        updateCrossingThreshold();
+    }
+
+    /**
+     * Recomputes the distance at which the next pending crossing triggers.
+     */
+    private void updateCrossingThreshold() {
+        RiverCrossing next = pendingRiverCrossings.peekFirst();
+        nextCrossingThreshold = next == null ? Integer.MAX_VALUE : Math.max(next.distance, crossingGateMile);
+    }
+
     /**
      * Updates the distance traveled and checks for river crossings.
      * Handles:
      * - Distance accumulation
      * - River crossing detection
      * - Progress validation
+     *
+     * Every crossing passed in this step is returned in trail order and
+     * queued to be handled, so a single long step can pass several. When no
+     * crossing is passed this costs a single comparison.
      * 
      * @param milesTraveled The distance covered in the current step
+     * @return The crossings passed in this step, empty if none
      */
-    public void travel(int milesTraveled) {
-        if (milesTraveled <= 0) return; // No travel occurred
+    public List<RiverCrossing> travel(int milesTraveled) {
+        if (milesTraveled <= 0) return Collections.emptyList(); // No travel occurred
 
-        int previousDistance = this.distanceTraveled;
         this.distanceTraveled += milesTraveled;
 
-        // Check for river crossings at specific distances
-        checkForSpecificRiverCrossing(previousDistance, this.distanceTraveled);
-    }
-    
-    /**
-     * Checks if the player has crossed a designated river crossing point.
-     * Compares previous and current distances to determine
-     * if a river crossing has been reached.
-     * 
-     * @param previousDistance Distance before travel
-     * @param currentDistance Distance after travel
-     */
-    private void checkForSpecificRiverCrossing(int previousDistance, int currentDistance) {
-        // If Fort Laramie hasn't been reached yet, don't trigger river crossings
-        boolean passedFortLaramie = false;
-        for (int i = 0; i <= currentLandmarkIndex; i++) {
-            if (landmarks.get(i).getName().contains("Fort Laramie")) {
-                passedFortLaramie = true;
-                break;
-            }
-        }
-        
-        if (!passedFortLaramie) {
-            return; // Don't trigger river crossings before Fort Laramie
+        // Segments are generated before crossings are checked and released
+        // after, so a step spanning several segments still passes every crossing
+        if (isEndless()) {
+            generateSegments();
         }
-        
-        // Check if we've passed any pending river crossing points
-        for (int i = 0; i < pendingRiverCrossings.size(); i++) {
-            RiverCrossing crossing = pendingRiverCrossings.get(i);
-            
-            // If we've crossed this river point during this travel session
-            if (previousDistance < crossing.distance && currentDistance >= crossing.distance) {
-                riverCrossingPending = true;
-                currentRiverCrossing = crossing;
-                pendingRiverCrossings.remove(i); // Remove this crossing point
-                break; // Only trigger one crossing at a time
+
+        List<RiverCrossing> passed = Collections.emptyList();
+        // Crossings only trigger once the party reaches Fort Laramie
+        if (this.distanceTraveled >= nextCrossingThreshold) {
+            passed = new ArrayList<>();
+            while (!pendingRiverCrossings.isEmpty() && pendingRiverCrossings.peekFirst().distance <= this.distanceTraveled) {
+                passed.add(pendingRiverCrossings.pollFirst());
             }
+            triggeredRiverCrossings.addAll(passed);
+            updateCrossingThreshold();
         }
+
+        if (isEndless()) {
+            releaseSegments();
+        }
+        return passed;
     }
 
     /**
      * Checks if a river crossing event has been triggered.
-     * @return true if a river crossing needs to be handled
+     * @return true if at least one river crossing needs to be handled
      */
     public boolean checkForRiverCrossing() {
-        return this.riverCrossingPending;
+        return !triggeredRiverCrossings.isEmpty();
     }
     
     /**
@@ -358,7 +830,8 @@ public class Map {
      * @return The name of the current river crossing, or "River Crossing" if none
      */
     public String getCurrentRiverCrossingName() {
-        return currentRiverCrossing != null ? currentRiverCrossing.name : "River Crossing";
+        RiverCrossing current = triggeredRiverCrossings.peekFirst();
+        return current != null ? current.name : "River Crossing";
     }
     
     /**
@@ -366,15 +839,25 @@ public class Map {
      * @return The historical description of the current river crossing
      */
     public String getCurrentRiverCrossingDescription() {
-        return currentRiverCrossing != null ? currentRiverCrossing.description : "";
+        RiverCrossing current = triggeredRiverCrossings.peekFirst();
+        return current != null ? current.description : "";
     }
 
     /**
-     * Resets the river crossing flag after it has been handled.
+     * Gets the river profile of the current river crossing.
+     * @return The RiverHydrology profile, a prairie stream if there is no current crossing
+     */
+    public int getCurrentRiverCrossingProfile() {
+        RiverCrossing current = triggeredRiverCrossings.peekFirst();
+        return current != null ? current.riverProfile : RiverHydrology.PRAIRIE_STREAM;
+    }
+
+    /**
+     * Marks the current river crossing as handled.
+     * The next crossing passed on the same step, if any, becomes current.
      */
     public void resetRiverCrossing() {
-        this.riverCrossingPending = false;
-        this.currentRiverCrossing = null;
+        triggeredRiverCrossings.pollFirst();
     }
 
     /**
@@ -399,6 +882,9 @@ public class Map {
             // Optional: Reset river crossing flag when reaching a landmark?
             // resetRiverCrossing();
         }
+        if (isEndless()) {
+            streamSegments();
+        }
     }
 
     /**
@@ -406,6 +892,10 @@ public class Map {
      * @return true if the player has reached the destination
      */
     public boolean hasReachedDestination() {
+        // The endless trail has no destination
+        if (isEndless()) {
+            return false;
+        }
         // Check if distance traveled meets or exceeds the final landmark's distance
         if (!landmarks.isEmpty()) {
             int finalDistance = landmarks.get(landmarks.size() - 1).getDistance();
@@ -419,6 +909,7 @@ public class Map {
 
     /**
      * Gets the list of all landmarks on the trail.
+     * On the endless trail this is only the window of segments currently held.
      * @return ArrayList of Landmark objects
      */
     public ArrayList<Landmark> getLandmarks() {
@@ -26,44 +26,43 @@ public class Market {
 
     private final Inventory inventory;
 
-    // Price constants
-    private static final int OXEN_PRICE = 40;
-    private static final int FOOD_PRICE = 1;
-    private static final int WHEEL_PRICE = 20;
-    private static final int AXLE_PRICE = 20;
-    private static final int TONGUE_PRICE = 15;
-    private static final int WAGON_BOW_PRICE = 10;
-    private static final int MEDICINE_PRICE = 15;
-    private static final int AMMUNITION_PRICE = 10;
-
-    // Weight constants
-    private static final int MEDICINE_WEIGHT = 5;
-    private static final int AMMO_WEIGHT = 3;
-    private static final int WHEEL_WEIGHT = 50;
-    private static final int AXLE_WEIGHT = 40;
-    private static final int TONGUE_WEIGHT = 30;
-    private static final int WAGON_BOW_WEIGHT = 10;
-
-    // Available food types for purchase
-    private static final String[] FOOD_TYPES = {
-            "Flour", "Bacon", "Dried Beans", "Rice", "Coffee", "Sugar", "Dried Fruit", "Hardtack"
-    };
-    
-    // Weight per unit of each food type in pounds
-    private static final int[] FOOD_WEIGHTS = {
-            25, 15, 10, 5, 2, 5, 2, 20
+    // Prices and carries out the purchases, at the jumping-off town's prices
+    private final TradeEngine engine;
+
+    // Commodity sold on each row of the store, null for the wagon parts row
+    private static final Commodity[] ROW_ITEMS = {
+        Commodity.FOOD, Commodity.OXEN, null, Commodity.MEDICINE, Commodity.AMMUNITION
     };
 
-    // Spoilage rate for each food type (0.0 to 1.0)
-    private static final double[] FOOD_SPOILRATE = {
-            .05, .15, .02, .03, .005, .04, .1, .01
+    // Wagon parts offered on the wagon parts row
+    private static final Commodity[] PARTS = {
+        Commodity.WHEEL, Commodity.AXLE, Commodity.TONGUE, Commodity.WAGON_BOW
     };
 
+    // Quantities entered on each row and the totals they come to
+    private final MarketCart cart = new MarketCart(ROW_ITEMS.length);
+
+    // Rows edited since the totals were last brought up to date, and the pause in
+    // typing after which they are, so a burst of keystrokes is totaled once
+    private final boolean[] dirtyRows = new boolean[ROW_ITEMS.length];
+    private static final int REFRESH_DELAY_MS = 150;
+    private Timer refreshTimer;
+
+    // Cost last shown on each row and the last cart summary shown, so only labels whose values changed are redrawn
+    private final long[] shownCost = new long[ROW_ITEMS.length];
+    private String shownCartTotal = "";
+
+    // Item registry ids of the food types for purchase
+    private static final int[] FOOD_IDS = ItemRegistry.getFoodIds();
+
     // Label displaying available funds
     private JLabel moneyLabel;
 
     // Label displaying current and maximum weight capacity
     private JLabel weightCapacityLabel;
+
+    // Label for the cost and weight of the quantities entered
+    private JLabel cartTotalLabel;
     
     // Text fields for entering purchase quantities
     private JTextField[] quantityFields;
@@ -90,10 +89,16 @@ public class Market {
      * 
      * @param player The player who will be making purchases (must not be null)
      * @param inventory The inventory to be updated with purchases (must not be null)
+     * @param parameters The simulation parameters that set the prices
+     * @param ledger The record of the journey's trades
      */
-    public Market(Player player, Inventory inventory) {
+    public Market(Player player, Inventory inventory, SimulationParameters parameters, TransactionLedger ledger) {
         this.player = player;
         this.inventory = inventory;
+        this.engine = new TradeEngine(player, inventory, parameters, null, ledger);
+        for (int row = 0; row < ROW_ITEMS.length; row++) {
+            cart.setUnit(row, getItemPrice(row), getRowWeight(row));
+        }
     }
 
     /**
@@ -129,9 +134,11 @@ public class Market {
      * @return A JPanel containing the complete market interface
      */
     public JPanel createMarketPanel() {
-        quantityFields = new JTextField[5];
-        totalCostLabels = new JLabel[5];
-        currentInventoryLabels = new JLabel[5];
+        quantityFields = new JTextField[ROW_ITEMS.length];
+        totalCostLabels = new JLabel[ROW_ITEMS.length];
+        currentInventoryLabels = new JLabel[ROW_ITEMS.length];
+        refreshTimer = new Timer(REFRESH_DELAY_MS, e -> refreshTotals());
+        refreshTimer.setRepeats(false);
 
         JPanel mainPanel = new JPanel(new BorderLayout(10, 10));
         mainPanel.setBackground(BACKGROUND_COLOR);
@@ -193,6 +200,12 @@ public class Market {
         weightCapacityLabel.setFont(FontManager.getBoldWesternFont(16));
         weightCapacityLabel.setForeground(TEXT_COLOR);
         infoPanel.add(weightCapacityLabel);
+
+        cartTotalLabel = new JLabel("", SwingConstants.CENTER);
+        cartTotalLabel.setFont(FontManager.getBoldWesternFont(16));
+        cartTotalLabel.setForeground(TEXT_COLOR);
+        infoPanel.add(cartTotalLabel);
+        renderCartTotal();
         
         shoppingPanel.add(infoPanel, gbc);
 
@@ -228,12 +241,18 @@ public class Market {
         };
 
         // Modified price display to show range for wagon parts
+        int lowestPartPrice = Integer.MAX_VALUE;
+        int highestPartPrice = 0;
+        for (Commodity part : PARTS) {
+            lowestPartPrice = Math.min(lowestPartPrice, engine.getBuyPrice(part, -1));
+            highestPartPrice = Math.max(highestPartPrice, engine.getBuyPrice(part, -1));
+        }
         String[] priceDisplay = {
-                "$" + FOOD_PRICE,
-                "$" + OXEN_PRICE,
-                "$10-$20",  // Price range for wagon parts
-                "$" + MEDICINE_PRICE,
-                "$" + AMMUNITION_PRICE
+                "$" + engine.getBuyPrice(Commodity.FOOD, -1),
+                "$" + engine.getBuyPrice(Commodity.OXEN, -1),
+                "$" + lowestPartPrice + "-$" + highestPartPrice,  // Price range for wagon parts
+                "$" + engine.getBuyPrice(Commodity.MEDICINE, -1),
+                "$" + engine.getBuyPrice(Commodity.AMMUNITION, -1)
         };
 
         for (int i = 0; i < items.length; i++) {
@@ -253,21 +272,24 @@ public class Market {
             quantityFields[i].setHorizontalAlignment(SwingConstants.CENTER);
 
             final int itemIndex = i;
-            quantityFields[i].addActionListener(e -> updateTotalCost(itemIndex));
+            quantityFields[i].addActionListener(e -> {
+                markDirty(itemIndex);
+                refreshTotals();
+            });
             quantityFields[i].getDocument().addDocumentListener(new DocumentListener() {
                 @Override
                 public void insertUpdate(DocumentEvent e) {
-                    updateTotalCost(itemIndex);
+                    markDirty(itemIndex);
                 }
 
                 @Override
                 public void removeUpdate(DocumentEvent e) {
-                    updateTotalCost(itemIndex);
+                    markDirty(itemIndex);
                 }
 
                 @Override
                 public void changedUpdate(DocumentEvent e) {
-                    updateTotalCost(itemIndex);
+                    markDirty(itemIndex);
                 }
             });
 
@@ -323,23 +345,75 @@ public class Market {
         buttonPanel.add(finishButton);
         mainPanel.add(buttonPanel, BorderLayout.SOUTH);
 
-        updatePricesForJob();
         return mainPanel;
     }
 
     /**
-     * Updates the total cost display for a specific item.
+     * Marks a row as edited and restarts the pause before the totals are brought up to date.
+     * 
+     * @param itemIndex The index of the item edited
+     */
+    private void markDirty(int itemIndex) {
+        dirtyRows[itemIndex] = true;
+        refreshTimer.restart();
+    }
+
+    /**
+     * Brings the cart up to date with the rows edited since the last refresh,
+     * redrawing only the labels whose values changed.
+     */
+    private void refreshTotals() {
+        refreshTimer.stop();
+        for (int row = 0; row < dirtyRows.length; row++) {
+            if (!dirtyRows[row]) {
+                continue;
+            }
+            dirtyRows[row] = false;
+            cart.setQuantity(row, parseQuantity(quantityFields[row].getText()));
+            long cost = cart.getCost(row);
+            if (cost != shownCost[row]) {
+                shownCost[row] = cost;
+                totalCostLabels[row].setText("$" + cost);
+            }
+        }
+        renderCartTotal();
+    }
+
+    /**
+     * Shows the cost and weight of the quantities entered, warning when
+     * they are more than the party can pay for or the wagon can carry.
+     */
+    private void renderCartTotal() {
+        long cost = cart.getTotalCost();
+        long weight = cart.getTotalWeight();
+        boolean overBudget = cost > player.getMoney();
+        boolean overweight = inventory.getCurrentWeight() + weight > inventory.getMaxWeightCapacity();
+
+        String text = "Selected: $" + cost + ", " + weight + " lbs";
+        if (overBudget) {
+            text += " (more than your funds)";
+        } else if (overweight) {
+            text += " (more than the wagon can carry)";
+        }
+        if (text.equals(shownCartTotal)) {
+            return;
+        }
+        shownCartTotal = text;
+        cartTotalLabel.setText(text);
+        cartTotalLabel.setForeground(overBudget || overweight ? new Color(150, 50, 0) : TEXT_COLOR);
+    }
+
+    /**
+     * Reads a quantity field, treating anything but a whole number as none.
      * 
-     * @param itemIndex The index of the item to update
+     * @param text The field's text
+     * @return The quantity
      */
-    private void updateTotalCost(int itemIndex) {
+    private int parseQuantity(String text) {
         try {
-            int quantity = Integer.parseInt(quantityFields[itemIndex].getText());
-            int price = getItemPrice(itemIndex);
-            int total = quantity * price;
-            totalCostLabels[itemIndex].setText("$" + total);
+            return Integer.parseInt(text.trim());
         } catch (NumberFormatException e) {
-            totalCostLabels[itemIndex].setText("$0");
+            return 0;
         }
     }
 
@@ -350,14 +424,31 @@ public class Market {
      * @return The price of the item in dollars
      */
     private int getItemPrice(int index) {
-        switch (index) {
-            case 0: return FOOD_PRICE;        // Food
-            case 1: return OXEN_PRICE;        // Oxen
-            case 2: return (WHEEL_PRICE + AXLE_PRICE + TONGUE_PRICE + WAGON_BOW_PRICE) / 4; // Average wagon part price
-            case 3: return MEDICINE_PRICE;    // Medicine
-            case 4: return AMMUNITION_PRICE;  // Ammunition
-            default: return 0;
+        if (ROW_ITEMS[index] != null) {
+            return engine.getBuyPrice(ROW_ITEMS[index], -1);
+        }
+        int total = 0;
+        for (Commodity part : PARTS) {
+            total += engine.getBuyPrice(part, -1);
         }
+        return total / PARTS.length; // Average wagon part price
+    }
+
+    /**
+     * Gets the weight of one unit of an item based on its index.
+     * 
+     * @param index The index of the item
+     * @return The weight in pounds, the average part's for wagon parts
+     */
+    private int getRowWeight(int index) {
+        if (ROW_ITEMS[index] != null) {
+            return ROW_ITEMS[index].getWeight();
+        }
+        int total = 0;
+        for (Commodity part : PARTS) {
+            total += part.getWeight();
+        }
+        return total / PARTS.length; // Average wagon part weight
     }
 
     /**
@@ -387,43 +478,20 @@ public class Market {
             int quantity = Integer.parseInt(quantityFields[itemIndex].getText());
             if (quantity <= 0) return;
 
-            int price = getItemPrice(itemIndex);
-
-            if (player.getJob() == Job.MERCHANT) {
-                price = (int) Math.round(price * 0.85); // 15% discount for buying
-            }
-
-            int totalCost = quantity * price;
-
-            // For wagon parts, we don't calculate weight here since the dialog will handle it
-            int weight;
-            if (itemIndex == 2) { // Wagon parts
-                // Use an estimated average weight to check capacity, actual weight will be calculated after parts are selected
-                int avgPartWeight = (WHEEL_WEIGHT + AXLE_WEIGHT + TONGUE_WEIGHT + WAGON_BOW_WEIGHT) / 4;
-                weight = quantity * avgPartWeight;
-            } else {
-                weight = calculateItemWeight(itemIndex, quantity);
-            }
-
-            if (totalCost > player.getMoney()) {
-                new WagonPartsPurchaseDialog(
-                    SwingUtilities.getWindowAncestor(moneyLabel),
-                    "You don't have enough money for that purchase!",
-                    "Insufficient Funds"
-                ).setVisible(true);
-                return;
-            }
-
-            // Check if the wagon has enough capacity for this purchase
-            if (!inventory.hasWeightCapacity(weight)) {
-                new WagonPartsPurchaseDialog(
-                    SwingUtilities.getWindowAncestor(moneyLabel),
-                    "Your wagon cannot carry that much additional weight!\n" +
-                    "Current load: " + inventory.getCurrentWeight() + "/" + inventory.getMaxWeightCapacity() + " lbs\n" +
-                    "Additional weight: " + weight + " lbs",
-                    "Wagon Overloaded"
-                ).setVisible(true);
-                return;
+            // Check the purchase before food types are chosen; wagon parts are
+            // checked once the parts are chosen, as their weights differ
+            TradeCart cart = new TradeCart();
+            if (itemIndex != 2) {
+                cart.buy(ROW_ITEMS[itemIndex], quantity, getItemPrice(itemIndex));
+                String problem = engine.validate(cart, -1);
+                if (problem != null) {
+                    new WagonPartsPurchaseDialog(
+                        SwingUtilities.getWindowAncestor(moneyLabel),
+                        problem,
+                        "Purchase Refused"
+                    ).setVisible(true);
+                    return;
+                }
             }
 
             // If buying food, show a dialog to select food types
@@ -432,29 +500,18 @@ public class Market {
                 if (totalFoodPounds <= 0) {
                     return; // User canceled the selection
                 }
-
-                // Only deduct money and add food if the user completed the selection
-                player.spendMoney(totalCost);
-                inventory.addFood(totalFoodPounds);
+                // The food was paid for and added by type in the selection dialog
             }
             // If buying wagon parts, show a dialog to select part types
             else if (itemIndex == 2) { // Wagon parts index is 2
-                boolean partsSelected = showWagonPartsSelectionDialog(quantity, totalCost);
+                boolean partsSelected = showWagonPartsSelectionDialog(quantity);
                 if (!partsSelected) {
                     return; // User canceled the selection
                 }
                 // Money is deducted in the dialog itself when parts are selected
             }
             else {
-                // Deduct money for non-food items
-                player.spendMoney(totalCost);
-
-                // Update inventory based on item type
-                switch (itemIndex) {
-                    case 1: inventory.addOxen(quantity); break;
-                    case 3: inventory.addMedicine(quantity); break;
-                    case 4: inventory.addAmmunition(quantity * 20); break; // 20 rounds per box
-                }
+                engine.apply(cart, -1);
             }
 
             // Update displays
@@ -462,7 +519,8 @@ public class Market {
             weightCapacityLabel.setText("Weight: " + inventory.getCurrentWeight() + "/" + inventory.getMaxWeightCapacity() + " lbs");
             currentInventoryLabels[itemIndex].setText(getCurrentInventory(itemIndex));
             quantityFields[itemIndex].setText("0");
-            totalCostLabels[itemIndex].setText("$0");
+            markDirty(itemIndex);
+            refreshTotals();
 
             // Check if they now have enough supplies
             if (canStartJourney()) {
@@ -478,63 +536,6 @@ public class Market {
         }
     }
 
-    /**
-     * Applies job-specific price adjustments to the base price.
-     * 
-     * @param basePrice The original price before adjustments
-     * @return The adjusted price after applying job bonuses
-     */
-    private int applyJobPriceAdjustment(int basePrice) {
-        // Apply Merchant discount if applicable
-        if (player.getJob() == Job.MERCHANT) {
-            // 5-10% discount for merchants
-            double discount = 0.05 + (Math.random() * 0.05);
-            return (int)(basePrice * (1.0 - discount));
-        }
-        return basePrice;
-    }
-    
-    /**
-     * Updates all displayed prices based on the player's job.
-     */
-    private void updatePricesForJob() {
-        // Apply merchant discount to all displayed prices if applicable
-        if (player.getJob() == Job.MERCHANT) {
-            for (JLabel priceLabel : totalCostLabels) {
-                if (priceLabel != null && priceLabel.getText().startsWith("$")) {
-                    try {
-                        String priceText = priceLabel.getText().substring(1);
-                        int originalPrice = Integer.parseInt(priceText);
-                        int discountedPrice = applyJobPriceAdjustment(originalPrice);
-                        priceLabel.setText("$" + discountedPrice);
-                    } catch (NumberFormatException e) {
-                        // Skip if not a valid number
-                    }
-                }
-            }
-        }
-    }
-
-    /**
-     * Calculates the weight of a specific quantity of an item.
-     * 
-     * @param itemIndex The index of the item
-     * @param quantity The quantity to calculate weight for
-     * @return The total weight in pounds
-     */
-    private int calculateItemWeight(int itemIndex, int quantity) {
-        switch (itemIndex) {
-            case 0: return quantity; // Food - 1 pound per pound
-            case 1: return 0; // Oxen don't count toward weight
-            case 2: // Wagon parts - use average weight for initial estimation
-                int avgWeight = (WHEEL_WEIGHT + AXLE_WEIGHT + TONGUE_WEIGHT + WAGON_BOW_WEIGHT) / 4;
-                return quantity * avgWeight;
-            case 3: return quantity * MEDICINE_WEIGHT; // Medicine
-            case 4: return quantity * AMMO_WEIGHT; // Ammunition boxes
-            default: return 0;
-        }
-    }
-
     /**
      * Shows a dialog for selecting food types and quantities.
      * 
@@ -599,19 +600,19 @@ public class Market {
         quantityHeader.setForeground(HEADER_COLOR);
         foodPanel.add(quantityHeader, gbc);
 
-        JSpinner[] foodSpinners = new JSpinner[FOOD_TYPES.length];
+        JSpinner[] foodSpinners = new JSpinner[FOOD_IDS.length];
 
-        for (int i = 0; i < FOOD_TYPES.length; i++) {
+        for (int i = 0; i < FOOD_IDS.length; i++) {
             gbc.gridy = i + 2;
 
             gbc.gridx = 0;
-            JLabel foodLabel = new JLabel(FOOD_TYPES[i]);
+            JLabel foodLabel = new JLabel(ItemRegistry.getName(FOOD_IDS[i]));
             foodLabel.setFont(FontManager.getWesternFont(14));
             foodLabel.setForeground(TEXT_COLOR);
             foodPanel.add(foodLabel, gbc);
 
             gbc.gridx = 1;
-            JLabel weightLabel = new JLabel(FOOD_WEIGHTS[i] + " lbs");
+            JLabel weightLabel = new JLabel(ItemRegistry.getUnitWeight(FOOD_IDS[i]) + " lbs");
             weightLabel.setFont(FontManager.getWesternFont(14));
             weightLabel.setForeground(TEXT_COLOR);
             foodPanel.add(weightLabel, gbc);
@@ -644,7 +645,7 @@ public class Market {
         statusPanel.add(remainingLabel);
 
         gbc.gridx = 0;
-        gbc.gridy = FOOD_TYPES.length + 2;
+        gbc.gridy = FOOD_IDS.length + 2;
         gbc.gridwidth = 3;
         gbc.fill = GridBagConstraints.HORIZONTAL;
         gbc.insets = new Insets(15, 5, 5, 5);
@@ -664,7 +665,7 @@ public class Market {
                 int totalAllocated = 0;
                 for (int j = 0; j < foodSpinners.length; j++) {
                     int spinnerValue = (int) foodSpinners[j].getValue();
-                    totalAllocated += spinnerValue * FOOD_WEIGHTS[j];
+                    totalAllocated += spinnerValue * ItemRegistry.getUnitWeight(FOOD_IDS[j]);
                 }
                 int remaining = totalPoundsToBuy - totalAllocated;
 
@@ -687,36 +688,36 @@ public class Market {
             int totalAllocated = 0;
             StringBuilder purchaseSummary = new StringBuilder("You purchased:\n");
 
+            int[] lotPounds = new int[foodSpinners.length];
             for (int i = 0; i < foodSpinners.length; i++) {
                 int quantity = (int) foodSpinners[i].getValue();
                 if (quantity > 0) {
-                    int pounds = quantity * FOOD_WEIGHTS[i];
+                    int pounds = quantity * ItemRegistry.getUnitWeight(FOOD_IDS[i]);
+                    lotPounds[i] = pounds;
                     totalAllocated += pounds;
                     purchaseSummary.append("- ")
                             .append(quantity)
                             .append(" units of ")
-                            .append(FOOD_TYPES[i])
+                            .append(ItemRegistry.getName(FOOD_IDS[i]))
                             .append(" (")
                             .append(pounds)
                             .append(" lbs)\n");
-
-                    double spoilRate = FOOD_SPOILRATE[i];
-                    if(player.getJob() == Job.FARMER){
-                         spoilRate *= 3;
-                    }
-                    Item item = new Item(FOOD_TYPES[i], FOOD_WEIGHTS[i], spoilRate);
-                    inventory.addItem(item);
                 }
             }
           
-            int refundPounds = totalPoundsToBuy - totalAllocated;
-            if (refundPounds > 0) {
-                int refundAmount = refundPounds * FOOD_PRICE;
-                player.addMoney(refundAmount);
-                purchaseSummary.append("\nRefund for unused pounds: $").append(refundAmount);
-            }
-
             if (totalAllocated <= totalPoundsToBuy && totalAllocated > 0) {
+                // Each food type comes aboard as its own lot, paid for only as allocated
+                TradeCart cart = new TradeCart();
+                int pricePerPound = engine.getBuyPrice(Commodity.FOOD, -1);
+                for (int i = 0; i < lotPounds.length; i++) {
+                    cart.buyFood(FOOD_IDS[i], lotPounds[i], pricePerPound);
+                }
+                String problem = engine.apply(cart, -1);
+                if (problem != null) {
+                    new FoodPurchaseDialog(foodDialog, problem, "Purchase Refused").setVisible(true);
+                    return;
+                }
+                purchaseSummary.append("\nTotal cost: $").append(cart.getTotalCost());
                 result[0] = totalAllocated;
                 new FoodPurchaseDialog(foodDialog, purchaseSummary.toString(), "Purchase Complete").setVisible(true);
                 foodDialog.dispose();
@@ -748,10 +749,9 @@ public class Market {
      * Shows a dialog for selecting wagon parts.
      * 
      * @param totalPartsToBuy The total number of parts to distribute
-     * @param totalCost The total cost of the parts
      * @return true if the purchase was completed, false if cancelled
      */
-    private boolean showWagonPartsSelectionDialog(int totalPartsToBuy, int totalCost) {
+    private boolean showWagonPartsSelectionDialog(int totalPartsToBuy) {
         Window parentWindow = SwingUtilities.getWindowAncestor(moneyLabel);
         JDialog partsDialog;
 
@@ -816,8 +816,12 @@ public class Market {
         partsPanel.add(quantityHeader, gbc);
 
         String[] partTypes = {"Wheels", "Axles", "Tongues", "Wagon Bows"};
-        int[] partWeights = {WHEEL_WEIGHT, AXLE_WEIGHT, TONGUE_WEIGHT, WAGON_BOW_WEIGHT};
-        int[] partPrices = {WHEEL_PRICE, AXLE_PRICE, TONGUE_PRICE, WAGON_BOW_PRICE};
+        int[] partWeights = new int[PARTS.length];
+        int[] partPrices = new int[PARTS.length];
+        for (int i = 0; i < PARTS.length; i++) {
+            partWeights[i] = PARTS[i].getWeight();
+            partPrices[i] = engine.getBuyPrice(PARTS[i], -1);
+        }
 
         JSpinner[] partSpinners = new JSpinner[partTypes.length];
 
@@ -924,89 +928,37 @@ public class Market {
         confirmButton.addActionListener(e -> {
             int totalAllocated = 0;
             StringBuilder purchaseSummary = new StringBuilder("You purchased:\n");
-            int totalWeight = 0;
-            int actualTotalCost = 0;
-
-            int wheels = (int) partSpinners[0].getValue();
-            int axles = (int) partSpinners[1].getValue();
-            int tongues = (int) partSpinners[2].getValue();
-            int wagonBows = (int) partSpinners[3].getValue();
-
-            if (wheels > 0) {
-                totalAllocated += wheels;
-                int partWeight = wheels * WHEEL_WEIGHT;
-                int partCost = wheels * WHEEL_PRICE;
-                actualTotalCost += partCost;
-                totalWeight += partWeight;
-                purchaseSummary.append("- ")
-                        .append(wheels)
-                        .append(" Wheels (")
-                        .append(partWeight)
-                        .append(" lbs) - $")
-                        .append(partCost)
-                        .append("\n");
-            }
-
-            if (axles > 0) {
-                totalAllocated += axles;
-                int partWeight = axles * AXLE_WEIGHT;
-                int partCost = axles * AXLE_PRICE;
-                actualTotalCost += partCost;
-                totalWeight += partWeight;
-                purchaseSummary.append("- ")
-                        .append(axles)
-                        .append(" Axles (")
-                        .append(partWeight)
-                        .append(" lbs) - $")
-                        .append(partCost)
-                        .append("\n");
-            }
-
-            if (tongues > 0) {
-                totalAllocated += tongues;
-                int partWeight = tongues * TONGUE_WEIGHT;
-                int partCost = tongues * TONGUE_PRICE;
-                actualTotalCost += partCost;
-                totalWeight += partWeight;
-                purchaseSummary.append("- ")
-                        .append(tongues)
-                        .append(" Tongues (")
-                        .append(partWeight)
-                        .append(" lbs) - $")
-                        .append(partCost)
-                        .append("\n");
-            }
+            TradeCart cart = new TradeCart();
 
-            if (wagonBows > 0) {
-                totalAllocated += wagonBows;
-                int partWeight = wagonBows * WAGON_BOW_WEIGHT;
-                int partCost = wagonBows * WAGON_BOW_PRICE;
-                actualTotalCost += partCost;
-                totalWeight += partWeight;
-                purchaseSummary.append("- ")
-                        .append(wagonBows)
-                        .append(" Wagon Bows (")
-                        .append(partWeight)
-                        .append(" lbs) - $")
-                        .append(partCost)
-                        .append("\n");
+            for (int i = 0; i < PARTS.length; i++) {
+                int count = (int) partSpinners[i].getValue();
+                if (count > 0) {
+                    totalAllocated += count;
+                    cart.buy(PARTS[i], count, partPrices[i]);
+                    purchaseSummary.append("- ")
+                            .append(count)
+                            .append(" ")
+                            .append(partTypes[i])
+                            .append(" (")
+                            .append(count * partWeights[i])
+                            .append(" lbs) - $")
+                            .append(count * partPrices[i])
+                            .append("\n");
+                }
             }
 
             if (totalAllocated <= totalPartsToBuy && totalAllocated > 0) {
-                // Deduct money based on actual parts selected
-                player.spendMoney(actualTotalCost);
-
-                // Add the parts to inventory
-                inventory.addWheels(wheels);
-                inventory.addAxles(axles);
-                inventory.addTongues(tongues);
-                inventory.addWagonBows(wagonBows);
+                String problem = engine.apply(cart, -1);
+                if (problem != null) {
+                    new WagonPartsPurchaseDialog(partsDialog, problem, "Purchase Refused").setVisible(true);
+                    return;
+                }
 
                 result[0] = true;
 
                 // Display purchase summary
-                purchaseSummary.append("\nTotal cost: $").append(actualTotalCost);
-                purchaseSummary.append("\nTotal weight: ").append(totalWeight).append(" lbs");
+                purchaseSummary.append("\nTotal cost: $").append(cart.getTotalCost());
+                purchaseSummary.append("\nTotal weight: ").append(cart.getTotalWeight()).append(" lbs");
                 new WagonPartsPurchaseDialog(partsDialog, purchaseSummary.toString(), "Purchase Complete").setVisible(true);
                 partsDialog.dispose();
             }
@@ -1078,7 +1030,7 @@ public class Market {
         public FoodPurchaseDialog(Window owner, String purchaseSummary, String title) {
             super(owner, title, ModalityType.APPLICATION_MODAL);
 
-            this.isWarning = title.contains("Too Much") || title.contains("No Food");
+            this.isWarning = !title.equals("Purchase Complete");
 
             initUI(purchaseSummary);
             setSize(450, 400);
@@ -1158,7 +1110,7 @@ public class Market {
         public WagonPartsPurchaseDialog(Window owner, String purchaseSummary, String title) {
             super(owner, title, ModalityType.APPLICATION_MODAL);
 
-            this.isWarning = title.contains("Warning");
+            this.isWarning = !title.equals("Purchase Complete");
 
             initUI(purchaseSummary);
             setSize(450, 400);
@@ -0,0 +1,86 @@
+/**
+ * MarketCart Class of the Perils Along the Platte Game
+ * Keeps the quantities entered on each row of the market and the totals
+ * they come to, before anything is bought.
+ *
+ * Each row has a unit price and a unit weight worked out once when the
+ * market opens. Changing one row's quantity moves the cost and weight
+ * totals by the difference alone, so the totals stay current without
+ * going back over the other rows.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file MarketCart.java
+ */
+
+public class MarketCart {
+    // Row columns, indexed by row: price and weight of one unit, and the quantity entered
+    private final int[] unitPrice;
+    private final int[] unitWeight;
+    private final int[] quantity;
+
+    // Dollars and pounds the entered quantities come to
+    private long totalCost;
+    private long totalWeight;
+
+    /**
+     * Constructs an empty cart.
+     *
+     * @param rows The number of rows on the market
+     */
+    public MarketCart(int rows) {
+        unitPrice = new int[rows];
+        unitWeight = new int[rows];
+        quantity = new int[rows];
+    }
+
+    /**
+     * Sets the price and weight of one unit on a row, keeping its quantity.
+     *
+     * @param row The row
+     * @param price The price of one unit
+     * @param weight The weight of one unit in pounds
+     */
+    public void setUnit(int row, int price, int weight) {
+        totalCost += (long) quantity[row] * (price - unitPrice[row]);
+        totalWeight += (long) quantity[row] * (weight - unitWeight[row]);
+        unitPrice[row] = price;
+        unitWeight[row] = weight;
+    }
+
+    /**
+     * Sets the quantity entered on a row.
+     *
+     * @param row The row
+     * @param units The units entered, treated as none if negative
+     * @return true if the quantity changed
+     */
+    public boolean setQuantity(int row, int units) {
+        units = Math.max(0, units);
+        int change = units - quantity[row];
+        if (change == 0) {
+            return false;
+        }
+        quantity[row] = units;
+        totalCost += (long) change * unitPrice[row];
+        totalWeight += (long) change * unitWeight[row];
+        return true;
+    }
+
+    public int getQuantity(int row) {
+        return quantity[row];
+    }
+
+    public long getCost(int row) {
+        return (long) quantity[row] * unitPrice[row];
+    }
+
+    public long getTotalCost() {
+        return totalCost;
+    }
+
+    public long getTotalWeight() {
+        return totalWeight;
+    }
+}
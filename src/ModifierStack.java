@@ -0,0 +1,251 @@
+/**
+ * ModifierStack Class of the Perils Along the Platte Game
+ * Collects the modifiers that the player's job, the weather, the terrain, the
+ * party's condition and the items carried place on each game effect.
+ *
+ * Each source adds to or multiplies an effect's base value. The sources are
+ * compiled into one flat array holding the final value of every effect, and
+ * the array is only rebuilt after one of the inputs actually changes, so the
+ * daily game loop just reads a slot for each effect it needs.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file ModifierStack.java
+ */
+
+import java.util.Arrays;
+
+public class ModifierStack {
+    // Define modifier sources
+    public enum Source {
+        JOB,
+        WEATHER,
+        TERRAIN,
+        CONDITION,
+        ITEMS
+    }
+
+    private static final Effect[] EFFECTS = Effect.values();
+    private static final int EFFECT_COUNT = EFFECTS.length;
+
+    // Share of travel speed and of hunt success lost for each ailing party member
+    private static final double AILING_SPEED_LOSS = 0.05;
+    private static final double AILING_HUNT_LOSS = 0.1;
+
+    // Extra healing while resting with medicine on hand
+    private static final double MEDICINE_REST_HEALING = 0.2;
+
+    // Amount added to and factor applied to each effect by each source, indexed [source * EFFECT_COUNT + effect]
+    private final double[] sourceAdd = new double[Source.values().length * EFFECT_COUNT];
+    private final double[] sourceFactor = new double[Source.values().length * EFFECT_COUNT];
+
+    // Compiled value of each effect, indexed by effect
+    private final double[] values = new double[EFFECT_COUNT];
+    private boolean dirty = true;
+
+    // Inputs the sources were last built from, so unchanged inputs are skipped
+    private Job job;
+    private String weatherKey;
+    private double terrainSpeed = Double.NaN;
+    private double terrainFatigue = Double.NaN;
+    private double terrainWear = Double.NaN;
+    private int ailingMembers = -1;
+    private boolean hasMedicine;
+    private boolean itemsSet;
+
+    /**
+     * Constructs an empty ModifierStack where every effect has its base value.
+     */
+    public ModifierStack() {
+        Arrays.fill(sourceFactor, 1.0);
+    }
+
+    /**
+     * Adds an amount to an effect's base value on behalf of a source.
+     *
+     * @param source The source of the modifier
+     * @param effect The effect modified
+     * @param amount The amount to add
+     */
+    public void add(Source source, Effect effect, double amount) {
+        sourceAdd[source.ordinal() * EFFECT_COUNT + effect.ordinal()] += amount;
+        dirty = true;
+    }
+
+    /**
+     * Multiplies an effect's value on behalf of a source.
+     *
+     * @param source The source of the modifier
+     * @param effect The effect modified
+     * @param factor The factor to multiply by
+     */
+    public void multiply(Source source, Effect effect, double factor) {
+        sourceFactor[source.ordinal() * EFFECT_COUNT + effect.ordinal()] *= factor;
+        dirty = true;
+    }
+
+    /**
+     * Removes every modifier a source has placed.
+     *
+     * @param source The source to clear
+     */
+    public void clear(Source source) {
+        int start = source.ordinal() * EFFECT_COUNT;
+        Arrays.fill(sourceAdd, start, start + EFFECT_COUNT, 0.0);
+        Arrays.fill(sourceFactor, start, start + EFFECT_COUNT, 1.0);
+        dirty = true;
+    }
+
+    /**
+     * Gets the value of an effect with every source applied.
+     * Amounts added by all sources are summed onto the base value first, and
+     * the result is then multiplied by every source's factor.
+     *
+     * @param effect The effect
+     * @return The effect's value
+     */
+    public double get(Effect effect) {
+        if (dirty) {
+            compile();
+        }
+        return values[effect.ordinal()];
+    }
+
+    /**
+     * Rebuilds the value of every effect from the sources.
+     */
+    private void compile() {
+        for (int e = 0; e < EFFECT_COUNT; e++) {
+            double add = 0.0;
+            double factor = 1.0;
+            for (int i = e; i < sourceAdd.length; i += EFFECT_COUNT) {
+                add += sourceAdd[i];
+                factor *= sourceFactor[i];
+            }
+            values[e] = (EFFECTS[e].getBaseValue() + add) * factor;
+        }
+        dirty = false;
+    }
+
+    /**
+     * Sets the modifiers from the player's job.
+     *
+     * @param job The player's job
+     */
+    public void setJob(Job job) {
+        if (job == this.job) {
+            return;
+        }
+        this.job = job;
+        clear(Source.JOB);
+        if (job == null) {
+            return;
+        }
+        switch (job) {
+            case FARMER:
+                multiply(Source.JOB, Effect.FOOD_SPOILAGE, 0.75);
+                break;
+            case BLACKSMITH:
+                multiply(Source.JOB, Effect.PART_WEAR, 0.75);
+                add(Source.JOB, Effect.PART_INSPECTION, 1.0);
+                add(Source.JOB, Effect.REPAIR_SKILL, 1.0);
+                break;
+            case CARPENTER:
+                add(Source.JOB, Effect.REST_REPAIR_CHANCE, 0.4);
+                add(Source.JOB, Effect.REPAIR_SKILL, 1.0);
+                break;
+            case MERCHANT:
+                multiply(Source.JOB, Effect.BUY_PRICE, 0.9);
+                multiply(Source.JOB, Effect.SELL_PRICE, 1.1);
+                break;
+            case DOCTOR:
+                multiply(Source.JOB, Effect.REST_HEALING, 1.25);
+                multiply(Source.JOB, Effect.MEDICAL_CARE, 1.25);
+                add(Source.JOB, Effect.HERB_LORE, 1.0);
+                break;
+            case HUNTER:
+                multiply(Source.JOB, Effect.HUNT_SUCCESS, 1.25);
+                multiply(Source.JOB, Effect.HUNT_YIELD, 1.15);
+                break;
+            case TEACHER:
+                add(Source.JOB, Effect.REST_MORALE, 5);
+                break;
+            case PREACHER:
+                add(Source.JOB, Effect.REST_MORALE, 10);
+                multiply(Source.JOB, Effect.MORALE_LOSS, 0.75);
+                break;
+        }
+    }
+
+    /**
+     * Sets the modifiers from the day's weather.
+     *
+     * @param weather The weather
+     */
+    public void setWeather(Weather weather) {
+        String current = weather.getCurrentWeather();
+        if (current.equals(weatherKey)) {
+            return;
+        }
+        weatherKey = current;
+        clear(Source.WEATHER);
+        multiply(Source.WEATHER, Effect.TRAVEL_SPEED, weather.getTravelFactor());
+        multiply(Source.WEATHER, Effect.FOOD_SPOILAGE, weather.getSpoilageFactor());
+        multiply(Source.WEATHER, Effect.OXEN_FATIGUE, weather.getFatigueFactor());
+    }
+
+    /**
+     * Sets the modifiers from the terrain and grade at the party's position.
+     *
+     * @param speedFactor The terrain's travel speed factor
+     * @param fatigueFactor The terrain's oxen fatigue factor
+     * @param wearFactor The terrain's wagon wear factor
+     */
+    public void setTerrain(double speedFactor, double fatigueFactor, double wearFactor) {
+        if (speedFactor == terrainSpeed && fatigueFactor == terrainFatigue && wearFactor == terrainWear) {
+            return;
+        }
+        terrainSpeed = speedFactor;
+        terrainFatigue = fatigueFactor;
+        terrainWear = wearFactor;
+        clear(Source.TERRAIN);
+        multiply(Source.TERRAIN, Effect.TRAVEL_SPEED, speedFactor);
+        multiply(Source.TERRAIN, Effect.OXEN_FATIGUE, fatigueFactor);
+        multiply(Source.TERRAIN, Effect.PART_WEAR, wearFactor);
+    }
+
+    /**
+     * Sets the modifiers from the party's condition.
+     * Each member laid up with an illness or injury rides in the wagon
+     * instead of walking, and is one less pair of hands for hunting.
+     *
+     * @param ailing The number of living members with a condition
+     */
+    public void setPartyCondition(int ailing) {
+        if (ailing == ailingMembers) {
+            return;
+        }
+        ailingMembers = ailing;
+        clear(Source.CONDITION);
+        multiply(Source.CONDITION, Effect.TRAVEL_SPEED, Math.max(0.0, 1.0 - AILING_SPEED_LOSS * ailing));
+        multiply(Source.CONDITION, Effect.HUNT_SUCCESS, Math.max(0.0, 1.0 - AILING_HUNT_LOSS * ailing));
+    }
+
+    /**
+     * Sets the modifiers from the items carried.
+     *
+     * @param medicine The doses of medicine on hand
+     */
+    public void setItems(int medicine) {
+        if (itemsSet && (medicine > 0) == hasMedicine) {
+            return;
+        }
+        itemsSet = true;
+        hasMedicine = medicine > 0;
+        clear(Source.ITEMS);
+        if (hasMedicine) {
+            add(Source.ITEMS, Effect.REST_HEALING, MEDICINE_REST_HEALING);
+        }
+    }
+}
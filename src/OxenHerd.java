@@ -0,0 +1,365 @@
+/**
+ * OxenHerd Class of the Perils Along the Platte Game
+ * Tracks every ox pulling the wagon: its health, fatigue, age and any injury.
+ *
+ * Oxen are worked in yoke pairs, and a pair pulls only as well as its weaker
+ * ox. The herd pairs its fittest oxen each day and keeps any odd or injured
+ * ox out of the yoke to rest; a lone ox is hitched up by itself. Wear shared
+ * by the whole team weakens the oxen but never kills one outright; only
+ * injury and being worked while exhausted do. Oxen are stored in parallel primitive columns,
+ * so each daily update is a single pass over the herd.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file OxenHerd.java
+ */
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class OxenHerd {
+    // Fatigue and health limits of each ox
+    private static final int MAX_FATIGUE = 100;
+    private static final int MAX_HEALTH = 100;
+
+    // Fatigue an ox out of the yoke recovers each day
+    private static final int UNYOKED_RECOVERY = 20;
+
+    // Health lost per day by an ox worked while exhausted
+    private static final int EXHAUSTION_HEALTH_LOSS = 1;
+
+    // Health an injured ox loses per day until the injury heals
+    private static final int INJURY_HEALTH_LOSS = 1;
+
+    // Share of normal speed the wagon makes with 0, 1, 2 and 3 or more yokes
+    private static final double[] YOKE_POWER = {0.0, 0.7, 0.9, 1.0};
+
+    // Share of normal speed a lone ox hitched without a yoke mate makes at full strength, and the least it makes
+    private static final double LONE_OX_POWER = 0.35;
+    private static final double LONE_OX_MIN_POWER = 0.1;
+
+    // Lowest health wear shared by the whole team can bring an ox to
+    private static final int MIN_WORN_HEALTH = 1;
+
+    // Ages in days at which an ox is in its prime and past it
+    private static final int PRIME_AGE = 4 * 365;
+    private static final int OLD_AGE = 10 * 365;
+
+    // Ox columns, indexed by ox; only the first count entries are in use
+    private int count;
+    private int[] health = new int[8];
+    private int[] fatigue = new int[8];
+    private int[] ageDays = new int[8];
+    private int[] injuryDays = new int[8];
+
+    // Yoke pair of each ox, or -1 if the ox is resting out of the yoke
+    private int[] yoke = new int[8];
+    private int yokeCount;
+
+    // Scratch columns reused when pairing: each ox's strength, the oxen
+    // strongest first, and the strength of each yoke pair
+    private double[] strength = new double[8];
+    private int[] order = new int[8];
+    private double[] pairStrength = new double[8];
+
+    private final Random random = new Random();
+
+    /**
+     * Adds oxen to the herd. New oxen arrive healthy, rested, and three to
+     * six years old, as oxen sold at the jumping-off towns usually were.
+     *
+     * @param amount The number of oxen to add
+     */
+    public void add(int amount) {
+        if (amount <= 0) {
+            return;
+        }
+        if (count + amount > health.length) {
+            int size = Math.max(health.length * 2, count + amount);
+            health = Arrays.copyOf(health, size);
+            fatigue = Arrays.copyOf(fatigue, size);
+            ageDays = Arrays.copyOf(ageDays, size);
+            injuryDays = Arrays.copyOf(injuryDays, size);
+            yoke = Arrays.copyOf(yoke, size);
+            strength = Arrays.copyOf(strength, size);
+            order = Arrays.copyOf(order, size);
+            pairStrength = Arrays.copyOf(pairStrength, size);
+        }
+        for (int i = 0; i < amount; i++) {
+            health[count] = MAX_HEALTH;
+            fatigue[count] = 0;
+            ageDays[count] = (3 + random.nextInt(4)) * 365;
+            injuryDays[count] = 0;
+            count++;
+        }
+        assignYokes();
+    }
+
+    /**
+     * Removes an ox from the herd, as when it dies, drowns or is stolen.
+     * The last ox takes its place in the columns.
+     *
+     * @param ox The ox to remove
+     */
+    public void remove(int ox) {
+        if (ox < 0 || ox >= count) {
+            return;
+        }
+        count--;
+        health[ox] = health[count];
+        fatigue[ox] = fatigue[count];
+        ageDays[ox] = ageDays[count];
+        injuryDays[ox] = injuryDays[count];
+        assignYokes();
+    }
+
+    /**
+     * Removes a randomly chosen ox from the herd.
+     * @return true if an ox was lost, false if the herd was empty
+     */
+    public boolean removeRandom() {
+        if (count == 0) {
+            return false;
+        }
+        remove(random.nextInt(count));
+        return true;
+    }
+
+    /**
+     * Gets an ox's share of full pulling strength.
+     * Health, fatigue, age and injury all weaken it.
+     */
+    private double oxStrength(int ox) {
+        double value = health[ox] / (double) MAX_HEALTH * (1.0 - fatigue[ox] / (2.0 * MAX_FATIGUE));
+        if (injuryDays[ox] > 0) {
+            value *= 0.5;
+        }
+        if (ageDays[ox] < PRIME_AGE) {
+            value *= 0.85 + 0.15 * ageDays[ox] / PRIME_AGE;
+        } else if (ageDays[ox] > OLD_AGE) {
+            value *= Math.max(0.5, 1.0 - (ageDays[ox] - OLD_AGE) / (4.0 * 365));
+        }
+        return value;
+    }
+
+    /**
+     * Pairs the oxen into yokes, strongest with strongest.
+     * Injured oxen are kept out of the yoke while sound oxen can take their
+     * place, and an odd ox is left out to rest unless it is the only one,
+     * when it is hitched alone.
+     */
+    public void assignYokes() {
+        // Insertion sort, strongest first; a herd is only a handful of oxen
+        for (int ox = 0; ox < count; ox++) {
+            strength[ox] = oxStrength(ox);
+            // Injured oxen sort after every sound ox
+            if (injuryDays[ox] > 0) {
+                strength[ox] -= 1.0;
+            }
+            yoke[ox] = -1;
+            int i = ox;
+            while (i > 0 && strength[order[i - 1]] < strength[ox]) {
+                order[i] = order[i - 1];
+                i--;
+            }
+            order[i] = ox;
+        }
+        yokeCount = count / 2;
+        for (int i = 0; i < yokeCount * 2; i++) {
+            yoke[order[i]] = i / 2;
+        }
+        if (count == 1) {
+            yoke[order[0]] = 0;
+        }
+    }
+
+    /**
+     * Works the yoked oxen for a day of travel and rests the rest.
+     *
+     * @param fatigueIncrease Fatigue each yoked ox gains today
+     */
+    public void work(int fatigueIncrease) {
+        for (int ox = 0; ox < count; ox++) {
+            if (yoke[ox] >= 0) {
+                fatigue[ox] = Math.min(MAX_FATIGUE, fatigue[ox] + fatigueIncrease);
+            } else {
+                fatigue[ox] = Math.max(0, fatigue[ox] - UNYOKED_RECOVERY);
+            }
+        }
+    }
+
+    /**
+     * Rests the whole herd.
+     *
+     * @param recovery Fatigue each ox recovers
+     */
+    public void rest(int recovery) {
+        for (int ox = 0; ox < count; ox++) {
+            fatigue[ox] = Math.max(0, fatigue[ox] - recovery);
+        }
+    }
+
+    /**
+     * Ages the herd a day and lets injuries and exhaustion take their toll.
+     * Oxen whose health reaches zero die and are removed, and the yokes are
+     * reassigned for the next day.
+     *
+     * @return The number of oxen that died
+     */
+    public int advanceDay() {
+        int died = 0;
+        for (int ox = 0; ox < count; ox++) {
+            ageDays[ox]++;
+            int loss = 0;
+            if (injuryDays[ox] > 0) {
+                injuryDays[ox]--;
+                loss += INJURY_HEALTH_LOSS;
+            }
+            if (fatigue[ox] == MAX_FATIGUE && yoke[ox] >= 0) {
+                loss += EXHAUSTION_HEALTH_LOSS;
+            }
+            health[ox] = Math.max(0, health[ox] - loss);
+        }
+        for (int ox = count - 1; ox >= 0; ox--) {
+            if (health[ox] == 0) {
+                count--;
+                health[ox] = health[count];
+                fatigue[ox] = fatigue[count];
+                ageDays[ox] = ageDays[count];
+                injuryDays[ox] = injuryDays[count];
+                died++;
+            }
+        }
+        assignYokes();
+        return died;
+    }
+
+    /**
+     * Injures a random ox.
+     *
+     * @param damage The health the ox loses at once
+     * @param days The days until the injury heals
+     * @return The injured ox, or -1 if the herd is empty
+     */
+    public int injureRandom(int damage, int days) {
+        if (count == 0) {
+            return -1;
+        }
+        int ox = random.nextInt(count);
+        health[ox] = Math.max(0, health[ox] - damage);
+        injuryDays[ox] = Math.max(injuryDays[ox], days);
+        return ox;
+    }
+
+    /**
+     * Changes the health of every ox, as with wear shared by the whole team.
+     * Shared wear leaves each ox at least MIN_WORN_HEALTH, so it can stall
+     * the team but not kill it; rest brings the oxen back.
+     *
+     * @param amount The health to add, or to take away if negative
+     */
+    public void changeHealth(int amount) {
+        for (int ox = 0; ox < count; ox++) {
+            int floor = Math.min(health[ox], MIN_WORN_HEALTH);
+            health[ox] = Math.max(floor, Math.min(MAX_HEALTH, health[ox] + amount));
+        }
+    }
+
+    /**
+     * Gets how well the herd can pull the wagon, as a share of normal speed.
+     * Each yoke pulls as well as its weaker ox, and more yokes pull better,
+     * up to the three yokes a wagon usually needed.
+     *
+     * @return The pulling power (0 with no oxen, 1.0 for three strong yokes)
+     */
+    public double getPullingPower() {
+        if (yokeCount == 0) {
+            return count == 0 ? 0.0 : Math.max(LONE_OX_MIN_POWER, LONE_OX_POWER * oxStrength(order[0]));
+        }
+        Arrays.fill(pairStrength, 0, yokeCount, Double.MAX_VALUE);
+        for (int ox = 0; ox < count; ox++) {
+            if (yoke[ox] >= 0) {
+                pairStrength[yoke[ox]] = Math.min(pairStrength[yoke[ox]], oxStrength(ox));
+            }
+        }
+        double total = 0;
+        for (int pair = 0; pair < yokeCount; pair++) {
+            total += pairStrength[pair];
+        }
+        return total / yokeCount * YOKE_POWER[Math.min(yokeCount, YOKE_POWER.length - 1)];
+    }
+
+    /**
+     * Gets the average health of the herd.
+     * @return The average health (0-100), 0 with no oxen
+     */
+    public int getAverageHealth() {
+        if (count == 0) {
+            return 0;
+        }
+        int total = 0;
+        for (int ox = 0; ox < count; ox++) {
+            total += health[ox];
+        }
+        return total / count;
+    }
+
+    /**
+     * Gets the average fatigue of the oxen in the yoke.
+     * @return The average fatigue (0-100), 0 with no yoke
+     */
+    public int getAverageFatigue() {
+        int total = 0;
+        int yoked = 0;
+        for (int ox = 0; ox < count; ox++) {
+            if (yoke[ox] >= 0) {
+                total += fatigue[ox];
+                yoked++;
+            }
+        }
+        return yoked == 0 ? 0 : total / yoked;
+    }
+
+    /**
+     * Gets the number of oxen nursing an injury.
+     * @return The injured oxen
+     */
+    public int getInjuredCount() {
+        int injured = 0;
+        for (int ox = 0; ox < count; ox++) {
+            if (injuryDays[ox] > 0) {
+                injured++;
+            }
+        }
+        return injured;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getYokeCount() {
+        return yokeCount;
+    }
+
+    public int getHealth(int ox) {
+        return health[ox];
+    }
+
+    public int getFatigue(int ox) {
+        return fatigue[ox];
+    }
+
+    public int getAgeDays(int ox) {
+        return ageDays[ox];
+    }
+
+    public int getInjuryDays(int ox) {
+        return injuryDays[ox];
+    }
+
+    public int getYoke(int ox) {
+        return yoke[ox];
+    }
+}
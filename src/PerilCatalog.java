@@ -0,0 +1,455 @@
+/**
+ * PerilCatalog Class of the Perils Along the Platte Game
+ * Lists every random event that can happen on the trail, with its category,
+ * how likely it is relative to the others, and who and when it can happen to:
+ * some events need a particular job, some a particular gender, and some only
+ * happen in certain months.
+ *
+ * The catalog is built once and shared by every game. For each combination of
+ * job, gender and month it precomputes an alias table over all events, so
+ * picking the day's event takes one random slot and one coin flip no matter
+ * how many events there are.
+ *
+ * The effects of simple events are written as rules in EffectRules rather
+ * than in Perils. A rule block for a name the catalog does not know adds a
+ * new event, so designers can add events without touching the code.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file PerilCatalog.java
+ */
+
+import java.util.Arrays;
+import java.util.Random;
+
+public final class PerilCatalog {
+    // Event categories
+    public static final int DISEASE = 0;
+    public static final int INJURY = 1;
+    public static final int WAGON = 2;
+    public static final int POSITIVE = 3;
+    public static final int WEATHER = 4;
+    public static final int ANIMAL = 5;
+    public static final int FEMALE = 6;
+    public static final int MALE = 7;
+
+    // Share of all events that falls to each category, before events the
+    // party cannot have are removed
+    private static final double[] CATEGORY_SHARE = {
+        0.85 / 6, 0.85 / 6, 0.85 / 6, 0.85 / 6, 0.85 / 6, 0.85 / 6, 0.15, 0.15
+    };
+
+    // Gender an event is limited to
+    public static final int ANY_GENDER = 0;
+    public static final int FEMALE_ONLY = 1;
+    public static final int MALE_ONLY = 2;
+
+    // Months an event can happen in, one bit per month with January as bit 0
+    private static final int ALL_YEAR = 0xFFF;
+    private static final int SPRING = months(3, 6);
+    private static final int SUMMER = months(6, 8);
+    private static final int WARM_SEASON = months(5, 9);
+    private static final int COLD_SEASON = months(10, 12) | months(1, 4);
+    private static final int WINTER = months(11, 12) | months(1, 3);
+    private static final int BERRY_SEASON = months(6, 9);
+
+    // Event ids
+    public static final int CHOLERA = 0;
+    public static final int TYPHOID = 1;
+    public static final int DYSENTERY = 2;
+    public static final int MEASLES = 3;
+    public static final int FEVER = 4;
+    public static final int EXHAUSTION = 5;
+    public static final int SNAKEBITE_ILLNESS = 6;
+    public static final int MORALE_DEPRECIATION = 7;
+    public static final int BROKEN_ARM = 8;
+    public static final int BROKEN_LEG = 9;
+    public static final int SPRAINED_ANKLE = 10;
+    public static final int DEEP_CUT = 11;
+    public static final int CONCUSSION = 12;
+    public static final int BROKEN_WHEEL = 13;
+    public static final int BROKEN_AXLE = 14;
+    public static final int BROKEN_TONGUE = 15;
+    public static final int TORN_COVER = 16;
+    public static final int OXEN_INJURY = 17;
+    public static final int STUCK_IN_MUD = 18;
+    public static final int LOST_WAGON_SUPPLIES = 19;
+    public static final int OVERTURNED_WAGON = 20;
+    public static final int WILD_BERRIES = 21;
+    public static final int CLEAR_SKIES = 22;
+    public static final int FRIENDLY_NATIVES = 23;
+    public static final int SMALL_GAME = 24;
+    public static final int FOUND_LOST_ITEM = 25;
+    public static final int RESTFUL_NIGHT = 26;
+    public static final int INSPIRING_SERMON = 27;
+    public static final int GOOD_FISHING = 28;
+    public static final int EXPERT_FORAGING = 29;
+    public static final int THUNDERSTORM = 30;
+    public static final int HEAVY_FOG = 31;
+    public static final int HAIL_STORM = 32;
+    public static final int BLIZZARD = 33;
+    public static final int EXTREME_HEAT = 34;
+    public static final int DUST_STORM = 35;
+    public static final int SUDDEN_FREEZE = 36;
+    public static final int FLOODING_RIVER = 37;
+    public static final int SNAKEBITE = 38;
+    public static final int WOLF_PACK = 39;
+    public static final int BISON_STAMPEDE = 40;
+    public static final int BEAR_SIGHTING = 41;
+    public static final int SPOOKED_OXEN = 42;
+    public static final int WILD_HORSES = 43;
+    public static final int PRAIRIE_DOGS = 44;
+    public static final int DIFFICULT_CHILDBIRTH = 45;
+    public static final int WOMENS_COUNCIL = 46;
+    public static final int LOST_SUPPLIES = 47;
+    public static final int UNEXPECTED_KINDNESS = 48;
+    public static final int CAREGIVING_EXHAUSTION = 49;
+    public static final int MENDING_CLOTHES = 50;
+    public static final int GATHERING_HERBS = 51;
+    public static final int HUNTING_ACCIDENT = 52;
+    public static final int SCOUTING_DUTY = 53;
+    public static final int WAGON_REPAIR_DUTY = 54;
+    public static final int TRAVELER_ARGUMENT = 55;
+    public static final int GUARD_DUTY = 56;
+    public static final int RIVER_ASSISTANCE = 57;
+
+    // Number of events defined in code; events added by rules follow them
+    private static final int BUILT_IN_EVENTS = 58;
+
+    // Number of job slots in the alias keys, with the last slot for no job
+    private static final int JOB_SLOTS = Job.values().length + 1;
+
+    // The catalog shared by every game
+    private static final PerilCatalog SHARED = new PerilCatalog();
+
+    // Compiled effect rules
+    private final EffectRules rules;
+
+    // Number of events, built in and added by rules
+    private int eventCount = BUILT_IN_EVENTS;
+
+    // Event columns, indexed by event id
+    private final String[] name;
+    private final byte[] category;
+    private final double[] weight;
+    // Job ordinal the event needs, or -1 for any job
+    private final byte[] requiredJob;
+    private final byte[] requiredGender;
+    private final short[] monthMask;
+    // Rule block giving the event's effects, or -1 if Perils handles it in code
+    private final int[] ruleBlock;
+
+    // Alias tables, one row of eventCount slots per key
+    private final double[] aliasChance;
+    private final int[] aliasEvent;
+
+    /**
+     * Constructs the catalog and precomputes its alias tables.
+     */
+    private PerilCatalog() {
+        rules = EffectRules.load();
+        int capacity = BUILT_IN_EVENTS + rules.getBlockCount();
+        name = new String[capacity];
+        category = new byte[capacity];
+        weight = new double[capacity];
+        requiredJob = new byte[capacity];
+        requiredGender = new byte[capacity];
+        monthMask = new short[capacity];
+        ruleBlock = new int[capacity];
+        Arrays.fill(ruleBlock, -1);
+
+        define(CHOLERA, DISEASE, "cholera", 1.0, null, ANY_GENDER, ALL_YEAR);
+        define(TYPHOID, DISEASE, "typhoid fever", 1.0, null, ANY_GENDER, ALL_YEAR);
+        define(DYSENTERY, DISEASE, "dysentery", 1.0, null, ANY_GENDER, ALL_YEAR);
+        define(MEASLES, DISEASE, "measles", 1.0, null, ANY_GENDER, ALL_YEAR);
+        define(FEVER, DISEASE, "fever", 1.0, null, ANY_GENDER, ALL_YEAR);
+        define(EXHAUSTION, DISEASE, "exhaustion", 1.0, null, ANY_GENDER, ALL_YEAR);
+        define(SNAKEBITE_ILLNESS, DISEASE, "snakebite", 1.0, null, ANY_GENDER, WARM_SEASON);
+        define(MORALE_DEPRECIATION, DISEASE, "morale depreciation", 1.0, null, ANY_GENDER, ALL_YEAR);
+
+        define(BROKEN_ARM, INJURY, "broken arm", 1.0, null, ANY_GENDER, ALL_YEAR);
+        define(BROKEN_LEG, INJURY, "broken leg", 1.0, null, ANY_GENDER, ALL_YEAR);
+        define(SPRAINED_ANKLE, INJURY, "sprained ankle", 1.0, null, ANY_GENDER, ALL_YEAR);
+        define(DEEP_CUT, INJURY, "cut requiring stitches", 1.0, null, ANY_GENDER, ALL_YEAR);
+        define(CONCUSSION, INJURY, "concussion", 1.0, null, ANY_GENDER, ALL_YEAR);
+
+        define(BROKEN_WHEEL, WAGON, "Broken Wheel", 1.0, null, ANY_GENDER, ALL_YEAR);
+        define(BROKEN_AXLE, WAGON, "Broken Axle", 1.0, null, ANY_GENDER, ALL_YEAR);
+        define(BROKEN_TONGUE, WAGON, "Broken Tongue", 1.0, null, ANY_GENDER, ALL_YEAR);
+        define(TORN_COVER, WAGON, "Torn Wagon Cover", 1.0, null, ANY_GENDER, ALL_YEAR);
+        define(OXEN_INJURY, WAGON, "Oxen Injury", 1.0, null, ANY_GENDER, ALL_YEAR);
+        define(STUCK_IN_MUD, WAGON, "Wagon Stuck in Mud", 1.0, null, ANY_GENDER, SPRING);
+        define(LOST_WAGON_SUPPLIES, WAGON, "Lost Supplies from Wagon", 1.0, null, ANY_GENDER, ALL_YEAR);
+        define(OVERTURNED_WAGON, WAGON, "Overturned Wagon", 0.5, null, ANY_GENDER, ALL_YEAR);
+
+        define(WILD_BERRIES, POSITIVE, "Found Wild Berries", 1.0, null, ANY_GENDER, BERRY_SEASON);
+        define(CLEAR_SKIES, POSITIVE, "Clear Skies Ahead", 1.0, null, ANY_GENDER, ALL_YEAR);
+        define(FRIENDLY_NATIVES, POSITIVE, "Met Friendly Natives", 1.0, null, ANY_GENDER, ALL_YEAR);
+        define(SMALL_GAME, POSITIVE, "Successful Hunt (Minor)", 1.0, null, ANY_GENDER, ALL_YEAR);
+        define(FOUND_LOST_ITEM, POSITIVE, "Found Lost Item", 1.0, null, ANY_GENDER, ALL_YEAR);
+        define(RESTFUL_NIGHT, POSITIVE, "Restful Night", 1.0, null, ANY_GENDER, ALL_YEAR);
+        define(INSPIRING_SERMON, POSITIVE, "Inspiring Sermon", 1.0, Job.PREACHER, ANY_GENDER, ALL_YEAR);
+        define(GOOD_FISHING, POSITIVE, "Good Fishing Spot", 1.0, null, ANY_GENDER, WARM_SEASON);
+        define(EXPERT_FORAGING, POSITIVE, "Expert Foraging", 2.0, Job.FARMER, ANY_GENDER, WARM_SEASON);
+
+        define(THUNDERSTORM, WEATHER, "Thunderstorm", 1.0, null, ANY_GENDER, WARM_SEASON);
+        define(HEAVY_FOG, WEATHER, "Heavy Fog", 1.0, null, ANY_GENDER, ALL_YEAR);
+        define(HAIL_STORM, WEATHER, "Hail Storm", 1.0, null, ANY_GENDER, SPRING | SUMMER);
+        define(BLIZZARD, WEATHER, "Blizzard", 1.0, null, ANY_GENDER, WINTER);
+        define(EXTREME_HEAT, WEATHER, "Extreme Heat", 1.0, null, ANY_GENDER, SUMMER);
+        define(DUST_STORM, WEATHER, "Dust Storm", 1.0, null, ANY_GENDER, WARM_SEASON);
+        define(SUDDEN_FREEZE, WEATHER, "Sudden Freeze", 1.0, null, ANY_GENDER, COLD_SEASON);
+        define(FLOODING_RIVER, WEATHER, "Flooding River", 1.0, null, ANY_GENDER, SPRING);
+
+        define(SNAKEBITE, ANIMAL, "Snakebite", 1.0, null, ANY_GENDER, WARM_SEASON);
+        define(WOLF_PACK, ANIMAL, "Wolf Pack Nearby", 1.0, null, ANY_GENDER, ALL_YEAR);
+        define(BISON_STAMPEDE, ANIMAL, "Bison Stampede", 0.5, null, ANY_GENDER, ALL_YEAR);
+        define(BEAR_SIGHTING, ANIMAL, "Bear Sighting", 1.0, null, ANY_GENDER, months(4, 10));
+        define(SPOOKED_OXEN, ANIMAL, "Oxen Spooked by Coyotes", 1.0, null, ANY_GENDER, ALL_YEAR);
+        define(WILD_HORSES, ANIMAL, "Wild Horse Encounter", 1.0, null, ANY_GENDER, ALL_YEAR);
+        define(PRAIRIE_DOGS, ANIMAL, "Prairie Dog Town", 1.0, null, ANY_GENDER, ALL_YEAR);
+
+        define(DIFFICULT_CHILDBIRTH, FEMALE, "Difficult Childbirth", 0.5, null, FEMALE_ONLY, ALL_YEAR);
+        define(WOMENS_COUNCIL, FEMALE, "Women's Council", 1.0, null, FEMALE_ONLY, ALL_YEAR);
+        define(LOST_SUPPLIES, FEMALE, "Lost Supplies", 1.0, null, FEMALE_ONLY, ALL_YEAR);
+        define(UNEXPECTED_KINDNESS, FEMALE, "Unexpected Kindness", 1.0, null, FEMALE_ONLY, ALL_YEAR);
+        define(CAREGIVING_EXHAUSTION, FEMALE, "Exhaustion from Caregiving", 1.0, null, FEMALE_ONLY, ALL_YEAR);
+        define(MENDING_CLOTHES, FEMALE, "Mending Clothes", 1.0, null, FEMALE_ONLY, ALL_YEAR);
+        define(GATHERING_HERBS, FEMALE, "Gathering Herbs", 1.0, null, FEMALE_ONLY, WARM_SEASON);
+
+        define(HUNTING_ACCIDENT, MALE, "Hunting Accident", 1.0, null, MALE_ONLY, ALL_YEAR);
+        define(SCOUTING_DUTY, MALE, "Scouting Duty", 1.0, null, MALE_ONLY, ALL_YEAR);
+        define(WAGON_REPAIR_DUTY, MALE, "Wagon Repair Duty", 1.0, null, MALE_ONLY, ALL_YEAR);
+        define(TRAVELER_ARGUMENT, MALE, "Argument with Traveler", 1.0, null, MALE_ONLY, ALL_YEAR);
+        define(GUARD_DUTY, MALE, "Guard Duty", 1.0, null, MALE_ONLY, ALL_YEAR);
+        define(RIVER_ASSISTANCE, MALE, "River Crossing Assistance", 1.0, null, MALE_ONLY, ALL_YEAR);
+
+        attachRules();
+
+        int keys = JOB_SLOTS * 3 * 12;
+        aliasChance = new double[keys * eventCount];
+        aliasEvent = new int[keys * eventCount];
+        double[] probability = new double[eventCount];
+        for (int job = 0; job < JOB_SLOTS; job++) {
+            for (int gender = 0; gender < 3; gender++) {
+                for (int month = 1; month <= 12; month++) {
+                    eventProbabilities(job, gender, month, probability);
+                    buildAliasTable(probability, key(job, gender, month) * eventCount);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the catalog shared by every game.
+     * @return The catalog
+     */
+    public static PerilCatalog getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Builds the month mask covering a run of months.
+     */
+    private static int months(int first, int last) {
+        int mask = 0;
+        for (int month = first; month <= last; month++) {
+            mask |= 1 << (month - 1);
+        }
+        return mask;
+    }
+
+    /**
+     * Records one event in the catalog columns.
+     */
+    private void define(int id, int eventCategory, String eventName, double eventWeight,
+                        Job job, int gender, int months) {
+        name[id] = eventName;
+        category[id] = (byte) eventCategory;
+        weight[id] = eventWeight;
+        requiredJob[id] = (byte) (job == null ? -1 : job.ordinal());
+        requiredGender[id] = (byte) gender;
+        monthMask[id] = (short) months;
+    }
+
+    /**
+     * Links each rule block to its event, adding an event for blocks whose
+     * name is not in the catalog. A block for a new event must give its
+     * category; its weight, job, gender and months are optional.
+     */
+    private void attachRules() {
+        for (int block = 0; block < rules.getBlockCount(); block++) {
+            int event = findEvent(rules.getName(block));
+            if (event >= 0) {
+                ruleBlock[event] = block;
+            } else if (rules.getCategory(block) >= 0) {
+                event = eventCount++;
+                int job = rules.getJob(block);
+                define(event, rules.getCategory(block), rules.getName(block), rules.getWeight(block),
+                        job < 0 ? null : Job.values()[job], rules.getGender(block), rules.getMonths(block));
+                ruleBlock[event] = block;
+            } else {
+                System.err.println("Peril rule for unknown event has no category: " + rules.getName(block));
+            }
+        }
+    }
+
+    /**
+     * Finds an event by name, ignoring case.
+     * @return The event id, or -1 if there is none
+     */
+    private int findEvent(String eventName) {
+        for (int e = 0; e < eventCount; e++) {
+            if (name[e].equalsIgnoreCase(eventName)) {
+                return e;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the alias table row of a job slot, gender and month.
+     */
+    private static int key(int jobSlot, int gender, int month) {
+        return (jobSlot * 3 + gender) * 12 + (month - 1);
+    }
+
+    /**
+     * Works out the chance of each event for a job slot, gender and month.
+     * Each category keeps its share, split between its events that can
+     * happen by their weights; categories with no such events drop out and
+     * the rest are scaled back up to a total of one.
+     */
+    private void eventProbabilities(int jobSlot, int gender, int month, double[] probability) {
+        double[] categoryWeight = new double[CATEGORY_SHARE.length];
+        for (int e = 0; e < eventCount; e++) {
+            probability[e] = canHappen(e, jobSlot, gender, month) ? weight[e] : 0.0;
+            categoryWeight[category[e]] += probability[e];
+        }
+        double total = 0.0;
+        for (int c = 0; c < CATEGORY_SHARE.length; c++) {
+            if (categoryWeight[c] > 0) {
+                total += CATEGORY_SHARE[c];
+            }
+        }
+        for (int e = 0; e < eventCount; e++) {
+            if (probability[e] > 0) {
+                probability[e] = CATEGORY_SHARE[category[e]] * probability[e] / categoryWeight[category[e]] / total;
+            }
+        }
+    }
+
+    /**
+     * Checks whether an event's job, gender and month conditions are met.
+     */
+    private boolean canHappen(int event, int jobSlot, int gender, int month) {
+        return (requiredJob[event] < 0 || requiredJob[event] == jobSlot)
+                && (requiredGender[event] == ANY_GENDER || requiredGender[event] == gender)
+                && (monthMask[event] & (1 << (month - 1))) != 0;
+    }
+
+    /**
+     * Builds one alias table row with Vose's method.
+     * Each slot keeps the chance of landing on its own event and the event
+     * to fall back to otherwise.
+     */
+    private void buildAliasTable(double[] probability, int row) {
+        double[] scaled = new double[eventCount];
+        int[] small = new int[eventCount];
+        int[] large = new int[eventCount];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int e = 0; e < eventCount; e++) {
+            scaled[e] = probability[e] * eventCount;
+            if (scaled[e] < 1.0) {
+                small[smallCount++] = e;
+            } else {
+                large[largeCount++] = e;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            aliasChance[row + less] = scaled[less];
+            aliasEvent[row + less] = more;
+            scaled[more] += scaled[less] - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever is left is full up to rounding error
+        while (largeCount > 0) {
+            int e = large[--largeCount];
+            aliasChance[row + e] = 1.0;
+            aliasEvent[row + e] = e;
+        }
+        while (smallCount > 0) {
+            int e = small[--smallCount];
+            aliasChance[row + e] = 1.0;
+            aliasEvent[row + e] = e;
+        }
+    }
+
+    /**
+     * Picks an event that can happen to the party.
+     *
+     * @param job The player's job, or null for none
+     * @param gender The player's gender, ANY_GENDER if neither female nor male
+     * @param month The current month (1-12)
+     * @param random The random source
+     * @return The event id
+     */
+    public int sample(Job job, int gender, int month, Random random) {
+        int jobSlot = job == null ? JOB_SLOTS - 1 : job.ordinal();
+        int row = key(jobSlot, gender, Math.max(1, Math.min(12, month))) * eventCount;
+        int slot = random.nextInt(eventCount);
+        return random.nextDouble() < aliasChance[row + slot] ? slot : aliasEvent[row + slot];
+    }
+
+    /**
+     * Gets the gender code for a player's gender.
+     *
+     * @param gender The gender as entered, such as "Female"
+     * @return FEMALE_ONLY, MALE_ONLY or ANY_GENDER
+     */
+    public static int genderCode(String gender) {
+        if ("female".equalsIgnoreCase(gender)) {
+            return FEMALE_ONLY;
+        } else if ("male".equalsIgnoreCase(gender)) {
+            return MALE_ONLY;
+        }
+        return ANY_GENDER;
+    }
+
+    public String getName(int event) {
+        return name[event];
+    }
+
+    public int getCategory(int event) {
+        return category[event];
+    }
+
+    public double getWeight(int event) {
+        return weight[event];
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Gets the rule block giving an event's effects.
+     * @param event The event id
+     * @return The block in getRules(), or -1 if the event is handled in code
+     */
+    public int getRuleBlock(int event) {
+        return ruleBlock[event];
+    }
+
+    public EffectRules getRules() {
+        return rules;
+    }
+}
@@ -12,7 +12,6 @@
  * @file Perils.java
  */
 
-import java.util.ArrayList;
 import java.util.Random;
 import java.util.function.Consumer;
 
@@ -21,19 +20,27 @@ public class Perils {
     private final Inventory inventory;
     private final Random random;
     private final Time time;
+
+    // Condition in percent a wagon part loses to severe weather
+    private static final int WEATHER_PART_DAMAGE = 40;
     
     // Add a listener callback for messages
     private Consumer<String> messageListener;
 
-    // Arrays of possible events
-    private ArrayList<String> diseases;
-    private ArrayList<String> injuries;
-    private ArrayList<String> wagonProblems;
-    private ArrayList<String> positiveEvents;
-    private ArrayList<String> weatherEvents;
-    private ArrayList<String> animalEvents;
-    private ArrayList<String> femaleSpecificEvents;
-    private ArrayList<String> maleSpecificEvents;
+    // Every event that can happen, shared by all games
+    private final PerilCatalog catalog = PerilCatalog.getShared();
+
+    // Days an ox injured by a rule is kept out of the yoke
+    private static final int RULE_OX_INJURY_DAYS = 5;
+
+    // Heading of rule event messages by category; gender events lead with their name
+    private static final String[] CATEGORY_HEADINGS = {
+        "Disease", "Injury", "Wagon Problem", "Good Fortune", "Weather Event", "Animal Encounter", null, null
+    };
+
+    // Supplies on hand and changes rolled by rule events, indexed by EffectRules target
+    private final int[] ruleStock = new int[EffectRules.TARGET_COUNT];
+    private final int[] ruleDeltas = new int[EffectRules.TARGET_COUNT];
 
     /**
      * Constructs a new Perils manager with the specified game components.
@@ -48,8 +55,6 @@ public class Perils {
         this.time = time;
         this.random = new Random();
         this.messageListener = s -> System.out.println(s); // Default to System.out
-        
-        initializeEvents();
     }
     
     /**
@@ -72,104 +77,21 @@ public class Perils {
         }
     }
 
-    /**
-     * Initializes all possible event types and their variations.
-     * Creates lists of diseases, injuries, wagon problems, positive events,
-     * weather events, animal encounters, and gender-specific events.
-     * Includes job-specific variations for certain event types.
-     */
-    private void initializeEvents() {
-        // Initialize disease events
-        diseases = new ArrayList<>();
-        diseases.add("cholera");
-        diseases.add("typhoid fever");
-        diseases.add("dysentery");
-        diseases.add("measles");
-        diseases.add("fever");
-        diseases.add("exhaustion");
-        diseases.add("snakebite");
-        diseases.add("morale depreciation");
-
-        // Initialize injury events
-        injuries = new ArrayList<>();
-        injuries.add("broken arm");
-        injuries.add("broken leg");
-        injuries.add("sprained ankle");
-        injuries.add("cut requiring stitches");
-        injuries.add("concussion");
-
-        // Initialize wagon problems
-        wagonProblems = new ArrayList<>();
-        wagonProblems.add("broken wheel");
-        wagonProblems.add("broken axle");
-        wagonProblems.add("broken tongue");
-        wagonProblems.add("stuck in mud");
-        wagonProblems.add("wheel loose");
-
-        // Initialize positive events
-        positiveEvents = new ArrayList<>();
-        positiveEvents.add("found wild berries");
-        positiveEvents.add("found extra supplies left by another wagon");
-        positiveEvents.add("met friendly natives who shared food");
-        positiveEvents.add("found a clear stream with fresh fish");
-        positiveEvents.add("found an abandoned wagon with usable parts");
-        positiveEvents.add("weather conditions improved unexpectedly");
-        positiveEvents.add("found a shortcut that saved time");
-        positiveEvents.add("found a good campsite with plenty of resources");
-        
-        // Add farmer-specific food gathering events
-        if (player.getJob() == Job.FARMER) {
-            positiveEvents.add("identified edible wild plants others would miss");
-            positiveEvents.add("successfully harvested wild grain");
-            positiveEvents.add("found and harvested wild root vegetables");
-            positiveEvents.add("expertly foraged for food in the area");
-        }
-
-        // Initialize weather events
-        weatherEvents = new ArrayList<>();
-        weatherEvents.add("sudden hailstorm");
-        weatherEvents.add("thunderstorm with heavy winds");
-        weatherEvents.add("dense fog");
-        weatherEvents.add("unexpected snowfall");
-        weatherEvents.add("dust storm");
-
-        // Initialize animal events
-        animalEvents = new ArrayList<>();
-        animalEvents.add("snake in the grass");
-        animalEvents.add("wolf pack spotted nearby");
-        animalEvents.add("bears raided food");
-        animalEvents.add("oxen spooked by coyotes");
-        animalEvents.add("biting insects");
-        
-        // Initialize female-specific events
-        femaleSpecificEvents = new ArrayList<>();
-        femaleSpecificEvents.add("pregnancy");
-        femaleSpecificEvents.add("childbirth complications");
-        femaleSpecificEvents.add("made extra money sewing for other travelers");
-        femaleSpecificEvents.add("befriended other pioneer families");
-        femaleSpecificEvents.add("negotiated a better trading deal");
-        femaleSpecificEvents.add("increased family morale");
-        
-        // Initialize male-specific events
-        maleSpecificEvents = new ArrayList<>();
-        maleSpecificEvents.add("injured while hunting");
-        maleSpecificEvents.add("back strain from heavy lifting");
-        maleSpecificEvents.add("made extra money helping repair wagons");
-        maleSpecificEvents.add("found better hunting grounds");
-        maleSpecificEvents.add("successfully repaired wagon without parts");
-    }
-
     /**
      * Generates a random event based on probability and player characteristics.
      * Events have a 30% chance of occurring each day.
-     * Gender-specific events have a 15% chance if applicable.
-     * Regular events are distributed among six categories:
+     * The event is drawn from the shared PerilCatalog, which only offers
+     * events that fit the player's job, gender and the current month.
+     * Gender-specific events make up 15% of events where they apply, and the
+     * rest are spread among six categories:
      * 1. Diseases
      * 2. Injuries
      * 3. Wagon Problems
      * 4. Positive Events
      * 5. Weather Events
      * 6. Animal Events
+     * Events with effect rules are applied from their rules; the rest are
+     * handled by the generator for their category.
      */
     public void generateRandomEvent() {
         // Determine if an event happens (70% chance)
@@ -177,40 +99,171 @@ public class Perils {
             return; // No event
         }
 
-        // Determine if this should be a gender-specific event (15% chance if player is main character)
-        if (random.nextDouble() < 0.15) {
-            if ("female".equalsIgnoreCase(player.getGender())) {
-                generateFemaleSpecificEvent();
-                return;
-            } else if ("male".equalsIgnoreCase(player.getGender())) {
-                generateMaleSpecificEvent();
-                return;
-            }
+        int event = catalog.sample(player.getJob(), PerilCatalog.genderCode(player.getGender()),
+                time.getMonth(), random);
+        if (catalog.getRuleBlock(event) >= 0) {
+            applyRules(event);
+            return;
         }
 
-        // Determine regular event type
-        int eventType = random.nextInt(6);
-
-        switch (eventType) {
-            case 0:
-                generateDiseaseEvent();
+        switch (catalog.getCategory(event)) {
+            case PerilCatalog.DISEASE:
+                generateDiseaseEvent(event);
                 break;
-            case 1:
-                generateInjuryEvent();
+            case PerilCatalog.INJURY:
+                generateInjuryEvent(event);
                 break;
-            case 2:
-                generateWagonProblem();
+            case PerilCatalog.WAGON:
+                generateWagonProblem(event);
                 break;
-            case 3:
-                generatePositiveEvent();
+            case PerilCatalog.POSITIVE:
+                generatePositiveEvent(event);
                 break;
-            case 4:
-                generateWeatherEvent();
+            case PerilCatalog.WEATHER:
+                generateWeatherEvent(event);
                 break;
-            case 5:
-                generateAnimalEvent();
+            case PerilCatalog.ANIMAL:
+                generateAnimalEvent(event);
                 break;
+            case PerilCatalog.FEMALE:
+                generateFemaleSpecificEvent(event);
+                break;
+            case PerilCatalog.MALE:
+                generateMaleSpecificEvent(event);
+                break;
+        }
+    }
+
+    /**
+     * Applies an event whose effects are given by rules in EffectRules.
+     * The rules roll the change to each supply, and each change is applied
+     * to the player and inventory with a line describing it.
+     */
+    private void applyRules(int event) {
+        EffectRules rules = catalog.getRules();
+        int block = catalog.getRuleBlock(event);
+        String name = catalog.getName(event);
+        String heading = CATEGORY_HEADINGS[catalog.getCategory(event)];
+        String message = heading == null ? name + ": " + rules.getText(block)
+                : heading + ": " + name + ".\n" + rules.getText(block);
+
+        ruleStock[EffectRules.HEALTH] = player.getHealth();
+        ruleStock[EffectRules.MORALE] = player.getMorale();
+        ruleStock[EffectRules.FOOD] = inventory.getFood();
+        ruleStock[EffectRules.MEDICINE] = inventory.getMedicine();
+        ruleStock[EffectRules.AMMO] = inventory.getAmmunition();
+        ruleStock[EffectRules.MONEY] = player.getMoney();
+        ruleStock[EffectRules.OXEN_HEALTH] = inventory.getOxenHealth();
+        ruleStock[EffectRules.LOSE_OX] = inventory.getOxen();
+        long fired = rules.evaluate(block, player.getJob(), ruleStock, random, ruleDeltas);
+        for (String line : rules.getFiredMessages(block, fired)) {
+            message += "\n" + line;
+        }
+
+        int amount = ruleDeltas[EffectRules.FOOD];
+        if (amount > 0) {
+            inventory.addFood(amount);
+            message += "\nYou gained " + amount + " lbs of food.";
+        } else if (amount < 0) {
+            message += "\nYou lost " + inventory.consumeFood(-amount) + " lbs of food.";
+        }
+
+        amount = ruleDeltas[EffectRules.MEDICINE];
+        if (amount > 0) {
+            inventory.addMedicine(amount);
+            message += "\nYou gained " + amount + " medicine kit(s).";
+        } else if (amount < 0 && inventory.getMedicine() > 0) {
+            amount = Math.min(-amount, inventory.getMedicine());
+            inventory.useMedicine(amount);
+            message += "\nYou lost " + amount + " medicine kit(s).";
+        }
+
+        amount = ruleDeltas[EffectRules.AMMO];
+        if (amount > 0) {
+            inventory.addAmmunition(amount);
+            message += "\nYou gained " + amount + " rounds of ammunition.";
+        } else if (amount < 0 && inventory.getAmmunition() > 0) {
+            amount = Math.min(-amount, inventory.getAmmunition());
+            inventory.useAmmunition(amount);
+            message += "\nYou lost " + amount + " rounds of ammunition.";
+        }
+
+        amount = ruleDeltas[EffectRules.MONEY];
+        if (amount > 0) {
+            player.addMoney(amount);
+            message += "\nYou gained $" + amount + ".";
+        } else if (amount < 0 && player.getMoney() > 0) {
+            amount = Math.min(-amount, player.getMoney());
+            player.spendMoney(amount);
+            message += "\nYou lost $" + amount + ".";
+        }
+
+        amount = ruleDeltas[EffectRules.OXEN_HEALTH];
+        if (amount > 0) {
+            inventory.increaseOxenHealth(amount);
+            message += "\nOxen health increases by " + amount + ".";
+        } else if (amount < 0) {
+            inventory.decreaseOxenHealth(-amount);
+            message += "\nOxen health decreases by " + -amount + ".";
+        }
+
+        amount = ruleDeltas[EffectRules.OX_INJURY];
+        if (amount > 0) {
+            inventory.injureOx(amount, RULE_OX_INJURY_DAYS);
+            message += "\nOne of your oxen is injured and has lost " + amount + "% of its health.";
+        }
+
+        for (int i = 0; i < ruleDeltas[EffectRules.LOSE_OX]; i++) {
+            if (inventory.loseOx()) {
+                message += "\nOne of your oxen was lost.";
+            }
+        }
+
+        if (ruleDeltas[EffectRules.PART_DAMAGE] > 0) {
+            WagonPart damagedPart = inventory.damageRandomPart(ruleDeltas[EffectRules.PART_DAMAGE]);
+            if (damagedPart != null) {
+                message += "\nYour wagon's " + damagedPart.getDisplayName() + " was damaged.";
+                if (inventory.isPartBroken(damagedPart.getDisplayName())) {
+                    message += "\n" + damagedPart.getHistoricalNote();
+                }
+            }
+        }
+
+        amount = ruleDeltas[EffectRules.DELAY];
+        if (amount > 0) {
+            message += "\nYou are delayed by " + amount + " day(s).";
+            for (int i = 0; i < amount; i++) {
+                time.advanceDay();
+                int foodConsumed = player.getFamilySize() * 2;
+                inventory.consumeFood(foodConsumed);
+                message += "\n(Consumed " + foodConsumed + " lbs food during delay)";
+            }
         }
+
+        amount = ruleDeltas[EffectRules.MORALE];
+        if (amount > 0) {
+            player.increaseMorale(amount);
+            message += "\nMorale increases by " + amount + ".";
+        } else if (amount < 0) {
+            player.decreaseMorale(-amount);
+            message += "\nMorale decreases by " + -amount + ".";
+        }
+
+        amount = ruleDeltas[EffectRules.HEALTH];
+        if (amount > 0) {
+            player.increaseHealth(amount);
+            message += "\nHealth increases by " + amount + ".";
+        } else if (amount < 0) {
+            if (player.getHealth() + amount <= 0) {
+                message += "\nYou died from " + rules.getCause(block) + ".";
+                player.decreaseHealth(-amount, rules.getCause(block));
+            } else {
+                player.decreaseHealth(-amount);
+                message += "\nYou lost " + -amount + " health.";
+            }
+        }
+
+        showMessage(message);
     }
 
     /**
@@ -219,16 +272,16 @@ public class Perils {
      * supply management issues, and caregiving challenges.
      * Events can affect health, morale, and inventory.
      */
-    private void generateFemaleSpecificEvent() {
+    private void generateFemaleSpecificEvent(int event) {
         if (!player.getGender().equalsIgnoreCase("female")) return; // Only for female players
 
-        String event = femaleSpecificEvents.get(random.nextInt(femaleSpecificEvents.size()));
+        String name = catalog.getName(event);
         String message = "";
         int healthDamage = 0;
         int moraleLoss = 0;
 
         switch (event) {
-            case "Difficult Childbirth":
+            case PerilCatalog.DIFFICULT_CHILDBIRTH:
                 message = "Difficult Childbirth: Childbirth on the trail is perilous. Complications arise.";
                 healthDamage = 30 + random.nextInt(40); // Significant health risk (30-70)
                 moraleLoss = 20 + random.nextInt(20); // Significant morale impact (20-40)
@@ -242,13 +295,13 @@ public class Perils {
                 }
                 break;
 
-            case "Women's Council":
+            case PerilCatalog.WOMENS_COUNCIL:
                 message = "Women's Council: The women gather to discuss trail matters and share wisdom.";
                 int moraleGain = 5 + random.nextInt(10);
                 player.increaseMorale(moraleGain);
                 message += "\nSharing experiences boosts morale by " + moraleGain + ".";
                 // Bonus: Chance to gain medicine knowledge
-                if (player.getJob() == Job.DOCTOR || random.nextDouble() < 0.2) {
+                if (player.getModifiers().get(Effect.HERB_LORE) > 0 || random.nextDouble() < 0.2) {
                     int medicineGain = random.nextInt(2);
                     if (medicineGain > 0) {
                         inventory.addMedicine(medicineGain);
@@ -257,30 +310,7 @@ public class Perils {
                 }
                 break;
 
-            case "Lost Supplies":
-                message = "Lost Supplies: While managing the wagon, some crucial supplies shift and fall off.";
-                int foodLost = 10 + random.nextInt(20); // 10-30 lbs food
-                inventory.consumeFood(foodLost);
-                moraleLoss = 5 + random.nextInt(10);
-                player.decreaseMorale(moraleLoss);
-                message += "\nYou lost " + foodLost + " lbs of food and " + moraleLoss + " morale.";
-                // Chance to lose medicine
-                if (random.nextDouble() < 0.2 && inventory.getMedicine() > 0) {
-                    inventory.useMedicine(1);
-                    message += "\nA medicine kit was also damaged.";
-                }
-                break;
-
-            case "Unexpected Kindness":
-                message = "Unexpected Kindness: Another family shares some excess supplies with you.";
-                int foodGained = 5 + random.nextInt(15); // 5-20 lbs food
-                inventory.addFood(foodGained);
-                moraleGain = 5 + random.nextInt(10);
-                player.increaseMorale(moraleGain);
-                message += "\nYou received " + foodGained + " lbs of food. Morale increased by " + moraleGain + ".";
-                break;
-                
-            case "Exhaustion from Caregiving":
+            case PerilCatalog.CAREGIVING_EXHAUSTION:
                 message = "Exhaustion from Caregiving: Tending to sick family members and daily chores takes its toll.";
                 healthDamage = 5 + random.nextInt(10); // 5-15 health damage
                 moraleLoss = 5 + random.nextInt(10); // 5-15 morale loss
@@ -294,30 +324,8 @@ public class Perils {
                 }
                 break;
                 
-            case "Mending Clothes":
-                 message = "Mending Clothes: You spend the evening mending clothes for the family.";
-                 moraleGain = 3 + random.nextInt(5); // Small morale boost 3-8
-                 player.increaseMorale(moraleGain);
-                 message += "\nTaking care of necessities provides a small comfort. Morale increased by " + moraleGain + ".";
-                 // Small chance to prevent minor negative event later? (Could be complex)
-                 break;
-                 
-             case "Gathering Herbs":
-                 message = "Gathering Herbs: You recognize some medicinal plants growing nearby.";
-                 int medicineFound = random.nextInt(2); // 0 or 1 medicine kit
-                 if (player.getJob() == Job.DOCTOR || random.nextDouble() < 0.3) { // Higher chance if Doctor
-                     medicineFound++;
-                 }
-                 if (medicineFound > 0) {
-                     inventory.addMedicine(medicineFound);
-                     message += "\nYour knowledge helps you gather enough for " + medicineFound + " medicine kit(s).";
-                 } else {
-                     message += "\nYou search but don't find enough useful herbs.";
-                 }
-                 break;
-
             default:
-                message = "An unknown event specific to women occurred: " + event;
+                message = "An unknown event specific to women occurred: " + name;
                 break;
         }
 
@@ -330,16 +338,16 @@ public class Perils {
      * repair opportunities, and hunting success.
      * Events can affect health, morale, and inventory.
      */
-    private void generateMaleSpecificEvent() {
+    private void generateMaleSpecificEvent(int event) {
         if (!player.getGender().equalsIgnoreCase("male")) return; // Only for male players
 
-        String event = maleSpecificEvents.get(random.nextInt(maleSpecificEvents.size()));
+        String name = catalog.getName(event);
         String message = "";
         int healthDamage = 0;
         int moraleLoss = 0;
 
         switch (event) {
-            case "Hunting Accident":
+            case PerilCatalog.HUNTING_ACCIDENT:
                 message = "Hunting Accident: While hunting, your firearm misfires or you trip.";
                 healthDamage = 15 + random.nextInt(30); // Moderate injury (15-45)
                 moraleLoss = 10 + random.nextInt(15); // Morale loss (10-25)
@@ -359,7 +367,7 @@ public class Perils {
                 }
                 break;
 
-            case "Scouting Duty":
+            case PerilCatalog.SCOUTING_DUTY:
                 message = "Scouting Duty: You volunteer to scout ahead for the wagon train.";
                 // Chance of positive or negative outcome
                 if (random.nextDouble() < 0.6) { // Positive outcome (60% chance)
@@ -390,19 +398,19 @@ public class Perils {
                 }
                 break;
 
-            case "Wagon Repair Duty":
+            case PerilCatalog.WAGON_REPAIR_DUTY:
                 message = "Wagon Repair Duty: You spend hours working on maintaining the wagon.";
                 healthDamage = 3 + random.nextInt(7); // Minor exertion (3-10)
                 player.decreaseHealth(healthDamage);
                 message += "\nThe hard labor takes a small toll. Health decreased by " + healthDamage + ".";
                 // Chance to prevent a future wagon problem
                 // (This could be implemented with a temporary player status flag)
-                if (player.getJob() == Job.BLACKSMITH || player.getJob() == Job.CARPENTER || random.nextDouble() < 0.3) {
+                if (player.getModifiers().get(Effect.REPAIR_SKILL) > 0 || random.nextDouble() < 0.3) {
                     message += "\nYour efforts might prevent future breakdowns.";
                 }
                 break;
 
-            case "Argument with Traveler":
+            case PerilCatalog.TRAVELER_ARGUMENT:
                 message = "Argument with Traveler: A disagreement breaks out with another member of the train.";
                 moraleLoss = 10 + random.nextInt(15); // Moderate morale loss (10-25)
                 player.decreaseMorale(moraleLoss);
@@ -420,23 +428,7 @@ public class Perils {
                 }
                 break;
                 
-            case "Guard Duty":
-                 message = "Guard Duty: You stand watch overnight to protect the camp.";
-                 healthDamage = 2 + random.nextInt(5); // Minor fatigue (2-7)
-                 player.decreaseHealth(healthDamage);
-                 moraleLoss = 2 + random.nextInt(5); // Minor morale hit (2-7)
-                 player.decreaseMorale(moraleLoss);
-                 message += "\nThe long night leaves you tired. Lost " + healthDamage + " health and " + moraleLoss + " morale.";
-                 // Chance to prevent theft (positive outcome)
-                 if (random.nextDouble() < 0.2) {
-                     message += "\nYour vigilance prevented a potential theft during the night.";
-                     // Could add a small morale boost here for success?
-                     player.increaseMorale(5);
-                     message += "\nMorale increased slightly due to your successful watch.";
-                 }
-                 break;
-                 
-             case "River Crossing Assistance":
+             case PerilCatalog.RIVER_ASSISTANCE:
                  message = "River Crossing Assistance: You help guide wagons across a treacherous river.";
                  // Risk of injury or success
                  if (random.nextDouble() < 0.25) { // 25% chance of injury
@@ -456,7 +448,7 @@ public class Perils {
                  break;
 
             default:
-                message = "An unknown event specific to men occurred: " + event;
+                message = "An unknown event specific to men occurred: " + name;
                 break;
         }
 
@@ -469,23 +461,28 @@ public class Perils {
      * Effects vary based on the disease type and player's health.
      * May require medicine to treat.
      */
-    private void generateDiseaseEvent() {
-        String disease = diseases.get(random.nextInt(diseases.size()));
-        String message = "Disease strikes! You have contracted " + disease + ".";
+    private void generateDiseaseEvent(int event) {
+        String disease = catalog.getName(event);
+        int victim = player.getRandomLivingMember(random);
+        boolean isPlayer = victim == Player.PLAYER_INDEX;
+        String who = isPlayer ? "You" : player.getMemberName(victim);
+        String message = "Disease strikes! " + who + (isPlayer ? " have" : " has") + " contracted " + disease + ".";
+        Condition condition = Condition.fromName(disease);
+        boolean treated = false;
         int healthLost = 0;
         int medicineNeeded = 1;
 
-        switch (disease) {
-            case "cholera":
-            case "dysentery":
+        switch (event) {
+            case PerilCatalog.CHOLERA:
+            case PerilCatalog.DYSENTERY:
                 healthLost = 20 + random.nextInt(30); // 20-50 health loss
                 medicineNeeded = 2;
                 break;
-            case "typhoid":
-            case "measles":
+            case PerilCatalog.TYPHOID:
+            case PerilCatalog.MEASLES:
                 healthLost = 15 + random.nextInt(25); // 15-40 health loss
                 break;
-            case "fever":
+            case PerilCatalog.FEVER:
                 healthLost = 10 + random.nextInt(20); // 10-30 health loss
                 break;
             default: // Generic illness
@@ -493,10 +490,10 @@ public class Perils {
                 break;
         }
 
-        // Apply Doctor job bonus to reduce severity
-        double docBonus = player.getDoctorModifier(); // Assuming 1.2 for doctor
-        if (player.getJob() == Job.DOCTOR) {
-            healthLost = (int) (healthLost / docBonus); // Reduce health loss
+        // Better medical care reduces severity
+        double medicalCare = player.getModifiers().get(Effect.MEDICAL_CARE);
+        if (medicalCare > 1.0) {
+            healthLost = (int) (healthLost / medicalCare); // Reduce health loss
             medicineNeeded = Math.max(1, medicineNeeded - 1); // Reduce medicine needed
         }
         
@@ -505,6 +502,7 @@ public class Perils {
             inventory.useMedicine(medicineNeeded);
             int healthRecovered = (int)(healthLost * (0.5 + random.nextDouble() * 0.5)); // Recover 50-100% of damage
             healthLost -= healthRecovered;
+            treated = true;
             message += "\nFortunately, you had " + medicineNeeded + " medicine kit(s). You used it and recovered some health.";
             
             // Ensure healthLost doesn't become negative if recovery is high
@@ -513,15 +511,17 @@ public class Perils {
             message += "\nYou have no medicine to treat the illness!";
         }
         
-        message += "\nYou lose " + healthLost + " health.";
+        message += "\n" + who + (isPlayer ? " lose " : " loses ") + healthLost + " health.";
         
-        if (player.getHealth() - healthLost <= 0) {
-            message += "\nThe " + disease + " proved fatal.";
-            // Pass the specific disease name as the cause of death
-            player.decreaseHealth(healthLost, disease);
-        } else {
-            player.decreaseHealth(healthLost);
+        if (player.getMemberHealth(victim) - healthLost <= 0) {
+            message += "\nThe " + disease + " proved fatal" + (isPlayer ? "." : " for " + who + ".");
+        } else if (condition != null) {
+            // Medicine shortens the illness but it still has to run its course
+            int days = treated ? condition.getDurationDays() / 2 : condition.getDurationDays();
+            player.addCondition(victim, condition, days);
         }
+        // Pass the specific disease name as the cause of death
+        player.decreaseMemberHealth(victim, healthLost, disease);
 
         showMessage(message);
     }
@@ -532,24 +532,29 @@ public class Perils {
      * Effects vary based on the injury type and severity.
      * May require medicine to treat.
      */
-    private void generateInjuryEvent() {
-        String injury = injuries.get(random.nextInt(injuries.size()));
-        String message = "Injury! You suffered a " + injury + ".";
+    private void generateInjuryEvent(int event) {
+        String injury = catalog.getName(event);
+        int victim = player.getRandomLivingMember(random);
+        boolean isPlayer = victim == Player.PLAYER_INDEX;
+        String who = isPlayer ? "You" : player.getMemberName(victim);
+        String message = "Injury! " + who + " suffered a " + injury + ".";
+        Condition condition = Condition.fromName(injury);
+        boolean treated = false;
         int healthLost = 0;
         boolean needsMedicine = false;
 
-        switch (injury) {
-            case "broken leg":
-            case "broken arm":
+        switch (event) {
+            case PerilCatalog.BROKEN_LEG:
+            case PerilCatalog.BROKEN_ARM:
                 healthLost = 25 + random.nextInt(25); // 25-50 health loss
                 needsMedicine = true;
                 break;
-            case "sprained ankle":
-            case "deep cut":
+            case PerilCatalog.SPRAINED_ANKLE:
+            case PerilCatalog.DEEP_CUT:
                 healthLost = 10 + random.nextInt(15); // 10-25 health loss
                 needsMedicine = random.nextDouble() < 0.5; // 50% chance needs medicine
                 break;
-            case "concussion":
+            case PerilCatalog.CONCUSSION:
                 healthLost = 15 + random.nextInt(20); // 15-35 health loss
                 needsMedicine = true;
                 break;
@@ -563,6 +568,7 @@ public class Perils {
                 inventory.useMedicine(1);
                 int healthRecovered = (int)(healthLost * (0.3 + random.nextDouble() * 0.4)); // Recover 30-70%
                 healthLost -= healthRecovered;
+                treated = true;
                 message += "\nYou used a medicine kit to treat the " + injury + ".";
                 healthLost = Math.max(0, healthLost); // Prevent negative health loss
             } else {
@@ -571,15 +577,16 @@ public class Perils {
             }
         }
 
-        message += "\nYou lose " + healthLost + " health.";
+        message += "\n" + who + (isPlayer ? " lose " : " loses ") + healthLost + " health.";
         
-        if (player.getHealth() - healthLost <= 0) {
-            message += "\nThe " + injury + " led to complications, and you died.";
-            // Pass the specific injury as the cause
-            player.decreaseHealth(healthLost, injury); 
-        } else {
-            player.decreaseHealth(healthLost);
+        if (player.getMemberHealth(victim) - healthLost <= 0) {
+            message += "\nThe " + injury + " led to complications, and " + (isPlayer ? "you" : who) + " died.";
+        } else if (condition != null) {
+            int days = treated ? condition.getDurationDays() / 2 : condition.getDurationDays();
+            player.addCondition(victim, condition, days);
         }
+        // Pass the specific injury as the cause
+        player.decreaseMemberHealth(victim, healthLost, injury);
 
         showMessage(message);
     }
@@ -590,8 +597,8 @@ public class Perils {
      * Effects vary based on the problem type and available parts.
      * May require wagon parts to fix.
      */
-    private void generateWagonProblem() {
-        String problem = wagonProblems.get(random.nextInt(wagonProblems.size()));
+    private void generateWagonProblem(int event) {
+        String problem = catalog.getName(event);
         String message = "Wagon Problem: " + problem + ".";
         int partsNeeded = 0;
         String partType = "";
@@ -599,26 +606,26 @@ public class Perils {
         int healthDamage = 0; // Potential health damage from exertion or accident
         int moraleLoss = 5 + random.nextInt(10); // Base morale loss
 
-        switch (problem) {
-            case "Broken Wheel":
+        switch (event) {
+            case PerilCatalog.BROKEN_WHEEL:
                 partsNeeded = 1;
                 partType = "wheel";
                 delayDays = 1 + random.nextInt(2); // 1-2 days delay
                 moraleLoss += 5;
                 break;
-            case "Broken Axle":
+            case PerilCatalog.BROKEN_AXLE:
                 partsNeeded = 1;
                 partType = "axle";
                 delayDays = 2 + random.nextInt(2); // 2-3 days delay
                 moraleLoss += 10;
                 break;
-            case "Broken Tongue":
+            case PerilCatalog.BROKEN_TONGUE:
                 partsNeeded = 1;
                 partType = "tongue";
                 delayDays = 1 + random.nextInt(2); // 1-2 days delay
                 moraleLoss += 8;
                 break;
-            case "Torn Wagon Cover":
+            case PerilCatalog.TORN_COVER:
                 // Doesn't require parts, but causes delay and potential spoilage
                 delayDays = 1;
                 moraleLoss += 3;
@@ -630,20 +637,21 @@ public class Perils {
                      message += "\nLost " + spoiledFood + " lbs of food due to exposure.";
                 }
                 break;
-            case "Oxen Injury":
+            case PerilCatalog.OXEN_INJURY:
                 delayDays = 1 + random.nextInt(3); // 1-3 days delay
                 int oxenHealthLoss = 10 + random.nextInt(20); // 10-30 health loss
-                inventory.decreaseOxenHealth(oxenHealthLoss);
+                inventory.injureOx(oxenHealthLoss, 5 + random.nextInt(10));
                 moraleLoss += 10;
-                message += "\nOne of your oxen is injured. Oxen health decreased by " + oxenHealthLoss + "%.";
+                message += "\nOne of your oxen is injured and has lost " + oxenHealthLoss + "% of its health." +
+                        "\nIt will be kept out of the yoke while it heals if another ox can take its place.";
                 break;
-            case "Wagon Stuck in Mud":
+            case PerilCatalog.STUCK_IN_MUD:
                 delayDays = 1;
                 moraleLoss += 5;
                 healthDamage = 5 + random.nextInt(10); // Exertion (5-15)
                 message += "\nIt takes significant effort to free the wagon.";
                 break;
-            case "Lost Supplies from Wagon":
+            case PerilCatalog.LOST_WAGON_SUPPLIES:
                  delayDays = 0; // No delay, just loss
                  moraleLoss += 8;
                  message += "\nSome supplies shifted and fell off the wagon.";
@@ -660,7 +668,7 @@ public class Perils {
                      message += "\nLost 1 box of ammunition.";
                  }
                  break;
-            case "Overturned Wagon":
+            case PerilCatalog.OVERTURNED_WAGON:
                  partsNeeded = 1 + random.nextInt(2); // 1-2 parts needed
                  delayDays = 2 + random.nextInt(3); // 2-4 days delay
                  moraleLoss += 20;
@@ -690,8 +698,8 @@ public class Perils {
                 break;
         }
 
-        // Apply Blacksmith/Carpenter job bonus
-        boolean hasBonus = player.getJob() == Job.BLACKSMITH || player.getJob() == Job.CARPENTER;
+        // Repair skills shorten the delay
+        boolean hasBonus = player.getModifiers().get(Effect.REPAIR_SKILL) > 0;
         if (hasBonus) {
             delayDays = Math.max(0, delayDays - 1); // Reduce delay by 1 day
             moraleLoss = Math.max(0, moraleLoss - 5); // Reduce morale loss
@@ -766,25 +774,13 @@ public class Perils {
      * discovering resources, or finding shortcuts.
      * Effects typically improve morale and may add resources.
      */
-    private void generatePositiveEvent() {
-        String event = positiveEvents.get(random.nextInt(positiveEvents.size()));
-        String message = "Good Fortune: " + event + ".";
+    private void generatePositiveEvent(int event) {
+        String name = catalog.getName(event);
+        String message = "Good Fortune: " + name + ".";
         int moraleGain = 0;
-        int healthGain = 0;
 
         switch (event) {
-            case "Found Wild Berries":
-                int foodGained = 10 + random.nextInt(20); // 10-30 lbs
-                inventory.addFood(foodGained);
-                moraleGain = 5 + random.nextInt(10);
-                message += "\nYou find " + foodGained + " lbs of edible berries.";
-                break;
-            case "Clear Skies Ahead":
-                moraleGain = 10 + random.nextInt(10);
-                message += "\nThe weather is perfect for travel, lifting everyone's spirits.";
-                // Could add a temporary small speed boost?
-                break;
-            case "Met Friendly Natives":
+            case PerilCatalog.FRIENDLY_NATIVES:
                 moraleGain = 15 + random.nextInt(10);
                 message += "\nYou have a peaceful encounter with local Native Americans.";
                 // Chance of trade or gaining supplies
@@ -803,12 +799,12 @@ public class Perils {
                     }
                 }
                 break;
-            case "Successful Hunt (Minor)":
+            case PerilCatalog.SMALL_GAME:
                 // Check if player has ammo first
                 if (inventory.getAmmunition() > 0) {
                     int ammoUsed = 1 + random.nextInt(2);
                     inventory.useAmmunition(Math.min(ammoUsed, inventory.getAmmunition()));
-                    foodGained = 15 + random.nextInt(25); // 15-40 lbs (rabbit, bird)
+                    int foodGained = 15 + random.nextInt(25); // 15-40 lbs (rabbit, bird)
                     inventory.addFood(foodGained);
                     moraleGain = 8 + random.nextInt(7);
                     message += "\nA quick hunt yields " + foodGained + " lbs of small game. Used " + Math.min(ammoUsed, inventory.getAmmunition()) + " ammo.";
@@ -817,48 +813,13 @@ public class Perils {
                     moraleGain = -2; // Slight disappointment
                 }
                 break;
-            case "Found Lost Item":
-                 moraleGain = 5 + random.nextInt(5);
-                 message += "\nYou find a small valuable item lost by a previous traveler.";
-                 // Small money gain
-                 int moneyFound = 5 + random.nextInt(10);
-                 player.addMoney(moneyFound);
-                 message += "\nIt fetches $" + moneyFound + " at the next trading post (added to your funds now).";
-                 break;
-             case "Restful Night":
-                 healthGain = 5 + random.nextInt(10); // 5-15 health
-                 moraleGain = 5 + random.nextInt(10); // 5-15 morale
-                 message += "\nEveryone gets a particularly good night's sleep.";
-                 // Also slightly recover oxen health
-                 inventory.increaseOxenHealth(3 + random.nextInt(5));
-                 message += "\nOxen also seem more rested.";
-                 break;
-             case "Inspiring Sermon (if Preacher)":
-                 if (player.getJob() == Job.PREACHER) {
-                     moraleGain = 15 + random.nextInt(15); // Significant boost (15-30)
-                     message = "Good Fortune: Your words inspire the wagon train.";
-                     message += "\nMorale significantly increases for everyone.";
-                 } else {
-                     // Reroll event if not preacher
-                     generatePositiveEvent();
-                     return; // Avoid double message
-                 }
-                 break;
-             case "Good Fishing Spot":
-                 moraleGain = 5 + random.nextInt(8);
-                 foodGained = 5 + random.nextInt(15); // 5-20 lbs fish
-                 inventory.addFood(foodGained);
-                 message += "\nYou stop by a river and catch " + foodGained + " lbs of fish.";
-                 break;
-
             default:
                 moraleGain = 5;
                 break;
         }
 
         player.increaseMorale(moraleGain);
-        player.increaseHealth(healthGain);
-        message += "\nMorale increases by " + moraleGain + "." + (healthGain > 0 ? " Health increases by " + healthGain + "." : "");
+        message += "\nMorale increases by " + moraleGain + ".";
 
         showMessage(message);
     }
@@ -869,9 +830,9 @@ public class Perils {
      * Effects vary based on the weather type and severity.
      * May affect travel speed and resource consumption.
      */
-    private void generateWeatherEvent() {
-        String event = weatherEvents.get(random.nextInt(weatherEvents.size()));
-        String message = "Weather Event: " + event + ".";
+    private void generateWeatherEvent(int event) {
+        String name = catalog.getName(event);
+        String message = "Weather Event: " + name + ".";
         int delayDays = 0;
         int healthDamage = 0;
         int moraleLoss = 0;
@@ -880,7 +841,7 @@ public class Perils {
         String deathCause = "exposure"; // Default cause for weather deaths
 
         switch (event) {
-            case "Thunderstorm":
+            case PerilCatalog.THUNDERSTORM:
                 moraleLoss = 5 + random.nextInt(10);
                 delayDays = random.nextInt(2); // 0-1 day delay
                 message += "\nA fierce storm rolls in.";
@@ -896,14 +857,7 @@ public class Perils {
                 }
                 break;
 
-            case "Heavy Fog":
-                moraleLoss = 3 + random.nextInt(5);
-                delayDays = 1; // Usually causes a delay
-                message += "\nThick fog blankets the trail, making travel impossible.";
-                healthDamage = 2 + random.nextInt(4); // Minor fatigue from waiting (2-6)
-                break;
-
-            case "Hail Storm":
+            case PerilCatalog.HAIL_STORM:
                 moraleLoss = 10 + random.nextInt(10);
                 delayDays = random.nextInt(2); // 0-1 day delay
                 message += "\nLarge hailstones batter your wagon.";
@@ -915,7 +869,7 @@ public class Perils {
                 deathCause = "accident"; // If somehow fatal
                 break;
 
-            case "Blizzard":
+            case PerilCatalog.BLIZZARD:
                 moraleLoss = 20 + random.nextInt(15); // High morale loss (20-35)
                 delayDays = 2 + random.nextInt(4); // Significant delay (2-5 days)
                 message += "\nA blinding blizzard traps you in place.";
@@ -930,7 +884,7 @@ public class Perils {
                 }
                 break;
 
-            case "Extreme Heat":
+            case PerilCatalog.EXTREME_HEAT:
                 moraleLoss = 10 + random.nextInt(10);
                 message += "\nScorching heat beats down on the trail.";
                 healthDamage = 10 + random.nextInt(15); // Heat exhaustion (10-25)
@@ -943,7 +897,7 @@ public class Perils {
                  message += "\nOxen struggle in the heat, health decreased by " + oxenDamage + "%.";
                 break;
 
-            case "Dust Storm":
+            case PerilCatalog.DUST_STORM:
                 moraleLoss = 8 + random.nextInt(7);
                 delayDays = 1;
                 message += "\nA choking dust storm reduces visibility and makes breathing difficult.";
@@ -952,7 +906,7 @@ public class Perils {
                 deathCause = "exhaustion";
                 break;
                 
-            case "Sudden Freeze":
+            case PerilCatalog.SUDDEN_FREEZE:
                  moraleLoss = 10 + random.nextInt(10);
                  message += "\nAn unexpected cold snap hits overnight.";
                  healthDamage = 8 + random.nextInt(12); // Cold exposure (8-20)
@@ -962,7 +916,7 @@ public class Perils {
                  // Chance of damaging fragile items? (Less likely than parts)
                  break;
                  
-             case "Flooding River": // Could happen away from main crossing
+             case PerilCatalog.FLOODING_RIVER: // Could happen away from main crossing
                  moraleLoss = 15 + random.nextInt(10);
                  delayDays = 1 + random.nextInt(3); // 1-3 days delay waiting for water to subside
                  message += "\nHeavy rains cause a nearby creek to flood, blocking the path.";
@@ -1007,14 +961,12 @@ public class Perils {
         
         // Apply part damage
         if (partDamage) {
-            String brokenPart = inventory.repairRandomBrokenPart(); // Let's assume this simulates damage for now
-            if (brokenPart != null) {
-                 message += "\nThe harsh weather damaged a wagon " + brokenPart + ".";
-                 // TODO: Need a better damage system than using repair method
-            } else if (inventory.getWagonParts() > 0) {
-                // If repair didn't work but parts exist, maybe damage one specifically?
-                inventory.useWagonParts(1); // Use a random part
-                message += "\nThe harsh weather damaged a wagon part.";
+            WagonPart damagedPart = inventory.damageRandomPart(WEATHER_PART_DAMAGE);
+            if (damagedPart != null) {
+                message += "\nThe harsh weather damaged your wagon's " + damagedPart.getDisplayName() + ".";
+                if (inventory.isPartBroken(damagedPart.getDisplayName())) {
+                    message += "\n" + damagedPart.getHistoricalNote();
+                }
             }
         }
 
@@ -1041,16 +993,16 @@ public class Perils {
      * Effects vary based on the animal type and situation.
      * May affect health, morale, and resources.
      */
-    private void generateAnimalEvent() {
-        String event = animalEvents.get(random.nextInt(animalEvents.size()));
-        String message = "Animal Encounter: " + event + ".";
+    private void generateAnimalEvent(int event) {
+        String name = catalog.getName(event);
+        String message = "Animal Encounter: " + name + ".";
         int healthDamage = 0;
         int moraleChange = 0; // Can be positive or negative
         int ammoUsed = 0;
         String deathCause = "animal attack"; // Default for attacks
 
         switch (event) {
-            case "Snakebite":
+            case PerilCatalog.SNAKEBITE:
                 message += "\nA venomous snake bites you!";
                 healthDamage = 30 + random.nextInt(40); // Serious health impact (30-70)
                 moraleChange = -15 - random.nextInt(10); // Significant fear/morale loss
@@ -1068,7 +1020,7 @@ public class Perils {
                 }
                 break;
 
-            case "Wolf Pack Nearby":
+            case PerilCatalog.WOLF_PACK:
                 message += "\nA pack of wolves is spotted shadowing the wagon train.";
                 moraleChange = -10 - random.nextInt(10); // Fear
                 // Chance of attack if low on ammo or traveling slow?
@@ -1084,7 +1036,7 @@ public class Perils {
                 }
                 break;
 
-            case "Bison Stampede":
+            case PerilCatalog.BISON_STAMPEDE:
                 message += "\nA massive bison herd stampedes nearby!";
                 moraleChange = -5 - random.nextInt(10); // Fear and awe
                 // Chance of wagon damage or injury
@@ -1096,15 +1048,15 @@ public class Perils {
                      inventory.useWagonParts(partsDamaged);
                      message += "\n" + partsDamaged + " wagon part(s) were damaged.";
                      // Damage oxen
-                     inventory.decreaseOxenHealth(20 + random.nextInt(20));
-                     message += "\nOxen were injured in the chaos.";
+                     inventory.injureOx(20 + random.nextInt(20), 7 + random.nextInt(7));
+                     message += "\nOne of your oxen was injured in the chaos.";
                      deathCause = "accident";
                 } else {
                      message += "\nYou manage to steer clear of the main herd.";
                 }
                 break;
 
-            case "Bear Sighting":
+            case PerilCatalog.BEAR_SIGHTING:
                  message += "\nA large bear is seen near the camp.";
                  moraleChange = -8 - random.nextInt(7); // Fear
                  // Chance of raid if food is not secured? (Simplification: random chance)
@@ -1124,14 +1076,18 @@ public class Perils {
                  }
                  break;
                  
-             case "Wild Horse Encounter":
-                  message += "\nA herd of wild horses gallops past.";
-                  moraleChange = 5 + random.nextInt(5); // Inspiring sight
-                  // Small chance to potentially trade for one? (Very rare/complex)
-                  message += "\nTheir wild spirit is an inspiring sight.";
+             case PerilCatalog.SPOOKED_OXEN:
+                  message += "\nCoyotes howling near camp spook the oxen in the night.";
+                  moraleChange = -3;
+                  if (random.nextDouble() < 0.3 && inventory.loseOx()) {
+                       message += "\nOne ox broke loose and could not be found by morning.";
+                       moraleChange = -8;
+                  } else {
+                       message += "\nYou round up the team by morning.";
+                  }
                   break;
-                  
-             case "Prairie Dog Town":
+
+             case PerilCatalog.PRAIRIE_DOGS:
                   message += "\nYou pass through a large prairie dog town.";
                   moraleChange = 2 + random.nextInt(4); // Mildly amusing
                   // Small chance of wagon wheel damage from holes
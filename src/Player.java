@@ -3,29 +3,62 @@
  * Represents the player character in the game, managing their attributes, health, morale,
  * and job-specific bonuses. Handles all player-related state and calculations.
  *
+ * Every member of the party, the player first, has their own health, active
+ * conditions and recovery timers, kept in primitive arrays indexed by member
+ * so a day's progression is one pass over the party.
+ *
  * @author Alex Randall and Chase McCluskey
  * @version 1.0
  * @date 05/06/2025
  * @file Player.java
  */
 
+import java.util.Random;
+
 public class Player {
+    // Largest party: the player and three family members
+    public static final int MAX_PARTY_SIZE = 4;
+
+    // Index of the player among the party members
+    public static final int PLAYER_INDEX = 0;
+
+    // All conditions, in ordinal order
+    private static final Condition[] CONDITIONS = Condition.values();
+
     private final String name;
 
     private final String gender;
 
-    private int health;
+    // Party members, indexed by member with the player at PLAYER_INDEX
+    private int memberCount;
+    private final String[] memberNames = new String[MAX_PARTY_SIZE];
+    private final int[] memberHealth = new int[MAX_PARTY_SIZE];
+    private final String[] memberCauseOfDeath = new String[MAX_PARTY_SIZE];
+
+    // Bitset of each member's active conditions
+    private final int[] memberConditions = new int[MAX_PARTY_SIZE];
 
-    private boolean isDead;
+    // Days left on each condition, indexed [member * condition count + condition ordinal]
+    private final int[] recoveryDays = new int[MAX_PARTY_SIZE * CONDITIONS.length];
 
-    private String causeOfDeath;
+    // Bitset of members who have died
+    private int deadMask;
 
-    private final String[] familyMembers;
+    // Who is in close contact with whom; everyone in the party shares the wagon.
+    // In a wagon train the family is a row of the train's graph instead; see WagonTrain
+    private ContactGraph contacts = ContactGraph.forWagon(1);
+
+    // Who passed each member the disease they most recently caught, and what it was
+    private final int[] infectedBy = new int[MAX_PARTY_SIZE];
+    private final Condition[] caughtCondition = new Condition[MAX_PARTY_SIZE];
 
     private int money;
 
     private final Job job;
 
+    // Modifiers the job, weather, terrain, party condition and items place on the game
+    private final ModifierStack modifiers = new ModifierStack();
+
     private int morale;
 
     /**
@@ -44,24 +77,36 @@ public class Player {
         this.name = name;
         this.gender = gender;
         this.morale = 100;
-        this.health = 100;
-        this.isDead = false;
-        this.causeOfDeath = "";
         this.job = job;
+        this.modifiers.setJob(job);
         this.money = 1000;
-        this.familyMembers = new String[3];
+        this.memberCount = 1;
+        this.memberNames[PLAYER_INDEX] = name;
+        this.memberHealth[PLAYER_INDEX] = 100;
+        this.memberCauseOfDeath[PLAYER_INDEX] = "";
     }
 
     /**
      * Sets the player's family members.
-     * Copies up to 3 family member names into the player's family array.
+     * Empty names are skipped, so only family actually traveling joins the party.
      * 
      * @param members Array of family member names (maximum 3)
      */
     public void setFamilyMembers(String[] members) {
-        if (members.length <= 3) {
-            System.arraycopy(members, 0, this.familyMembers, 0, members.length);
+        if (members.length >= MAX_PARTY_SIZE) {
+            return;
         }
+        memberCount = 1;
+        for (String member : members) {
+            if (member != null && !member.trim().isEmpty()) {
+                memberNames[memberCount] = member.trim();
+                memberHealth[memberCount] = 100;
+                memberConditions[memberCount] = 0;
+                memberCauseOfDeath[memberCount] = "";
+                memberCount++;
+            }
+        }
+        contacts = ContactGraph.forWagon(memberCount);
     }
 
     /**
@@ -106,22 +151,24 @@ public class Player {
 
     /**
      * Gets the player's family members.
-     * Returns an array of up to 3 family member names.
+     * Returns an array of up to 3 family member names, living or dead.
      * 
      * @return Array of family member names
      */
     public String[] getFamilyMembers() {
-        return familyMembers;
+        String[] family = new String[memberCount - 1];
+        System.arraycopy(memberNames, 1, family, 0, family.length);
+        return family;
     }
 
     /**
-     * Gets the total size of the player's family including themselves.
+     * Gets the number of living party members including the player.
      * Used for resource consumption calculations and event outcomes.
      * 
-     * @return Total number of family members plus the player
+     * @return Number of living family members plus the player
      */
     public int getFamilySize() {
-        return familyMembers.length + 1;
+        return memberCount - Integer.bitCount(deadMask);
     }
 
     /**
@@ -160,7 +207,7 @@ public class Player {
      * @return The health value (0-100)
      */
     public int getHealth() {
-        return health;
+        return memberHealth[PLAYER_INDEX];
     }
 
     /**
@@ -174,15 +221,7 @@ public class Player {
      *         - "Very poor" (0-20)
      */
     public String getHealthStatus() {
-        if (health > 80) {
-            return "Good";
-        } else if (health > 50) {
-            return "Fair";
-        } else if (health > 20) {
-            return "Poor";
-        } else {
-            return "Very poor";
-        }
+        return getMemberHealthStatus(PLAYER_INDEX);
     }
 
     /**
@@ -192,10 +231,7 @@ public class Player {
      * @param amount The amount of health to decrease (must be non-negative)
      */
     public void decreaseHealth(int amount) {
-        health = Math.max(0, health - amount);
-        if (health == 0) {
-            isDead = true;
-        }
+        decreaseMemberHealth(PLAYER_INDEX, amount, null);
     }
     
     /**
@@ -206,11 +242,7 @@ public class Player {
      * @param cause Specific cause to assign if player dies from this damage
      */
     public void decreaseHealth(int amount, String cause) {
-        health = Math.max(0, health - amount);
-        if (health == 0) {
-            this.causeOfDeath = cause;
-            isDead = true;
-        }
+        decreaseMemberHealth(PLAYER_INDEX, amount, cause);
     }
 
     /**
@@ -220,7 +252,312 @@ public class Player {
      * @param amount The amount of health to increase (must be non-negative)
      */
     public void increaseHealth(int amount) {
-        health = Math.min(100, health + amount);
+        increaseMemberHealth(PLAYER_INDEX, amount);
+    }
+
+    /**
+     * Increases the health of every living party member, as when the party rests.
+     * Caps health at 100.
+     *
+     * @param amount The amount of health to increase (must be non-negative)
+     */
+    public void increasePartyHealth(int amount) {
+        for (int m = 0; m < memberCount; m++) {
+            increaseMemberHealth(m, amount);
+        }
+    }
+
+    /**
+     * Gets the number of party members, living or dead, including the player.
+     *
+     * @return The number of party members
+     */
+    public int getMemberCount() {
+        return memberCount;
+    }
+
+    public String getMemberName(int member) {
+        return memberNames[member];
+    }
+
+    public int getMemberHealth(int member) {
+        return memberHealth[member];
+    }
+
+    public boolean isMemberDead(int member) {
+        return (deadMask & (1 << member)) != 0;
+    }
+
+    public String getMemberCauseOfDeath(int member) {
+        return memberCauseOfDeath[member];
+    }
+
+    /**
+     * Gets a text description of a party member's health status.
+     * Uses the same ranges as the player's health status.
+     *
+     * @param member The member index
+     * @return "Dead", "Good", "Fair", "Poor" or "Very poor"
+     */
+    public String getMemberHealthStatus(int member) {
+        int health = memberHealth[member];
+        if (isMemberDead(member)) {
+            return "Dead";
+        } else if (health > 80) {
+            return "Good";
+        } else if (health > 50) {
+            return "Fair";
+        } else if (health > 20) {
+            return "Poor";
+        } else {
+            return "Very poor";
+        }
+    }
+
+    /**
+     * Decreases a party member's health, marking them dead at 0.
+     *
+     * @param member The member index
+     * @param amount The amount of health to decrease (must be non-negative)
+     * @param cause The cause of death to record if this kills them, or null for none
+     */
+    public void decreaseMemberHealth(int member, int amount, String cause) {
+        if (isMemberDead(member)) {
+            return;
+        }
+        memberHealth[member] = Math.max(0, memberHealth[member] - amount);
+        if (memberHealth[member] == 0) {
+            if (cause != null) {
+                memberCauseOfDeath[member] = cause;
+            }
+            killMember(member);
+        }
+    }
+
+    /**
+     * Increases a living party member's health.
+     * Caps health at 100.
+     *
+     * @param member The member index
+     * @param amount The amount of health to increase (must be non-negative)
+     */
+    public void increaseMemberHealth(int member, int amount) {
+        if (!isMemberDead(member)) {
+            memberHealth[member] = Math.min(100, memberHealth[member] + amount);
+        }
+    }
+
+    /**
+     * Marks a member dead and clears their conditions.
+     */
+    private void killMember(int member) {
+        memberHealth[member] = 0;
+        memberConditions[member] = 0;
+        deadMask |= 1 << member;
+    }
+
+    /**
+     * Picks a random living party member, such as the victim of a disease.
+     *
+     * @param random The random source
+     * @return The member index, or -1 if everyone is dead
+     */
+    public int getRandomLivingMember(Random random) {
+        int living = getFamilySize();
+        if (living == 0) {
+            return -1;
+        }
+        int pick = random.nextInt(living);
+        for (int m = 0; m < memberCount; m++) {
+            if (!isMemberDead(m) && pick-- == 0) {
+                return m;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gives a party member a condition for a number of days.
+     * Catching a condition they already have restarts its course.
+     *
+     * @param member The member index
+     * @param condition The disease or injury
+     * @param days The days it will last
+     */
+    public void addCondition(int member, Condition condition, int days) {
+        if (isMemberDead(member) || days <= 0) {
+            return;
+        }
+        memberConditions[member] |= condition.bit();
+        recoveryDays[member * CONDITIONS.length + condition.ordinal()] = days;
+    }
+
+    /**
+     * Checks whether a party member is suffering from a condition.
+     *
+     * @param member The member index
+     * @param condition The disease or injury
+     * @return true if the condition is active
+     */
+    public boolean hasCondition(int member, Condition condition) {
+        return (memberConditions[member] & condition.bit()) != 0;
+    }
+
+    /**
+     * Gets the bitset of a party member's active conditions.
+     *
+     * @param member The member index
+     * @return The bitset, indexed by Condition ordinal
+     */
+    public int getMemberConditions(int member) {
+        return memberConditions[member];
+    }
+
+    /**
+     * Describes a party member's active conditions, such as "cholera (3 days)".
+     *
+     * @param member The member index
+     * @return The description, or an empty string if they have none
+     */
+    public String describeConditions(int member) {
+        StringBuilder text = new StringBuilder();
+        int mask = memberConditions[member];
+        while (mask != 0) {
+            int c = Integer.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+            if (text.length() > 0) {
+                text.append(", ");
+            }
+            int days = recoveryDays[member * CONDITIONS.length + c];
+            text.append(CONDITIONS[c].getDisplayName()).append(" (").append(days)
+                    .append(days == 1 ? " day)" : " days)");
+        }
+        return text.toString();
+    }
+
+    /**
+     * Lets the party's contagious diseases spread for a day.
+     * Each sick member may pass their disease to the others in the wagon;
+     * who caught what from whom is recorded for the trail log. Used when the
+     * party travels alone; a wagon train spreads the family's diseases itself.
+     *
+     * @param random The random source
+     * @return The bitset of members who caught something today
+     */
+    public int spreadConditions(Random random) {
+        long[] infectious = contacts.newBitset();
+        long[] susceptible = contacts.newBitset();
+        long[] caught = contacts.newBitset();
+        int newlySick = 0;
+
+        for (Condition condition : CONDITIONS) {
+            if (!condition.isContagious()) {
+                continue;
+            }
+            infectious[0] = 0;
+            susceptible[0] = 0;
+            for (int m = 0; m < memberCount; m++) {
+                if (isMemberDead(m)) {
+                    continue;
+                }
+                if (hasCondition(m, condition)) {
+                    infectious[0] |= 1L << m;
+                } else {
+                    susceptible[0] |= 1L << m;
+                }
+            }
+            if (infectious[0] == 0 || contacts.spread(infectious, susceptible, condition.getTransmission(),
+                    random, caught, infectedBy) == 0) {
+                continue;
+            }
+            for (int m = 0; m < memberCount; m++) {
+                if ((caught[0] & (1L << m)) != 0) {
+                    addCondition(m, condition, condition.getDurationDays());
+                    caughtCondition[m] = condition;
+                    newlySick |= 1 << m;
+                }
+            }
+        }
+        return newlySick;
+    }
+
+    /**
+     * Gives a member a contagious disease caught outside the party's own
+     * spread, as from the wagon train the party travels with.
+     *
+     * @param member The member index
+     * @param condition The disease
+     * @param source The member who passed it on, or -1 for someone outside the party
+     */
+    public void catchCondition(int member, Condition condition, int source) {
+        addCondition(member, condition, condition.getDurationDays());
+        caughtCondition[member] = condition;
+        infectedBy[member] = source;
+    }
+
+    /**
+     * Gets who passed a member the disease they most recently caught.
+     *
+     * @param member The member index
+     * @return The member index of whoever passed it on, or -1 for someone outside the party
+     */
+    public int getInfectedBy(int member) {
+        return infectedBy[member];
+    }
+
+    /**
+     * Gets the disease a member most recently caught from the party.
+     *
+     * @param member The member index
+     * @return The disease, or null if they have not caught one
+     */
+    public Condition getCaughtCondition(int member) {
+        return caughtCondition[member];
+    }
+
+    /**
+     * Runs one day of the party's conditions.
+     * Every active condition drains its daily health and counts down toward
+     * recovery; resting halves the health lost. A member who dies is recorded
+     * as dying of their most severe condition.
+     *
+     * @param resting Whether the party rested today
+     * @return The bitset of members who died today
+     */
+    public int progressConditions(boolean resting) {
+        int diedToday = 0;
+        for (int m = 0; m < memberCount; m++) {
+            int mask = memberConditions[m];
+            if (mask == 0) {
+                continue;
+            }
+            int loss = 0;
+            int worst = -1;
+            int remaining = mask;
+            while (remaining != 0) {
+                int c = Integer.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+                int dailyLoss = CONDITIONS[c].getDailyHealthLoss();
+                loss += dailyLoss;
+                if (worst < 0 || dailyLoss > CONDITIONS[worst].getDailyHealthLoss()) {
+                    worst = c;
+                }
+                if (--recoveryDays[m * CONDITIONS.length + c] <= 0) {
+                    mask &= ~(1 << c);
+                }
+            }
+            memberConditions[m] = mask;
+            if (resting) {
+                loss /= 2;
+            }
+            if (loss > 0) {
+                decreaseMemberHealth(m, loss, CONDITIONS[worst].getDisplayName());
+                if (isMemberDead(m)) {
+                    diedToday |= 1 << m;
+                }
+            }
+        }
+        return diedToday;
     }
 
     /**
@@ -250,7 +587,7 @@ public class Player {
      * @return true if the player is dead, false otherwise
      */
     public boolean isDead() {
-        return isDead;
+        return isMemberDead(PLAYER_INDEX);
     }
 
     /**
@@ -260,7 +597,7 @@ public class Player {
      * @return The cause of death, or empty string if alive
      */
     public String getCauseOfDeath() {
-        return causeOfDeath;
+        return memberCauseOfDeath[PLAYER_INDEX];
     }
 
     /**
@@ -270,76 +607,101 @@ public class Player {
      * @param cause The specific cause of death
      */
     public void setCauseOfDeath(String cause) {
-        this.causeOfDeath = cause;
+        memberCauseOfDeath[PLAYER_INDEX] = cause;
+    }
+
+    /**
+     * Gets the modifiers the job, weather, terrain, party condition and
+     * items place on the game.
+     * 
+     * @return The player's modifier stack
+     */
+    public ModifierStack getModifiers() {
+        return modifiers;
+    }
+
+    /**
+     * Gets the number of living members suffering from an illness or injury.
+     * 
+     * @return The number of ailing members
+     */
+    public int getAilingCount() {
+        int ailing = 0;
+        for (int m = 0; m < memberCount; m++) {
+            if (!isMemberDead(m) && memberConditions[m] != 0) {
+                ailing++;
+            }
+        }
+        return ailing;
     }
 
     /**
-     * Gets the wagon part breakage modifier based on the player's job.
-     * Returns a multiplier that affects the chance of wagon parts breaking.
+     * Gets the wagon part wear modifier.
+     * Returns a multiplier that affects how fast wagon parts wear out.
      * 
-     * @return The part breakage modifier (e.g., 0.75 for Blacksmith)
+     * @return The part wear modifier (e.g., 0.75 for Blacksmith)
      */
     public double getPartBreakModifier() {
-        return job == Job.BLACKSMITH ? 0.75 : 1.0;
+        return modifiers.get(Effect.PART_WEAR);
     }
 
     /**
-     * Gets the food spoilage modifier based on the player's job.
+     * Gets the food spoilage modifier.
      * Returns a multiplier that affects the rate of food spoilage.
      * 
      * @return The food spoilage modifier (e.g., 0.75 for Farmer)
      */
     public double getFoodSpoilageModifier() {
-        return job == Job.FARMER ? 0.75 : 1.0;
+        return modifiers.get(Effect.FOOD_SPOILAGE);
     }
 
     /**
-     * Gets the hunting success modifier based on the player's job.
+     * Gets the hunting success modifier.
      * Returns a multiplier that affects the chance of successful hunting.
      * 
      * @return The hunting success modifier (e.g., 1.25 for Hunter)
      */
     public double getHuntingSuccessModifier() {
-        return job == Job.HUNTER ? 1.25 : 1.0;
+        return modifiers.get(Effect.HUNT_SUCCESS);
     }
 
     /**
-     * Gets the medical treatment modifier based on the player's job.
+     * Gets the medical treatment modifier.
      * Returns a multiplier that affects the effectiveness of medical treatments.
      * 
      * @return The medical treatment modifier (e.g., 1.25 for Doctor)
      */
     public double getDoctorModifier() {
-        return job == Job.DOCTOR ? 1.25 : 1.0;
+        return modifiers.get(Effect.MEDICAL_CARE);
     }
 
     /**
-     * Gets the buying price modifier based on the player's job.
+     * Gets the buying price modifier.
      * Returns a multiplier that affects the cost of purchased items.
      * 
      * @return The buying price modifier (e.g., 0.9 for Merchant)
      */
     public double getBuyMerchantModifier() {
-        return job == Job.MERCHANT ? 0.9 : 1.0;
+        return modifiers.get(Effect.BUY_PRICE);
     }
 
     /**
-     * Gets the selling price modifier based on the player's job.
+     * Gets the selling price modifier.
      * Returns a multiplier that affects the value of sold items.
      * 
      * @return The selling price modifier (e.g., 1.1 for Merchant)
      */
     public double getSellMerchantModifier() {
-        return job == Job.MERCHANT ? 1.1 : 1.0;
+        return modifiers.get(Effect.SELL_PRICE);
     }
 
     /**
-     * Gets the morale loss modifier based on the player's job.
+     * Gets the morale loss modifier.
      * Returns a multiplier that affects the rate of morale loss.
      * 
      * @return The morale loss modifier (e.g., 0.75 for Preacher)
      */
     public double getPreacherMoralModifier() {
-        return job == Job.PREACHER ? 0.75 : 1.0;
+        return modifiers.get(Effect.MORALE_LOSS);
     }
-}
\ No newline at end of file
+}
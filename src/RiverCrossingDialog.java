@@ -28,15 +28,19 @@ public class RiverCrossingDialog extends JDialog {
     private final Player player;
     private final Inventory inventory;
     private final Weather weather;
+    private final Time time;
+    private final RiverCrossingEngine engine;
+    private final RiverHydrology hydrology;
     private final Random random = new Random();
     private final Consumer<String> notifier; // To send messages back to GameController
 
     // River name to display in the dialog
     private String riverName = "River Crossing";
 
-    // River characteristics
+    // River characteristics, from the river's profile and the day
+    private final int riverProfile;
     private int depth;
-    private final int width;
+    private int width;
 
     // GUI components
     private JPanel optionsPanel; // To disable buttons
@@ -50,8 +54,8 @@ public class RiverCrossingDialog extends JDialog {
     /**
      * Constructs a new RiverCrossingDialog.
      * Initializes the dialog with:
-     * - River characteristics (depth and width)
-     * - Weather effects on river conditions
+     * - River characteristics (depth, width and current) for the season
+     * - Recent rain raising the river
      * - Available crossing options
      * - Risk assessment information
      * 
@@ -59,25 +63,28 @@ public class RiverCrossingDialog extends JDialog {
      * @param player The player character
      * @param inventory The game's inventory system
      * @param weather The current weather conditions
+     * @param time The game's time, advanced if the party waits
+     * @param engine The engine deciding crossing outcomes
+     * @param hydrology The game's river hydrology
+     * @param riverProfile The RiverHydrology profile of the river
      * @param notifier Function to send messages back to GameController
      */
-    public RiverCrossingDialog(Frame owner, Player player, Inventory inventory, Weather weather, Consumer<String> notifier) {
+    public RiverCrossingDialog(Frame owner, Player player, Inventory inventory, Weather weather,
+                               Time time, RiverCrossingEngine engine, RiverHydrology hydrology, int riverProfile,
+                               Consumer<String> notifier) {
         super(owner, "River Crossing", true); // Modal dialog
         this.player = player;
         this.inventory = inventory;
         this.weather = weather;
+        this.time = time;
+        this.engine = engine;
+        this.hydrology = hydrology;
+        this.riverProfile = riverProfile;
         this.notifier = notifier;
 
-        // Generate river characteristics
-        depth = 2 + random.nextInt(19); // 2-20 feet deep
-        width = 50 + random.nextInt(301); // 50-350 feet wide
-
-        // Adjust difficulty based on weather
-        if (weather != null && (weather.getCurrentWeather().contains("Rain") ||
-                weather.getCurrentWeather().contains("Snow") ||
-                weather.getCurrentWeather().contains("Storm"))) {
-            depth += (2 + random.nextInt(4)); // Increase depth by 2-5 feet in bad weather
-        }
+        // Look up the river for the season and recent rain
+        depth = hydrology.getDepth(riverProfile, time.getEpochDay());
+        width = hydrology.getWidth(riverProfile, time.getEpochDay());
 
         initUI();
         pack();
@@ -117,8 +124,9 @@ public class RiverCrossingDialog extends JDialog {
         topPanel.setBorder(new EmptyBorder(10, 10, 10, 10));
 
         JTextArea riverInfoText = new JTextArea(
-                "You've come to a river that is " + width + " feet wide and " + depth + " feet deep.\n" +
-                        (weather != null && (weather.getCurrentWeather().contains("Rain") || weather.getCurrentWeather().contains("Snow")) ?
+                "You've come to a river that is " + width + " feet wide and " + depth + " feet deep, " +
+                        String.format("flowing at %.1f mph.\n", hydrology.getCurrent(riverProfile, time.getEpochDay())) +
+                        (hydrology.getRunoff() >= 1.0 ?
                                 "The recent precipitation has made the river higher and faster than usual.\n" : "") +
                         "You need to decide how to cross."
         );
@@ -146,7 +154,7 @@ public class RiverCrossingDialog extends JDialog {
 
         // Option buttons with direct ActionListener implementations
         JButton fordButton = createOptionButton("Ford the river (wade across)",
-                "Attempt to walk the wagon through the river. Risky if deep.",
+                "Attempt to walk the wagon through the river. Risky if deep. " + describeOdds(RiverCrossingEngine.FORD),
                 e -> {
                     fordRiver(); // Performs logic and sends notifications
                     disableOptions();
@@ -154,14 +162,14 @@ public class RiverCrossingDialog extends JDialog {
                 });
 
         JButton caulkButton = createOptionButton("Caulk the wagon and float across",
-                "Seal the wagon and float it. Better for deeper rivers, but takes time.",
+                "Seal the wagon and float it. Better for deeper rivers, but takes time. " + describeOdds(RiverCrossingEngine.CAULK),
                 e -> {
                     caulkAndFloat(); // Performs logic and sends notifications
                     disableOptions();
                     dispose(); // Close dialog after action
                 });
 
-        JButton ferryButton = createOptionButton("Use a ferry ($10)",
+        JButton ferryButton = createOptionButton("Use a ferry ($" + RiverCrossingEngine.FERRY_FEE + ")",
                 "Pay for a safe crossing if available and affordable.",
                 e -> {
                     useFerry(); // Performs logic, sends notifications, and may dispose or re-enable options
@@ -181,6 +189,34 @@ public class RiverCrossingDialog extends JDialog {
         add(optionsPanel, BorderLayout.CENTER);
     }
 
+    /**
+     * Describes the odds of a crossing option for the current river and team.
+     *
+     * @param option The crossing option
+     * @return The chance of success and the food expected to be lost
+     */
+    private String describeOdds(int option) {
+        boolean rough = isRoughWater();
+        double power = getPullingPower();
+        double success = engine.getSuccessChance(option, depth, width, rough, power);
+        double food = engine.getExpected(option, RiverCrossingEngine.FOOD_LOST, depth, width, rough, power);
+        return String.format("(%.0f%% chance of success, about %.0f lbs of food lost on average)", success * 100, food);
+    }
+
+    /**
+     * Checks whether the water is rough, from the weather or a swift current.
+     */
+    private boolean isRoughWater() {
+        return RiverCrossingEngine.isRough(weather) || hydrology.isSwift(riverProfile, time.getEpochDay());
+    }
+
+    /**
+     * Gets the team's pulling power, full strength if there is no inventory.
+     */
+    private double getPullingPower() {
+        return inventory != null ? inventory.getPullingPower() : 1.0;
+    }
+
     /**
      * Creates an option button with formatted title and description.
      * 
@@ -247,46 +283,37 @@ public class RiverCrossingDialog extends JDialog {
         List<String> messages = new ArrayList<>(); // Collect messages
         messages.add("Attempting to ford the river...");
 
-        // Calculate successChance
-        double successChance;
-        if (depth <= 3) successChance = 0.95;
-        else if (depth <= 6) successChance = 0.70;
-        else if (depth <= 10) successChance = 0.40;
-        else successChance = 0.15;
-        if (inventory != null) {
-            successChance *= Math.max(0.5, inventory.getOxenHealth() / 100.0);
-            successChance *= Math.min(1.0, inventory.getOxen() / 3.0);
-        }
+        // The team's pulling power covers the number of yokes and each ox's condition
+        RiverCrossingEngine.Outcome outcome = engine.resolve(RiverCrossingEngine.FORD, depth, width,
+                isRoughWater(), getPullingPower(), random);
 
-        if (Math.random() < successChance) {
+        if (outcome.success) {
             messages.add("Success! You safely forded the river.");
-            if (Math.random() < 0.15) {
-                int foodLost = 10 + random.nextInt(21);
-                if (inventory != null) inventory.consumeFood(foodLost);
-                messages.add("However, some supplies got wet. Lost " + foodLost + " lbs of food.");
+            if (outcome.foodLost > 0) {
+                if (inventory != null) inventory.consumeFood(outcome.foodLost);
+                messages.add("However, some supplies got wet. Lost " + outcome.foodLost + " lbs of food.");
             }
         } else {
             messages.add("Disaster! The wagon got stuck or overturned!");
-            int foodLost = 50 + random.nextInt(101);
-            int partsLost = random.nextInt(2);
-            int medicineLost = random.nextInt(2);
             if (inventory != null) {
-                inventory.consumeFood(foodLost);
-                inventory.useWagonParts(partsLost);
-                inventory.useMedicine(medicineLost);
-                inventory.decreaseOxenHealth(10 + random.nextInt(16));
+                inventory.consumeFood(outcome.foodLost);
+                inventory.useWagonParts(outcome.partsLost);
+                inventory.useMedicine(outcome.medicineLost);
+                inventory.decreaseOxenHealth(outcome.oxenHealthLost);
             }
-            messages.add("Lost: " + foodLost + " lbs food" +
-                    (partsLost > 0 ? ", " + partsLost + " wagon part(s)" : "") +
-                    (medicineLost > 0 ? ", " + medicineLost + " medicine kit" + (medicineLost > 1 ? "s" : "") : "") +
+            messages.add("Lost: " + outcome.foodLost + " lbs food" +
+                    (outcome.partsLost > 0 ? ", " + outcome.partsLost + " wagon part(s)" : "") +
+                    (outcome.medicineLost > 0 ? ", " + outcome.medicineLost + " medicine kit" + (outcome.medicineLost > 1 ? "s" : "") : "") +
                     ". Oxen health decreased.");
-            if (player != null && Math.random() < 0.4) {
-                int healthLost = 10 + random.nextInt(16);
-                player.decreaseHealth(healthLost);
-                messages.add("Someone was injured! Lost " + healthLost + " health.");
+            if (inventory != null && outcome.oxLost && inventory.loseOx()) {
+                messages.add("One of your oxen was swept away by the current.");
+            }
+            if (player != null && outcome.healthLost > 0) {
+                player.decreaseHealth(outcome.healthLost);
+                messages.add("Someone was injured! Lost " + outcome.healthLost + " health.");
                 
-                // Check for drowning death (5% chance in deep water)
-                if (depth > 8 && Math.random() < 0.05) {
+                // Check for drowning death in deep water
+                if (outcome.drowned) {
                     player.decreaseHealth(player.getHealth(), "drowning"); // Direct cause and ensure death
                     messages.add("Tragedy strikes! Someone in your party drowned in the river.");
                 }
@@ -318,55 +345,37 @@ public class RiverCrossingDialog extends JDialog {
         List<String> messages = new ArrayList<>();
         messages.add("Sealing the wagon with pitch to float across...");
 
-        // ... (calculate successChance as before) ...
-        double successChance;
-        if (depth > 10) successChance = 0.85;
-        else if (depth > 5) successChance = 0.75;
-        else successChance = 0.50;
-        if (weather != null && (weather.getCurrentWeather().contains("Rain") || weather.getCurrentWeather().contains("Storm"))) {
-            successChance -= 0.25;
+        boolean rough = isRoughWater();
+        if (rough) {
             messages.add("The rough water makes floating treacherous.");
         }
+        RiverCrossingEngine.Outcome outcome = engine.resolve(RiverCrossingEngine.CAULK, depth, width,
+                rough, getPullingPower(), random);
 
-
-        if (Math.random() < successChance) {
+        if (outcome.success) {
             messages.add("Success! You floated across without major incident.");
         } else {
             messages.add("The wagon took on water! Some supplies damaged!");
-            int foodLost = 30 + random.nextInt(51);
-            int ammoLost = 0;
-            if (Math.random() < 0.3) {
-                ammoLost = 10 + random.nextInt(21);
-            }
             if (inventory != null) {
-                inventory.consumeFood(foodLost);
-                if (ammoLost > 0) inventory.useAmmunition(ammoLost);
-                if (Math.random() < 0.1) {
-                    inventory.useWagonParts(1);
+                inventory.consumeFood(outcome.foodLost);
+                if (outcome.ammoLost > 0) inventory.useAmmunition(outcome.ammoLost);
+                if (outcome.partsLost > 0) {
+                    inventory.useWagonParts(outcome.partsLost);
                     messages.add("The water also damaged a wagon part.");
                 }
             }
-            messages.add("Lost " + foodLost + " lbs of food" +
-                    (ammoLost > 0 ? " and " + ammoLost + " rounds of ammo." : "."));
-                    
-            // Check for potential drowning (8% chance if stormy, 3% otherwise)
-            if (player != null) {
-                double drowningChance = (weather != null && 
-                    (weather.getCurrentWeather().contains("Rain") || 
-                     weather.getCurrentWeather().contains("Storm"))) ? 0.08 : 0.03;
-                     
-                if (Math.random() < drowningChance) {
-                    // Severe health impact with possibility of death
-                    int healthLost = 30 + random.nextInt(30); // 30-60 health impact
+            messages.add("Lost " + outcome.foodLost + " lbs of food" +
+                    (outcome.ammoLost > 0 ? " and " + outcome.ammoLost + " rounds of ammo." : "."));
                     
-                    if (player.getHealth() <= healthLost) {
-                        // If this damage would kill the player, provide specific cause
-                        player.decreaseHealth(healthLost, "drowning");
-                        messages.add("Tragedy! Your wagon capsized in the river and someone drowned.");
-                    } else {
-                        player.decreaseHealth(healthLost);
-                        messages.add("Nearly drowned! Lost " + healthLost + " health points.");
-                    }
+            // Check for a near drowning, which is more likely in rough water
+            if (player != null && outcome.healthLost > 0) {
+                if (player.getHealth() <= outcome.healthLost) {
+                    // If this damage would kill the player, provide specific cause
+                    player.decreaseHealth(outcome.healthLost, "drowning");
+                    messages.add("Tragedy! Your wagon capsized in the river and someone drowned.");
+                } else {
+                    player.decreaseHealth(outcome.healthLost);
+                    messages.add("Nearly drowned! Lost " + outcome.healthLost + " health points.");
                 }
             }
         }
@@ -393,16 +402,18 @@ public class RiverCrossingDialog extends JDialog {
         List<String> messages = new ArrayList<>();
         messages.add("Approaching the ferryman...");
 
-        if (player != null && inventory != null && player.getMoney() >= 10) {
-            player.spendMoney(10);
-            messages.add("Paid the ferryman $10.");
+        if (player != null && inventory != null && player.getMoney() >= RiverCrossingEngine.FERRY_FEE) {
+            RiverCrossingEngine.Outcome outcome = engine.resolve(RiverCrossingEngine.FERRY, depth, width,
+                    isRoughWater(), getPullingPower(), random);
+            player.spendMoney(outcome.moneySpent);
+            messages.add("Paid the ferryman $" + outcome.moneySpent + ".");
             messages.add("He safely transports you and your wagon across.");
             messages.add("A safe, albeit costly, crossing!");
             notify(String.join("\n", messages)); // Send message
             disableOptions(); // Disable buttons after choice made
             dispose(); // Close dialog after successful ferry use
         } else {
-            messages.add("You don't have enough money for the ferry ($10).");
+            messages.add("You don't have enough money for the ferry ($" + RiverCrossingEngine.FERRY_FEE + ").");
             messages.add("The ferryman turns you away.");
             notify(String.join("\n", messages)); // Send message
 
@@ -411,7 +422,7 @@ public class RiverCrossingDialog extends JDialog {
                 if (comp instanceof JButton button) {
                     if (button.getText().contains("ferry")) {
                         button.setEnabled(false);
-                        button.setText("<html><div style='text-align: center; padding: 5px; color: gray;'>Use a ferry ($10)<br><span style='font-size: 11px;'>Not enough money!</span></div></html>");
+                        button.setText("<html><div style='text-align: center; padding: 5px; color: gray;'>Use a ferry ($" + RiverCrossingEngine.FERRY_FEE + ")<br><span style='font-size: 11px;'>Not enough money!</span></div></html>");
                         break;
                     }
                 }
@@ -425,8 +436,8 @@ public class RiverCrossingDialog extends JDialog {
      * 
      * Effects:
      * - Advances time by one day
-     * - May improve weather conditions
-     * - Reduces river depth by 1-3 feet
+     * - Runoff from earlier rain recedes, unless more rain falls
+     * - The river follows its seasonal rise or fall
      * - Consumes daily resources
      * 
      * Resource impacts:
@@ -442,15 +453,16 @@ public class RiverCrossingDialog extends JDialog {
             int foodConsumed = player.getFamilySize() * 2;
             inventory.consumeFood(foodConsumed);
             messages.add("Food consumed while waiting: " + foodConsumed + " lbs.");
-            // NOTE: Advancing game time should ideally happen in GameController
-            // after this dialog closes and indicates waiting occurred.
         }
+        time.advanceDay();
+        Weather nextDay = new Weather(time.getMonth(), riverName);
+        hydrology.recordWeather(nextDay);
+        int newDepth = hydrology.getDepth(riverProfile, time.getEpochDay());
+        width = hydrology.getWidth(riverProfile, time.getEpochDay());
 
-        // 50% chance conditions improve
-        if (Math.random() < 0.5) {
+        if (newDepth < depth) {
             messages.add("The river seems lower today!");
-            int depthReduction = (int)(depth * (0.3 + (random.nextDouble() * 0.3)));
-            depth = Math.max(2, depth - depthReduction);
+            depth = newDepth;
             messages.add("The river is now only " + depth + " feet deep.");
 
             notify(String.join("\n", messages)); // Notify about waiting result
@@ -462,12 +474,16 @@ public class RiverCrossingDialog extends JDialog {
                 caulkAndFloat(); // This will send its own notifications
             }
         } else {
-            messages.add("The river hasn't changed much. Crossing now...");
+            if (newDepth > depth) {
+                messages.add(nextDay.getCurrentWeather() + " overnight has raised the river to " + newDepth + " feet.");
+            }
+            depth = newDepth;
+            messages.add("The river hasn't improved. Crossing now...");
             notify(String.join("\n", messages)); // Notify about waiting result
 
             // Randomly choose a non-wait method
-            double choice = Math.random();
-            if (player != null && player.getMoney() >= 10 && choice < 0.3) { // 30% chance to try ferry if affordable
+            double choice = random.nextDouble();
+            if (player != null && player.getMoney() >= RiverCrossingEngine.FERRY_FEE && choice < 0.3) { // 30% chance to try ferry if affordable
                 useFerry(); // Try ferry first
                 // If ferry fails (not enough money), it will re-enable options,
                 // but we need to prevent dispose() here if ferry fails.
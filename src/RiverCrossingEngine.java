@@ -0,0 +1,324 @@
+/**
+ * RiverCrossingEngine Class of the Perils Along the Platte Game
+ * Decides what happens when the party crosses a river, apart from any
+ * window: fording, caulking the wagon and floating it, or taking the ferry.
+ *
+ * The chance of success and the expected losses of every option are worked
+ * out ahead of time for each river depth, width, kind of weather and team
+ * strength, and kept in flat tables. The crossing dialog shows the exact odds
+ * of each option from them, and resolving a crossing takes one lookup for the
+ * outcome and a few rolls for the amounts lost.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file RiverCrossingEngine.java
+ */
+
+import java.util.Random;
+
+public final class RiverCrossingEngine {
+    // Crossing options
+    public static final int FORD = 0;
+    public static final int CAULK = 1;
+    public static final int FERRY = 2;
+    public static final int OPTION_COUNT = 3;
+
+    // Expected results of an option, indexed by result within each table entry
+    public static final int SUCCESS = 0;
+    public static final int FOOD_LOST = 1;
+    public static final int PARTS_LOST = 2;
+    public static final int MEDICINE_LOST = 3;
+    public static final int AMMO_LOST = 4;
+    public static final int OXEN_HEALTH_LOST = 5;
+    public static final int OX_LOST = 6;
+    public static final int HEALTH_LOST = 7;
+    public static final int DROWNING = 8;
+    public static final int MONEY_SPENT = 9;
+    private static final int RESULT_COUNT = 10;
+
+    // Price of the ferry in dollars
+    public static final int FERRY_FEE = 10;
+
+    // Deepest river the tables cover; deeper rivers use the last row
+    private static final int MAX_DEPTH = 40;
+
+    // River widths in feet separating narrow, middling and wide rivers
+    private static final int NARROW_WIDTH = 150;
+    private static final int WIDE_WIDTH = 250;
+    private static final int WIDTH_BUCKETS = 3;
+
+    // Change in the odds of floating across a narrow or wide river
+    private static final double NARROW_FLOAT_BONUS = 0.05;
+    private static final double WIDE_FLOAT_PENALTY = 0.05;
+
+    // Team strength is counted in steps of 1 / POWER_STEPS
+    private static final int POWER_STEPS = 20;
+
+    // Weakest team strength counted when fording
+    private static final double MIN_FORD_POWER = 0.4;
+
+    // Fording: chance of wet supplies after a success, and losses after a failure
+    private static final double FORD_WET_CHANCE = 0.15;
+    private static final int FORD_WET_MIN_FOOD = 10;
+    private static final int FORD_WET_MAX_FOOD = 30;
+    private static final int FORD_MIN_FOOD = 50;
+    private static final int FORD_MAX_FOOD = 150;
+    private static final int FORD_MIN_OXEN_HEALTH = 10;
+    private static final int FORD_MAX_OXEN_HEALTH = 25;
+    private static final int FORD_OX_DEPTH = 6;
+    private static final double FORD_OX_CHANCE = 0.25;
+    private static final double FORD_INJURY_CHANCE = 0.4;
+    private static final int FORD_MIN_INJURY = 10;
+    private static final int FORD_MAX_INJURY = 25;
+    private static final int FORD_DROWNING_DEPTH = 8;
+    private static final double FORD_DROWNING_CHANCE = 0.05;
+
+    // Floating: odds by depth, rough water penalty, and losses after a failure
+    private static final double FLOAT_DEEP_CHANCE = 0.85;
+    private static final double FLOAT_MEDIUM_CHANCE = 0.75;
+    private static final double FLOAT_SHALLOW_CHANCE = 0.50;
+    private static final double FLOAT_ROUGH_PENALTY = 0.25;
+    private static final int FLOAT_MIN_FOOD = 30;
+    private static final int FLOAT_MAX_FOOD = 80;
+    private static final double FLOAT_AMMO_CHANCE = 0.3;
+    private static final int FLOAT_MIN_AMMO = 10;
+    private static final int FLOAT_MAX_AMMO = 30;
+    private static final double FLOAT_PART_CHANCE = 0.1;
+    private static final double FLOAT_ROUGH_DROWNING_CHANCE = 0.08;
+    private static final double FLOAT_CALM_DROWNING_CHANCE = 0.03;
+    private static final int FLOAT_MIN_NEAR_DROWNING = 30;
+    private static final int FLOAT_MAX_NEAR_DROWNING = 59;
+
+    private final SimulationParameters parameters;
+
+    // Expected results, RESULT_COUNT per option per river
+    private final double[] expected;
+
+    /**
+     * Holds what happened in one crossing.
+     */
+    public static final class Outcome {
+        public final int option;
+        public final boolean success;
+        public final int foodLost;
+        public final int partsLost;
+        public final int medicineLost;
+        public final int ammoLost;
+        public final int oxenHealthLost;
+        public final boolean oxLost;
+        public final int healthLost;
+        public final boolean drowned;
+        public final int moneySpent;
+
+        private Outcome(int option, boolean success, int foodLost, int partsLost, int medicineLost, int ammoLost,
+                        int oxenHealthLost, boolean oxLost, int healthLost, boolean drowned, int moneySpent) {
+            this.option = option;
+            this.success = success;
+            this.foodLost = foodLost;
+            this.partsLost = partsLost;
+            this.medicineLost = medicineLost;
+            this.ammoLost = ammoLost;
+            this.oxenHealthLost = oxenHealthLost;
+            this.oxLost = oxLost;
+            this.healthLost = healthLost;
+            this.drowned = drowned;
+            this.moneySpent = moneySpent;
+        }
+    }
+
+    /**
+     * Constructs an engine and works out its tables.
+     *
+     * @param parameters The simulation parameters for river depths and fording odds
+     */
+    public RiverCrossingEngine(SimulationParameters parameters) {
+        this.parameters = parameters;
+        int rivers = (MAX_DEPTH + 1) * WIDTH_BUCKETS * 2 * (POWER_STEPS + 1);
+        expected = new double[rivers * OPTION_COUNT * RESULT_COUNT];
+        for (int depth = 0; depth <= MAX_DEPTH; depth++) {
+            for (int width = 0; width < WIDTH_BUCKETS; width++) {
+                for (int rough = 0; rough < 2; rough++) {
+                    for (int power = 0; power <= POWER_STEPS; power++) {
+                        int row = ((((depth * WIDTH_BUCKETS + width) * 2 + rough) * (POWER_STEPS + 1)) + power)
+                                * OPTION_COUNT * RESULT_COUNT;
+                        fillFord(row + FORD * RESULT_COUNT, depth, power);
+                        fillCaulk(row + CAULK * RESULT_COUNT, depth, width, rough == 1);
+                        expected[row + FERRY * RESULT_COUNT + SUCCESS] = 1.0;
+                        expected[row + FERRY * RESULT_COUNT + MONEY_SPENT] = FERRY_FEE;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Works out the expected results of fording one river.
+     */
+    private void fillFord(int at, int depth, int power) {
+        double success = fordBaseChance(depth) * Math.max(MIN_FORD_POWER, (double) power / POWER_STEPS);
+        double failure = 1.0 - success;
+        expected[at + SUCCESS] = success;
+        expected[at + FOOD_LOST] = success * FORD_WET_CHANCE * mean(FORD_WET_MIN_FOOD, FORD_WET_MAX_FOOD)
+                + failure * mean(FORD_MIN_FOOD, FORD_MAX_FOOD);
+        expected[at + PARTS_LOST] = failure * mean(0, 1);
+        expected[at + MEDICINE_LOST] = failure * mean(0, 1);
+        expected[at + OXEN_HEALTH_LOST] = failure * mean(FORD_MIN_OXEN_HEALTH, FORD_MAX_OXEN_HEALTH);
+        expected[at + OX_LOST] = depth > FORD_OX_DEPTH ? failure * FORD_OX_CHANCE : 0.0;
+        expected[at + HEALTH_LOST] = failure * FORD_INJURY_CHANCE * mean(FORD_MIN_INJURY, FORD_MAX_INJURY);
+        expected[at + DROWNING] = depth > FORD_DROWNING_DEPTH ? failure * FORD_INJURY_CHANCE * FORD_DROWNING_CHANCE : 0.0;
+    }
+
+    /**
+     * Works out the expected results of floating across one river.
+     * Drowning here counts the near drownings, which only kill a party
+     * already in poor health.
+     */
+    private void fillCaulk(int at, int depth, int width, boolean rough) {
+        double success = floatChance(depth, width, rough);
+        double failure = 1.0 - success;
+        double drowning = failure * (rough ? FLOAT_ROUGH_DROWNING_CHANCE : FLOAT_CALM_DROWNING_CHANCE);
+        expected[at + SUCCESS] = success;
+        expected[at + FOOD_LOST] = failure * mean(FLOAT_MIN_FOOD, FLOAT_MAX_FOOD);
+        expected[at + AMMO_LOST] = failure * FLOAT_AMMO_CHANCE * mean(FLOAT_MIN_AMMO, FLOAT_MAX_AMMO);
+        expected[at + PARTS_LOST] = failure * FLOAT_PART_CHANCE;
+        expected[at + HEALTH_LOST] = drowning * mean(FLOAT_MIN_NEAR_DROWNING, FLOAT_MAX_NEAR_DROWNING);
+        expected[at + DROWNING] = drowning;
+    }
+
+    /**
+     * Gets the chance of fording a river at full team strength.
+     */
+    private double fordBaseChance(int depth) {
+        if (depth <= parameters.fordShallowDepth) return parameters.fordShallowChance;
+        if (depth <= parameters.fordMediumDepth) return parameters.fordMediumChance;
+        if (depth <= parameters.fordDeepDepth) return parameters.fordDeepChance;
+        return parameters.fordSwimChance;
+    }
+
+    /**
+     * Gets the chance of floating across a river.
+     * Deeper water keeps the wagon off the bottom, while wide rivers leave it
+     * adrift longer and rough water can swamp it.
+     */
+    private static double floatChance(int depth, int width, boolean rough) {
+        double chance;
+        if (depth > 10) chance = FLOAT_DEEP_CHANCE;
+        else if (depth > 5) chance = FLOAT_MEDIUM_CHANCE;
+        else chance = FLOAT_SHALLOW_CHANCE;
+        if (width == 0) chance += NARROW_FLOAT_BONUS;
+        else if (width == WIDTH_BUCKETS - 1) chance -= WIDE_FLOAT_PENALTY;
+        if (rough) chance -= FLOAT_ROUGH_PENALTY;
+        return Math.max(0.0, Math.min(1.0, chance));
+    }
+
+    private static double mean(int min, int max) {
+        return (min + max) / 2.0;
+    }
+
+    /**
+     * Finds the table entry of an option for a river and team.
+     */
+    private static int entry(int option, int depth, int width, boolean rough, double power) {
+        int depthRow = Math.max(0, Math.min(MAX_DEPTH, depth));
+        int widthRow = width < NARROW_WIDTH ? 0 : width > WIDE_WIDTH ? 2 : 1;
+        int powerRow = (int) Math.round(Math.max(0.0, Math.min(1.0, power)) * POWER_STEPS);
+        int river = ((depthRow * WIDTH_BUCKETS + widthRow) * 2 + (rough ? 1 : 0)) * (POWER_STEPS + 1) + powerRow;
+        return (river * OPTION_COUNT + option) * RESULT_COUNT;
+    }
+
+    /**
+     * Checks whether the weather makes the water too rough to float calmly.
+     *
+     * @param weather The current weather, or null
+     * @return true in any rain, storm or blizzard, the weather that also raises the rivers
+     */
+    public static boolean isRough(Weather weather) {
+        if (weather == null) {
+            return false;
+        }
+        String current = weather.getCurrentWeather();
+        return current.toLowerCase().contains("rain") || current.contains("Storm") || current.contains("Blizzard");
+    }
+
+    /**
+     * Gets the exact chance that an option crosses without mishap.
+     *
+     * @param option FORD, CAULK or FERRY
+     * @param depth The river's depth in feet
+     * @param width The river's width in feet
+     * @param rough Whether the water is rough
+     * @param power The team's pulling power
+     * @return The chance of success
+     */
+    public double getSuccessChance(int option, int depth, int width, boolean rough, double power) {
+        return expected[entry(option, depth, width, rough, power) + SUCCESS];
+    }
+
+    /**
+     * Gets the expected value of one result of an option.
+     *
+     * @param option FORD, CAULK or FERRY
+     * @param result A result such as FOOD_LOST or DROWNING
+     * @param depth The river's depth in feet
+     * @param width The river's width in feet
+     * @param rough Whether the water is rough
+     * @param power The team's pulling power
+     * @return The expected amount, or the chance for OX_LOST and DROWNING
+     */
+    public double getExpected(int option, int result, int depth, int width, boolean rough, double power) {
+        return expected[entry(option, depth, width, rough, power) + result];
+    }
+
+    /**
+     * Resolves a crossing.
+     * Success comes from the tables; the amounts lost are rolled afterwards.
+     * Nothing is taken from the party here, so batch runs can resolve
+     * crossings without a player or inventory.
+     *
+     * @param option FORD, CAULK or FERRY
+     * @param depth The river's depth in feet
+     * @param width The river's width in feet
+     * @param rough Whether the water is rough
+     * @param power The team's pulling power
+     * @param random The random source
+     * @return What happened
+     */
+    public Outcome resolve(int option, int depth, int width, boolean rough, double power, Random random) {
+        if (option == FERRY) {
+            return new Outcome(option, true, 0, 0, 0, 0, 0, false, 0, false, FERRY_FEE);
+        }
+        boolean success = random.nextDouble() < expected[entry(option, depth, width, rough, power) + SUCCESS];
+        if (option == FORD) {
+            if (success) {
+                int food = random.nextDouble() < FORD_WET_CHANCE ? between(FORD_WET_MIN_FOOD, FORD_WET_MAX_FOOD, random) : 0;
+                return new Outcome(option, true, food, 0, 0, 0, 0, false, 0, false, 0);
+            }
+            int food = between(FORD_MIN_FOOD, FORD_MAX_FOOD, random);
+            int parts = random.nextInt(2);
+            int medicine = random.nextInt(2);
+            int oxenHealth = between(FORD_MIN_OXEN_HEALTH, FORD_MAX_OXEN_HEALTH, random);
+            boolean oxLost = depth > FORD_OX_DEPTH && random.nextDouble() < FORD_OX_CHANCE;
+            int health = 0;
+            boolean drowned = false;
+            if (random.nextDouble() < FORD_INJURY_CHANCE) {
+                health = between(FORD_MIN_INJURY, FORD_MAX_INJURY, random);
+                drowned = depth > FORD_DROWNING_DEPTH && random.nextDouble() < FORD_DROWNING_CHANCE;
+            }
+            return new Outcome(option, false, food, parts, medicine, 0, oxenHealth, oxLost, health, drowned, 0);
+        }
+        if (success) {
+            return new Outcome(option, true, 0, 0, 0, 0, 0, false, 0, false, 0);
+        }
+        int food = between(FLOAT_MIN_FOOD, FLOAT_MAX_FOOD, random);
+        int ammo = random.nextDouble() < FLOAT_AMMO_CHANCE ? between(FLOAT_MIN_AMMO, FLOAT_MAX_AMMO, random) : 0;
+        int parts = random.nextDouble() < FLOAT_PART_CHANCE ? 1 : 0;
+        double drowning = rough ? FLOAT_ROUGH_DROWNING_CHANCE : FLOAT_CALM_DROWNING_CHANCE;
+        int health = random.nextDouble() < drowning ? between(FLOAT_MIN_NEAR_DROWNING, FLOAT_MAX_NEAR_DROWNING, random) : 0;
+        return new Outcome(option, false, food, parts, 0, ammo, 0, false, health, false, 0);
+    }
+
+    private static int between(int min, int max, Random random) {
+        return min + random.nextInt(max - min + 1);
+    }
+}
@@ -0,0 +1,167 @@
+/**
+ * RiverHydrology Class of the Perils Along the Platte Game
+ * Models how deep, wide and swift each river on the trail runs through the
+ * year, and how recent rain raises it.
+ *
+ * Every crossing belongs to a river profile with its own low water level,
+ * spring flood and width. The depth, width and current of each profile on
+ * every day of the year are worked out once into compact tables, which cover
+ * whatever month the party left in and however fast it travels. Each game
+ * adds the runoff of its own recent weather on top, so a river swollen by a
+ * storm falls back over the following days and waiting for better conditions
+ * pays off, while looking up a crossing stays a couple of table reads.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file RiverHydrology.java
+ */
+
+public class RiverHydrology {
+    // River profiles
+    public static final int PRAIRIE_STREAM = 0;
+    public static final int MOUNTAIN_RIVER = 1;
+    public static final int NORTH_PLATTE = 2;
+    public static final int SWEETWATER = 3;
+    public static final int DEER_CREEK = 4;
+    private static final int PROFILE_COUNT = 5;
+
+    // Profile columns, indexed by profile: depth at low water and at the height of the flood in feet,
+    // day of the year the flood peaks, days the flood takes to rise or fall about two thirds of the way,
+    // width at low water and width gained per foot of depth, current at low water and gained per foot in mph
+    private static final double[] LOW_DEPTH = { 2.0, 2.0, 2.0, 2.0, 2.0 };
+    private static final double[] PEAK_DEPTH = { 7.0, 10.0, 9.0, 6.0, 5.0 };
+    private static final int[] PEAK_DAY = { 120, 165, 155, 160, 140 };
+    private static final double[] FLOOD_SPREAD = { 35.0, 22.0, 28.0, 20.0, 18.0 };
+    private static final double[] LOW_WIDTH = { 80.0, 100.0, 300.0, 70.0, 40.0 };
+    private static final double[] WIDTH_PER_FOOT = { 15.0, 12.0, 25.0, 10.0, 8.0 };
+    private static final double[] LOW_CURRENT = { 2.0, 3.0, 2.0, 3.0, 1.5 };
+    private static final double[] CURRENT_PER_FOOT = { 0.5, 0.6, 0.4, 0.8, 0.7 };
+
+    // Days in the tables, enough for a leap year
+    private static final int YEAR_DAYS = 366;
+
+    // Depth in tenths of a foot, width in feet and current in tenths of a mph, indexed [profile * YEAR_DAYS + day of year]
+    private static final short[] DEPTH_TENTHS = new short[PROFILE_COUNT * YEAR_DAYS];
+    private static final short[] WIDTH_FEET = new short[PROFILE_COUNT * YEAR_DAYS];
+    private static final byte[] CURRENT_TENTHS = new byte[PROFILE_COUNT * YEAR_DAYS];
+
+    // Current in mph at which the water counts as rough for floating a wagon
+    private static final double SWIFT_CURRENT = 5.0;
+
+    // Share of the rain's runoff still in the rivers after each day
+    private static final double RUNOFF_RECESSION = 0.7;
+
+    static {
+        for (int profile = 0; profile < PROFILE_COUNT; profile++) {
+            for (int day = 0; day < YEAR_DAYS; day++) {
+                double offset = (day - PEAK_DAY[profile]) / FLOOD_SPREAD[profile];
+                double depth = LOW_DEPTH[profile]
+                        + (PEAK_DEPTH[profile] - LOW_DEPTH[profile]) * Math.exp(-0.5 * offset * offset);
+                double rise = depth - LOW_DEPTH[profile];
+                int i = profile * YEAR_DAYS + day;
+                DEPTH_TENTHS[i] = (short) Math.round(depth * 10);
+                WIDTH_FEET[i] = (short) Math.round(LOW_WIDTH[profile] + WIDTH_PER_FOOT[profile] * rise);
+                CURRENT_TENTHS[i] = (byte) Math.round((LOW_CURRENT[profile] + CURRENT_PER_FOOT[profile] * rise) * 10);
+            }
+        }
+    }
+
+    private final SimulationParameters parameters;
+
+    // Feet the rivers currently run above their seasonal level from recent rain and snow
+    private double runoff;
+
+    /**
+     * Constructs the hydrology of one game, with no recent rain.
+     *
+     * @param parameters The simulation parameters for river depths and storm rises
+     */
+    public RiverHydrology(SimulationParameters parameters) {
+        this.parameters = parameters;
+    }
+
+    /**
+     * Records a day's weather.
+     * Earlier runoff recedes, and rain or snow adds to it: a heavy rain or
+     * blizzard raises the rivers by the storm rise, lighter rain by half as
+     * much and snow by a quarter, up to the largest storm rise.
+     *
+     * @param weather The day's weather
+     */
+    public void recordWeather(Weather weather) {
+        runoff *= RUNOFF_RECESSION;
+        String current = weather.getCurrentWeather();
+        if (current.contains("Heavy rain") || current.contains("Blizzard")) {
+            runoff += parameters.riverStormMinRise;
+        } else if (current.contains("rain")) {
+            runoff += parameters.riverStormMinRise / 2.0;
+        } else if (current.contains("Snow")) {
+            runoff += parameters.riverStormMinRise / 4.0;
+        }
+        runoff = Math.min(runoff, parameters.riverStormMaxRise);
+    }
+
+    /**
+     * Gets how far recent rain and snow have raised the rivers.
+     * @return The rise in feet
+     */
+    public double getRunoff() {
+        return runoff;
+    }
+
+    /**
+     * Finds a profile's table entry for a day.
+     */
+    private static int entry(int profile, int epochDay) {
+        int row = profile >= 0 && profile < PROFILE_COUNT ? profile : PRAIRIE_STREAM;
+        return row * YEAR_DAYS + TrailCalendar.getDayOfYear(epochDay);
+    }
+
+    /**
+     * Gets the depth of a river on a day, with recent runoff.
+     *
+     * @param profile The river profile
+     * @param epochDay The day
+     * @return The depth in feet
+     */
+    public int getDepth(int profile, int epochDay) {
+        double depth = DEPTH_TENTHS[entry(profile, epochDay)] / 10.0 + runoff;
+        return (int) Math.round(Math.max(parameters.riverMinDepth, Math.min(parameters.riverMaxDepth, depth)));
+    }
+
+    /**
+     * Gets the width of a river on a day, with recent runoff.
+     *
+     * @param profile The river profile
+     * @param epochDay The day
+     * @return The width in feet
+     */
+    public int getWidth(int profile, int epochDay) {
+        int row = profile >= 0 && profile < PROFILE_COUNT ? profile : PRAIRIE_STREAM;
+        return (int) Math.round(WIDTH_FEET[entry(profile, epochDay)] + WIDTH_PER_FOOT[row] * runoff);
+    }
+
+    /**
+     * Gets the current of a river on a day, with recent runoff.
+     *
+     * @param profile The river profile
+     * @param epochDay The day
+     * @return The current in mph
+     */
+    public double getCurrent(int profile, int epochDay) {
+        int row = profile >= 0 && profile < PROFILE_COUNT ? profile : PRAIRIE_STREAM;
+        return CURRENT_TENTHS[entry(profile, epochDay)] / 10.0 + CURRENT_PER_FOOT[row] * runoff;
+    }
+
+    /**
+     * Checks whether a river runs too swiftly to float a wagon calmly.
+     *
+     * @param profile The river profile
+     * @param epochDay The day
+     * @return true if the current is swift
+     */
+    public boolean isSwift(int profile, int epochDay) {
+        return getCurrent(profile, epochDay) >= SWIFT_CURRENT;
+    }
+}
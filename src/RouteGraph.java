@@ -0,0 +1,262 @@
+/**
+ * RouteGraph Class of the Perils Along the Platte Game
+ * Models a trail as a graph of landmarks joined by routes, so the trail can
+ * branch at forks and rejoin after a cutoff.
+ *
+ * Every edge carries its distance, a terrain profile, and the mean and
+ * standard deviation of the days it takes and of the mishap risk it carries.
+ * Nodes and edges are stored in parallel arrays indexed by id so the planner
+ * can walk the graph without allocating.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file RouteGraph.java
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class RouteGraph {
+    // Miles a healthy party covers on an average day on open ground
+    public static final double BASE_MILES_PER_DAY = 15.0;
+
+    // Day-to-day spread of travel time as a fraction of the mean
+    private static final double TIME_SPREAD = 0.25;
+
+    // Chance of a mishap per mile on open ground
+    private static final double BASE_RISK_PER_MILE = 0.002;
+
+    // Landmark and elevation of each node
+    private final ArrayList<Landmark> nodeLandmarks = new ArrayList<>();
+    private int[] nodeElevation = new int[16];
+
+    // Edge columns
+    private int edgeCount;
+    private int[] edgeFrom = new int[16];
+    private int[] edgeTo = new int[16];
+    private int[] edgeDistance = new int[16];
+    private byte[] edgeTerrain = new byte[16];
+    private boolean[] edgeMainLine = new boolean[16];
+    private double[] edgeTimeMean = new double[16];
+    private double[] edgeTimeStdDev = new double[16];
+    private double[] edgeRiskMean = new double[16];
+    private double[] edgeRiskStdDev = new double[16];
+    private TerrainProfile[] edgeProfile = new TerrainProfile[16];
+
+    // Node the trail ends at
+    private int destination = -1;
+
+    /**
+     * Adds a node for a landmark.
+     *
+     * @param landmark The landmark at the node
+     * @param elevation The elevation of the node in feet
+     * @return The id of the new node
+     */
+    public int addNode(Landmark landmark, int elevation) {
+        int id = nodeLandmarks.size();
+        nodeLandmarks.add(landmark);
+        if (id >= nodeElevation.length) {
+            nodeElevation = Arrays.copyOf(nodeElevation, id * 2);
+        }
+        nodeElevation[id] = elevation;
+        return id;
+    }
+
+    /**
+     * Adds a one-way route between two nodes.
+     * The time and risk distributions are derived from the route's terrain
+     * profile; any extra risk, such as a ford or a dangerous descent, is
+     * added on top.
+     *
+     * @param from The node the route leaves
+     * @param to The node the route arrives at
+     * @param distance The length of the route in miles
+     * @param terrain The country the route crosses
+     * @param extraRisk Additional mishap chance for hazards on the route
+     * @param mainLine Whether this is the trail's usual route rather than a cutoff
+     * @return The id of the new edge
+     */
+    public int addEdge(int from, int to, int distance, TerrainType terrain, double extraRisk, boolean mainLine) {
+        if (edgeCount == edgeFrom.length) {
+            int size = edgeCount * 2;
+            edgeFrom = Arrays.copyOf(edgeFrom, size);
+            edgeTo = Arrays.copyOf(edgeTo, size);
+            edgeDistance = Arrays.copyOf(edgeDistance, size);
+            edgeTerrain = Arrays.copyOf(edgeTerrain, size);
+            edgeMainLine = Arrays.copyOf(edgeMainLine, size);
+            edgeTimeMean = Arrays.copyOf(edgeTimeMean, size);
+            edgeTimeStdDev = Arrays.copyOf(edgeTimeStdDev, size);
+            edgeRiskMean = Arrays.copyOf(edgeRiskMean, size);
+            edgeRiskStdDev = Arrays.copyOf(edgeRiskStdDev, size);
+            edgeProfile = Arrays.copyOf(edgeProfile, size);
+        }
+
+        int id = edgeCount++;
+        TerrainProfile profile = new TerrainProfile(0, distance + 1);
+        profile.fillSpan(0, distance, nodeElevation[from], nodeElevation[to], terrain);
+        profile.finish();
+
+        // Expected days is the sum of the time each mile takes at its speed
+        double days = 0;
+        double risk = extraRisk;
+        for (int mile = 0; mile < distance; mile++) {
+            days += 1.0 / (BASE_MILES_PER_DAY * profile.getSpeedFactor(mile));
+            risk += BASE_RISK_PER_MILE * profile.getWearFactor(mile);
+        }
+
+        edgeFrom[id] = from;
+        edgeTo[id] = to;
+        edgeDistance[id] = distance;
+        edgeTerrain[id] = (byte) terrain.ordinal();
+        edgeMainLine[id] = mainLine;
+        edgeTimeMean[id] = days;
+        edgeTimeStdDev[id] = days * TIME_SPREAD;
+        edgeRiskMean[id] = risk;
+        // Mishaps are rare events, so their spread follows a Poisson count
+        edgeRiskStdDev[id] = Math.sqrt(risk);
+        edgeProfile[id] = profile;
+        return id;
+    }
+
+    /**
+     * Finds the node for a landmark name.
+     *
+     * @param name The landmark name
+     * @return The node id, or -1 if no node has that name
+     */
+    public int findNode(String name) {
+        for (int i = 0; i < nodeLandmarks.size(); i++) {
+            if (nodeLandmarks.get(i).getName().equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the edge joining two nodes.
+     *
+     * @param from The node the edge leaves
+     * @param to The node the edge arrives at
+     * @return The edge id, or -1 if the nodes are not joined
+     */
+    public int findEdge(int from, int to) {
+        for (int e = 0; e < edgeCount; e++) {
+            if (edgeFrom[e] == from && edgeTo[e] == to) {
+                return e;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the routes leaving a node, main line first.
+     *
+     * @param node The node id
+     * @return The ids of the edges leaving the node
+     */
+    public int[] getOutgoingEdges(int node) {
+        int count = 0;
+        for (int e = 0; e < edgeCount; e++) {
+            if (edgeFrom[e] == node) count++;
+        }
+        int[] result = new int[count];
+        int next = 0;
+        for (int pass = 0; pass < 2; pass++) {
+            for (int e = 0; e < edgeCount; e++) {
+                if (edgeFrom[e] == node && edgeMainLine[e] == (pass == 0)) {
+                    result[next++] = e;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the route a party keeps to when leaving a node without a choice:
+     * the main line, or on a cutoff the only route leaving the node.
+     *
+     * @param node The node id
+     * @return The edge id, or -1 if the node is the end of the trail
+     */
+    public int getMainLineEdge(int node) {
+        int only = -1;
+        int count = 0;
+        for (int e = 0; e < edgeCount; e++) {
+            if (edgeFrom[e] == node) {
+                if (edgeMainLine[e]) {
+                    return e;
+                }
+                only = e;
+                count++;
+            }
+        }
+        return count == 1 ? only : -1;
+    }
+
+    public void setDestination(int node) {
+        this.destination = node;
+    }
+
+    public int getDestination() {
+        return destination;
+    }
+
+    public int getNodeCount() {
+        return nodeLandmarks.size();
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    public Landmark getNodeLandmark(int node) {
+        return nodeLandmarks.get(node);
+    }
+
+    public int getNodeElevation(int node) {
+        return nodeElevation[node];
+    }
+
+    public int getEdgeFrom(int edge) {
+        return edgeFrom[edge];
+    }
+
+    public int getEdgeTo(int edge) {
+        return edgeTo[edge];
+    }
+
+    public int getEdgeDistance(int edge) {
+        return edgeDistance[edge];
+    }
+
+    public TerrainType getEdgeTerrain(int edge) {
+        return TerrainType.values()[edgeTerrain[edge]];
+    }
+
+    public boolean isMainLine(int edge) {
+        return edgeMainLine[edge];
+    }
+
+    public double getEdgeTimeMean(int edge) {
+        return edgeTimeMean[edge];
+    }
+
+    public double getEdgeTimeStdDev(int edge) {
+        return edgeTimeStdDev[edge];
+    }
+
+    public double getEdgeRiskMean(int edge) {
+        return edgeRiskMean[edge];
+    }
+
+    public double getEdgeRiskStdDev(int edge) {
+        return edgeRiskStdDev[edge];
+    }
+
+    public TerrainProfile getEdgeProfile(int edge) {
+        return edgeProfile[edge];
+    }
+}
@@ -0,0 +1,321 @@
+/**
+ * RoutePlanner Class of the Perils Along the Platte Game
+ * Plans routes through a RouteGraph by expected travel time or expected risk.
+ *
+ * Each plan is a Dijkstra search run backwards from the destination, which
+ * answers every node of the graph at once. Plans are cached per month and
+ * party condition bucket, so a fork only ever costs a few array reads once
+ * its month and condition have been planned.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file RoutePlanner.java
+ */
+
+import java.util.Arrays;
+
+public class RoutePlanner {
+    // Plan for the shortest expected travel time
+    public static final int OBJECTIVE_TIME = 0;
+
+    // Plan for the lowest expected chance of mishaps
+    public static final int OBJECTIVE_RISK = 1;
+
+    // Number of party condition buckets (good, fair, poor)
+    public static final int CONDITION_BUCKETS = 3;
+
+    // Time and risk multipliers for each condition bucket
+    private static final double[] CONDITION_TIME_FACTOR = {1.0, 1.2, 1.5};
+    private static final double[] CONDITION_RISK_FACTOR = {1.0, 1.4, 2.0};
+
+    // The graph being planned over
+    private final RouteGraph graph;
+
+    // Incoming edges of each node, in compressed row form
+    private final int[] incomingStart;
+    private final int[] incomingEdges;
+
+    // Cached plans, indexed [month - 1][bucket][objective], null until planned
+    private final Plan[][][] cache = new Plan[12][CONDITION_BUCKETS][2];
+
+    /**
+     * Inner class holding one plan: the best next edge from every node and
+     * the totals of the route that edge leads along.
+     */
+    private static class Plan {
+        final int[] nextEdge;
+        final double[] timeMean;
+        final double[] timeVariance;
+        final double[] riskMean;
+        final double[] riskVariance;
+
+        Plan(int nodes) {
+            nextEdge = new int[nodes];
+            timeMean = new double[nodes];
+            timeVariance = new double[nodes];
+            riskMean = new double[nodes];
+            riskVariance = new double[nodes];
+            Arrays.fill(nextEdge, -1);
+            Arrays.fill(timeMean, Double.POSITIVE_INFINITY);
+            Arrays.fill(riskMean, Double.POSITIVE_INFINITY);
+        }
+    }
+
+    /**
+     * Constructs a new RoutePlanner for a graph.
+     * The graph must not change once the planner has been created.
+     *
+     * @param graph The route graph to plan over
+     */
+    public RoutePlanner(RouteGraph graph) {
+        this.graph = graph;
+        int nodes = graph.getNodeCount();
+        int edges = graph.getEdgeCount();
+
+        incomingStart = new int[nodes + 1];
+        for (int e = 0; e < edges; e++) {
+            incomingStart[graph.getEdgeTo(e) + 1]++;
+        }
+        for (int n = 0; n < nodes; n++) {
+            incomingStart[n + 1] += incomingStart[n];
+        }
+        incomingEdges = new int[edges];
+        int[] fill = Arrays.copyOf(incomingStart, nodes);
+        for (int e = 0; e < edges; e++) {
+            incomingEdges[fill[graph.getEdgeTo(e)]++] = e;
+        }
+    }
+
+    /**
+     * Sorts a party into a condition bucket.
+     * The weakest of the party's health, the oxen's health and the oxen's
+     * remaining strength decides the bucket.
+     *
+     * @param partyHealth The party's health (0-100)
+     * @param oxenHealth The oxen's health (0-100)
+     * @param oxenFatigue The oxen's fatigue (0-100)
+     * @return 0 for good, 1 for fair, 2 for poor
+     */
+    public static int conditionBucket(int partyHealth, int oxenHealth, int oxenFatigue) {
+        int weakest = Math.min(partyHealth, Math.min(oxenHealth, 100 - oxenFatigue));
+        if (weakest >= 70) {
+            return 0;
+        } else if (weakest >= 40) {
+            return 1;
+        }
+        return 2;
+    }
+
+    /**
+     * Gets the time multiplier the season applies on a given terrain.
+     * Winter is slow everywhere and worst of all in the mountains.
+     */
+    private static double seasonTimeFactor(int month, TerrainType terrain) {
+        double factor;
+        switch (month) {
+            case 11: case 12: case 1: case 2: case 3:
+                factor = terrain == TerrainType.MOUNTAINS ? 2.0 : 1.4;
+                break;
+            case 4: case 5:
+                factor = terrain == TerrainType.RIVER_VALLEY ? 1.25 : 1.15;
+                break;
+            case 9: case 10:
+                factor = 1.05;
+                break;
+            default:
+                factor = 1.0;
+                break;
+        }
+        return factor;
+    }
+
+    /**
+     * Gets the risk multiplier the season applies on a given terrain.
+     * Spring floods make river country riskier; winter storms the mountains.
+     */
+    private static double seasonRiskFactor(int month, TerrainType terrain) {
+        double factor;
+        switch (month) {
+            case 11: case 12: case 1: case 2: case 3:
+                factor = terrain == TerrainType.MOUNTAINS ? 2.5 : 1.6;
+                break;
+            case 4: case 5:
+                factor = terrain == TerrainType.RIVER_VALLEY ? 1.5 : 1.2;
+                break;
+            case 9: case 10:
+                factor = 1.1;
+                break;
+            default:
+                factor = 1.0;
+                break;
+        }
+        return factor;
+    }
+
+    /**
+     * Gets the plan for a month, condition bucket and objective,
+     * computing and caching it the first time it is asked for.
+     */
+    private Plan getPlan(int month, int bucket, int objective) {
+        int m = Math.max(1, Math.min(12, month)) - 1;
+        int b = Math.max(0, Math.min(CONDITION_BUCKETS - 1, bucket));
+        Plan plan = cache[m][b][objective];
+        if (plan == null) {
+            plan = computePlan(m + 1, b, objective);
+            cache[m][b][objective] = plan;
+        }
+        return plan;
+    }
+
+    /**
+     * Runs Dijkstra backwards from the destination.
+     * The graph holds only a few dozen nodes, so the next node is picked by
+     * a linear scan rather than a heap; this allocates nothing but the plan.
+     */
+    private Plan computePlan(int month, int bucket, int objective) {
+        int nodes = graph.getNodeCount();
+        Plan plan = new Plan(nodes);
+        int destination = graph.getDestination();
+        if (destination < 0) {
+            return plan;
+        }
+
+        boolean[] settled = new boolean[nodes];
+        double[] cost = new double[nodes];
+        Arrays.fill(cost, Double.POSITIVE_INFINITY);
+        cost[destination] = 0;
+        plan.timeMean[destination] = 0;
+        plan.riskMean[destination] = 0;
+
+        for (int round = 0; round < nodes; round++) {
+            int v = -1;
+            for (int n = 0; n < nodes; n++) {
+                if (!settled[n] && cost[n] < Double.POSITIVE_INFINITY && (v < 0 || cost[n] < cost[v])) {
+                    v = n;
+                }
+            }
+            if (v < 0) {
+                break;
+            }
+            settled[v] = true;
+
+            for (int i = incomingStart[v]; i < incomingStart[v + 1]; i++) {
+                int e = incomingEdges[i];
+                int u = graph.getEdgeFrom(e);
+                if (settled[u]) {
+                    continue;
+                }
+                TerrainType terrain = graph.getEdgeTerrain(e);
+                double timeFactor = seasonTimeFactor(month, terrain) * CONDITION_TIME_FACTOR[bucket];
+                double riskFactor = seasonRiskFactor(month, terrain) * CONDITION_RISK_FACTOR[bucket];
+                double time = graph.getEdgeTimeMean(e) * timeFactor;
+                double risk = graph.getEdgeRiskMean(e) * riskFactor;
+                double candidate = cost[v] + (objective == OBJECTIVE_TIME ? time : risk);
+
+                if (candidate < cost[u]) {
+                    cost[u] = candidate;
+                    double timeSd = graph.getEdgeTimeStdDev(e) * timeFactor;
+                    double riskSd = graph.getEdgeRiskStdDev(e) * riskFactor;
+                    plan.nextEdge[u] = e;
+                    plan.timeMean[u] = plan.timeMean[v] + time;
+                    plan.timeVariance[u] = plan.timeVariance[v] + timeSd * timeSd;
+                    plan.riskMean[u] = plan.riskMean[v] + risk;
+                    plan.riskVariance[u] = plan.riskVariance[v] + riskSd * riskSd;
+                }
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Gets the recommended route out of a node.
+     *
+     * @param node The node the party is at
+     * @param month The current month (1-12)
+     * @param bucket The party's condition bucket
+     * @param objective OBJECTIVE_TIME or OBJECTIVE_RISK
+     * @return The edge to take, or -1 at the destination or if it cannot be reached
+     */
+    public int recommendEdge(int node, int month, int bucket, int objective) {
+        return getPlan(month, bucket, objective).nextEdge[node];
+    }
+
+    /**
+     * Gets the expected days to the destination by a given first edge,
+     * continuing along the fastest route from where the edge arrives.
+     *
+     * @param edge The first edge taken
+     * @param month The current month (1-12)
+     * @param bucket The party's condition bucket
+     * @return The expected number of days
+     */
+    public double getExpectedDaysVia(int edge, int month, int bucket) {
+        Plan plan = getPlan(month, bucket, OBJECTIVE_TIME);
+        TerrainType terrain = graph.getEdgeTerrain(edge);
+        double time = graph.getEdgeTimeMean(edge) * seasonTimeFactor(month, terrain) * CONDITION_TIME_FACTOR[clampBucket(bucket)];
+        return time + plan.timeMean[graph.getEdgeTo(edge)];
+    }
+
+    /**
+     * Gets the standard deviation of the days to the destination by a given
+     * first edge, continuing along the fastest route.
+     *
+     * @param edge The first edge taken
+     * @param month The current month (1-12)
+     * @param bucket The party's condition bucket
+     * @return The standard deviation in days
+     */
+    public double getDaysStdDevVia(int edge, int month, int bucket) {
+        Plan plan = getPlan(month, bucket, OBJECTIVE_TIME);
+        TerrainType terrain = graph.getEdgeTerrain(edge);
+        double sd = graph.getEdgeTimeStdDev(edge) * seasonTimeFactor(month, terrain) * CONDITION_TIME_FACTOR[clampBucket(bucket)];
+        return Math.sqrt(sd * sd + plan.timeVariance[graph.getEdgeTo(edge)]);
+    }
+
+    /**
+     * Gets the expected number of mishaps before the destination by a given
+     * first edge, continuing along the safest route from where the edge arrives.
+     *
+     * @param edge The first edge taken
+     * @param month The current month (1-12)
+     * @param bucket The party's condition bucket
+     * @return The expected number of mishaps
+     */
+    public double getExpectedRiskVia(int edge, int month, int bucket) {
+        Plan plan = getPlan(month, bucket, OBJECTIVE_RISK);
+        TerrainType terrain = graph.getEdgeTerrain(edge);
+        double risk = graph.getEdgeRiskMean(edge) * seasonRiskFactor(month, terrain) * CONDITION_RISK_FACTOR[clampBucket(bucket)];
+        return risk + plan.riskMean[graph.getEdgeTo(edge)];
+    }
+
+    /**
+     * Gets the expected days to the destination along the planned route.
+     *
+     * @param node The node the party is at
+     * @param month The current month (1-12)
+     * @param bucket The party's condition bucket
+     * @param objective The objective the route was planned for
+     * @return The expected number of days
+     */
+    public double getExpectedDays(int node, int month, int bucket, int objective) {
+        return getPlan(month, bucket, objective).timeMean[node];
+    }
+
+    /**
+     * Gets the expected number of mishaps along the planned route.
+     *
+     * @param node The node the party is at
+     * @param month The current month (1-12)
+     * @param bucket The party's condition bucket
+     * @param objective The objective the route was planned for
+     * @return The expected number of mishaps
+     */
+    public double getExpectedRisk(int node, int month, int bucket, int objective) {
+        return getPlan(month, bucket, objective).riskMean[node];
+    }
+
+    private static int clampBucket(int bucket) {
+        return Math.max(0, Math.min(CONDITION_BUCKETS - 1, bucket));
+    }
+}
@@ -0,0 +1,219 @@
+/**
+ * SimulationParameters Class of the Perils Along the Platte Game
+ * Holds the tunable numbers of the simulation: peril odds, hunting odds and
+ * yields, food spoilage, oxen fatigue, river depths and fording odds, and
+ * market prices.
+ *
+ * The values are defined in resources/config/simulation.properties, which is
+ * read once into an immutable block of primitive fields shared by every game
+ * session. Any key missing from the file keeps its built-in value. Parameter
+ * sweeps derive new blocks from an existing one with a few keys overridden,
+ * without reading the file again.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file SimulationParameters.java
+ */
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+public final class SimulationParameters {
+    // Path of the parameter definition file, relative to the resources folder
+    public static final String PARAMETER_FILE = "config/simulation.properties";
+
+    // Block loaded from the parameter file, shared by every session
+    private static SimulationParameters defaults;
+
+    // Chance of a random peril on a day of travel or rest
+    public final double perilDailyChance;
+
+    // Hunting: usual success chance, ammunition used, and the odds and yields of each animal
+    public final double huntSuccessChance;
+    public final int huntMinAmmo;
+    public final int huntMaxAmmo;
+    public final double huntBisonChance;
+    public final double huntDeerChance;
+    public final double huntRabbitChance;
+    public final int huntBisonMinPounds;
+    public final int huntBisonMaxPounds;
+    public final int huntDeerMinPounds;
+    public final int huntDeerMaxPounds;
+    public final int huntRabbitMinPounds;
+    public final int huntRabbitMaxPounds;
+    public final int huntSquirrelMinPounds;
+    public final int huntSquirrelMaxPounds;
+
+    // Food: share of a lot's pounds lost per day at a spoil rate of 1.0, and days until it spoils twice as fast
+    public final double foodSpoilageScale;
+    public final double foodAgeDoublingDays;
+
+    // Wagon load and oxen fatigue
+    public final int maxWeightCapacity;
+    public final int baseFatigueRate;
+    public final int weightFatigueFactor;
+
+    // Rivers: depth range, extra depth in bad weather, and fording odds by depth
+    public final int riverMinDepth;
+    public final int riverMaxDepth;
+    public final int riverStormMinRise;
+    public final int riverStormMaxRise;
+    public final int fordShallowDepth;
+    public final int fordMediumDepth;
+    public final int fordDeepDepth;
+    public final double fordShallowChance;
+    public final double fordMediumChance;
+    public final double fordDeepChance;
+    public final double fordSwimChance;
+
+    // Market prices in dollars
+    public final int oxenPrice;
+    public final int foodPrice;
+    public final int wheelPrice;
+    public final int axlePrice;
+    public final int tonguePrice;
+    public final int wagonBowPrice;
+    public final int medicinePrice;
+    public final int ammunitionPrice;
+
+    // Other emigrant parties on the trail in a season
+    public final int trafficParties;
+
+    /**
+     * Constructs a parameter block.
+     * Each value is read from the properties, falling back to the base block,
+     * or to the built-in value when there is no base.
+     *
+     * @param p The parameter definitions
+     * @param b The block to take missing values from, or null for the built-in values
+     */
+    private SimulationParameters(Properties p, SimulationParameters b) {
+        perilDailyChance = read(p, "peril.dailyChance", b == null ? 0.25 : b.perilDailyChance);
+
+        huntSuccessChance = read(p, "hunt.successChance", b == null ? 0.6 : b.huntSuccessChance);
+        huntMinAmmo = read(p, "hunt.minAmmo", b == null ? 1 : b.huntMinAmmo);
+        huntMaxAmmo = read(p, "hunt.maxAmmo", b == null ? 3 : b.huntMaxAmmo);
+        huntBisonChance = read(p, "hunt.bisonChance", b == null ? 0.1 : b.huntBisonChance);
+        huntDeerChance = read(p, "hunt.deerChance", b == null ? 0.2 : b.huntDeerChance);
+        huntRabbitChance = read(p, "hunt.rabbitChance", b == null ? 0.3 : b.huntRabbitChance);
+        huntBisonMinPounds = read(p, "hunt.bisonMinPounds", b == null ? 250 : b.huntBisonMinPounds);
+        huntBisonMaxPounds = read(p, "hunt.bisonMaxPounds", b == null ? 500 : b.huntBisonMaxPounds);
+        huntDeerMinPounds = read(p, "hunt.deerMinPounds", b == null ? 80 : b.huntDeerMinPounds);
+        huntDeerMaxPounds = read(p, "hunt.deerMaxPounds", b == null ? 200 : b.huntDeerMaxPounds);
+        huntRabbitMinPounds = read(p, "hunt.rabbitMinPounds", b == null ? 5 : b.huntRabbitMinPounds);
+        huntRabbitMaxPounds = read(p, "hunt.rabbitMaxPounds", b == null ? 15 : b.huntRabbitMaxPounds);
+        huntSquirrelMinPounds = read(p, "hunt.squirrelMinPounds", b == null ? 2 : b.huntSquirrelMinPounds);
+        huntSquirrelMaxPounds = read(p, "hunt.squirrelMaxPounds", b == null ? 5 : b.huntSquirrelMaxPounds);
+
+        foodSpoilageScale = read(p, "food.spoilageScale", b == null ? 0.02 : b.foodSpoilageScale);
+        foodAgeDoublingDays = read(p, "food.ageDoublingDays", b == null ? 30.0 : b.foodAgeDoublingDays);
+
+        maxWeightCapacity = read(p, "wagon.maxWeightCapacity", b == null ? 1500 : b.maxWeightCapacity);
+        baseFatigueRate = read(p, "oxen.baseFatigueRate", b == null ? 2 : b.baseFatigueRate);
+        weightFatigueFactor = read(p, "oxen.weightFatigueFactor", b == null ? 1 : b.weightFatigueFactor);
+
+        riverMinDepth = read(p, "river.minDepth", b == null ? 2 : b.riverMinDepth);
+        riverMaxDepth = read(p, "river.maxDepth", b == null ? 20 : b.riverMaxDepth);
+        riverStormMinRise = read(p, "river.stormMinRise", b == null ? 2 : b.riverStormMinRise);
+        riverStormMaxRise = read(p, "river.stormMaxRise", b == null ? 5 : b.riverStormMaxRise);
+        fordShallowDepth = read(p, "ford.shallowDepth", b == null ? 3 : b.fordShallowDepth);
+        fordMediumDepth = read(p, "ford.mediumDepth", b == null ? 6 : b.fordMediumDepth);
+        fordDeepDepth = read(p, "ford.deepDepth", b == null ? 10 : b.fordDeepDepth);
+        fordShallowChance = read(p, "ford.shallowChance", b == null ? 0.95 : b.fordShallowChance);
+        fordMediumChance = read(p, "ford.mediumChance", b == null ? 0.70 : b.fordMediumChance);
+        fordDeepChance = read(p, "ford.deepChance", b == null ? 0.40 : b.fordDeepChance);
+        fordSwimChance = read(p, "ford.swimChance", b == null ? 0.15 : b.fordSwimChance);
+
+        oxenPrice = read(p, "price.oxen", b == null ? 40 : b.oxenPrice);
+        foodPrice = read(p, "price.food", b == null ? 1 : b.foodPrice);
+        wheelPrice = read(p, "price.wheel", b == null ? 20 : b.wheelPrice);
+        axlePrice = read(p, "price.axle", b == null ? 20 : b.axlePrice);
+        tonguePrice = read(p, "price.tongue", b == null ? 15 : b.tonguePrice);
+        wagonBowPrice = read(p, "price.wagonBow", b == null ? 10 : b.wagonBowPrice);
+        medicinePrice = read(p, "price.medicine", b == null ? 15 : b.medicinePrice);
+        ammunitionPrice = read(p, "price.ammunition", b == null ? 10 : b.ammunitionPrice);
+
+        trafficParties = read(p, "traffic.parties", b == null ? 3000 : b.trafficParties);
+    }
+
+    /**
+     * Gets the parameter block loaded from the parameter file.
+     * The file is read the first time this is called; every later call
+     * returns the same block.
+     *
+     * @return The shared parameter block
+     */
+    public static synchronized SimulationParameters getDefault() {
+        if (defaults == null) {
+            defaults = load(ResourceLoader.getResourceAsStream(PARAMETER_FILE));
+        }
+        return defaults;
+    }
+
+    /**
+     * Reads a parameter block from a stream of properties.
+     * If the stream is missing or unreadable, the built-in values are used.
+     *
+     * @param in The stream to read, which is closed afterwards
+     * @return The parameter block
+     */
+    public static SimulationParameters load(InputStream in) {
+        Properties properties = new Properties();
+        if (in == null) {
+            System.err.println("Parameter file not found, using built-in simulation parameters.");
+        } else {
+            try (InputStream stream = in) {
+                properties.load(stream);
+            } catch (IOException e) {
+                System.err.println("Error reading simulation parameters: " + e.getMessage());
+            }
+        }
+        return new SimulationParameters(properties, null);
+    }
+
+    /**
+     * Derives a new parameter block from this one.
+     * Keys present in the overrides replace this block's values, and every
+     * other value is copied, so sweeps never re-read the parameter file.
+     *
+     * @param overrides The parameter definitions to change
+     * @return The new parameter block
+     */
+    public SimulationParameters derive(Properties overrides) {
+        return new SimulationParameters(overrides, this);
+    }
+
+    /**
+     * Reads a decimal parameter.
+     */
+    private static double read(Properties properties, String key, double fallback) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid value for simulation parameter " + key + ": " + value);
+            return fallback;
+        }
+    }
+
+    /**
+     * Reads a whole-number parameter.
+     */
+    private static int read(Properties properties, String key, int fallback) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid value for simulation parameter " + key + ": " + value);
+            return fallback;
+        }
+    }
+}
@@ -62,6 +62,10 @@ public class StartupDialog extends JDialog {
     // Radio buttons for departure month selection
     private final JRadioButton[] monthButtons = new JRadioButton[5];
 
+    // Company to travel in, and the number of other wagons in the train for each choice
+    private JComboBox<String> wagonTrainComboBox;
+    private static final int[] WAGON_TRAIN_SIZES = {0, 20, 100};
+
     // UI Colors for western theme
     private final Color BACKGROUND_COLOR = new Color(240, 220, 180); // Parchment/sepia background
     private final Color PANEL_COLOR = new Color(200, 170, 130);      // Darker parchment for panels
@@ -539,12 +543,38 @@ public class StartupDialog extends JDialog {
 
         // Add the months container to the main panel
         departurePanel.add(monthsContainer, BorderLayout.CENTER);
-        
+
+        // Company selection: alone, or with a wagon train
+        JPanel companyPanel = new JPanel(new BorderLayout(10, 0));
+        companyPanel.setBackground(PANEL_COLOR);
+
+        JLabel companyLabel = new JLabel("Company:");
+        companyLabel.setFont(FontManager.getBoldWesternFont(14f));
+        companyLabel.setForeground(TEXT_COLOR);
+
+        String[] companyLabels = {
+                "Travel alone - Your family keeps its own pace and its own company.",
+                "Join a small train (20 wagons) - Help on the trail, but you move at the pace of the slowest wagon.",
+                "Join a large train (100 wagons) - Safety in numbers, but more mouths to catch disease from."
+        };
+        wagonTrainComboBox = new JComboBox<>(companyLabels);
+        wagonTrainComboBox.setFont(FontManager.getWesternFont(14f));
+        wagonTrainComboBox.setForeground(TEXT_COLOR);
+        wagonTrainComboBox.setBackground(PANEL_COLOR);
+
+        companyPanel.add(companyLabel, BorderLayout.WEST);
+        companyPanel.add(wagonTrainComboBox, BorderLayout.CENTER);
+
         // Add guidance text at the bottom
         JTextArea guidanceText = createDescriptionArea(
             "Click 'Next' to visit the market and prepare for your journey."
         );
-        departurePanel.add(guidanceText, BorderLayout.SOUTH);
+
+        JPanel southPanel = new JPanel(new BorderLayout(0, 10));
+        southPanel.setBackground(PANEL_COLOR);
+        southPanel.add(companyPanel, BorderLayout.NORTH);
+        southPanel.add(guidanceText, BorderLayout.CENTER);
+        departurePanel.add(southPanel, BorderLayout.SOUTH);
     }
     
     /**
@@ -663,6 +693,7 @@ public class StartupDialog extends JDialog {
      * - Family members
      * - Trail selection
      * - Departure time
+     * - Wagon train, if one was chosen
      */
     private void saveSettings() {
         // Save player info
@@ -698,6 +729,9 @@ public class StartupDialog extends JDialog {
         }
         
         gameController.selectDepartureMonth(monthChoice);
+
+        // Join a wagon train once the family is known, so it shares the train's contacts
+        gameController.startWagonTrain(WAGON_TRAIN_SIZES[wagonTrainComboBox.getSelectedIndex()]);
     }
 
     /**
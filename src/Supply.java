@@ -0,0 +1,48 @@
+/**
+ * Supply Enum of the Perils Along the Platte Game
+ * Represents the countable supplies carried in the wagon.
+ * Each supply knows how much one unit of it weighs, so the inventory can
+ * keep the wagon's load up to date as supplies come and go.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file Supply.java
+ */
+
+public enum Supply {
+    /** Food, counted in pounds. */
+    FOOD(1),
+
+    /** Oxen, which walk rather than ride and add no load. */
+    OXEN(0),
+
+    /** Spare wagon wheels. */
+    WHEEL(50),
+
+    /** Spare wagon axles. */
+    AXLE(40),
+
+    /** Spare wagon tongues. */
+    TONGUE(30),
+
+    /** Spare wagon bows. */
+    WAGON_BOW(10),
+
+    /** Medical kits. */
+    MEDICINE(5),
+
+    /** Ammunition, counted in rounds. */
+    AMMUNITION(3);
+
+    // Weight of one unit in pounds
+    private final int weight;
+
+    Supply(int weight) {
+        this.weight = weight;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+}
@@ -0,0 +1,197 @@
+/**
+ * TerrainProfile Class of the Perils Along the Platte Game
+ * Holds the elevation, grade and terrain type of every mile of a stretch of trail.
+ *
+ * Everything is stored in primitive arrays indexed by mile, and the combined
+ * speed, fatigue and wear factors are precomputed once the profile is built,
+ * so sampling any mile is a single array read. This keeps the per-day cost
+ * of terrain effects constant and cheap enough for batch simulation runs.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file TerrainProfile.java
+ */
+
+public class TerrainProfile {
+    // Share of travel speed lost per tenth of a percent of climbing grade
+    private static final double SPEED_LOSS_PER_GRADE = 0.02;
+
+    // Fatigue added per tenth of a percent of climbing grade
+    private static final double FATIGUE_PER_GRADE = 0.05;
+
+    // Wear added per tenth of a percent of grade, climbing or descending
+    private static final double WEAR_PER_GRADE = 0.05;
+
+    // Lowest speed factor a steep climb can cause on its own
+    private static final double MIN_GRADE_SPEED_FACTOR = 0.5;
+
+    // Cached terrain types, indexed by the ordinal stored in the type array
+    private static final TerrainType[] TYPES = TerrainType.values();
+
+    // Number of feet in a mile, used to turn elevation change into grade
+    private static final double FEET_PER_MILE = 5280.0;
+
+    // First mile covered by this profile
+    private final int startMile;
+
+    // Elevation in feet at each mile
+    private final short[] elevation;
+
+    // Grade to the next mile in tenths of a percent (negative is downhill)
+    private final byte[] grade;
+
+    // Terrain type ordinal at each mile
+    private final byte[] type;
+
+    // Precomputed travel speed factor at each mile
+    private final float[] speedFactor;
+
+    // Precomputed oxen fatigue factor at each mile
+    private final float[] fatigueFactor;
+
+    // Precomputed wagon wear factor at each mile
+    private final float[] wearFactor;
+
+    /**
+     * Constructs an empty TerrainProfile covering the given miles.
+     * Every mile starts as flat plains until spans are filled in.
+     *
+     * @param startMile The first mile covered by the profile
+     * @param length The number of miles covered
+     */
+    public TerrainProfile(int startMile, int length) {
+        this.startMile = startMile;
+        int size = Math.max(1, length);
+        this.elevation = new short[size];
+        this.grade = new byte[size];
+        this.type = new byte[size];
+        this.speedFactor = new float[size];
+        this.fatigueFactor = new float[size];
+        this.wearFactor = new float[size];
+    }
+
+    /**
+     * Fills a span of the profile, interpolating the elevation linearly
+     * between the two ends. Miles outside the profile are ignored.
+     *
+     * @param fromMile The first mile of the span
+     * @param toMile The mile the span ends at
+     * @param fromElevation The elevation in feet at the start of the span
+     * @param toElevation The elevation in feet at the end of the span
+     * @param terrainType The terrain of the span
+     */
+    public void fillSpan(int fromMile, int toMile, int fromElevation, int toElevation, TerrainType terrainType) {
+        int span = Math.max(1, toMile - fromMile);
+        int first = Math.max(fromMile, startMile);
+        int last = Math.min(toMile, startMile + elevation.length - 1);
+        for (int mile = first; mile <= last; mile++) {
+            int i = mile - startMile;
+            elevation[i] = (short) (fromElevation + (long) (toElevation - fromElevation) * (mile - fromMile) / span);
+            type[i] = (byte) terrainType.ordinal();
+        }
+    }
+
+    /**
+     * Computes the grade of every mile and precomputes the combined factors.
+     * Must be called once after all spans have been filled.
+     */
+    public void finish() {
+        for (int i = 0; i < elevation.length; i++) {
+            int rise = i + 1 < elevation.length ? elevation[i + 1] - elevation[i] : 0;
+            int tenths = (int) Math.round(rise / FEET_PER_MILE * 1000.0);
+            grade[i] = (byte) Math.max(Byte.MIN_VALUE, Math.min(Byte.MAX_VALUE, tenths));
+
+            TerrainType terrain = TYPES[type[i]];
+            int climb = Math.max(0, grade[i]);
+            double gradeSpeed = Math.max(MIN_GRADE_SPEED_FACTOR, 1.0 - climb * SPEED_LOSS_PER_GRADE);
+            speedFactor[i] = (float) (terrain.getSpeedFactor() * gradeSpeed);
+            fatigueFactor[i] = (float) (terrain.getFatigueFactor() * (1.0 + climb * FATIGUE_PER_GRADE));
+            // Steep descents are as hard on the wagon as steep climbs
+            wearFactor[i] = (float) (terrain.getWearFactor() * (1.0 + Math.abs(grade[i]) * WEAR_PER_GRADE));
+        }
+    }
+
+    /**
+     * Converts a trail mile into an index into the arrays, clamping miles
+     * outside the profile to its first or last mile.
+     */
+    private int index(int mile) {
+        int i = mile - startMile;
+        if (i < 0) {
+            return 0;
+        }
+        return i < elevation.length ? i : elevation.length - 1;
+    }
+
+    public int getStartMile() {
+        return startMile;
+    }
+
+    public int getLength() {
+        return elevation.length;
+    }
+
+    /**
+     * Checks if the given mile falls inside this profile.
+     * @param mile The trail mile
+     * @return true if the profile covers the mile
+     */
+    public boolean covers(int mile) {
+        return mile >= startMile && mile < startMile + elevation.length;
+    }
+
+    public int getElevation(int mile) {
+        return elevation[index(mile)];
+    }
+
+    /**
+     * Gets the grade at a mile in tenths of a percent.
+     * @param mile The trail mile
+     * @return The grade, positive when climbing
+     */
+    public int getGrade(int mile) {
+        return grade[index(mile)];
+    }
+
+    public TerrainType getTerrainType(int mile) {
+        return TYPES[type[index(mile)]];
+    }
+
+    public double getSpeedFactor(int mile) {
+        return speedFactor[index(mile)];
+    }
+
+    public double getFatigueFactor(int mile) {
+        return fatigueFactor[index(mile)];
+    }
+
+    public double getWearFactor(int mile) {
+        return wearFactor[index(mile)];
+    }
+
+    /**
+     * Samples the speed factor for many miles at once.
+     * Used by batch runs that advance many parties in a single pass.
+     *
+     * @param miles The trail miles to sample
+     * @param out Receives the speed factor for each mile
+     */
+    public void sampleSpeedFactors(int[] miles, double[] out) {
+        for (int i = 0; i < miles.length; i++) {
+            out[i] = speedFactor[index(miles[i])];
+        }
+    }
+
+    /**
+     * Samples the fatigue factor for many miles at once.
+     *
+     * @param miles The trail miles to sample
+     * @param out Receives the fatigue factor for each mile
+     */
+    public void sampleFatigueFactors(int[] miles, double[] out) {
+        for (int i = 0; i < miles.length; i++) {
+            out[i] = fatigueFactor[index(miles[i])];
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * TerrainType Enum of the Perils Along the Platte Game
+ * Represents the kinds of country the trail passes through.
+ * Each terrain type carries the factors it applies to travel speed,
+ * oxen fatigue, wagon wear and oxen health.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file TerrainType.java
+ */
+
+public enum TerrainType {
+    /**
+     * Plains: Open rolling prairie of Kansas and Iowa.
+     * Easy going with no penalties.
+     */
+    PLAINS("Plains", 1.0, 1.0, 1.0, 0),
+
+    /**
+     * River Valley: Flat bottomland along the Platte and its forks.
+     * Good road, but damp ground and soft crossings tire the oxen slightly.
+     */
+    RIVER_VALLEY("River Valley", 1.0, 1.1, 1.0, 1),
+
+    /**
+     * Sandhills: Loose sand that drags at the wheels.
+     */
+    SANDHILLS("Sandhills", 0.8, 1.3, 1.1, 1),
+
+    /**
+     * Bluffs: Broken ground, steep descents and passes around the bluffs.
+     */
+    BLUFFS("Bluffs", 0.85, 1.2, 1.3, 1),
+
+    /**
+     * Mountains: Rough, climbing road through the Black Hills and beyond.
+     */
+    MOUNTAINS("Mountains", 0.7, 1.5, 1.5, 2),
+
+    /**
+     * Desert: Dry sagebrush country with little grass or water.
+     */
+    DESERT("Desert", 0.9, 1.4, 1.2, 1);
+
+    // Name shown to the player
+    private final String displayName;
+
+    // Multiplier applied to the day's travel distance
+    private final double speedFactor;
+
+    // Multiplier applied to the oxen's fatigue gain
+    private final double fatigueFactor;
+
+    // Multiplier applied to wagon part wear
+    private final double wearFactor;
+
+    // Extra oxen health lost for each day of travel
+    private final int oxenHealthCost;
+
+    TerrainType(String displayName, double speedFactor, double fatigueFactor, double wearFactor, int oxenHealthCost) {
+        this.displayName = displayName;
+        this.speedFactor = speedFactor;
+        this.fatigueFactor = fatigueFactor;
+        this.wearFactor = wearFactor;
+        this.oxenHealthCost = oxenHealthCost;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public double getSpeedFactor() {
+        return speedFactor;
+    }
+
+    public double getFatigueFactor() {
+        return fatigueFactor;
+    }
+
+    public double getWearFactor() {
+        return wearFactor;
+    }
+
+    public int getOxenHealthCost() {
+        return oxenHealthCost;
+    }
+}
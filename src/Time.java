@@ -2,6 +2,8 @@
  * Time Class of the Perils Along the Platte Game
  * Manages the game's calendar system, tracking days, months, and years.
  * Handles date advancement and provides methods for date-related calculations.
+ * The date is held as an epoch day, and TrailCalendar turns it into a year,
+ * month and day.
  *
  * @author Alex Randall and Chase McCluskey
  * @version 1.0
@@ -10,17 +12,11 @@
  */
 
 public class Time {
-    // The current year in the game
-    private int year;
-    
-    // The current month in the game
-    private int month;
-    
-    // The current day of the month
-    private int day;
-    
-    // The total number of days that have passed since the start of the game
-    private int totalDays;
+    // The current date as a TrailCalendar epoch day
+    private int epochDay;
+
+    // The epoch day the game started on
+    private final int startDay;
 
     private String trailName;
 
@@ -35,10 +31,8 @@ public class Time {
      * @param month The starting month (must be between 1 and 12)
      */
     public Time(int year, int month) {
-        this.year = year;
-        this.month = month;
-        this.day = 1;
-        this.totalDays = 0;
+        this.startDay = TrailCalendar.toEpochDay(year, month, 1);
+        this.epochDay = startDay;
         this.trailName = "OREGON TRAIL";
     }
 
@@ -58,21 +52,7 @@ public class Time {
      * - When skipping days
      */
     public void advanceDay() {
-        this.day++;
-        this.totalDays++;
-
-        // Check if we need to advance to next month
-        int daysInMonth = getDaysInMonth();
-        if (this.day > daysInMonth) {
-            this.day = 1;
-            this.month++;
-
-            // Check if we need to advance to next year
-            if (this.month > 12) {
-                this.month = 1;
-                this.year++;
-            }
-        }
+        this.epochDay++;
     }
 
     /**
@@ -85,17 +65,7 @@ public class Time {
      *         - 28/29 days: February (29 in leap years)
      */
     public int getDaysInMonth() {
-        switch (this.month) {
-            case 2: // February
-                return isLeapYear() ? 29 : 28;
-            case 4: // April
-            case 6: // June
-            case 9: // September
-            case 11: // November
-                return 30;
-            default:
-                return 31;
-        }
+        return TrailCalendar.getDaysInMonth(getYear(), getMonth());
     }
 
     /**
@@ -110,7 +80,7 @@ public class Time {
      * @return true if the current year is a leap year, false otherwise
      */
     public boolean isLeapYear() {
-        return (year % 4 == 0 && year % 100 != 0) || (year % 400 == 0);
+        return TrailCalendar.isLeapYear(getYear());
     }
 
     /**
@@ -120,7 +90,7 @@ public class Time {
      * @return The current year
      */
     public int getYear() {
-        return year;
+        return TrailCalendar.getYear(epochDay);
     }
 
     /**
@@ -130,7 +100,7 @@ public class Time {
      * @return The current month (1-12)
      */
     public int getMonth() {
-        return month;
+        return TrailCalendar.getMonth(epochDay);
     }
 
     /**
@@ -143,21 +113,7 @@ public class Time {
      *         - Returns "Unknown" for invalid month numbers
      */
     public String getMonthName() {
-        switch (this.month) {
-            case 1: return "January";
-            case 2: return "February";
-            case 3: return "March";
-            case 4: return "April";
-            case 5: return "May";
-            case 6: return "June";
-            case 7: return "July";
-            case 8: return "August";
-            case 9: return "September";
-            case 10: return "October";
-            case 11: return "November";
-            case 12: return "December";
-            default: return "Unknown";
-        }
+        return TrailCalendar.getMonthNameOf(epochDay);
     }
 
     /**
@@ -167,7 +123,7 @@ public class Time {
      * @return The current day (1-31)
      */
     public int getDay() {
-        return day;
+        return TrailCalendar.getDayOfMonth(epochDay);
     }
 
     /**
@@ -178,7 +134,18 @@ public class Time {
      * @return The total number of days since game start
      */
     public int getTotalDays() {
-        return totalDays;
+        return epochDay - startDay;
+    }
+
+    /**
+     * Gets the current date as a TrailCalendar epoch day.
+     * Records store this stamp rather than a reference to this Time, which
+     * keeps moving forward as the game goes on.
+     *
+     * @return The current epoch day
+     */
+    public int getEpochDay() {
+        return epochDay;
     }
 
     public String getTrailName() {
@@ -0,0 +1,148 @@
+/**
+ * TradeCart Class of the Perils Along the Platte Game
+ * A set of goods bought, sold or bartered together as one transaction.
+ *
+ * Each line is a commodity, a quantity and the price of one unit; goods the
+ * party gives up are entered as negative quantities. The cart keeps its
+ * total cost and the change in the wagon's load up to date as lines are
+ * added, so checking it against the party's money and the wagon's capacity
+ * needs no pass over the lines.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file TradeCart.java
+ */
+
+import java.util.Arrays;
+
+public class TradeCart {
+    // Line columns, indexed by line: commodity ordinal, units (negative when given up),
+    // price of one unit, and the ItemRegistry food type of a food line
+    private int[] commodity = new int[8];
+    private int[] quantity = new int[8];
+    private int[] unitPrice = new int[8];
+    private int[] foodType = new int[8];
+    private int lineCount;
+
+    // Dollars the party pays, negative when it is paid, and the pounds added to the wagon
+    private int totalCost;
+    private int totalWeight;
+
+    /**
+     * Adds goods bought.
+     *
+     * @param item The commodity
+     * @param units The units bought
+     * @param price The price of one unit
+     */
+    public void buy(Commodity item, int units, int price) {
+        add(item, units, price, ItemRegistry.PROVISIONS);
+    }
+
+    /**
+     * Adds food of one type bought, to come aboard as its own lot.
+     *
+     * @param type The ItemRegistry id of the food type
+     * @param pounds The pounds bought
+     * @param price The price of one pound
+     */
+    public void buyFood(int type, int pounds, int price) {
+        add(Commodity.FOOD, pounds, price, type);
+    }
+
+    /**
+     * Adds goods sold.
+     *
+     * @param item The commodity
+     * @param units The units sold
+     * @param price The price paid for one unit
+     */
+    public void sell(Commodity item, int units, int price) {
+        add(item, -units, price, ItemRegistry.PROVISIONS);
+    }
+
+    /**
+     * Adds goods received in a barter, for nothing.
+     *
+     * @param item The commodity
+     * @param units The units received
+     */
+    public void receive(Commodity item, int units) {
+        buy(item, units, 0);
+    }
+
+    /**
+     * Adds goods given up in a barter, for nothing.
+     *
+     * @param item The commodity
+     * @param units The units given
+     */
+    public void give(Commodity item, int units) {
+        sell(item, units, 0);
+    }
+
+    /**
+     * Appends a line and brings the totals up to date.
+     */
+    private void add(Commodity item, int units, int price, int type) {
+        if (units == 0) {
+            return;
+        }
+        if (lineCount == commodity.length) {
+            int capacity = lineCount * 2;
+            commodity = Arrays.copyOf(commodity, capacity);
+            quantity = Arrays.copyOf(quantity, capacity);
+            unitPrice = Arrays.copyOf(unitPrice, capacity);
+            foodType = Arrays.copyOf(foodType, capacity);
+        }
+        commodity[lineCount] = item.ordinal();
+        quantity[lineCount] = units;
+        unitPrice[lineCount] = price;
+        foodType[lineCount] = type;
+        lineCount++;
+        totalCost += units * price;
+        totalWeight += units * item.getWeight();
+    }
+
+    /**
+     * Empties the cart for reuse.
+     */
+    public void clear() {
+        lineCount = 0;
+        totalCost = 0;
+        totalWeight = 0;
+    }
+
+    public boolean isEmpty() {
+        return lineCount == 0;
+    }
+
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    public Commodity getCommodity(int line) {
+        return Commodity.of(commodity[line]);
+    }
+
+    public int getQuantity(int line) {
+        return quantity[line];
+    }
+
+    public int getUnitPrice(int line) {
+        return unitPrice[line];
+    }
+
+    public int getFoodType(int line) {
+        return foodType[line];
+    }
+
+    public int getTotalCost() {
+        return totalCost;
+    }
+
+    public int getTotalWeight() {
+        return totalWeight;
+    }
+}
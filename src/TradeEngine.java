@@ -0,0 +1,228 @@
+/**
+ * TradeEngine Class of the Perils Along the Platte Game
+ * Prices and carries out every purchase, sale and barter in the game.
+ *
+ * Prices come from the fort's quotes, or from the simulation parameters at
+ * the jumping-off towns, with the party's buying and selling modifiers
+ * applied here and nowhere else. A transaction is a TradeCart checked as a whole against the
+ * party's money, the wagon's capacity, what the party holds and what the
+ * post has to sell, and then applied all at once: the money changes hands,
+ * the inventory takes every line with a single update to the wagon's load,
+ * and the post's stock follows. A cart that fails its check changes nothing,
+ * and every cart that is applied is written to the journey's ledger.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file TradeEngine.java
+ */
+
+import java.util.Arrays;
+
+public class TradeEngine {
+    // Share of its price the jumping-off towns pay for goods
+    private static final double BUYBACK_SHARE = 0.5;
+
+    private static final int COMMODITY_COUNT = Commodity.values().length;
+
+    private final Player player;
+    private final Inventory inventory;
+    private final SimulationParameters parameters;
+
+    // Forts and trading posts on the trail, or null where there are none
+    private final FortEconomy economy;
+
+    // Record of the journey's trades, or null if they are not recorded
+    private final TransactionLedger ledger;
+
+    // Scratch totals of a cart being checked or applied, reused between transactions
+    private final int[] netUnits = new int[COMMODITY_COUNT];
+    private final int[] supplyChange = new int[Supply.values().length];
+    private final int[] foodBought = new int[ItemRegistry.size()];
+    private final int[] stockChange = new int[FortEconomy.GOOD_COUNT];
+
+    /**
+     * Constructs a trade engine.
+     *
+     * @param player The player, whose money and job the trades use
+     * @param inventory The wagon's inventory
+     * @param parameters The simulation parameters that set the base prices
+     * @param economy The forts and trading posts on the trail, or null where there are none
+     * @param ledger The record of the journey's trades, or null if they are not recorded
+     */
+    public TradeEngine(Player player, Inventory inventory, SimulationParameters parameters, FortEconomy economy,
+                       TransactionLedger ledger) {
+        this.player = player;
+        this.inventory = inventory;
+        this.parameters = parameters;
+        this.economy = economy;
+        this.ledger = ledger;
+    }
+
+    /**
+     * Gets the price the party pays for one unit of a commodity.
+     *
+     * @param item The commodity
+     * @param post The post traded with, or -1 for the jumping-off towns
+     * @return The price in dollars
+     */
+    public int getBuyPrice(Commodity item, int post) {
+        int good = item.getEconomyGood();
+        int price = economy != null && good >= 0 ? economy.getBuyPrice(post, good) : item.getBasePrice(parameters);
+        return Math.max(1, (int) Math.round(price * player.getBuyMerchantModifier()));
+    }
+
+    /**
+     * Gets the price the party is paid for one unit of a commodity.
+     *
+     * @param item The commodity
+     * @param post The post traded with, or -1 for the jumping-off towns
+     * @return The price in dollars
+     */
+    public int getSellPrice(Commodity item, int post) {
+        int good = item.getEconomyGood();
+        double price = economy != null && good >= 0 ? economy.getSellPrice(post, good)
+                : item.getBasePrice(parameters) * BUYBACK_SHARE;
+        price *= player.getSellMerchantModifier();
+        return Math.max(1, (int) Math.round(price));
+    }
+
+    /**
+     * Gets the units of a commodity a post has to sell.
+     *
+     * @param item The commodity
+     * @param post The post, or -1 for the jumping-off towns, which never run short
+     * @return The units on hand
+     */
+    public int getAvailable(Commodity item, int post) {
+        int good = item.getEconomyGood();
+        return economy != null && good >= 0 ? economy.getStock(post, good) : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Gets the most units of a commodity a post will buy.
+     *
+     * @param item The commodity
+     * @param post The post, or -1 for the jumping-off towns, which take any amount
+     * @return The units the post will take
+     */
+    public int getWanted(Commodity item, int post) {
+        int good = item.getEconomyGood();
+        return economy != null && good >= 0 ? economy.getBuyLimit(post, good) : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Gets the whole units of a commodity the party holds.
+     *
+     * @param item The commodity
+     * @return The units held
+     */
+    public int getHeld(Commodity item) {
+        return inventory.getSupply(item.getSupply()) / item.getSupplyPerUnit();
+    }
+
+    /**
+     * Checks a cart against the party's money and the wagon's capacity,
+     * the goods the party holds and what the post will sell or take.
+     * Lines of the same commodity are checked together.
+     *
+     * @param cart The cart
+     * @param post The post traded with, or -1 for the jumping-off towns or other travelers
+     * @return null if the cart can be applied, otherwise why not
+     */
+    public String validate(TradeCart cart, int post) {
+        if (cart.isEmpty()) {
+            return "Nothing was selected.";
+        }
+        if (cart.getTotalCost() > player.getMoney()) {
+            return "You don't have enough money for that purchase!";
+        }
+        if (!inventory.hasWeightCapacity(cart.getTotalWeight())) {
+            return "Your wagon cannot carry that much additional weight!\n" +
+                    "Current load: " + inventory.getCurrentWeight() + "/" + inventory.getMaxWeightCapacity() +
+                    " pounds\nAdditional weight: " + cart.getTotalWeight() + " pounds";
+        }
+
+        Arrays.fill(netUnits, 0);
+        for (int line = 0; line < cart.getLineCount(); line++) {
+            netUnits[cart.getCommodity(line).ordinal()] += cart.getQuantity(line);
+        }
+        for (int c = 0; c < COMMODITY_COUNT; c++) {
+            Commodity item = Commodity.of(c);
+            if (netUnits[c] < 0 && -netUnits[c] > getHeld(item)) {
+                return "You don't have enough " + item.getUnits() + " for that trade!";
+            }
+            if (post >= 0 && netUnits[c] > getAvailable(item, post)) {
+                return "The post doesn't have that many " + item.getUnits() + " to sell.";
+            }
+            if (post >= 0 && -netUnits[c] > getWanted(item, post)) {
+                return "The post won't take that many " + item.getUnits() + ".";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Carries out a cart as one transaction, if it passes its check.
+     * Money, the inventory and the post's stock change together, with a
+     * single update to the wagon's load.
+     *
+     * @param cart The cart
+     * @param post The post traded with, or -1 for the jumping-off towns
+     * @return null if the cart was applied, otherwise why not, with nothing changed
+     */
+    public String apply(TradeCart cart, int post) {
+        return apply(cart, post, post >= 0 ? TransactionLedger.POST : TransactionLedger.OUTFITTER);
+    }
+
+    /**
+     * Carries out a barter or gift with another party on the trail, outside
+     * any post's stock, if it passes its check.
+     *
+     * @param cart The goods given and received
+     * @return null if the cart was applied, otherwise why not, with nothing changed
+     */
+    public String barter(TradeCart cart) {
+        return apply(cart, -1, TransactionLedger.TRAVELER);
+    }
+
+    /**
+     * Checks and carries out a cart, recording it against a counterparty.
+     */
+    private String apply(TradeCart cart, int post, int counterparty) {
+        String problem = validate(cart, post);
+        if (problem != null) {
+            return problem;
+        }
+
+        Arrays.fill(supplyChange, 0);
+        Arrays.fill(foodBought, 0);
+        Arrays.fill(stockChange, 0);
+        for (int line = 0; line < cart.getLineCount(); line++) {
+            Commodity item = cart.getCommodity(line);
+            int units = cart.getQuantity(line);
+            if (item == Commodity.FOOD && units > 0) {
+                foodBought[cart.getFoodType(line)] += units;
+            } else {
+                supplyChange[item.getSupply().ordinal()] += units * item.getSupplyPerUnit();
+            }
+            if (item.getEconomyGood() >= 0) {
+                stockChange[item.getEconomyGood()] -= units;
+            }
+        }
+
+        if (cart.getTotalCost() >= 0) {
+            player.spendMoney(cart.getTotalCost());
+        } else {
+            player.addMoney(-cart.getTotalCost());
+        }
+        inventory.applyTrade(supplyChange, foodBought);
+        if (economy != null && post >= 0) {
+            economy.recordTrade(post, stockChange);
+        }
+        if (ledger != null) {
+            ledger.record(cart, counterparty);
+        }
+        return null;
+    }
+}
@@ -25,12 +25,68 @@ public class TradingDialog extends JDialog {
     private final Player player;
     private final Inventory inventory;
 
+    // Prices and carries out the trades, and the post traded with, -1 if it is outside the fort economy
+    private final TradeEngine engine;
+    private final int post;
+
+    // Historical notes shown after buying each commodity, indexed by Commodity ordinal
+    private static final String[] BUY_NOTES = {
+        "A typical family of four needed about 600-1000 pounds of flour, plus hundreds of pounds " +
+            "of bacon, sugar, coffee, and other staples for the journey. Many emigrants also gathered " +
+            "wild fruits, hunted game, and fished to supplement their rations.",
+        null, // Oxen are not traded at the posts
+        "Wagon wheels were typically 4 to 5 feet in diameter with iron tires that could come " +
+            "loose in dry weather. Emigrants often soaked wheels in rivers overnight to make the wood " +
+            "expand and tighten the fit of the tire.",
+        "Axles were typically made of hardwood like hickory or oak. They were subject to " +
+            "tremendous stress and could snap when crossing rough terrain or when wagons were " +
+            "overloaded. A broken axle could strand travelers for days.",
+        "The wagon tongue was the long pole that connected the wagon to the oxen's yoke. They " +
+            "could break when the wagon jackknifed or when crossing steep terrain. Many emigrants " +
+            "carried a spare tongue as they were essential for wagon movement.",
+        "Wagon bows were the arched wooden slats that supported the canvas cover. Made of " +
+            "flexible wood like ash or hickory, they could be damaged in storms or by low-hanging " +
+            "branches. The canvas cover protected supplies from weather and provided minimal shelter " +
+            "at night.",
+        "Cholera was the most feared disease on the trail, with outbreaks in 1849, 1850, and 1852 " +
+            "that killed thousands. Other common ailments included dysentery, mountain fever, scurvy, " +
+            "and various injuries.",
+        "While Native American attacks were greatly exaggerated in popular culture, ammunition " +
+            "was crucial for hunting. Buffalo, deer, antelope, and smaller game provided important " +
+            "food sources along certain stretches of the trail."
+    };
+
+    // Historical notes shown after selling each commodity, indexed by Commodity ordinal
+    private static final String[] SELL_NOTES = {
+        "Food supplies often fluctuated in value along the trail. At some forts and trading " +
+            "posts, food might be scarce and valuable, while at others there might be a surplus, " +
+            "lowering prices.",
+        null, // Oxen are not traded at the posts
+        "Wheels were the most frequently damaged part of the wagon. The iron tires would often " +
+            "loosen in dry weather and need to be reset, a job that required special skills and " +
+            "equipment.",
+        "Wagon axles were made of hardwood and could break when wagons were overloaded or when " +
+            "crossing rocky terrain. Emigrants often carried spare axles, as a broken one could halt " +
+            "progress entirely.",
+        "The wagon tongue connected the wagon to the oxen's yoke. It was subject to immense " +
+            "strain, especially when crossing rivers or steep hills, making it prone to breakage.",
+        "Wagon bows were the arched wooden supports for the canvas cover. Though less critical " +
+            "than wheels, axles, or tongues, damaged bows meant less protection from the elements and " +
+            "could lead to damaged supplies.",
+        "Medical treatments in the 1840s were primitive by modern standards. Common medicines " +
+            "included laudanum (an opium tincture), quinine for malaria, and various herbal remedies. " +
+            "Disease was the leading cause of death on the trail.",
+        "Firearms were essential for hunting and protection on the trail. Most emigrants carried " +
+            "muzzle-loading rifles or muskets. Ammunition had to be carefully conserved, as supplies " +
+            "along the trail were limited."
+    };
+
     // GUI components
     private JLabel moneyLabel;
     private JTextArea resultArea;
     private JPanel actionPanel;
     
-    // Price modifiers
+    // The party's bargaining, applied to the post's quoted prices
     private double priceFactor;
 
     // UI Colors for western theme
@@ -45,23 +101,27 @@ public class TradingDialog extends JDialog {
      * Initializes the dialog with:
      * - Player information and funds
      * - Inventory management
-     * - Dynamic pricing system
+     * - The post's prices, set by its stock
      * - Gender-based price adjustments
-     * - Job-specific discounts
+     * - Job-specific discounts, from the trade engine
      * 
      * @param owner The parent frame (main game window)
      * @param player The player character
      * @param inventory The game's inventory system
+     * @param engine The trade engine, with the fort economy
+     * @param post The post traded with, -1 for one outside the economy
      */
-    public TradingDialog(Frame owner, Player player, Inventory inventory) {
+    public TradingDialog(Frame owner, Player player, Inventory inventory, TradeEngine engine, int post) {
         super(owner, "Trading Post", true);
         
         this.player = player;
         this.inventory = inventory;
+        this.engine = engine;
+        this.post = post;
         
-        // Random price fluctuations for supply and demand
+        // Supply and demand are in the post's quotes
         Random random = new Random();
-        this.priceFactor = 0.8 + (random.nextDouble() * 0.4); // 0.8 to 1.2 multiplier
+        this.priceFactor = 1.0;
         
         // Gender price adjustment - women get better prices
         if ("female".equalsIgnoreCase(player.getGender())) {
@@ -91,12 +151,6 @@ public class TradingDialog extends JDialog {
         setLayout(new BorderLayout(10, 10));
         getContentPane().setBackground(BACKGROUND_COLOR);
         
-        if (player.getJob() == Job.MERCHANT) {
-            // 5-10% additional discount for merchants
-            double merchantDiscount = 0.05 + (new Random().nextDouble() * 0.05);
-            this.priceFactor *= (1.0 - merchantDiscount);
-        }
-        
         // Top panel with title and info
         JPanel topPanel = new JPanel(new BorderLayout());
         topPanel.setBackground(BACKGROUND_COLOR);
@@ -259,24 +313,28 @@ public class TradingDialog extends JDialog {
         titleLabel.setFont(FontManager.getBoldWesternFont(16f));
         titleLabel.setForeground(HEADER_COLOR);
         
-        // Calculate prices with random variation
-        int foodPrice = Math.max(1, (int)Math.round(1.5 * priceFactor));
-        int partPrice = Math.max(20, (int)Math.round(25 * priceFactor));
-        int medicinePrice = Math.max(15, (int)Math.round(20 * priceFactor));
-        int ammoPrice = Math.max(8, (int)Math.round(10 * priceFactor));
+        // Prices quoted by the post for its stock
+        int foodPrice = buyPrice(Commodity.FOOD);
+        int partPrice = (buyPrice(Commodity.WHEEL) + buyPrice(Commodity.AXLE) +
+                         buyPrice(Commodity.TONGUE) + buyPrice(Commodity.WAGON_BOW)) / 4;
+        int medicinePrice = buyPrice(Commodity.MEDICINE);
+        int ammoPrice = buyPrice(Commodity.AMMUNITION);
         
         // Create buy buttons
-        JPanel foodPanel = createTradeButton("Food - $" + foodPrice + " per pound", 
-                             "Buy Food", e -> buyFood(foodPrice));
+        JPanel foodPanel = createTradeButton("Food - $" + foodPrice + " per pound" +
+                             stockNote(Commodity.FOOD, " pounds"), 
+                             "Buy Food", e -> buy(Commodity.FOOD));
         
-        JPanel partsPanel = createTradeButton("Wagon Parts - $" + partPrice + " each", 
-                              "Buy Parts", e -> buyWagonParts(partPrice));
+        JPanel partsPanel = createTradeButton("Wagon Parts - about $" + partPrice + " each", 
+                              "Buy Parts", e -> buyWagonParts());
         
-        JPanel medicinePanel = createTradeButton("Medicine Kits - $" + medicinePrice + " each", 
-                                 "Buy Kits", e -> buyMedicine(medicinePrice));
+        JPanel medicinePanel = createTradeButton("Medicine Kits - $" + medicinePrice + " each" +
+                                 stockNote(Commodity.MEDICINE, ""), 
+                                 "Buy Kits", e -> buy(Commodity.MEDICINE));
         
-        JPanel ammoPanel = createTradeButton("Ammunition - $" + ammoPrice + " per box of 20 rounds", 
-                             "Buy Ammo", e -> buyAmmunition(ammoPrice));
+        JPanel ammoPanel = createTradeButton("Ammunition - $" + ammoPrice + " per box of 20 rounds" +
+                             stockNote(Commodity.AMMUNITION, " boxes"), 
+                             "Buy Ammo", e -> buy(Commodity.AMMUNITION));
         
         buyPanel.add(titleLabel);
         buyPanel.add(foodPanel);
@@ -307,28 +365,29 @@ public class TradingDialog extends JDialog {
         titleLabel.setFont(FontManager.getBoldWesternFont(16f));
         titleLabel.setForeground(HEADER_COLOR);
         
-        // Calculate selling prices (always less than buying prices)
-        int foodSellPrice = Math.max(1, (int)Math.round(0.75 * priceFactor));
-        int partSellPrice = Math.max(10, (int)Math.round(12 * priceFactor));
-        int medicineSellPrice = Math.max(7, (int)Math.round(10 * priceFactor));
-        int ammoSellPrice = Math.max(5, (int)Math.round(7.5 * priceFactor));
+        // Prices the post pays (always less than it asks)
+        int foodSellPrice = sellPrice(Commodity.FOOD);
+        int partSellPrice = (sellPrice(Commodity.WHEEL) + sellPrice(Commodity.AXLE) +
+                             sellPrice(Commodity.TONGUE) + sellPrice(Commodity.WAGON_BOW)) / 4;
+        int medicineSellPrice = sellPrice(Commodity.MEDICINE);
+        int ammoSellPrice = sellPrice(Commodity.AMMUNITION);
         
         // Create sell buttons
         JPanel foodPanel = createTradeButton("Food - $" + foodSellPrice + " per pound" +
                              " (Have: " + inventory.getFood() + " pounds)", 
-                             "Sell Food", e -> sellFood(foodSellPrice));
+                             "Sell Food", e -> sell(Commodity.FOOD));
         
-        JPanel partsPanel = createTradeButton("Wagon Parts - $" + partSellPrice + " each" +
+        JPanel partsPanel = createTradeButton("Wagon Parts - about $" + partSellPrice + " each" +
                               " (Have: " + inventory.getWagonParts() + ")", 
-                              "Sell Parts", e -> sellWagonParts(partSellPrice));
+                              "Sell Parts", e -> sellWagonParts());
         
         JPanel medicinePanel = createTradeButton("Medicine Kits - $" + medicineSellPrice + " each" +
                                  " (Have: " + inventory.getMedicine() + ")", 
-                                 "Sell Kits", e -> sellMedicine(medicineSellPrice));
+                                 "Sell Kits", e -> sell(Commodity.MEDICINE));
         
         JPanel ammoPanel = createTradeButton("Ammunition - $" + ammoSellPrice + " per box of 20 rounds" +
                              " (Have: " + inventory.getAmmunition() + " rounds)", 
-                             "Sell Ammo", e -> sellAmmunition(ammoSellPrice));
+                             "Sell Ammo", e -> sell(Commodity.AMMUNITION));
         
         sellPanel.add(titleLabel);
         sellPanel.add(foodPanel);
@@ -633,39 +692,104 @@ public class TradingDialog extends JDialog {
         moneyLabel.setText("Available Funds: $" + player.getMoney());
     }
     
-    // Buy methods
-    
     /**
-     * Buys food supplies.
-     * 
-     * @param price The price per pound
+     * Gets the price the post asks for a commodity, after the party's bargaining.
+     *
+     * @param item The commodity
+     * @return The price in dollars
+     */
+    private int buyPrice(Commodity item) {
+        return Math.max(1, (int) Math.round(engine.getBuyPrice(item, post) * priceFactor));
+    }
+
+    /**
+     * Gets the price the post pays for a commodity, after the party's bargaining.
+     *
+     * @param item The commodity
+     * @return The price in dollars
+     */
+    private int sellPrice(Commodity item) {
+        return Math.max(1, (int) Math.round(engine.getSellPrice(item, post) * priceFactor));
+    }
+
+    /**
+     * Describes how much of a commodity the post has left, for a price label.
+     *
+     * @param item The commodity
+     * @param unit The unit to follow the count, such as " pounds"
+     * @return The note, empty when the post never runs short
      */
-    private void buyFood(int price) {
-        int quantity = getQuantity("pounds of food", -1);
+    private String stockNote(Commodity item, String unit) {
+        int stock = engine.getAvailable(item, post);
+        if (stock == Integer.MAX_VALUE) {
+            return "";
+        }
+        return stock > 0 ? " (In stock: " + stock + unit + ")" : " (Sold out)";
+    }
+
+    /**
+     * Buys a commodity from the post as a one-line transaction.
+     *
+     * @param item The commodity
+     */
+    private void buy(Commodity item) {
+        int available = engine.getAvailable(item, post);
+        if (available <= 0) {
+            resultArea.setText("The post has no " + item.getUnits() + " left to sell. " +
+                               "Supplies will come up with the freight wagons.");
+            return;
+        }
+        
+        int quantity = getQuantity(item.getUnits(), available);
         if (quantity <= 0) return;
         
-        int totalCost = quantity * price;
-        if (totalCost > player.getMoney()) {
-            resultArea.setText("You don't have enough money for that purchase!");
+        TradeCart cart = new TradeCart();
+        cart.buy(item, quantity, buyPrice(item));
+        String problem = engine.apply(cart, post);
+        if (problem != null) {
+            resultArea.setText(problem);
             return;
         }
+        updateMoneyDisplay();
         
-        player.spendMoney(totalCost);
-        inventory.addFood(quantity);
+        resultArea.setText("You purchased " + quantity + " " + item.getUnits() + " for $" + cart.getTotalCost() +
+                          "\n\nHistorical Note: " + BUY_NOTES[item.ordinal()]);
+    }
+
+    /**
+     * Sells a commodity to the post as a one-line transaction.
+     *
+     * @param item The commodity
+     */
+    private void sell(Commodity item) {
+        int held = engine.getHeld(item);
+        if (held <= 0) {
+            resultArea.setText("You don't have any " + item.getUnits() + " to sell!");
+            return;
+        }
+        
+        int quantity = getQuantity("sell " + item.getUnits(), held);
+        if (quantity <= 0) return;
+        
+        TradeCart cart = new TradeCart();
+        cart.sell(item, quantity, sellPrice(item));
+        String problem = engine.apply(cart, post);
+        if (problem != null) {
+            resultArea.setText(problem);
+            return;
+        }
         updateMoneyDisplay();
         
-        resultArea.setText("You purchased " + quantity + " pounds of food for $" + totalCost + 
-                          "\n\nHistorical Note: A typical family of four needed about 600-1000 pounds of flour, " +
-                          "plus hundreds of pounds of bacon, sugar, coffee, and other staples for the journey. " +
-                          "Many emigrants also gathered wild fruits, hunted game, and fished to supplement their rations.");
+        resultArea.setText("You sold " + quantity + " " + item.getUnits() + " for $" + -cart.getTotalCost() +
+                         "\n\nHistorical Note: " + SELL_NOTES[item.ordinal()]);
     }
+
+    // Buy methods
     
     /**
-     * Buys wagon parts.
-     * 
-     * @param basePrice The base price per part
+     * Buys wagon parts, after choosing which part.
      */
-    private void buyWagonParts(int basePrice) {
+    private void buyWagonParts() {
         // Create styled part selection dialog instead of using JOptionPane
         JDialog partDialog = new JDialog(this, "Select Wagon Part", true);
         partDialog.setLayout(new BorderLayout(10, 10));
@@ -686,10 +810,14 @@ public class TradingDialog extends JDialog {
         ));
         
         // Part options
-        JRadioButton wheelOption = new JRadioButton("Wheel - $25 each");
-        JRadioButton axleOption = new JRadioButton("Axle - $20 each");
-        JRadioButton tongueOption = new JRadioButton("Tongue - $15 each");
-        JRadioButton bowOption = new JRadioButton("Wagon Bow - $10 each");
+        JRadioButton wheelOption = new JRadioButton("Wheel - $" + buyPrice(Commodity.WHEEL) + " each" +
+                stockNote(Commodity.WHEEL, ""));
+        JRadioButton axleOption = new JRadioButton("Axle - $" + buyPrice(Commodity.AXLE) + " each" +
+                stockNote(Commodity.AXLE, ""));
+        JRadioButton tongueOption = new JRadioButton("Tongue - $" + buyPrice(Commodity.TONGUE) + " each" +
+                stockNote(Commodity.TONGUE, ""));
+        JRadioButton bowOption = new JRadioButton("Wagon Bow - $" + buyPrice(Commodity.WAGON_BOW) + " each" +
+                stockNote(Commodity.WAGON_BOW, ""));
         
         // Style the radio buttons
         wheelOption.setFont(FontManager.getWesternFont(14f));
@@ -784,261 +912,20 @@ public class TradingDialog extends JDialog {
         if (selectedPart[0] == null) return; // User canceled
         
         if (selectedPart[0].equals("Wheel")) {
-            buyWheels(25);
+            buy(Commodity.WHEEL);
         } else if (selectedPart[0].equals("Axle")) {
-            buyAxles(20);
+            buy(Commodity.AXLE);
         } else if (selectedPart[0].equals("Tongue")) {
-            buyTongues(15);
+            buy(Commodity.TONGUE);
         } else if (selectedPart[0].equals("Wagon Bow")) {
-            buyWagonBows(10);
-        }
-    }
-
-    /**
-     * Buys wheels for the wagon.
-     *
-     * @param price The price per wheel
-     */
-    private void buyWheels(int price) {
-        int quantity = getQuantity("wheels", -1);
-        if (quantity <= 0) return;
-        
-        int totalCost = quantity * price;
-        int totalWeight = quantity * 50; // 50 lbs per wheel
-        
-        if (totalCost > player.getMoney()) {
-            resultArea.setText("You don't have enough money for that purchase!");
-            return;
-        }
-        
-        if (!inventory.hasWeightCapacity(totalWeight)) {
-            resultArea.setText("Your wagon cannot carry that much additional weight!\n" +
-                               "Current load: " + inventory.getCurrentWeight() + "/" + 
-                               inventory.getMaxWeightCapacity() + " pounds\n" +
-                               "Additional weight: " + totalWeight + " pounds");
-            return;
-        }
-        
-        player.spendMoney(totalCost);
-        inventory.addWheels(quantity);
-        updateMoneyDisplay();
-        
-        resultArea.setText("You purchased " + quantity + " wheel" + (quantity > 1 ? "s" : "") + " for $" + totalCost + 
-                          "\n\nHistorical Note: Wagon wheels were typically 4 to 5 feet in diameter with iron tires " + 
-                          "that could come loose in dry weather. Emigrants often soaked wheels in rivers overnight " +
-                          "to make the wood expand and tighten the fit of the tire.");
-    }
-
-    /**
-     * Buys axles for the wagon.
-     *
-     * @param price The price per axle
-     */
-    private void buyAxles(int price) {
-        int quantity = getQuantity("axles", -1);
-        if (quantity <= 0) return;
-        
-        int totalCost = quantity * price;
-        int totalWeight = quantity * 40; // 40 lbs per axle
-        
-        if (totalCost > player.getMoney()) {
-            resultArea.setText("You don't have enough money for that purchase!");
-            return;
-        }
-        
-        if (!inventory.hasWeightCapacity(totalWeight)) {
-            resultArea.setText("Your wagon cannot carry that much additional weight!\n" +
-                               "Current load: " + inventory.getCurrentWeight() + "/" + 
-                               inventory.getMaxWeightCapacity() + " pounds\n" +
-                               "Additional weight: " + totalWeight + " pounds");
-            return;
-        }
-        
-        player.spendMoney(totalCost);
-        inventory.addAxles(quantity);
-        updateMoneyDisplay();
-        
-        resultArea.setText("You purchased " + quantity + " axle" + (quantity > 1 ? "s" : "") + " for $" + totalCost + 
-                          "\n\nHistorical Note: Axles were typically made of hardwood like hickory or oak. " +
-                          "They were subject to tremendous stress and could snap when crossing rough terrain " +
-                          "or when wagons were overloaded. A broken axle could strand travelers for days.");
-    }
-
-    /**
-     * Buys tongues for the wagon.
-     *
-     * @param price The price per tongue
-     */
-    private void buyTongues(int price) {
-        int quantity = getQuantity("tongues", -1);
-        if (quantity <= 0) return;
-        
-        int totalCost = quantity * price;
-        int totalWeight = quantity * 30; // 30 lbs per tongue
-        
-        if (totalCost > player.getMoney()) {
-            resultArea.setText("You don't have enough money for that purchase!");
-            return;
-        }
-        
-        if (!inventory.hasWeightCapacity(totalWeight)) {
-            resultArea.setText("Your wagon cannot carry that much additional weight!\n" +
-                               "Current load: " + inventory.getCurrentWeight() + "/" + 
-                               inventory.getMaxWeightCapacity() + " pounds\n" +
-                               "Additional weight: " + totalWeight + " pounds");
-            return;
-        }
-        
-        player.spendMoney(totalCost);
-        inventory.addTongues(quantity);
-        updateMoneyDisplay();
-        
-        resultArea.setText("You purchased " + quantity + " tongue" + (quantity > 1 ? "s" : "") + " for $" + totalCost + 
-                          "\n\nHistorical Note: The wagon tongue was the long pole that connected the wagon to the " +
-                          "oxen's yoke. They could break when the wagon jackknifed or when crossing steep terrain. " +
-                          "Many emigrants carried a spare tongue as they were essential for wagon movement.");
-    }
-
-    /**
-     * Buys wagon bows for the wagon.
-     *
-     * @param price The price per bow
-     */
-    private void buyWagonBows(int price) {
-        int quantity = getQuantity("wagon bows", -1);
-        if (quantity <= 0) return;
-        
-        int totalCost = quantity * price;
-        int totalWeight = quantity * 10; // 10 lbs per wagon bow
-        
-        if (totalCost > player.getMoney()) {
-            resultArea.setText("You don't have enough money for that purchase!");
-            return;
-        }
-        
-        if (!inventory.hasWeightCapacity(totalWeight)) {
-            resultArea.setText("Your wagon cannot carry that much additional weight!\n" +
-                               "Current load: " + inventory.getCurrentWeight() + "/" + 
-                               inventory.getMaxWeightCapacity() + " pounds\n" +
-                               "Additional weight: " + totalWeight + " pounds");
-            return;
-        }
-        
-        player.spendMoney(totalCost);
-        inventory.addWagonBows(quantity);
-        updateMoneyDisplay();
-        
-        resultArea.setText("You purchased " + quantity + " wagon bow" + (quantity > 1 ? "s" : "") + " for $" + totalCost + 
-                          "\n\nHistorical Note: Wagon bows were the arched wooden slats that supported the canvas " +
-                          "cover. Made of flexible wood like ash or hickory, they could be damaged in storms or " +
-                          "by low-hanging branches. The canvas cover protected supplies from weather and provided " +
-                          "minimal shelter at night.");
-    }
-
-    /**
-     * Buys medicine kits.
-     *
-     * @param price The price per kit
-     */
-    private void buyMedicine(int price) {
-        int quantity = getQuantity("medicine kits", -1);
-        if (quantity <= 0) return;
-        
-        int totalCost = quantity * price;
-        int totalWeight = quantity * 5; // 5 pounds per medicine kit
-        
-        if (totalCost > player.getMoney()) {
-            resultArea.setText("You don't have enough money for that purchase!");
-            return;
-        }
-        
-        if (!inventory.hasWeightCapacity(totalWeight)) {
-            resultArea.setText("Your wagon cannot carry that much additional weight!\n" +
-                              "Current load: " + inventory.getCurrentWeight() + "/" + 
-                              inventory.getMaxWeightCapacity() + " pounds\n" +
-                              "Additional weight: " + totalWeight + " pounds");
-            return;
-        }
-        
-        player.spendMoney(totalCost);
-        inventory.addMedicine(quantity);
-        updateMoneyDisplay();
-        
-        resultArea.setText("You purchased " + quantity + " medicine kits for $" + totalCost + 
-                          "\n\nHistorical Note: Cholera was the most feared disease on the trail, " +
-                          "with outbreaks in 1849, 1850, and 1852 that killed thousands. Other common " +
-                          "ailments included dysentery, mountain fever, scurvy, and various injuries.");
-    }
-
-    /**
-     * Buys ammunition.
-     *
-     * @param price The price per box of 20 rounds
-     */
-    private void buyAmmunition(int price) {
-        int quantity = getQuantity("boxes of ammunition", -1);
-        if (quantity <= 0) return;
-        
-        int totalCost = quantity * price;
-        int totalWeight = quantity * 3; // 3 pounds per box of 20 rounds
-        
-        if (totalCost > player.getMoney()) {
-            resultArea.setText("You don't have enough money for that purchase!");
-            return;
-        }
-        
-        if (!inventory.hasWeightCapacity(totalWeight)) {
-            resultArea.setText("Your wagon cannot carry that much additional weight!\n" +
-                              "Current load: " + inventory.getCurrentWeight() + "/" + 
-                              inventory.getMaxWeightCapacity() + " pounds\n" +
-                              "Additional weight: " + totalWeight + " pounds");
-            return;
+            buy(Commodity.WAGON_BOW);
         }
-        
-        player.spendMoney(totalCost);
-        inventory.addAmmunition(quantity * 20); // 20 rounds per box
-        updateMoneyDisplay();
-        
-        resultArea.setText("You purchased " + quantity + " boxes of ammunition (" + 
-                          (quantity * 20) + " rounds) for $" + totalCost + 
-                          "\n\nHistorical Note: While Native American attacks were greatly exaggerated in " +
-                          "popular culture, ammunition was crucial for hunting. Buffalo, deer, antelope, and " +
-                          "smaller game provided important food sources along certain stretches of the trail.");
     }
-    
 
     /**
-     * Sells food supplies.
-     * 
-     * @param price The price per pound
+     * Sells wagon parts, after choosing which part.
      */
-    private void sellFood(int price) {
-        int maxFood = inventory.getFood();
-        if (maxFood <= 0) {
-            resultArea.setText("You don't have any food to sell!");
-            return;
-        }
-        
-        int quantity = getQuantity("sell food", maxFood);
-        if (quantity <= 0) return;
-        
-        int totalEarned = quantity * price;
-        inventory.consumeFood(quantity);
-        player.addMoney(totalEarned);
-        updateMoneyDisplay();
-        
-        resultArea.setText("You sold " + quantity + " pounds of food for $" + totalEarned + 
-                         "\n\nHistorical Note: Food supplies often fluctuated in value along the trail. " +
-                         "At some forts and trading posts, food might be scarce and valuable, while at others " +
-                         "there might be a surplus, lowering prices.");
-    }
-    
-    /**
-     * Sells wagon parts.
-     * 
-     * @param basePrice The base price per part
-     */
-    private void sellWagonParts(int basePrice) {
+    private void sellWagonParts() {
         // Create styled part selection dialog instead of using JOptionPane
         JDialog partDialog = new JDialog(this, "Select Wagon Part", true);
         partDialog.setLayout(new BorderLayout(10, 10));
@@ -1059,10 +946,14 @@ public class TradingDialog extends JDialog {
         ));
         
         // Part options with inventory counts
-        JRadioButton wheelOption = new JRadioButton("Wheels - $15 each (Have: " + inventory.getWheels() + ")");
-        JRadioButton axleOption = new JRadioButton("Axles - $12 each (Have: " + inventory.getAxles() + ")");
-        JRadioButton tongueOption = new JRadioButton("Tongues - $10 each (Have: " + inventory.getTongues() + ")");
-        JRadioButton bowOption = new JRadioButton("Wagon Bows - $7 each (Have: " + inventory.getWagonBows() + ")");
+        JRadioButton wheelOption = new JRadioButton("Wheels - $" + sellPrice(Commodity.WHEEL) +
+                " each (Have: " + inventory.getWheels() + ")");
+        JRadioButton axleOption = new JRadioButton("Axles - $" + sellPrice(Commodity.AXLE) +
+                " each (Have: " + inventory.getAxles() + ")");
+        JRadioButton tongueOption = new JRadioButton("Tongues - $" + sellPrice(Commodity.TONGUE) +
+                " each (Have: " + inventory.getTongues() + ")");
+        JRadioButton bowOption = new JRadioButton("Wagon Bows - $" + sellPrice(Commodity.WAGON_BOW) +
+                " each (Have: " + inventory.getWagonBows() + ")");
         
         // Disable options if none available
         wheelOption.setEnabled(inventory.getWheels() > 0);
@@ -1178,173 +1069,16 @@ public class TradingDialog extends JDialog {
         if (selectedPart[0] == null) return; // User canceled
         
         if (selectedPart[0].equals("Wheels")) {
-            sellWheels(15);
+            sell(Commodity.WHEEL);
         } else if (selectedPart[0].equals("Axles")) {
-            sellAxles(12);
+            sell(Commodity.AXLE);
         } else if (selectedPart[0].equals("Tongues")) {
-            sellTongues(10);
+            sell(Commodity.TONGUE);
         } else if (selectedPart[0].equals("Wagon Bows")) {
-            sellWagonBows(7);
+            sell(Commodity.WAGON_BOW);
         }
     }
     
-    /**
-     * Sells wagon wheels.
-     * 
-     * @param price The price per wheel
-     */
-    private void sellWheels(int price) {
-        int maxWheels = inventory.getWheels();
-        if (maxWheels <= 0) {
-            resultArea.setText("You don't have any wheels to sell!");
-            return;
-        }
-        
-        int quantity = getQuantity("sell wheels", maxWheels);
-        if (quantity <= 0) return;
-        
-        int totalEarned = quantity * price;
-        inventory.useWheels(quantity);
-        player.addMoney(totalEarned);
-        updateMoneyDisplay();
-        
-        resultArea.setText("You sold " + quantity + " wheel" + (quantity > 1 ? "s" : "") + " for $" + totalEarned + 
-                         "\n\nHistorical Note: Wheels were the most frequently damaged part of the wagon. " +
-                         "The iron tires would often loosen in dry weather and need to be reset, a job " +
-                         "that required special skills and equipment.");
-    }
-    
-    /**
-     * Sells wagon axles.
-     * 
-     * @param price The price per axle
-     */
-    private void sellAxles(int price) {
-        int maxAxles = inventory.getAxles();
-        if (maxAxles <= 0) {
-            resultArea.setText("You don't have any axles to sell!");
-            return;
-        }
-        
-        int quantity = getQuantity("sell axles", maxAxles);
-        if (quantity <= 0) return;
-        
-        int totalEarned = quantity * price;
-        inventory.useAxles(quantity);
-        player.addMoney(totalEarned);
-        updateMoneyDisplay();
-        
-        resultArea.setText("You sold " + quantity + " axle" + (quantity > 1 ? "s" : "") + " for $" + totalEarned + 
-                         "\n\nHistorical Note: Wagon axles were made of hardwood and could break when " +
-                         "wagons were overloaded or when crossing rocky terrain. Emigrants often carried " +
-                         "spare axles, as a broken one could halt progress entirely.");
-    }
-    
-    /**
-     * Sells wagon tongues.
-     * 
-     * @param price The price per tongue
-     */
-    private void sellTongues(int price) {
-        int maxTongues = inventory.getTongues();
-        if (maxTongues <= 0) {
-            resultArea.setText("You don't have any tongues to sell!");
-            return;
-        }
-        
-        int quantity = getQuantity("sell tongues", maxTongues);
-        if (quantity <= 0) return;
-        
-        int totalEarned = quantity * price;
-        inventory.useTongues(quantity);
-        player.addMoney(totalEarned);
-        updateMoneyDisplay();
-        
-        resultArea.setText("You sold " + quantity + " tongue" + (quantity > 1 ? "s" : "") + " for $" + totalEarned + 
-                         "\n\nHistorical Note: The wagon tongue connected the wagon to the oxen's yoke. " +
-                         "It was subject to immense strain, especially when crossing rivers or steep hills, " +
-                         "making it prone to breakage.");
-    }
-    
-    /**
-     * Sells wagon bows.
-     * 
-     * @param price The price per bow
-     */
-    private void sellWagonBows(int price) {
-        int maxBows = inventory.getWagonBows();
-        if (maxBows <= 0) {
-            resultArea.setText("You don't have any wagon bows to sell!");
-            return;
-        }
-        
-        int quantity = getQuantity("sell wagon bows", maxBows);
-        if (quantity <= 0) return;
-        
-        int totalEarned = quantity * price;
-        inventory.useWagonBows(quantity);
-        player.addMoney(totalEarned);
-        updateMoneyDisplay();
-        
-        resultArea.setText("You sold " + quantity + " wagon bow" + (quantity > 1 ? "s" : "") + " for $" + totalEarned + 
-                         "\n\nHistorical Note: Wagon bows were the arched wooden supports for the canvas cover. " +
-                         "Though less critical than wheels, axles, or tongues, damaged bows meant less protection " +
-                         "from the elements and could lead to damaged supplies.");
-    }
-    
-    /**
-     * Sells medicine kits.
-     * 
-     * @param price The price per kit
-     */
-    private void sellMedicine(int price) {
-        int maxMedicine = inventory.getMedicine();
-        if (maxMedicine <= 0) {
-            resultArea.setText("You don't have any medicine kits to sell!");
-            return;
-        }
-        
-        int quantity = getQuantity("sell medicine kits", maxMedicine);
-        if (quantity <= 0) return;
-        
-        int totalEarned = quantity * price;
-        inventory.useMedicine(quantity);
-        player.addMoney(totalEarned);
-        updateMoneyDisplay();
-        
-        resultArea.setText("You sold " + quantity + " medicine kits for $" + totalEarned + 
-                         "\n\nHistorical Note: Medical treatments in the 1840s were primitive by modern standards. " +
-                         "Common medicines included laudanum (an opium tincture), quinine for malaria, " +
-                         "and various herbal remedies. Disease was the leading cause of death on the trail.");
-    }
-    
-    /**
-     * Sells ammunition.
-     * 
-     * @param price The price per box of 20 rounds
-     */
-    private void sellAmmunition(int price) {
-        int maxBoxes = inventory.getAmmunition() / 20;
-        if (maxBoxes <= 0) {
-            resultArea.setText("You don't have enough ammunition to sell!");
-            return;
-        }
-        
-        int quantity = getQuantity("sell boxes of ammunition", maxBoxes);
-        if (quantity <= 0) return;
-        
-        int totalEarned = quantity * price;
-        inventory.useAmmunition(quantity * 20);
-        player.addMoney(totalEarned);
-        updateMoneyDisplay();
-        
-        resultArea.setText("You sold " + quantity + " boxes of ammunition (" + 
-                          (quantity * 20) + " rounds) for $" + totalEarned + 
-                         "\n\nHistorical Note: Firearms were essential for hunting and protection on the trail. " +
-                         "Most emigrants carried muzzle-loading rifles or muskets. Ammunition had to be carefully " +
-                         "conserved, as supplies along the trail were limited.");
-    }
-
     /**
      * Shows a trade confirmation dialog.
      * 
@@ -1434,27 +1168,13 @@ public class TradingDialog extends JDialog {
         Random random = new Random();
         int partType = random.nextInt(4); // 0-3 for four part types
         
-        String partName;
-        inventory.consumeFood(50);
-        
-        switch (partType) {
-            case 0:
-                inventory.addWheels(1);
-                partName = "wagon wheel";
-                break;
-            case 1:
-                inventory.addAxles(1);
-                partName = "wagon axle";
-                break;
-            case 2:
-                inventory.addTongues(1);
-                partName = "wagon tongue";
-                break;
-            default:
-                inventory.addWagonBows(1);
-                partName = "wagon bow";
-                break;
-        }
+        Commodity part = Commodity.of(Commodity.WHEEL.ordinal() + partType);
+        String partName = part == Commodity.WAGON_BOW ? "wagon bow" : "wagon " + part.getName().toLowerCase();
+        
+        TradeCart cart = new TradeCart();
+        cart.give(Commodity.FOOD, 50);
+        cart.receive(part, 1);
+        if (!completeBarter(cart)) return;
         
         resultArea.setText("You traded 50 pounds of food for 1 " + partName + ".\n\nHistorical Note: Trading between parties on the trail was common. Emigrants who had excess supplies of one type would barter with others who had different goods to offer.");
         resultArea.setVisible(true);
@@ -1486,8 +1206,10 @@ public class TradingDialog extends JDialog {
             return;
         }
         
-        inventory.consumeFood(30);
-        inventory.addMedicine(1);
+        TradeCart cart = new TradeCart();
+        cart.give(Commodity.FOOD, 30);
+        cart.receive(Commodity.MEDICINE, 1);
+        if (!completeBarter(cart)) return;
         
         resultArea.setText("You traded 30 pounds of food for 1 medicine kit.\n\nHistorical Note: Medicine was highly valuable on the trail, as disease was a major cause of death during westward migration.");
         resultArea.setVisible(true);
@@ -1519,8 +1241,11 @@ public class TradingDialog extends JDialog {
             return;
         }
         
-        inventory.useMedicine(2);
-        inventory.addAmmunition(40);
+        // Two boxes of twenty rounds
+        TradeCart cart = new TradeCart();
+        cart.give(Commodity.MEDICINE, 2);
+        cart.receive(Commodity.AMMUNITION, 2);
+        if (!completeBarter(cart)) return;
         
         resultArea.setText("You traded 2 medicine kits for 40 rounds of ammunition.\n\nHistorical Note: Ammunition was essential not just for protection but for hunting, which supplemented the limited food supplies emigrants could carry.");
         resultArea.setVisible(true);
@@ -1532,4 +1257,19 @@ public class TradingDialog extends JDialog {
             "Hunting was essential for supplementing food supplies on the trail, making ammunition a valuable resource."
         );
     }
-} 
\ No newline at end of file
+
+    /**
+     * Carries out a barter with another party, outside the fort's stock.
+     *
+     * @param cart The goods given and received
+     * @return true if the barter went through, false if it was refused and shown
+     */
+    private boolean completeBarter(TradeCart cart) {
+        String problem = engine.barter(cart);
+        if (problem != null) {
+            resultArea.setText(problem);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,220 @@
+/**
+ * TrailCalendar Class of the Perils Along the Platte Game
+ * Converts between calendar dates and epoch days, a single int counting the
+ * days since January 1 of the first year the calendar covers.
+ *
+ * Records such as log and journal entries store only the epoch day they were
+ * made on. The year, month, day and month name of every day of the years
+ * the emigrant trails were traveled are worked out once into lookup tables,
+ * so turning a stamp back into a date is a single array read, and comparing
+ * dates is comparing ints. Days outside those years, such as the far end of
+ * a long endless-trail run, are worked out with date arithmetic instead, so
+ * the calendar keeps counting past its tables rather than stopping at them.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file TrailCalendar.java
+ */
+
+public final class TrailCalendar {
+    // First and last years held in the lookup tables
+    public static final int FIRST_YEAR = 1840;
+    public static final int LAST_YEAR = 1869;
+
+    // Full English name of each month, indexed by month number (1-12)
+    private static final String[] MONTH_NAMES = {
+        "Unknown", "January", "February", "March", "April", "May", "June",
+        "July", "August", "September", "October", "November", "December"
+    };
+
+    // Days from January 1, 1970 to January 1, FIRST_YEAR, for the date arithmetic
+    private static final int CIVIL_OFFSET = daysFromCivil(FIRST_YEAR, 1, 1);
+
+    // Epoch day of January 1 of each year, with one extra entry for the end
+    private static final int[] YEAR_START = new int[LAST_YEAR - FIRST_YEAR + 2];
+
+    // Year offset from FIRST_YEAR, month (1-12) and day of month (1-31) of each epoch day
+    private static final byte[] YEAR_OF_DAY;
+    private static final byte[] MONTH_OF_DAY;
+    private static final byte[] DAY_OF_MONTH;
+
+    static {
+        for (int year = FIRST_YEAR; year <= LAST_YEAR; year++) {
+            YEAR_START[year - FIRST_YEAR + 1] = YEAR_START[year - FIRST_YEAR] + (isLeapYear(year) ? 366 : 365);
+        }
+        int days = YEAR_START[YEAR_START.length - 1];
+        YEAR_OF_DAY = new byte[days];
+        MONTH_OF_DAY = new byte[days];
+        DAY_OF_MONTH = new byte[days];
+
+        int epochDay = 0;
+        for (int year = FIRST_YEAR; year <= LAST_YEAR; year++) {
+            for (int month = 1; month <= 12; month++) {
+                int length = getDaysInMonth(year, month);
+                for (int day = 1; day <= length; day++) {
+                    YEAR_OF_DAY[epochDay] = (byte) (year - FIRST_YEAR);
+                    MONTH_OF_DAY[epochDay] = (byte) month;
+                    DAY_OF_MONTH[epochDay] = (byte) day;
+                    epochDay++;
+                }
+            }
+        }
+    }
+
+    private TrailCalendar() {
+    }
+
+    /**
+     * Gets the epoch day of a date.
+     * Dates before FIRST_YEAR give negative epoch days.
+     *
+     * @param year The year
+     * @param month The month (1-12), kept within range
+     * @param day The day of the month (1-31), kept within the month
+     * @return The epoch day
+     */
+    public static int toEpochDay(int year, int month, int day) {
+        if (month < 1 || month > 12) {
+            System.err.println("Invalid month in date: " + month + "/" + day + "/" + year);
+            month = Math.max(1, Math.min(month, 12));
+        }
+        day = Math.max(1, Math.min(day, getDaysInMonth(year, month)));
+        if (year < FIRST_YEAR || year > LAST_YEAR) {
+            return daysFromCivil(year, month, day) - CIVIL_OFFSET;
+        }
+        int epochDay = YEAR_START[year - FIRST_YEAR];
+        for (int m = 1; m < month; m++) {
+            epochDay += getDaysInMonth(year, m);
+        }
+        return epochDay + day - 1;
+    }
+
+    /**
+     * Counts the days from January 1, 1970 to a date in the Gregorian calendar.
+     */
+    private static int daysFromCivil(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * Works out the date of an epoch day outside the tables.
+     *
+     * @return The date packed as year * 512 + month * 32 + day
+     */
+    private static int civilFromDays(int epochDay) {
+        int z = epochDay + CIVIL_OFFSET + 719468;
+        int era = Math.floorDiv(z, 146097);
+        int dayOfEra = z - era * 146097;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shifted = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * shifted + 2) / 5 + 1;
+        int month = shifted < 10 ? shifted + 3 : shifted - 9;
+        int year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year * 512 + month * 32 + day;
+    }
+
+    /**
+     * Checks whether an epoch day is held in the lookup tables.
+     */
+    private static boolean inTables(int epochDay) {
+        return epochDay >= 0 && epochDay < YEAR_OF_DAY.length;
+    }
+
+    /**
+     * Checks if a year is a leap year under the Gregorian rules.
+     *
+     * @param year The year
+     * @return true if the year is a leap year, false otherwise
+     */
+    public static boolean isLeapYear(int year) {
+        return (year % 4 == 0 && year % 100 != 0) || (year % 400 == 0);
+    }
+
+    /**
+     * Gets the number of days in a month.
+     *
+     * @param year The year, for February in leap years
+     * @param month The month (1-12)
+     * @return The number of days in the month
+     */
+    public static int getDaysInMonth(int year, int month) {
+        switch (month) {
+            case 2: // February
+                return isLeapYear(year) ? 29 : 28;
+            case 4: // April
+            case 6: // June
+            case 9: // September
+            case 11: // November
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Gets the name of a month.
+     *
+     * @param month The month (1-12)
+     * @return The month's English name, or "Unknown" for an invalid month
+     */
+    public static String getMonthName(int month) {
+        return month >= 1 && month <= 12 ? MONTH_NAMES[month] : MONTH_NAMES[0];
+    }
+
+    public static int getYear(int epochDay) {
+        return inTables(epochDay) ? FIRST_YEAR + YEAR_OF_DAY[epochDay] : civilFromDays(epochDay) >> 9;
+    }
+
+    public static int getMonth(int epochDay) {
+        return inTables(epochDay) ? MONTH_OF_DAY[epochDay] : (civilFromDays(epochDay) >> 5) & 15;
+    }
+
+    public static int getDayOfMonth(int epochDay) {
+        return inTables(epochDay) ? DAY_OF_MONTH[epochDay] : civilFromDays(epochDay) & 31;
+    }
+
+    /**
+     * Gets how many days into its year an epoch day falls.
+     *
+     * @param epochDay The epoch day
+     * @return The day of the year, 0 for January 1
+     */
+    public static int getDayOfYear(int epochDay) {
+        if (inTables(epochDay)) {
+            return epochDay - YEAR_START[YEAR_OF_DAY[epochDay]];
+        }
+        return epochDay - toEpochDay(getYear(epochDay), 1, 1);
+    }
+
+    /**
+     * Gets the name of the month an epoch day falls in.
+     *
+     * @param epochDay The epoch day
+     * @return The month's English name
+     */
+    public static String getMonthNameOf(int epochDay) {
+        return MONTH_NAMES[getMonth(epochDay)];
+    }
+
+    /**
+     * Formats an epoch day as it appears in the trail log, such as "May 3, 1848".
+     *
+     * @param epochDay The epoch day
+     * @return The formatted date
+     */
+    public static String format(int epochDay) {
+        if (inTables(epochDay)) {
+            return MONTH_NAMES[MONTH_OF_DAY[epochDay]] + " " + DAY_OF_MONTH[epochDay] + ", " +
+                    (FIRST_YEAR + YEAR_OF_DAY[epochDay]);
+        }
+        int date = civilFromDays(epochDay);
+        return MONTH_NAMES[(date >> 5) & 15] + " " + (date & 31) + ", " + (date >> 9);
+    }
+}
@@ -0,0 +1,205 @@
+/**
+ * TrailGenerator Class of the Perils Along the Platte Game
+ * Procedurally generates an endless trail in fixed-size segments.
+ * Used by the Map's endless trail mode for soak tests and stress benchmarks,
+ * where a journey must be able to run indefinitely with constant memory.
+ *
+ * Each segment is generated deterministically from the trail seed and the
+ * segment index, so a segment can be regenerated on demand and never has to
+ * be kept around once the party has passed it.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file TrailGenerator.java
+ */
+
+import java.util.Random;
+
+public class TrailGenerator {
+    // Length of every generated segment in miles
+    public static final int SEGMENT_LENGTH = 200;
+
+    // Number of landmarks placed in every segment
+    public static final int LANDMARKS_PER_SEGMENT = 4;
+
+    // Number of river crossings placed in every segment
+    public static final int CROSSINGS_PER_SEGMENT = 2;
+
+    // Name pools used to build landmark names
+    private static final String[] LANDMARK_PREFIXES = {
+            "Cottonwood", "Willow", "Buffalo", "Lone Tree", "Sandy", "Elm", "Rocky", "Antelope",
+            "Prairie", "Ash", "Cedar", "Sweetwater", "Red", "Horse", "Box Elder", "Warm Spring"
+    };
+    private static final String[] LANDMARK_SUFFIXES = {
+            "Creek", "Bluff", "Spring", "Hollow", "Camp", "Ridge", "Station", "Trading Post"
+    };
+    private static final String[] RIVER_NAMES = {
+            "Little Blue River", "Loup River", "Elkhorn River", "Laramie River", "Horse Creek",
+            "Box Elder Creek", "La Bonte River", "Platte Slough"
+    };
+
+    // Terrain types the generator picks from, weighted toward easy country
+    private static final TerrainType[] TERRAIN_POOL = {
+            TerrainType.PLAINS, TerrainType.PLAINS, TerrainType.PLAINS, TerrainType.RIVER_VALLEY,
+            TerrainType.RIVER_VALLEY, TerrainType.SANDHILLS, TerrainType.BLUFFS, TerrainType.MOUNTAINS,
+            TerrainType.DESERT
+    };
+
+    // Elevation range of the generated country in feet
+    private static final int MIN_ELEVATION = 800;
+    private static final int MAX_ELEVATION = 7500;
+
+    // Seed shared by every segment of this trail
+    private final long seed;
+
+    /**
+     * Inner class holding everything generated for one segment of the trail.
+     * Landmarks and crossings are stored in trail order.
+     */
+    public static class Segment {
+        private final int index;
+        private final int startMile;
+        private final Landmark[] landmarks;
+        private final int[] crossingMiles;
+        private final String[] crossingNames;
+        private final String[] crossingDescriptions;
+        private final TerrainProfile terrain;
+
+        Segment(int index, int startMile, Landmark[] landmarks,
+                int[] crossingMiles, String[] crossingNames, String[] crossingDescriptions,
+                TerrainProfile terrain) {
+            this.index = index;
+            this.startMile = startMile;
+            this.landmarks = landmarks;
+            this.crossingMiles = crossingMiles;
+            this.crossingNames = crossingNames;
+            this.crossingDescriptions = crossingDescriptions;
+            this.terrain = terrain;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public int getStartMile() {
+            return startMile;
+        }
+
+        public int getEndMile() {
+            return startMile + SEGMENT_LENGTH;
+        }
+
+        public Landmark[] getLandmarks() {
+            return landmarks;
+        }
+
+        public int getCrossingCount() {
+            return crossingMiles.length;
+        }
+
+        public int getCrossingMile(int i) {
+            return crossingMiles[i];
+        }
+
+        public String getCrossingName(int i) {
+            return crossingNames[i];
+        }
+
+        public String getCrossingDescription(int i) {
+            return crossingDescriptions[i];
+        }
+
+        public TerrainProfile getTerrain() {
+            return terrain;
+        }
+    }
+
+    /**
+     * Constructs a new TrailGenerator.
+     *
+     * @param seed The seed every segment is derived from
+     */
+    public TrailGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Generates the segment with the given index.
+     * Landmarks are spread evenly through the segment with some jitter,
+     * the first one sitting at the segment start so a landmark is always
+     * known at every segment boundary.
+     *
+     * @param index The index of the segment (0 is the start of the trail)
+     * @return The generated segment
+     */
+    public Segment generateSegment(int index) {
+        Random random = new Random(seed * 0x9E3779B97F4A7C15L + index);
+        int startMile = index * SEGMENT_LENGTH;
+        int spacing = SEGMENT_LENGTH / LANDMARKS_PER_SEGMENT;
+
+        Landmark[] landmarks = new Landmark[LANDMARKS_PER_SEGMENT];
+        for (int i = 0; i < LANDMARKS_PER_SEGMENT; i++) {
+            int offset = i == 0 ? 0 : i * spacing + random.nextInt(spacing / 2) - spacing / 4;
+            String name = LANDMARK_PREFIXES[random.nextInt(LANDMARK_PREFIXES.length)] + " " +
+                    LANDMARK_SUFFIXES[random.nextInt(LANDMARK_SUFFIXES.length)];
+            if (index == 0 && i == 0) {
+                name = "Trailhead";
+            }
+            landmarks[i] = new Landmark(name + " (Mile " + (startMile + offset) + ")", startMile + offset, 0, 0,
+                    "A stretch of open country on the endless trail, " + (startMile + offset) + " miles from the trailhead.");
+        }
+
+        int[] crossingMiles = new int[CROSSINGS_PER_SEGMENT];
+        String[] crossingNames = new String[CROSSINGS_PER_SEGMENT];
+        String[] crossingDescriptions = new String[CROSSINGS_PER_SEGMENT];
+        int crossingSpacing = SEGMENT_LENGTH / CROSSINGS_PER_SEGMENT;
+        for (int i = 0; i < CROSSINGS_PER_SEGMENT; i++) {
+            // Keep crossings off the segment boundary and in ascending order
+            crossingMiles[i] = startMile + i * crossingSpacing + 10 + random.nextInt(crossingSpacing - 20);
+            crossingNames[i] = RIVER_NAMES[random.nextInt(RIVER_NAMES.length)] + " Crossing";
+            crossingDescriptions[i] = "A river crossing on the endless trail at mile " + crossingMiles[i] + ".";
+        }
+
+        // Each span between landmarks gets its own terrain, and elevation is
+        // pinned at both segment ends so neighbouring segments join smoothly
+        TerrainProfile terrain = new TerrainProfile(startMile, SEGMENT_LENGTH);
+        int elevation = boundaryElevation(index);
+        int endElevation = boundaryElevation(index + 1);
+        for (int i = 0; i < LANDMARKS_PER_SEGMENT; i++) {
+            int from = landmarks[i].getDistance();
+            int to = i + 1 < LANDMARKS_PER_SEGMENT ? landmarks[i + 1].getDistance() : startMile + SEGMENT_LENGTH;
+            TerrainType type = TERRAIN_POOL[random.nextInt(TERRAIN_POOL.length)];
+            int next = i + 1 < LANDMARKS_PER_SEGMENT
+                    ? clampElevation(elevation + random.nextInt(801) - 400 + (type == TerrainType.MOUNTAINS ? 500 : 0))
+                    : endElevation;
+            terrain.fillSpan(from, to, elevation, next, type);
+            elevation = next;
+        }
+        terrain.finish();
+
+        return new Segment(index, startMile, landmarks, crossingMiles, crossingNames, crossingDescriptions, terrain);
+    }
+
+    /**
+     * Gets the elevation where a segment starts. Derived only from the seed
+     * and the segment index, so both segments sharing a boundary agree on it.
+     *
+     * @param index The index of the segment starting at the boundary
+     * @return The elevation in feet
+     */
+    private int boundaryElevation(int index) {
+        if (index == 0) {
+            return MIN_ELEVATION;
+        }
+        Random random = new Random(seed ^ (index * 0xC2B2AE3D27D4EB4FL));
+        return MIN_ELEVATION + random.nextInt(MAX_ELEVATION - MIN_ELEVATION);
+    }
+
+    /**
+     * Keeps a generated elevation inside the generator's range.
+     */
+    private static int clampElevation(int elevation) {
+        return Math.max(MIN_ELEVATION, Math.min(MAX_ELEVATION, elevation));
+    }
+}
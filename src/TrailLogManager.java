@@ -50,31 +50,41 @@ public class TrailLogManager {
     }
 
     /**
-     * Represents a single log entry in the trail journal
+     * Represents a single log entry in the trail journal.
+     * The entry keeps the epoch day it was written on, not the game's Time,
+     * so its date stays fixed as the journey goes on.
      */
     public static class LogEntry {
-        private final Time date;
+        private final int dayStamp;
         private final String message;
         private final String location;
         private final LogCategory category;
 
-        public LogEntry(Time date, String message, String location, LogCategory category) {
-            this.date = date;
+        public LogEntry(int dayStamp, String message, String location, LogCategory category) {
+            this.dayStamp = dayStamp;
             this.message = message;
             this.location = location;
             this.category = category;
         }
 
-        public Time getDate() {
-            return date;
+        public int getDayStamp() {
+            return dayStamp;
         }
 
-        public Time getTime() {
-            return date;
+        public String getMessage() {
+            return message;
+        }
+
+        public String getLocation() {
+            return location;
+        }
+
+        public LogCategory getCategory() {
+            return category;
         }
 
         public String getFormattedDate() {
-            return date.getMonthName() + " " + date.getDay() + ", " + date.getYear();
+            return TrailCalendar.format(dayStamp);
         }
 
         @Override
@@ -97,7 +107,7 @@ public class TrailLogManager {
      * @param category The category of message (regular, historical, warning, etc.)
      */
     public void addLogEntry(String message, String location, LogCategory category) {
-        LogEntry entry = new LogEntry(gameTime, message, location, category);
+        LogEntry entry = new LogEntry(gameTime.getEpochDay(), message, location, category);
         trailLog.add(entry);
 
         // Trim log if it exceeds maximum size
@@ -105,4 +115,21 @@ public class TrailLogManager {
             trailLog.remove(0);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the log entries written between two days.
+     *
+     * @param firstDay The first epoch day to include
+     * @param lastDay The last epoch day to include
+     * @return The entries in that range, oldest first
+     */
+    public ArrayList<LogEntry> getEntriesBetween(int firstDay, int lastDay) {
+        ArrayList<LogEntry> entries = new ArrayList<>();
+        for (LogEntry entry : trailLog) {
+            if (entry.dayStamp >= firstDay && entry.dayStamp <= lastDay) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,262 @@
+/**
+ * TrailResources Class of the Perils Along the Platte Game
+ * Tracks the grass, game and firewood left along each mile of the trail.
+ *
+ * Every mile near the party is a cell holding how much of each resource is
+ * left, as a share of what its terrain can support. The party's oxen graze
+ * it, its hunters thin the game and its campfires burn the wood, and the
+ * thousands of other emigrants on the trail do the same through the
+ * emigration season. Grass regrows in the growing months, game drifts back
+ * and wood only slowly returns.
+ *
+ * Cells live in a fixed ring of primitive arrays, and each day only the
+ * window of miles around the party is brought up to date. A cell catches up
+ * on any days it missed in one step, since a day of regrowth and traffic
+ * moves it a fixed share of the way toward its level for the season, so the
+ * daily cost is the same however long the journey runs.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file TrailResources.java
+ */
+
+import java.util.Arrays;
+
+public class TrailResources {
+    // Resources tracked in each cell
+    public static final int GRASS = 0;
+    public static final int GAME = 1;
+    public static final int FIREWOOD = 2;
+    private static final int RESOURCE_COUNT = 3;
+
+    // Cells in the ring, a power of two larger than the window
+    private static final int RING_SIZE = 256;
+
+    // Miles behind and ahead of the party brought up to date each day
+    private static final int WINDOW_BEHIND = 32;
+    private static final int WINDOW_AHEAD = 96;
+
+    // Most each terrain can support, as a share of the richest country, indexed [TerrainType ordinal * RESOURCE_COUNT + resource]
+    private static final double[] CAPACITY = {
+        // grass, game, firewood
+        1.00, 1.00, 0.30, // Plains
+        1.00, 0.90, 1.00, // River Valley
+        0.60, 0.60, 0.10, // Sandhills
+        0.70, 0.70, 0.40, // Bluffs
+        0.60, 0.80, 1.00, // Mountains
+        0.25, 0.30, 0.10  // Desert
+    };
+
+    // Share of the shortfall each resource regrows per day, indexed [(month - 1) * RESOURCE_COUNT + resource]
+    private static final double[] REGROWTH = {
+        0.000, 0.010, 0.001, // January
+        0.000, 0.010, 0.001, // February
+        0.010, 0.015, 0.002, // March
+        0.030, 0.020, 0.002, // April
+        0.050, 0.020, 0.002, // May
+        0.050, 0.020, 0.002, // June
+        0.040, 0.020, 0.002, // July
+        0.030, 0.020, 0.002, // August
+        0.020, 0.015, 0.002, // September
+        0.010, 0.010, 0.001, // October
+        0.000, 0.010, 0.001, // November
+        0.000, 0.010, 0.001  // December
+    };
+
+    // Share of each resource the season's other emigrants use up per day at the height of the emigration
+    private static final double[] TRAFFIC_USE = { 0.020, 0.010, 0.003 };
+
+    // Strength of the emigration in each month, from none to its height
+    private static final double[] TRAFFIC_BY_MONTH = { 0.0, 0.0, 0.1, 0.4, 0.8, 1.0, 0.8, 0.5, 0.2, 0.0, 0.0, 0.0 };
+
+    // Share of a cell used by each ox grazing a day, each hunt and each night's fire
+    private static final double GRAZE_PER_OX = 0.008;
+    private static final double HUNT_USE = 0.08;
+    private static final double FORAGE_USE = 0.02;
+    private static final double CAMPFIRE_USE = 0.03;
+
+    // Chance of finding food while resting in untouched grassland
+    private static final double FULL_FORAGE_CHANCE = 0.3;
+
+    // Share of the usual hunting odds, oxen recovery and rest healing kept where a resource is gone
+    private static final double HUNT_FLOOR = 0.3;
+    private static final double GRAZING_FLOOR = 0.5;
+    private static final double FIREWOOD_FLOOR = 0.75;
+
+    // Cell columns, indexed by ring slot: the mile held (-1 when empty), the day it was last brought up to date,
+    // and the terrain's capacity and the level left of each resource, indexed [slot * RESOURCE_COUNT + resource]
+    private final int[] cellMile = new int[RING_SIZE];
+    private final int[] cellDay = new int[RING_SIZE];
+    private final double[] capacity = new double[RING_SIZE * RESOURCE_COUNT];
+    private final double[] level = new double[RING_SIZE * RESOURCE_COUNT];
+
+    // The trail, for the terrain of cells entering the window
+    private final Map map;
+
+    /**
+     * Constructs the resources along a trail, untouched by the party.
+     *
+     * @param map The trail
+     */
+    public TrailResources(Map map) {
+        this.map = map;
+        Arrays.fill(cellMile, -1);
+    }
+
+    /**
+     * Brings the window of cells around the party up to date.
+     *
+     * @param mile The party's position
+     * @param epochDay The day
+     */
+    public void advanceDay(int mile, int epochDay) {
+        for (int m = Math.max(0, mile - WINDOW_BEHIND); m <= mile + WINDOW_AHEAD; m++) {
+            cell(m, epochDay);
+        }
+    }
+
+    /**
+     * Gets the ring slot of a mile, up to date for the day.
+     * A mile entering the ring starts at its level for the season, as worn
+     * down by the emigrants who came before the party.
+     */
+    private int cell(int mile, int epochDay) {
+        int slot = mile & (RING_SIZE - 1);
+        int month = TrailCalendar.getMonth(epochDay);
+        if (cellMile[slot] != mile) {
+            cellMile[slot] = mile;
+            cellDay[slot] = epochDay;
+            int terrain = map.getTerrainTypeAt(mile).ordinal();
+            for (int r = 0; r < RESOURCE_COUNT; r++) {
+                int i = slot * RESOURCE_COUNT + r;
+                capacity[i] = CAPACITY[terrain * RESOURCE_COUNT + r];
+                level[i] = seasonalLevel(capacity[i], month, r);
+            }
+        } else if (epochDay > cellDay[slot]) {
+            int days = epochDay - cellDay[slot];
+            cellDay[slot] = epochDay;
+            for (int r = 0; r < RESOURCE_COUNT; r++) {
+                int i = slot * RESOURCE_COUNT + r;
+                double regrowth = REGROWTH[(month - 1) * RESOURCE_COUNT + r];
+                double traffic = TRAFFIC_USE[r] * TRAFFIC_BY_MONTH[month - 1];
+                double target = seasonalLevel(capacity[i], month, r);
+                level[i] = target + (level[i] - target) * Math.pow(1.0 - regrowth - traffic, days);
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Gets the level a resource settles at in a month, where each day's
+     * regrowth makes up for what the traffic uses.
+     */
+    private static double seasonalLevel(double capacity, int month, int resource) {
+        double regrowth = REGROWTH[(month - 1) * RESOURCE_COUNT + resource];
+        double traffic = TRAFFIC_USE[resource] * TRAFFIC_BY_MONTH[month - 1];
+        return regrowth + traffic > 0 ? capacity * regrowth / (regrowth + traffic) : capacity;
+    }
+
+    /**
+     * Gets how much of a resource is left at a mile.
+     *
+     * @param resource GRASS, GAME or FIREWOOD
+     * @param mile The mile
+     * @param epochDay The day
+     * @return The level, from 0 for none to 1 for the richest country
+     */
+    public double getLevel(int resource, int mile, int epochDay) {
+        return level[cell(mile, epochDay) * RESOURCE_COUNT + resource];
+    }
+
+    /**
+     * Uses up a share of a resource at a mile.
+     *
+     * @param resource GRASS, GAME or FIREWOOD
+     * @param mile The mile
+     * @param epochDay The day
+     * @param amount The share used
+     */
+    public void use(int resource, int mile, int epochDay, double amount) {
+        int i = cell(mile, epochDay) * RESOURCE_COUNT + resource;
+        level[i] = Math.max(0.0, level[i] - amount);
+    }
+
+    /**
+     * Records a day of oxen grazing and a night's campfire at a mile.
+     *
+     * @param mile The camp's mile
+     * @param epochDay The day
+     * @param oxen The number of oxen grazing
+     * @param fires The number of campfires
+     */
+    public void camp(int mile, int epochDay, int oxen, int fires) {
+        use(GRASS, mile, epochDay, oxen * GRAZE_PER_OX);
+        use(FIREWOOD, mile, epochDay, fires * CAMPFIRE_USE);
+    }
+
+    /**
+     * Records a hunt at a mile.
+     *
+     * @param mile The mile
+     * @param epochDay The day
+     */
+    public void hunt(int mile, int epochDay) {
+        use(GAME, mile, epochDay, HUNT_USE);
+    }
+
+    /**
+     * Records foraging for edible plants at a mile.
+     *
+     * @param mile The mile
+     * @param epochDay The day
+     */
+    public void forage(int mile, int epochDay) {
+        use(GRASS, mile, epochDay, FORAGE_USE);
+    }
+
+    /**
+     * Gets the share of the usual hunting odds left by the game at a mile.
+     *
+     * @param mile The mile
+     * @param epochDay The day
+     * @return The factor to apply to the chance of a successful hunt
+     */
+    public double getHuntFactor(int mile, int epochDay) {
+        return HUNT_FLOOR + (1.0 - HUNT_FLOOR) * getLevel(GAME, mile, epochDay);
+    }
+
+    /**
+     * Gets the chance of finding edible plants while resting at a mile.
+     *
+     * @param mile The mile
+     * @param epochDay The day
+     * @return The chance
+     */
+    public double getForageChance(int mile, int epochDay) {
+        return FULL_FORAGE_CHANCE * getLevel(GRASS, mile, epochDay);
+    }
+
+    /**
+     * Gets the share of the usual oxen recovery the grass at a mile allows.
+     *
+     * @param mile The mile
+     * @param epochDay The day
+     * @return The factor to apply to the oxen's recovery
+     */
+    public double getGrazingFactor(int mile, int epochDay) {
+        return GRAZING_FLOOR + (1.0 - GRAZING_FLOOR) * getLevel(GRASS, mile, epochDay);
+    }
+
+    /**
+     * Gets the share of the usual rest healing the firewood at a mile allows.
+     * A camp with no wood for a fire is a cold one.
+     *
+     * @param mile The mile
+     * @param epochDay The day
+     * @return The factor to apply to the health recovered while resting
+     */
+    public double getFirewoodFactor(int mile, int epochDay) {
+        return FIREWOOD_FLOOR + (1.0 - FIREWOOD_FLOOR) * getLevel(FIREWOOD, mile, epochDay);
+    }
+}
@@ -0,0 +1,164 @@
+/**
+ * TrailSoak Class of the Perils Along the Platte Game
+ * Runs the trail simulation without the game window, for soak tests and
+ * stress benchmarks.
+ *
+ * A party travels the endless trail day after day, resting one day in
+ * seven, while the calendar, weather, river levels, trail resources,
+ * emigrant traffic and fort economy all advance with it, as they do in
+ * the game. Every so often the date, position, posts, memory in use and
+ * time per day are printed, so a long run shows at a glance whether
+ * memory stays flat and the days stay cheap.
+ *
+ * The train check instead takes a wagon train down the Oregon Trail at
+ * the party's pace, held to the train's own, and fails unless most of its
+ * emigrants reach the end alive.
+ *
+ * Usage: java TrailSoak [days] [seed]
+ *        java TrailSoak train [wagons] [seed]
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file TrailSoak.java
+ */
+
+public class TrailSoak {
+    // Days simulated and seed used when none are given
+    private static final int DEFAULT_DAYS = 3650;
+    private static final long DEFAULT_SEED = 1848;
+
+    // Days between progress reports
+    private static final int REPORT_DAYS = 365;
+
+    // Miles the party makes on a good day, as in the game
+    private static final int BASE_MILES = 15;
+
+    // Wagons in the train check when none are given, the most days it may
+    // take, and the share of its emigrants that must reach the end alive
+    private static final int DEFAULT_TRAIN_WAGONS = 100;
+    private static final int MAX_TRAIN_DAYS = 300;
+    private static final double MIN_TRAIN_SURVIVAL = 0.75;
+
+    /**
+     * Runs the soak test.
+     *
+     * @param args The number of days to simulate and the seed, both optional;
+     *             or "train" followed by the number of wagons and the seed, both optional
+     */
+    public static void main(String[] args) {
+        boolean train = args.length > 0 && args[0].equals("train");
+        int first = train ? 1 : 0;
+        int count = train ? DEFAULT_TRAIN_WAGONS : DEFAULT_DAYS;
+        long seed = DEFAULT_SEED;
+        try {
+            if (args.length > first) count = Integer.parseInt(args[first]);
+            if (args.length > first + 1) seed = Long.parseLong(args[first + 1]);
+        } catch (NumberFormatException e) {
+            System.err.println("Usage: java TrailSoak [days] [seed]");
+            System.err.println("       java TrailSoak train [wagons] [seed]");
+            System.exit(2);
+        }
+        if (train) {
+            System.exit(checkWagonTrain(count, seed) ? 0 : 1);
+        }
+        runEndlessTrail(count, seed);
+    }
+
+    /**
+     * Takes a wagon train the length of the Oregon Trail, resting one day in
+     * seven, and checks that most of its emigrants are alive at the end.
+     *
+     * @param wagons The wagons in the train
+     * @param seed The seed for the train
+     * @return true if the train reached the end with enough of its emigrants alive
+     */
+    public static boolean checkWagonTrain(int wagons, long seed) {
+        Map map = new Map(1);
+        Time time = new Time(1848, 4);
+        WagonTrain train = new WagonTrain(wagons, 0, seed);
+        int day = 0;
+        while (map.getDistanceTraveled() < map.getTrailLength() && day < MAX_TRAIN_DAYS) {
+            day++;
+            time.advanceDay();
+            Weather weather = new Weather(time.getMonth(), map.getCurrentLocation(), map.getTerrainType());
+            boolean resting = day % 7 == 0;
+            int miles = resting ? 0 : (int) (BASE_MILES * weather.getTravelFactor() * map.getTerrainSpeedFactor()
+                    * train.getSpeedFactor());
+            train.advanceDay(miles, map.getTerrainType(), null);
+            map.travel(miles);
+            while (map.checkForRiverCrossing()) {
+                map.resetRiverCrossing();
+            }
+            while (map.hasReachedLandmark()) {
+                map.advanceToNextLandmark();
+            }
+        }
+
+        double survival = (double) train.getLivingCount() / train.getPersonCount();
+        boolean passed = map.getDistanceTraveled() >= map.getTrailLength() && survival >= MIN_TRAIN_SURVIVAL;
+        System.out.printf("%s: %d wagons went %d of %d miles in %d days; %d of %d emigrants alive (%.0f%%), " +
+                        "%d oxen left, %d lbs of food left%n",
+                passed ? "PASS" : "FAIL", wagons, map.getDistanceTraveled(), map.getTrailLength(), day,
+                train.getLivingCount(), train.getPersonCount(), survival * 100, train.getTotalOxen(),
+                train.getTotalFood());
+        return passed;
+    }
+
+    /**
+     * Travels the endless trail for a number of days, reporting as it goes.
+     *
+     * @param days The days to simulate
+     * @param seed The seed for the trail and the emigrant traffic
+     */
+    public static void runEndlessTrail(int days, long seed) {
+        SimulationParameters parameters = SimulationParameters.getDefault();
+        Map map = new Map(Map.ENDLESS_TRAIL, seed);
+        Time time = new Time(1848, 4);
+        RiverHydrology hydrology = new RiverHydrology(parameters);
+        TrailResources resources = new TrailResources(map);
+        EmigrantTraffic traffic = new EmigrantTraffic(parameters.trafficParties, time.getYear(),
+                map.getTrailLength(), seed);
+        FortEconomy economy = new FortEconomy(map, parameters);
+
+        int landmarks = 0;
+        int crossings = 0;
+        long start = System.nanoTime();
+        long reportStart = start;
+        for (int day = 1; day <= days; day++) {
+            time.advanceDay();
+            Weather weather = new Weather(time.getMonth(), map.getCurrentLocation(), map.getTerrainType());
+            hydrology.recordWeather(weather);
+
+            boolean resting = day % 7 == 0;
+            int miles = resting ? 0 : (int) (BASE_MILES * weather.getTravelFactor() * map.getTerrainSpeedFactor());
+            crossings += map.travel(miles).size();
+            while (map.checkForRiverCrossing()) {
+                map.resetRiverCrossing();
+            }
+            while (map.hasReachedLandmark()) {
+                map.advanceToNextLandmark();
+                landmarks++;
+            }
+
+            resources.advanceDay(map.getDistanceTraveled(), time.getEpochDay());
+            traffic.advanceDay(time.getEpochDay());
+            economy.addPosts(map);
+            economy.advanceDay(time.getMonth(), traffic);
+
+            if (day % REPORT_DAYS == 0 || day == days) {
+                long now = System.nanoTime();
+                int span = day % REPORT_DAYS == 0 ? REPORT_DAYS : day % REPORT_DAYS;
+                Runtime runtime = Runtime.getRuntime();
+                System.out.printf("Day %d, %s: mile %d near %s, %d landmarks, %d crossings, %d posts, " +
+                                "%d KB in use, %.1f us per day%n",
+                        day, TrailCalendar.format(time.getEpochDay()), map.getDistanceTraveled(),
+                        map.getCurrentLocation(), landmarks, crossings, economy.getPostCount(),
+                        (runtime.totalMemory() - runtime.freeMemory()) / 1024,
+                        (now - reportStart) / 1000.0 / span);
+                reportStart = now;
+            }
+        }
+        System.out.printf("%d days in %.1f ms%n", days, (System.nanoTime() - start) / 1e6);
+    }
+}
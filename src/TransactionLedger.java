@@ -0,0 +1,369 @@
+/**
+ * TransactionLedger Class of the Perils Along the Platte Game
+ * Records every purchase, sale, barter and gift of supplies made on a journey.
+ *
+ * The ledger is append-only. Each row is one line of a trade: the journey
+ * day, where it happened, the commodity, the units (negative when the party
+ * gave them up), the price of one unit and who the party traded with. Rows
+ * are kept in growable primitive columns rather than as objects, so ledgers
+ * merged from many batch runs stay compact and every report is a single
+ * pass over the columns it reads.
+ *
+ * At the journey's end the ledger is written to disk column by column, and
+ * written ledgers can be loaded back and merged for analysis.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file TransactionLedger.java
+ */
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+public class TransactionLedger {
+    // Who the party traded with
+    public static final int OUTFITTER = 0;
+    public static final int POST = 1;
+    public static final int TRAVELER = 2;
+    public static final int COUNTERPARTY_COUNT = 3;
+
+    // Marks the start of a written ledger, and the layout version that follows
+    private static final int FILE_MAGIC = 0x504C4447;
+    private static final int FILE_VERSION = 1;
+
+    private static final int COMMODITY_COUNT = Commodity.values().length;
+
+    // Row columns, indexed by row: the trade the line belongs to, journey day, location id,
+    // commodity ordinal, units (negative when given up), price of one unit and counterparty
+    private int[] transaction = new int[256];
+    private int[] day = new int[256];
+    private int[] location = new int[256];
+    private byte[] commodity = new byte[256];
+    private int[] quantity = new int[256];
+    private int[] unitPrice = new int[256];
+    private byte[] counterparty = new byte[256];
+    private int rowCount;
+
+    // Names of the locations, indexed by location id, and the id of each name
+    private final ArrayList<String> locationNames = new ArrayList<>();
+    private final HashMap<String, Integer> locationIds = new HashMap<>();
+
+    // Trades recorded so far, and the day and location given to the next one
+    private int transactionCount;
+    private int currentDay;
+    private int currentLocation;
+    private String currentLocationName;
+
+    /**
+     * Constructs an empty ledger.
+     */
+    public TransactionLedger() {
+        setPlace(0, "Unknown");
+    }
+
+    /**
+     * Sets the journey day and location of the trades recorded from now on.
+     *
+     * @param day The day of the journey
+     * @param locationName The name of the party's location
+     */
+    public void setPlace(int day, String locationName) {
+        currentDay = day;
+        if (locationName == null) {
+            locationName = "Unknown";
+        }
+        if (!locationName.equals(currentLocationName)) {
+            currentLocationName = locationName;
+            currentLocation = internLocation(locationName);
+        }
+    }
+
+    /**
+     * Gets the id of a location name, adding it if it is new.
+     */
+    private int internLocation(String name) {
+        Integer id = locationIds.get(name);
+        if (id == null) {
+            id = locationNames.size();
+            locationNames.add(name);
+            locationIds.put(name, id);
+        }
+        return id;
+    }
+
+    /**
+     * Records every line of a trade at the current day and location.
+     *
+     * @param cart The lines of the trade
+     * @param party Who the party traded with: OUTFITTER, POST or TRAVELER
+     */
+    public void record(TradeCart cart, int party) {
+        ensureCapacity(rowCount + cart.getLineCount());
+        for (int line = 0; line < cart.getLineCount(); line++) {
+            transaction[rowCount] = transactionCount;
+            day[rowCount] = currentDay;
+            location[rowCount] = currentLocation;
+            commodity[rowCount] = (byte) cart.getCommodity(line).ordinal();
+            quantity[rowCount] = cart.getQuantity(line);
+            unitPrice[rowCount] = cart.getUnitPrice(line);
+            counterparty[rowCount] = (byte) party;
+            rowCount++;
+        }
+        transactionCount++;
+    }
+
+    /**
+     * Grows the columns to hold at least a number of rows.
+     */
+    private void ensureCapacity(int rows) {
+        if (rows <= day.length) {
+            return;
+        }
+        int capacity = Math.max(rows, day.length * 2);
+        transaction = Arrays.copyOf(transaction, capacity);
+        day = Arrays.copyOf(day, capacity);
+        location = Arrays.copyOf(location, capacity);
+        commodity = Arrays.copyOf(commodity, capacity);
+        quantity = Arrays.copyOf(quantity, capacity);
+        unitPrice = Arrays.copyOf(unitPrice, capacity);
+        counterparty = Arrays.copyOf(counterparty, capacity);
+    }
+
+    /**
+     * Totals the dollars spent on each commodity.
+     *
+     * @return Dollars spent, indexed by Commodity ordinal
+     */
+    public long[] getSpending() {
+        long[] spent = new long[COMMODITY_COUNT];
+        for (int row = 0; row < rowCount; row++) {
+            if (quantity[row] > 0) {
+                spent[commodity[row]] += (long) quantity[row] * unitPrice[row];
+            }
+        }
+        return spent;
+    }
+
+    /**
+     * Totals the dollars earned selling each commodity.
+     *
+     * @return Dollars earned, indexed by Commodity ordinal
+     */
+    public long[] getEarnings() {
+        long[] earned = new long[COMMODITY_COUNT];
+        for (int row = 0; row < rowCount; row++) {
+            if (quantity[row] < 0) {
+                earned[commodity[row]] -= (long) quantity[row] * unitPrice[row];
+            }
+        }
+        return earned;
+    }
+
+    /**
+     * Works out the average price paid for one unit of each commodity,
+     * weighted by the units bought. Goods received in barter are left out.
+     *
+     * @param party The counterparty to average over, or -1 for all of them
+     * @return The average price, indexed by Commodity ordinal, NaN where nothing was bought
+     */
+    public double[] getAveragePricePaid(int party) {
+        long[] dollars = new long[COMMODITY_COUNT];
+        long[] units = new long[COMMODITY_COUNT];
+        for (int row = 0; row < rowCount; row++) {
+            if (quantity[row] > 0 && unitPrice[row] > 0 && (party < 0 || counterparty[row] == party)) {
+                dollars[commodity[row]] += (long) quantity[row] * unitPrice[row];
+                units[commodity[row]] += quantity[row];
+            }
+        }
+        double[] average = new double[COMMODITY_COUNT];
+        for (int c = 0; c < COMMODITY_COUNT; c++) {
+            average[c] = units[c] > 0 ? (double) dollars[c] / units[c] : Double.NaN;
+        }
+        return average;
+    }
+
+    /**
+     * Compares the price paid for each commodity anywhere with the average
+     * paid at the forts and trading posts in the ledger.
+     *
+     * @return The ratio of the two, indexed by Commodity ordinal; above 1 means
+     *         the party paid more than the fort average, NaN where either is unknown
+     */
+    public double[] getPriceVersusFortAverage() {
+        double[] paid = getAveragePricePaid(-1);
+        double[] fort = getAveragePricePaid(POST);
+        double[] ratio = new double[COMMODITY_COUNT];
+        for (int c = 0; c < COMMODITY_COUNT; c++) {
+            ratio[c] = paid[c] / fort[c];
+        }
+        return ratio;
+    }
+
+    /**
+     * Finds the supplies acquired on the journey that were never used:
+     * the units still in the wagon, up to the units the ledger shows were
+     * acquired and not traded away. Meant for the ledger of one journey.
+     *
+     * @param inventory The wagon's inventory at the journey's end
+     * @return Units never used, indexed by Commodity ordinal
+     */
+    public int[] getUnusedSupplies(Inventory inventory) {
+        long[] acquired = new long[COMMODITY_COUNT];
+        for (int row = 0; row < rowCount; row++) {
+            acquired[commodity[row]] += quantity[row];
+        }
+        int[] unused = new int[COMMODITY_COUNT];
+        for (int c = 0; c < COMMODITY_COUNT; c++) {
+            Commodity item = Commodity.of(c);
+            int held = inventory.getSupply(item.getSupply()) / item.getSupplyPerUnit();
+            unused[c] = (int) Math.max(0, Math.min(acquired[c], held));
+        }
+        return unused;
+    }
+
+    /**
+     * Writes the ledger to a file, one column after another.
+     *
+     * @param file The file, whose directory is created if needed
+     * @return true if the ledger was written
+     */
+    public boolean write(File file) {
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+            System.err.println("Cannot create the ledger directory " + directory);
+            return false;
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(FILE_MAGIC);
+            out.writeInt(FILE_VERSION);
+            out.writeInt(locationNames.size());
+            for (String name : locationNames) {
+                out.writeUTF(name);
+            }
+            out.writeInt(rowCount);
+            writeColumn(out, transaction);
+            writeColumn(out, day);
+            writeColumn(out, location);
+            out.write(commodity, 0, rowCount);
+            writeColumn(out, quantity);
+            writeColumn(out, unitPrice);
+            out.write(counterparty, 0, rowCount);
+            return true;
+        } catch (IOException e) {
+            System.err.println("Error writing the ledger to " + file + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void writeColumn(DataOutputStream out, int[] column) throws IOException {
+        for (int row = 0; row < rowCount; row++) {
+            out.writeInt(column[row]);
+        }
+    }
+
+    /**
+     * Appends the rows of a written ledger to this one, so the ledgers of
+     * many journeys can be analyzed together. The trades and locations of
+     * the file are renumbered to follow this ledger's own.
+     *
+     * @param file The file written by write
+     * @return true if the rows were appended; nothing is appended otherwise
+     */
+    public boolean load(File file) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != FILE_MAGIC || in.readInt() != FILE_VERSION) {
+                System.err.println("Not a ledger file: " + file);
+                return false;
+            }
+            int[] locationMap = new int[in.readInt()];
+            String[] names = new String[locationMap.length];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = in.readUTF();
+            }
+            int rows = in.readInt();
+            int start = rowCount;
+            ensureCapacity(start + rows);
+            int firstTransaction = readColumn(in, transaction, start, rows);
+            readColumn(in, day, start, rows);
+            readColumn(in, location, start, rows);
+            in.readFully(commodity, start, rows);
+            readColumn(in, quantity, start, rows);
+            readColumn(in, unitPrice, start, rows);
+            in.readFully(counterparty, start, rows);
+
+            for (int i = 0; i < names.length; i++) {
+                locationMap[i] = internLocation(names[i]);
+            }
+            int lastTransaction = -1;
+            for (int row = start; row < start + rows; row++) {
+                lastTransaction = Math.max(lastTransaction, transaction[row]);
+                transaction[row] += transactionCount - firstTransaction;
+                location[row] = locationMap[location[row]];
+            }
+            transactionCount += lastTransaction - firstTransaction + 1;
+            rowCount += rows;
+            return true;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error loading the ledger from " + file + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Reads a column into rows starting at an offset.
+     *
+     * @return The first value read, 0 if there were none
+     */
+    private int readColumn(DataInputStream in, int[] column, int start, int rows) throws IOException {
+        for (int row = start; row < start + rows; row++) {
+            column[row] = in.readInt();
+        }
+        return rows > 0 ? column[start] : 0;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getTransactionCount() {
+        return transactionCount;
+    }
+
+    public int getDay(int row) {
+        return day[row];
+    }
+
+    public String getLocation(int row) {
+        return locationNames.get(location[row]);
+    }
+
+    public Commodity getCommodity(int row) {
+        return Commodity.of(commodity[row]);
+    }
+
+    public int getQuantity(int row) {
+        return quantity[row];
+    }
+
+    public int getUnitPrice(int row) {
+        return unitPrice[row];
+    }
+
+    public int getCounterparty(int row) {
+        return counterparty[row];
+    }
+
+    public int getTransaction(int row) {
+        return transaction[row];
+    }
+}
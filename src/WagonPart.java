@@ -0,0 +1,96 @@
+/**
+ * WagonPart Enum of the Perils Along the Platte Game
+ * Represents the parts of the wagon that wear out and break on the trail.
+ * Each part knows how fast it wears, how much a break slows the wagon,
+ * and which spare supply replaces it.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file WagonPart.java
+ */
+
+public enum WagonPart {
+    /** Wheels wear out fastest; a broken wheel halves the wagon's speed. */
+    WHEEL("Wheel", Supply.WHEEL, 2, 0.5,
+            "The rough terrain and constant movement took its toll on the wagon wheels, a common issue on the Oregon Trail."),
+
+    /** A broken axle all but stops the wagon. */
+    AXLE("Axle", Supply.AXLE, 1, 0.1,
+            "The wooden axles, bearing the weight of the wagon and its contents, finally gave way under the strain."),
+
+    /** A broken tongue makes steering the team slow work. */
+    TONGUE("Tongue", Supply.TONGUE, 1, 0.7,
+            "The wagon tongue, essential for steering and connecting the oxen, succumbed to the rigors of the journey."),
+
+    /** Broken bows only slow the wagon a little. */
+    BOW("Bow", Supply.WAGON_BOW, 1, 0.8,
+            "The wagon bows, supporting the canvas cover, weakened from exposure to the elements and constant movement.");
+
+    // Name shown to the player
+    private final String displayName;
+
+    // Spare supply used to replace the part
+    private final Supply spare;
+
+    // Percent of condition lost per day under an average load on open ground
+    private final int wearRate;
+
+    // Fraction of normal speed the wagon keeps while this part is broken
+    private final double brokenSpeedFactor;
+
+    // Historical note shown when the part breaks
+    private final String historicalNote;
+
+    WagonPart(String displayName, Supply spare, int wearRate, double brokenSpeedFactor, String historicalNote) {
+        this.displayName = displayName;
+        this.spare = spare;
+        this.wearRate = wearRate;
+        this.brokenSpeedFactor = brokenSpeedFactor;
+        this.historicalNote = historicalNote;
+    }
+
+    /**
+     * Gets the bit that stands for this part in a set of broken parts.
+     * @return The part's bit
+     */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Looks up a part by its display name, ignoring case.
+     * Used where part names come in from the user interface.
+     *
+     * @param name The part name
+     * @return The part, or null if no part has that name
+     */
+    public static WagonPart fromName(String name) {
+        for (WagonPart part : values()) {
+            if (part.displayName.equalsIgnoreCase(name)) {
+                return part;
+            }
+        }
+        return null;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public Supply getSpare() {
+        return spare;
+    }
+
+    public int getWearRate() {
+        return wearRate;
+    }
+
+    public double getBrokenSpeedFactor() {
+        return brokenSpeedFactor;
+    }
+
+    public String getHistoricalNote() {
+        return historicalNote;
+    }
+}
@@ -0,0 +1,600 @@
+/**
+ * WagonTrain Class of the Perils Along the Platte Game
+ * Simulates a whole wagon train traveling together: dozens or hundreds of
+ * wagons, each with its own food, oxen, wagon parts and people.
+ *
+ * The train is stored as columns rather than as one object per wagon or
+ * emigrant. Each day is a handful of passes, one per column group (food,
+ * oxen, wagon wear, sickness), so a train of several hundred wagons and
+ * thousands of people advances a day in well under a millisecond.
+ * Contagious diseases spread between emigrants along a ContactGraph, which
+ * also holds the player's own wagon at the back of the line, so the family
+ * can catch a disease from the train and pass one to it.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file WagonTrain.java
+ */
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class WagonTrain {
+    // Pounds of food each person eats per day, as for the player's party
+    private static final int FOOD_PER_PERSON = 2;
+
+    // Pounds of game a day in camp brings in per person, on average, and the
+    // daily chance a wagon with less than a week of food left finds some on the march
+    private static final int HUNT_FOOD_PER_PERSON = 10;
+    private static final double FORAGE_CHANCE = 0.3;
+    private static final int FORAGE_FOOD_PER_PERSON = 4;
+
+    // Oxen fatigue gained per mile traveled, recovered grazing overnight after a day's travel, and per day of rest
+    private static final int FATIGUE_PER_MILE = 1;
+    private static final int FATIGUE_NIGHT_RECOVERY = 15;
+    private static final int FATIGUE_REST_RECOVERY = 40;
+
+    // Pounds each ox pulls per point of daily fatigue
+    private static final int LOAD_PER_FATIGUE = 25;
+
+    // Oxen health lost per day while the team is worn out, and regained per day of rest
+    private static final int EXHAUSTED_OXEN_HEALTH_LOSS = 5;
+    private static final int OXEN_REST_RECOVERY = 5;
+
+    // Health of a wagon's remaining team after its weakest ox dies
+    private static final int OXEN_HEALTH_AFTER_LOSS = 50;
+
+    // Health lost per day by anyone in a wagon without food
+    private static final int STARVATION_HEALTH_LOSS = 3;
+
+    // Daily chance a healthy emigrant falls sick from bad water or food, with no one to catch it from
+    private static final double BASE_INFECTION_CHANCE = 0.002;
+
+    // All conditions and wagon parts, in ordinal order
+    private static final Condition[] CONDITIONS = Condition.values();
+    private static final WagonPart[] PARTS = WagonPart.values();
+
+    // Diseases that pass from person to person
+    private static final Condition[] CONTAGIOUS = contagiousConditions();
+
+    // Wagon columns, indexed by wagon
+    private final int wagonCount;
+    private final int[] food;
+    private final int[] oxen;
+    private final int[] oxenHealth;
+    private final int[] oxenFatigue;
+    private final int[] load;
+    private final int[] livingPeople;
+    private final int[] sickPeople;
+    private final int[] brokenParts;
+
+    // Wagon part columns, indexed [wagon * part count + part ordinal]
+    private final int[] partCondition;
+    private final int[] spareParts;
+
+    // Emigrant columns, indexed by person; people of a wagon are stored together
+    private final int personCount;
+    private final int[] firstPerson;
+    private final int[] personHealth;
+    private final int[] personConditions;
+
+    // Days left on each person's conditions, indexed [person * condition count + condition ordinal]
+    private final int[] recoveryDays;
+
+    // Who each emigrant meets day to day, the player's family included
+    private final ContactGraph contacts;
+
+    // The player's family in the contact graph: nodes partyStart to partyStart + partySize - 1
+    private final int partyStart;
+    private final int partySize;
+
+    // Who passed each newly infected person their disease, reused every day
+    private final int[] infectedBy;
+
+    // Bitsets of the living, and of the carriers of each contagious disease
+    // indexed by Condition ordinal (null for diseases that do not spread)
+    private final long[] living;
+    private final long[][] carriers = new long[CONDITIONS.length][];
+
+    // Scratch bitsets reused by the daily spread
+    private final long[] susceptible;
+    private final long[] caught;
+
+    // Scratch row of each wagon's daily wear on each part, reused every day
+    private final int[] dailyWear;
+
+    private final Random random;
+
+    // Totals for the most recent day, and the bitset of family members who caught something from the train
+    private int deathsToday;
+    private int oxenDiedToday;
+    private int partyCaughtToday;
+    private int newCasesToday;
+    private int breakdownsToday;
+    private int repairsToday;
+
+    /**
+     * Constructs a new WagonTrain with randomly outfitted wagons.
+     * Each wagon carries three to eight people, four to eight oxen, most of
+     * a half ton of food, and a spare or two of each part.
+     *
+     * @param wagons The number of wagons in the train
+     * @param partySize The number of people in the player's own wagon
+     * @param seed The seed for outfitting the train and for its daily events
+     */
+    public WagonTrain(int wagons, int partySize, long seed) {
+        this.random = new Random(seed);
+        this.wagonCount = wagons;
+        food = new int[wagons];
+        oxen = new int[wagons];
+        oxenHealth = new int[wagons];
+        oxenFatigue = new int[wagons];
+        load = new int[wagons];
+        livingPeople = new int[wagons];
+        sickPeople = new int[wagons];
+        brokenParts = new int[wagons];
+        partCondition = new int[wagons * PARTS.length];
+        spareParts = new int[wagons * PARTS.length];
+        dailyWear = new int[wagons * PARTS.length];
+        firstPerson = new int[wagons + 1];
+
+        for (int w = 0; w < wagons; w++) {
+            firstPerson[w + 1] = firstPerson[w] + 3 + random.nextInt(6);
+            livingPeople[w] = firstPerson[w + 1] - firstPerson[w];
+            food[w] = 800 + random.nextInt(401);
+            oxen[w] = 4 + random.nextInt(5);
+            oxenHealth[w] = 100;
+            for (int p = 0; p < PARTS.length; p++) {
+                partCondition[w * PARTS.length + p] = WagonWear.FULL_CONDITION;
+                spareParts[w * PARTS.length + p] = 1 + random.nextInt(2);
+            }
+            updateLoad(w);
+        }
+
+        personCount = firstPerson[wagons];
+        personHealth = new int[personCount];
+        personConditions = new int[personCount];
+        recoveryDays = new int[personCount * CONDITIONS.length];
+        Arrays.fill(personHealth, 100);
+
+        // The player's wagon joins the graph as the last wagon in the line
+        this.partyStart = personCount;
+        this.partySize = partySize;
+        int[] graphRows = Arrays.copyOf(firstPerson, wagons + 2);
+        graphRows[wagons + 1] = personCount + partySize;
+        contacts = ContactGraph.forTrain(graphRows, random);
+        infectedBy = new int[contacts.getSize()];
+        living = contacts.newBitset();
+        susceptible = contacts.newBitset();
+        caught = contacts.newBitset();
+        for (int person = 0; person < personCount; person++) {
+            living[person >>> 6] |= 1L << person;
+        }
+        for (Condition disease : CONTAGIOUS) {
+            carriers[disease.ordinal()] = contacts.newBitset();
+        }
+    }
+
+    /**
+     * Gets the conditions that spread from person to person.
+     */
+    private static Condition[] contagiousConditions() {
+        int count = 0;
+        for (Condition condition : CONDITIONS) {
+            if (condition.isContagious()) count++;
+        }
+        Condition[] result = new Condition[count];
+        int next = 0;
+        for (Condition condition : CONDITIONS) {
+            if (condition.isContagious()) result[next++] = condition;
+        }
+        return result;
+    }
+
+    /**
+     * Gives an emigrant a disease for its full course.
+     */
+    private void infect(int person, Condition disease) {
+        personConditions[person] |= disease.bit();
+        recoveryDays[person * CONDITIONS.length + disease.ordinal()] = disease.getDurationDays();
+        if (carriers[disease.ordinal()] != null) {
+            carriers[disease.ordinal()][person >>> 6] |= 1L << person;
+        }
+        newCasesToday++;
+    }
+
+    /**
+     * Recomputes a wagon's load from its food and spare parts.
+     */
+    private void updateLoad(int w) {
+        int weight = food[w] * Supply.FOOD.getWeight();
+        for (int p = 0; p < PARTS.length; p++) {
+            weight += spareParts[w * PARTS.length + p] * PARTS[p].getSpare().getWeight();
+        }
+        load[w] = weight;
+    }
+
+    /**
+     * Advances the whole train by one day.
+     * Runs one pass each for food, oxen, wagon wear and sickness.
+     *
+     * @param miles The miles the train travels today, 0 when resting
+     * @param terrain The terrain the train is crossing
+     * @param party The player's party, whose members share the train's contacts
+     */
+    public void advanceDay(int miles, TerrainType terrain, Player party) {
+        deathsToday = 0;
+        oxenDiedToday = 0;
+        partyCaughtToday = 0;
+        newCasesToday = 0;
+        breakdownsToday = 0;
+        repairsToday = 0;
+        boolean resting = miles <= 0;
+
+        // Food: every wagon feeds its living people from its own stores, hunts on a day
+        // in camp, and forages along the way when its stores run low
+        for (int w = 0; w < wagonCount; w++) {
+            int found = 0;
+            if (resting) {
+                found = random.nextInt(2 * HUNT_FOOD_PER_PERSON * livingPeople[w] + 1);
+            } else if (food[w] < livingPeople[w] * FOOD_PER_PERSON * 7 && random.nextDouble() < FORAGE_CHANCE) {
+                found = livingPeople[w] * FORAGE_FOOD_PER_PERSON;
+            }
+            int eaten = Math.min(food[w] + found, livingPeople[w] * FOOD_PER_PERSON);
+            food[w] += found - eaten;
+            load[w] += (found - eaten) * Supply.FOOD.getWeight();
+        }
+
+        // Oxen: fatigue rises with distance, terrain and the load each ox pulls, and falls with rest;
+        // a team worked while exhausted sickens, rest brings it back, and a team worn to nothing loses an ox
+        int terrainFatigue = (int) Math.round(FATIGUE_PER_MILE * miles * terrain.getFatigueFactor());
+        for (int w = 0; w < wagonCount; w++) {
+            if (oxen[w] == 0) {
+                continue;
+            }
+            int fatigue = resting
+                    ? oxenFatigue[w] - FATIGUE_REST_RECOVERY
+                    : oxenFatigue[w] + terrainFatigue + load[w] / (LOAD_PER_FATIGUE * oxen[w]) - FATIGUE_NIGHT_RECOVERY;
+            fatigue = Math.max(0, Math.min(100, fatigue));
+            oxenFatigue[w] = fatigue;
+            if (resting) {
+                oxenHealth[w] = Math.min(100, oxenHealth[w] + OXEN_REST_RECOVERY);
+            } else if (fatigue == 100) {
+                oxenHealth[w] = Math.max(0, oxenHealth[w] - EXHAUSTED_OXEN_HEALTH_LOSS);
+            }
+            if (oxenHealth[w] == 0) {
+                oxen[w]--;
+                oxenDiedToday++;
+                oxenHealth[w] = oxen[w] > 0 ? OXEN_HEALTH_AFTER_LOSS : 0;
+            }
+        }
+
+        if (!resting) {
+            wearParts(terrain.getWearFactor());
+        }
+        progressSickness(resting, party);
+    }
+
+    /**
+     * Wears every wagon's parts by a day of travel, replacing broken parts
+     * from the wagon's spares where it has one.
+     */
+    private void wearParts(double terrainFactor) {
+        // Daily wear depends only on the wagon's load, so it is computed in its own pass
+        for (int w = 0; w < wagonCount; w++) {
+            for (int p = 0; p < PARTS.length; p++) {
+                dailyWear[w * PARTS.length + p] = WagonWear.dailyWear(PARTS[p], load[w], terrainFactor);
+            }
+        }
+
+        for (int i = 0; i < partCondition.length; i++) {
+            if (partCondition[i] > 0) {
+                partCondition[i] = Math.max(0, partCondition[i] - dailyWear[i]);
+                if (partCondition[i] == 0) {
+                    breakdownsToday++;
+                }
+            }
+        }
+
+        for (int w = 0; w < wagonCount; w++) {
+            int broken = 0;
+            for (int p = 0; p < PARTS.length; p++) {
+                int i = w * PARTS.length + p;
+                if (partCondition[i] == 0) {
+                    if (spareParts[i] > 0) {
+                        spareParts[i]--;
+                        partCondition[i] = WagonWear.FULL_CONDITION;
+                        load[w] -= PARTS[p].getSpare().getWeight();
+                        repairsToday++;
+                    } else {
+                        broken |= PARTS[p].bit();
+                    }
+                }
+            }
+            brokenParts[w] = broken;
+        }
+    }
+
+    /**
+     * Runs a day of sickness over every emigrant: contagious diseases spread
+     * along the contact graph, existing conditions drain health and count
+     * down, starvation hurts everyone in an empty wagon, and a few healthy
+     * people fall sick from bad water or food. The player's family takes
+     * part in the spread; everything else about their health is left to
+     * the Player.
+     */
+    private void progressSickness(boolean resting, Player party) {
+        // The family's living bits follow the party; the train keeps its own
+        for (int m = 0; m < partySize; m++) {
+            int node = partyStart + m;
+            if (party != null && m < party.getMemberCount() && !party.isMemberDead(m)) {
+                living[node >>> 6] |= 1L << node;
+            } else {
+                living[node >>> 6] &= ~(1L << node);
+            }
+        }
+
+        for (Condition disease : CONTAGIOUS) {
+            long[] carrying = carriers[disease.ordinal()];
+            for (int m = 0; m < partySize; m++) {
+                int node = partyStart + m;
+                if ((living[node >>> 6] & (1L << node)) != 0 && party.hasCondition(m, disease)) {
+                    carrying[node >>> 6] |= 1L << node;
+                } else {
+                    carrying[node >>> 6] &= ~(1L << node);
+                }
+            }
+            for (int i = 0; i < living.length; i++) {
+                susceptible[i] = living[i] & ~carrying[i];
+            }
+            if (contacts.spread(carrying, susceptible, disease.getTransmission(), random, caught, infectedBy) > 0) {
+                for (int word = 0; word < caught.length; word++) {
+                    long bits = caught[word];
+                    while (bits != 0) {
+                        int person = (word << 6) + Long.numberOfTrailingZeros(bits);
+                        bits &= bits - 1;
+                        if (person < partyStart) {
+                            infect(person, disease);
+                        } else {
+                            int member = person - partyStart;
+                            int source = infectedBy[person];
+                            party.catchCondition(member, disease, source >= partyStart ? source - partyStart : -1);
+                            partyCaughtToday |= 1 << member;
+                        }
+                    }
+                }
+            }
+        }
+
+        for (int w = 0; w < wagonCount; w++) {
+            if (livingPeople[w] == 0) {
+                continue;
+            }
+            int starving = food[w] == 0 ? STARVATION_HEALTH_LOSS : 0;
+            int alive = 0;
+            int sick = 0;
+
+            for (int person = firstPerson[w]; person < firstPerson[w + 1]; person++) {
+                if (personHealth[person] == 0) {
+                    continue;
+                }
+                int loss = starving;
+                if (personConditions[person] == 0) {
+                    if (random.nextDouble() < BASE_INFECTION_CHANCE) {
+                        infect(person, CONTAGIOUS[random.nextInt(CONTAGIOUS.length)]);
+                    } else if (loss == 0) {
+                        personHealth[person] = Math.min(100, personHealth[person] + 1);
+                    }
+                }
+
+                int mask = personConditions[person];
+                int remaining = mask;
+                while (remaining != 0) {
+                    int c = Integer.numberOfTrailingZeros(remaining);
+                    remaining &= remaining - 1;
+                    loss += resting ? CONDITIONS[c].getDailyHealthLoss() / 2 : CONDITIONS[c].getDailyHealthLoss();
+                    if (--recoveryDays[person * CONDITIONS.length + c] <= 0) {
+                        mask &= ~(1 << c);
+                    }
+                }
+
+                int health = Math.max(0, personHealth[person] - loss);
+                personHealth[person] = health;
+                if (health == 0) {
+                    mask = 0;
+                    living[person >>> 6] &= ~(1L << person);
+                    deathsToday++;
+                } else {
+                    alive++;
+                    if (mask != 0) {
+                        sick++;
+                    }
+                }
+
+                // Anyone who recovered or died stops carrying what they had
+                int cleared = personConditions[person] & ~mask;
+                while (cleared != 0) {
+                    int c = Integer.numberOfTrailingZeros(cleared);
+                    cleared &= cleared - 1;
+                    if (carriers[c] != null) {
+                        carriers[c][person >>> 6] &= ~(1L << person);
+                    }
+                }
+                personConditions[person] = mask;
+            }
+            livingPeople[w] = alive;
+            sickPeople[w] = sick;
+        }
+    }
+
+    /**
+     * Gets the number of emigrants carrying a contagious disease.
+     *
+     * @param disease The disease
+     * @return The number of carriers, 0 if the disease does not spread
+     */
+    public int getCarrierCount(Condition disease) {
+        long[] carrying = carriers[disease.ordinal()];
+        if (carrying == null) {
+            return 0;
+        }
+        int total = 0;
+        for (long word : carrying) {
+            total += Long.bitCount(word);
+        }
+        return total;
+    }
+
+    /**
+     * Gets the fraction of normal speed the train can make.
+     * The train keeps together, so it moves at the pace of its slowest
+     * wagon: the one with the worst broken parts or the weakest oxen.
+     * A wagon with no oxen left is abandoned rather than waited for.
+     *
+     * @return The speed factor (1.0 when every wagon is sound)
+     */
+    public double getSpeedFactor() {
+        double slowest = 1.0;
+        for (int w = 0; w < wagonCount; w++) {
+            if (livingPeople[w] == 0 || oxen[w] == 0) {
+                continue;
+            }
+            double factor = 1.0;
+            int mask = brokenParts[w];
+            while (mask != 0) {
+                factor *= PARTS[Integer.numberOfTrailingZeros(mask)].getBrokenSpeedFactor();
+                mask &= mask - 1;
+            }
+            factor *= oxenHealth[w] / 100.0 * (1.0 - oxenFatigue[w] / 200.0);
+            slowest = Math.min(slowest, factor);
+        }
+        return slowest;
+    }
+
+    public int getWagonCount() {
+        return wagonCount;
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    /**
+     * Gets the number of emigrants still alive across the train.
+     * @return The living emigrants
+     */
+    public int getLivingCount() {
+        int total = 0;
+        for (int w = 0; w < wagonCount; w++) {
+            total += livingPeople[w];
+        }
+        return total;
+    }
+
+    /**
+     * Gets the number of living emigrants suffering from a disease or injury.
+     * @return The sick emigrants
+     */
+    public int getSickCount() {
+        int total = 0;
+        for (int w = 0; w < wagonCount; w++) {
+            total += sickPeople[w];
+        }
+        return total;
+    }
+
+    /**
+     * Gets the pounds of food left across the train.
+     * @return The food in pounds
+     */
+    public int getTotalFood() {
+        int total = 0;
+        for (int w = 0; w < wagonCount; w++) {
+            total += food[w];
+        }
+        return total;
+    }
+
+    /**
+     * Gets the number of oxen left across the train.
+     * @return The oxen
+     */
+    public int getTotalOxen() {
+        int total = 0;
+        for (int w = 0; w < wagonCount; w++) {
+            total += oxen[w];
+        }
+        return total;
+    }
+
+    /**
+     * Gets the number of wagons stopped with a broken part and no spare.
+     * @return The disabled wagons
+     */
+    public int getDisabledWagonCount() {
+        int total = 0;
+        for (int w = 0; w < wagonCount; w++) {
+            if (brokenParts[w] != 0) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    public int getFood(int wagon) {
+        return food[wagon];
+    }
+
+    public int getOxen(int wagon) {
+        return oxen[wagon];
+    }
+
+    public int getOxenHealth(int wagon) {
+        return oxenHealth[wagon];
+    }
+
+    public int getOxenFatigue(int wagon) {
+        return oxenFatigue[wagon];
+    }
+
+    public int getLoad(int wagon) {
+        return load[wagon];
+    }
+
+    public int getLivingPeople(int wagon) {
+        return livingPeople[wagon];
+    }
+
+    public int getBrokenParts(int wagon) {
+        return brokenParts[wagon];
+    }
+
+    public int getDeathsToday() {
+        return deathsToday;
+    }
+
+    public int getOxenDiedToday() {
+        return oxenDiedToday;
+    }
+
+    /**
+     * Gets the family members who caught a disease from the train's contacts today.
+     * @return The bitset of members, by member index
+     */
+    public int getPartyCaughtToday() {
+        return partyCaughtToday;
+    }
+
+    public int getNewCasesToday() {
+        return newCasesToday;
+    }
+
+    public int getBreakdownsToday() {
+        return breakdownsToday;
+    }
+
+    public int getRepairsToday() {
+        return repairsToday;
+    }
+}
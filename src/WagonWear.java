@@ -0,0 +1,224 @@
+/**
+ * WagonWear Class of the Perils Along the Platte Game
+ * Tracks the condition of every wagon part and wears them down day by day.
+ *
+ * Condition is kept in fixed point (thousandths of a percent) so a day's
+ * wear under a given load and terrain is an exact integer, which lets the
+ * engine say exactly which day each part will fail if conditions hold.
+ * Broken parts are kept as a bitset, and the wagon's speed with any set of
+ * broken parts is read from a table built once.
+ *
+ * @author Alex Randall and Chase McCluskey
+ * @version 1.0
+ * @date 05/06/2025
+ * @file WagonWear.java
+ */
+
+import java.util.Random;
+
+public class WagonWear {
+    // Fixed-point scale: one percent of condition
+    public static final int ONE_PERCENT = 1000;
+
+    // Condition of a new part
+    public static final int FULL_CONDITION = 100 * ONE_PERCENT;
+
+    // Load in pounds at which parts wear at their base rate
+    private static final int REFERENCE_LOAD = 1000;
+
+    // Extra wear per reference load carried above or below the reference
+    private static final double LOAD_WEAR_FACTOR = 0.5;
+
+    // Every part, in ordinal order
+    private static final WagonPart[] PARTS = WagonPart.values();
+
+    // Wagon speed factor for every combination of broken parts, indexed by bitset
+    private static final double[] SPEED_BY_MASK = new double[1 << PARTS.length];
+
+    static {
+        for (int mask = 0; mask < SPEED_BY_MASK.length; mask++) {
+            double factor = 1.0;
+            for (WagonPart part : PARTS) {
+                if ((mask & part.bit()) != 0) {
+                    factor *= part.getBrokenSpeedFactor();
+                }
+            }
+            SPEED_BY_MASK[mask] = factor;
+        }
+    }
+
+    // Condition of each part in thousandths of a percent, indexed by ordinal
+    private final int[] condition = new int[PARTS.length];
+
+    // Bitset of broken parts
+    private int brokenMask;
+
+    // Random source for picking parts to repair or damage
+    private final Random random = new Random();
+
+    /**
+     * Constructs a new WagonWear with every part in perfect condition.
+     */
+    public WagonWear() {
+        for (int i = 0; i < condition.length; i++) {
+            condition[i] = FULL_CONDITION;
+        }
+    }
+
+    /**
+     * Gets one day's wear on a part.
+     * Heavier loads and rougher terrain wear parts faster.
+     *
+     * @param part The part
+     * @param load The wagon's load in pounds
+     * @param terrainFactor The terrain wear factor (1.0 is open ground)
+     * @return The wear in thousandths of a percent, at least 1
+     */
+    public static int dailyWear(WagonPart part, int load, double terrainFactor) {
+        double loadFactor = 1.0 + LOAD_WEAR_FACTOR * (load - REFERENCE_LOAD) / (double) REFERENCE_LOAD;
+        double wear = part.getWearRate() * ONE_PERCENT * Math.max(0.5, loadFactor) * terrainFactor;
+        return Math.max(1, (int) Math.round(wear));
+    }
+
+    /**
+     * Wears every unbroken part by a number of days under constant conditions.
+     * Fast-forwarding many days costs the same as a single day.
+     *
+     * @param days The number of days of travel
+     * @param load The wagon's load in pounds
+     * @param terrainFactor The terrain wear factor
+     * @return The bitset of parts that broke
+     */
+    public int wear(int days, int load, double terrainFactor) {
+        int newlyBroken = 0;
+        for (int i = 0; i < PARTS.length; i++) {
+            int bit = PARTS[i].bit();
+            if ((brokenMask & bit) != 0) {
+                continue;
+            }
+            condition[i] = (int) Math.max(0L, condition[i] - (long) days * dailyWear(PARTS[i], load, terrainFactor));
+            if (condition[i] == 0) {
+                newlyBroken |= bit;
+            }
+        }
+        brokenMask |= newlyBroken;
+        return newlyBroken;
+    }
+
+    /**
+     * Predicts how many more days of travel a part will last.
+     * Exact as long as the load and terrain stay the same.
+     *
+     * @param part The part
+     * @param load The wagon's load in pounds
+     * @param terrainFactor The terrain wear factor
+     * @return The days until it breaks (the day it breaks counts), 0 if already broken
+     */
+    public int daysUntilFailure(WagonPart part, int load, double terrainFactor) {
+        if (isBroken(part)) {
+            return 0;
+        }
+        int perDay = dailyWear(part, load, terrainFactor);
+        return (condition[part.ordinal()] + perDay - 1) / perDay;
+    }
+
+    /**
+     * Finds the part that will fail first under constant conditions.
+     *
+     * @param load The wagon's load in pounds
+     * @param terrainFactor The terrain wear factor
+     * @return The part, or null if every part is already broken
+     */
+    public WagonPart nextToFail(int load, double terrainFactor) {
+        WagonPart next = null;
+        int soonest = Integer.MAX_VALUE;
+        for (WagonPart part : PARTS) {
+            if (!isBroken(part)) {
+                int days = daysUntilFailure(part, load, terrainFactor);
+                if (days < soonest) {
+                    soonest = days;
+                    next = part;
+                }
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Knocks a random unbroken part's condition down, as in an accident.
+     *
+     * @param percent The condition lost, in percent
+     * @return The damaged part, or null if every part is already broken
+     */
+    public WagonPart damageRandomPart(int percent) {
+        int intact = PARTS.length - Integer.bitCount(brokenMask);
+        if (intact == 0) {
+            return null;
+        }
+        int pick = random.nextInt(intact);
+        for (WagonPart part : PARTS) {
+            if (!isBroken(part) && pick-- == 0) {
+                int i = part.ordinal();
+                condition[i] = Math.max(0, condition[i] - percent * ONE_PERCENT);
+                if (condition[i] == 0) {
+                    brokenMask |= part.bit();
+                }
+                return part;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Repairs a part to perfect condition.
+     * @param part The part to repair
+     */
+    public void repair(WagonPart part) {
+        condition[part.ordinal()] = FULL_CONDITION;
+        brokenMask &= ~part.bit();
+    }
+
+    /**
+     * Repairs a randomly chosen broken part.
+     * @return The repaired part, or null if nothing was broken
+     */
+    public WagonPart repairRandomBroken() {
+        int broken = Integer.bitCount(brokenMask);
+        if (broken == 0) {
+            return null;
+        }
+        int pick = random.nextInt(broken);
+        for (WagonPart part : PARTS) {
+            if (isBroken(part) && pick-- == 0) {
+                repair(part);
+                return part;
+            }
+        }
+        return null;
+    }
+
+    public boolean isBroken(WagonPart part) {
+        return (brokenMask & part.bit()) != 0;
+    }
+
+    public int getBrokenMask() {
+        return brokenMask;
+    }
+
+    /**
+     * Gets a part's condition in whole percent.
+     * @param part The part
+     * @return The condition (0-100)
+     */
+    public int getConditionPercent(WagonPart part) {
+        return condition[part.ordinal()] / ONE_PERCENT;
+    }
+
+    /**
+     * Gets the fraction of normal speed the wagon keeps with its current broken parts.
+     * @return The speed factor (1.0 when nothing is broken)
+     */
+    public double getSpeedFactor() {
+        return SPEED_BY_MASK[brokenMask];
+    }
+}
@@ -25,7 +25,20 @@ public class Weather {
      * @param location The current location on the trail
      */
     public Weather(int month, String location) {
-        generateWeather(month, location != null ? location : "");
+        generateWeather(month, location != null ? location : "", null);
+    }
+
+    /**
+     * Constructs a new Weather object based on the current month and terrain.
+     * The terrain type from the trail's profile takes the place of guessing
+     * the country from the location's name.
+     *
+     * @param month The current month (1-12)
+     * @param location The current location on the trail
+     * @param terrain The terrain at the party's position, or null to use the location name
+     */
+    public Weather(int month, String location, TerrainType terrain) {
+        generateWeather(month, location != null ? location : "", terrain);
     }
 
     /**
@@ -40,8 +53,9 @@ public class Weather {
      * 
      * @param month The current month (1-12)
      * @param location The current location on the trail
+     * @param terrain The terrain at the party's position, or null to use the location name
      */
-    private void generateWeather(int month, String location) {
+    private void generateWeather(int month, String location, TerrainType terrain) {
         // Base probability factors for different weather types based on month
         double rainProbability = 0.0;
         double snowProbability = 0.0;
@@ -88,8 +102,30 @@ public class Weather {
                 break;
         }
 
-        // Adjust probabilities further based on specific locations
-        if (location != null) {
+        // Adjust probabilities further based on the terrain, when it is known
+        if (terrain != null) {
+            switch (terrain) {
+                case MOUNTAINS:
+                    snowProbability += 0.2;
+                    rainProbability += 0.1;
+                    fogProbability += 0.1;
+                    clearProbability -= 0.2;
+                    break;
+                case RIVER_VALLEY:
+                    fogProbability += 0.15;
+                    rainProbability += 0.1;
+                    break;
+                case DESERT:
+                case SANDHILLS:
+                    clearProbability += 0.2;
+                    rainProbability -= 0.1;
+                    if (rainProbability < 0) rainProbability = 0;
+                    break;
+                default:
+                    break;
+            }
+        } else if (location != null) {
+            // Otherwise fall back to the location's name
             if (location.contains("Mountains")) {
                 snowProbability += 0.2;
                 rainProbability += 0.1;
@@ -185,8 +221,7 @@ public class Weather {
     }
 
     /**
-     * Adjusts the base travel distance based on current weather conditions.
-     * Applies weather-specific modifiers to the base travel distance.
+     * Gets the share of normal travel distance the current weather allows.
      * 
      * Weather modifiers:
      * - Clear: 100% of base distance
@@ -198,39 +233,69 @@ public class Weather {
      * - Foggy: 70% of base distance
      * - Hot and clear: 80% of base distance
      * 
-     * @param baseMiles The base distance to travel
-     * @return The adjusted travel distance
+     * @return The travel factor (1.0 is unaffected)
      */
-    public int adjustTravelDistance(int baseMiles) {
-        double modifier = 1.0;
-        
+    public double getTravelFactor() {
         switch (currentWeather) {
             case "Blizzard":
-                modifier = 0.3;
-                break;
+                return 0.3;
             case "Heavy rain":
-                modifier = 0.5;
-                break;
+                return 0.5;
             case "Snow":
-                modifier = 0.6;
-                break;
+                return 0.6;
             case "Foggy":
-                modifier = 0.7;
-                break;
+                return 0.7;
             case "Light rain":
-                modifier = 0.8;
-                break;
-            case "Cloudy":
-                modifier = 0.9;
-                break;
             case "Hot and clear":
-                modifier = 0.8;
-                break;
-            case "Clear":
-                modifier = 1.0;
-                break;
+                return 0.8;
+            case "Cloudy":
+                return 0.9;
+            default:
+                return 1.0;
+        }
+    }
+
+    /**
+     * Adjusts the base travel distance based on current weather conditions.
+     * 
+     * @param baseMiles The base distance to travel
+     * @return The adjusted travel distance
+     */
+    public int adjustTravelDistance(int baseMiles) {
+        return (int)(baseMiles * getTravelFactor());
+    }
+
+    /**
+     * Gets the factor the current weather applies to food spoilage.
+     * Rain and heat spoil food faster, while cold preserves it.
+     * 
+     * @return The spoilage factor (1.0 is unaffected)
+     */
+    public double getSpoilageFactor() {
+        String conditions = currentWeather.toLowerCase();
+        if (conditions.contains("rain")) {
+            return 1.5;
+        } else if (conditions.contains("snow") || conditions.contains("blizzard")) {
+            return 0.5; // Cold preserves food
+        } else if (conditions.contains("hot")) {
+            return 1.25;
+        }
+        return 1.0;
+    }
+
+    /**
+     * Gets the factor the current weather applies to the oxen's fatigue.
+     * Mud after rain drags at the wheels, and snow is harder still.
+     * 
+     * @return The fatigue factor (1.0 is unaffected)
+     */
+    public double getFatigueFactor() {
+        String conditions = currentWeather.toLowerCase();
+        if (conditions.contains("rain")) {
+            return 1.5;
+        } else if (conditions.contains("snow") || conditions.contains("blizzard")) {
+            return 2.0;
         }
-        
-        return (int)(baseMiles * modifier);
+        return 1.0;
     }
-}
\ No newline at end of file
+}